@@ -17,5 +17,6 @@ open module org.cloudfoundry.multiapps.controller.api {
     requires static io.swagger.annotations;
     requires jakarta.servlet;
     requires jakarta.xml.bind;
+    requires spring.webmvc;
 
 }
\ No newline at end of file
@@ -36,6 +36,9 @@ public class Constants {
 
         public static final String LAST = "last";
         public static final String STATE = "state";
+        public static final String OFFSET = "offset";
+        public static final String SINCE = "since";
+        public static final String WAIT = "wait";
     }
 
     public static class Resources {
@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.cloudfoundry.multiapps.controller.api.model.Log;
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public interface OperationsApiService {
 
@@ -16,11 +17,11 @@ public interface OperationsApiService {
 
     ResponseEntity<List<Operation>> getOperations(String spaceGuid, String mtaId, List<String> states, Integer last);
 
-    ResponseEntity<Operation> getOperation(String spaceGuid, String operationId, String embed);
+    ResponseEntity<Operation> getOperation(String spaceGuid, String operationId, String embed, Long since, Integer waitInSeconds);
 
     ResponseEntity<List<Log>> getOperationLogs(String spaceGuid, String operationId);
 
-    ResponseEntity<String> getOperationLogContent(String spaceGuid, String operationId, String logId);
+    ResponseEntity<StreamingResponseBody> getOperationLogContent(String spaceGuid, String operationId, String logId, Long offset);
 
     ResponseEntity<Operation> startOperation(HttpServletRequest request, String spaceGuid, Operation operation);
 
@@ -22,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -59,8 +60,10 @@ public class OperationsApi {
     public ResponseEntity<Operation>
            getOperation(@PathVariable(PathVariables.SPACE_GUID) String spaceGuid,
                         @PathVariable(PathVariables.OPERATION_ID) String operationId,
-                        @ApiParam(value = "Adds the specified property in the response body ") @RequestParam(name = "embed", required = false) String embed) {
-        return delegate.getOperation(spaceGuid, operationId, embed);
+                        @ApiParam(value = "Adds the specified property in the response body ") @RequestParam(name = "embed", required = false) String embed,
+                        @ApiParam(value = "Embeds only the messages with an id greater than the specified one, e.g. the id of the last message already received") @RequestParam(name = QueryVariables.SINCE, required = false) Long since,
+                        @ApiParam(value = "Number of seconds to wait for new messages or a change of the operation state before responding") @RequestParam(name = QueryVariables.WAIT, required = false) Integer wait) {
+        return delegate.getOperation(spaceGuid, operationId, embed, since, wait);
     }
 
     @GetMapping(path = Endpoints.OPERATION_LOGS, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -80,10 +83,11 @@ public class OperationsApi {
 
         }) }, tags = {})
     @ApiResponses(value = { @ApiResponse(code = 200, message = "OK", response = String.class) })
-    public ResponseEntity<String> getOperationLogContent(@PathVariable(PathVariables.SPACE_GUID) String spaceGuid,
-                                                         @PathVariable(PathVariables.OPERATION_ID) String operationId,
-                                                         @PathVariable(PathVariables.LOG_ID) String logId) {
-        return delegate.getOperationLogContent(spaceGuid, operationId, logId);
+    public ResponseEntity<StreamingResponseBody> getOperationLogContent(@PathVariable(PathVariables.SPACE_GUID) String spaceGuid,
+                                                                        @PathVariable(PathVariables.OPERATION_ID) String operationId,
+                                                                        @PathVariable(PathVariables.LOG_ID) String logId,
+                                                                        @ApiParam(value = "Number of bytes of the log to skip, e.g. the number of bytes already received") @RequestParam(name = QueryVariables.OFFSET, required = false) Long offset) {
+        return delegate.getOperationLogContent(spaceGuid, operationId, logId, offset);
     }
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
@@ -11,6 +11,7 @@ open module org.cloudfoundry.multiapps.controller.client {
     requires transitive spring.web;
 
     requires org.apache.commons.collections4;
+    requires micrometer.core;
     requires org.cloudfoundry.multiapps.common;
     requires org.slf4j;
     requires spring.core;
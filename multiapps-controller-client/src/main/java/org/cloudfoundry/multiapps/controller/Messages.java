@@ -2,6 +2,13 @@ package org.cloudfoundry.multiapps.controller;
 
 public class Messages {
 
+    // Exception messages
+    public static final String CIRCUIT_BREAKER_FOR_CLOUD_CONTROLLER_0_IS_OPEN_RETRY_AFTER_1_SECONDS = "Requests to Cloud Controller \"{0}\" are suspended because of consecutive failures. Retry after {1} seconds";
+    public static final String RATE_LIMIT_OF_CLOUD_CONTROLLER_EXCEEDED_RETRY_AFTER_0_SECONDS = "Rate limit of Cloud Controller exceeded. Retry after {0} seconds";
+
+    // WARN messages
+    public static final String SUSPENDING_REQUESTS_TO_CLOUD_CONTROLLER_0_FOR_1_SECONDS_AFTER_2_CONSECUTIVE_FAILURES = "Suspending requests to Cloud Controller \"{0}\" for {1} seconds after {2} consecutive failures";
+
     // INFO messages
     public static final String WAITING_MS_BEFORE_RETRYING_WITH_TIMEOUT_OF_MS = "Waiting: {} ms before retrying with timeout of: {} ms";
 
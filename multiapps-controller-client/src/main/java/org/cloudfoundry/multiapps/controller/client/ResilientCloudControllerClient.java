@@ -11,6 +11,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.cloudfoundry.client.v3.Metadata;
+import org.cloudfoundry.multiapps.controller.client.util.CloudControllerCircuitBreaker;
 import org.cloudfoundry.multiapps.controller.client.util.ResilientCloudOperationExecutor;
 import org.springframework.http.HttpStatus;
 
@@ -48,9 +49,15 @@ import com.sap.cloudfoundry.client.facade.rest.CloudControllerRestClient;
 public class ResilientCloudControllerClient implements CloudControllerClient {
 
     private final CloudControllerClientImpl delegate;
+    private final CloudControllerCircuitBreaker circuitBreaker;
 
     public ResilientCloudControllerClient(CloudControllerRestClient delegate) {
+        this(delegate, null);
+    }
+
+    public ResilientCloudControllerClient(CloudControllerRestClient delegate, CloudControllerCircuitBreaker circuitBreaker) {
         this.delegate = new CloudControllerClientImpl(delegate);
+        this.circuitBreaker = circuitBreaker;
     }
 
     @Override
@@ -627,13 +634,16 @@ public class ResilientCloudControllerClient implements CloudControllerClient {
     }
 
     private <T> T executeWithRetry(Supplier<T> operation, HttpStatus... statusesToIgnore) {
-        ResilientCloudOperationExecutor executor = new ResilientCloudOperationExecutor().withStatusesToIgnore(statusesToIgnore);
-        return executor.execute(operation);
+        return createExecutor(statusesToIgnore).execute(operation);
     }
 
     private <T> T executeWithExponentialBackoff(Function<Duration, T> operation, HttpStatus... statusesToIgnore) {
-        ResilientCloudOperationExecutor executor = new ResilientCloudOperationExecutor().withStatusesToIgnore(statusesToIgnore);
-        return executor.executeWithExponentialBackoff(operation);
+        return createExecutor(statusesToIgnore).executeWithExponentialBackoff(operation);
+    }
+
+    private ResilientCloudOperationExecutor createExecutor(HttpStatus... statusesToIgnore) {
+        return new ResilientCloudOperationExecutor().withStatusesToIgnore(statusesToIgnore)
+                                                    .withCircuitBreaker(circuitBreaker);
     }
 
 }
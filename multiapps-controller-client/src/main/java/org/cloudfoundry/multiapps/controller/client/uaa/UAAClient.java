@@ -2,6 +2,7 @@ package org.cloudfoundry.multiapps.controller.client.uaa;
 
 import java.net.URL;
 import java.text.MessageFormat;
+import java.util.List;
 import java.util.Map;
 
 import org.cloudfoundry.multiapps.common.util.JsonUtil;
@@ -9,7 +10,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 public class UAAClient {
 
-    private static final String TOKEN_KEY_ENDPOINT = "/token_key";
+    private static final String TOKEN_KEYS_ENDPOINT = "/token_keys";
 
     protected final URL uaaUrl;
     protected final WebClient webClient;
@@ -19,17 +20,30 @@ public class UAAClient {
         this.webClient = webClient;
     }
 
-    public Map<String, Object> readTokenKey() {
-        String tokenKeyURL = uaaUrl.toString() + TOKEN_KEY_ENDPOINT;
-        String tokenKeyResponse = webClient.get()
-                                           .uri(tokenKeyURL)
-                                           .retrieve()
-                                           .bodyToMono(String.class)
-                                           .block();
-        if (tokenKeyResponse == null) {
-            throw new IllegalStateException(MessageFormat.format("Invalid response returned from {0}", tokenKeyURL));
+    /**
+     * Returns all keys published by UAA for verification of its tokens. After a key rotation, this includes the previous keys for as long
+     * as UAA still accepts the tokens signed with them.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> readTokenKeys() {
+        Object keys = read(TOKEN_KEYS_ENDPOINT).get("keys");
+        if (!(keys instanceof List)) {
+            throw new IllegalStateException(MessageFormat.format("Invalid response returned from {0}", uaaUrl + TOKEN_KEYS_ENDPOINT));
         }
-        return JsonUtil.convertJsonToMap(tokenKeyResponse);
+        return (List<Map<String, Object>>) keys;
+    }
+
+    private Map<String, Object> read(String endpoint) {
+        String url = uaaUrl.toString() + endpoint;
+        String response = webClient.get()
+                                   .uri(url)
+                                   .retrieve()
+                                   .bodyToMono(String.class)
+                                   .block();
+        if (response == null) {
+            throw new IllegalStateException(MessageFormat.format("Invalid response returned from {0}", url));
+        }
+        return JsonUtil.convertJsonToMap(response);
     }
 
     public URL getUaaUrl() {
@@ -0,0 +1,124 @@
+package org.cloudfoundry.multiapps.controller.client.util;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import org.cloudfoundry.multiapps.controller.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Suspends the requests to a Cloud Controller endpoint after a number of consecutive failures, so that the callers fail fast instead of
+ * waiting for retries which are very likely to fail as well. After the suspension a single trial request is let through, which either
+ * resumes the requests or suspends them again. The scope of a circuit breaker, e.g. a user and a space, is chosen by whoever creates it,
+ * so that the failures of one scope do not suspend the requests of the others.
+ */
+public class CloudControllerCircuitBreaker {
+
+    static final String OPENINGS_METRIC = "multiapps.controller.cloud.controller.circuit.breaker.openings";
+    static final String REJECTIONS_METRIC = "multiapps.controller.cloud.controller.circuit.breaker.rejections";
+    static final String ENDPOINT_TAG = "endpoint";
+
+    private static final int DEFAULT_FAILURE_THRESHOLD = 10;
+    private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CloudControllerCircuitBreaker.class);
+
+    enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final String endpoint;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final LongSupplier nanoTime;
+    private final Counter rejections;
+    private final Counter openings;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialRequestInProgress;
+
+    CloudControllerCircuitBreaker(String endpoint, int failureThreshold, Duration openDuration, LongSupplier nanoTime,
+                                  MeterRegistry meterRegistry) {
+        this.endpoint = endpoint;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.nanoTime = nanoTime;
+        // The meters are shared by all circuit breakers of the endpoint, so that their number does not grow with the number of scopes:
+        this.rejections = meterRegistry.counter(REJECTIONS_METRIC, ENDPOINT_TAG, endpoint);
+        this.openings = meterRegistry.counter(OPENINGS_METRIC, ENDPOINT_TAG, endpoint);
+    }
+
+    public CloudControllerCircuitBreaker(String endpoint) {
+        this(endpoint, DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION, System::nanoTime, Metrics.globalRegistry);
+    }
+
+    /**
+     * Must be called before every request. Each permitted request must be followed by a call to either {@link #onSuccess()} or
+     * {@link #onFailure()}.
+     *
+     * @throws RetryAfterCloudOperationException if the requests to the endpoint are suspended
+     */
+    public synchronized void acquirePermission() {
+        if (state == State.OPEN) {
+            long elapsedNanos = nanoTime.getAsLong() - openedAt;
+            if (elapsedNanos < openDuration.toNanos()) {
+                throw reject(openDuration.minusNanos(elapsedNanos));
+            }
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialRequestInProgress) {
+                throw reject(openDuration);
+            }
+            trialRequestInProgress = true;
+        }
+    }
+
+    private RetryAfterCloudOperationException reject(Duration retryAfter) {
+        rejections.increment();
+        long retryAfterInSeconds = Math.max(retryAfter.toSeconds(), 1);
+        return new RetryAfterCloudOperationException(HttpStatus.SERVICE_UNAVAILABLE,
+                                                     MessageFormat.format(Messages.CIRCUIT_BREAKER_FOR_CLOUD_CONTROLLER_0_IS_OPEN_RETRY_AFTER_1_SECONDS,
+                                                                          endpoint, retryAfterInSeconds),
+                                                     Duration.ofSeconds(retryAfterInSeconds));
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.OPEN) {
+            // A request which was permitted before the suspension has succeeded, the requests are resumed only after a trial request:
+            return;
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialRequestInProgress = false;
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.OPEN) {
+            // A request which was permitted before the suspension has failed:
+            return;
+        }
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            LOGGER.warn(MessageFormat.format(Messages.SUSPENDING_REQUESTS_TO_CLOUD_CONTROLLER_0_FOR_1_SECONDS_AFTER_2_CONSECUTIVE_FAILURES,
+                                             endpoint, openDuration.toSeconds(), consecutiveFailures));
+            state = State.OPEN;
+            openedAt = nanoTime.getAsLong();
+            trialRequestInProgress = false;
+            openings.increment();
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+}
@@ -8,6 +8,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.apache.commons.collections4.SetUtils;
 import org.cloudfoundry.multiapps.common.util.MiscUtil;
@@ -18,21 +19,35 @@ import org.springframework.http.HttpStatus;
 
 import com.sap.cloudfoundry.client.facade.CloudOperationException;
 
+import io.micrometer.core.instrument.Metrics;
+
 public class ResilientCloudOperationExecutor extends ResilientOperationExecutor {
 
+    static final String RETRIES_METRIC = "multiapps.controller.cloud.controller.retries";
+    static final String REASON_TAG = "reason";
+    private static final String TIMEOUT_REASON = "timeout";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(ResilientCloudOperationExecutor.class);
 
     private static final Set<HttpStatus> DEFAULT_STATUSES_TO_IGNORE = Set.of(HttpStatus.GATEWAY_TIMEOUT, HttpStatus.REQUEST_TIMEOUT,
                                                                              HttpStatus.INTERNAL_SERVER_ERROR, HttpStatus.BAD_GATEWAY,
                                                                              HttpStatus.SERVICE_UNAVAILABLE);
 
+    // Bad gateway responses are left out, as Cloud Controller returns them for failures of service brokers:
+    private static final Set<HttpStatus> CLOUD_CONTROLLER_FAILURE_STATUSES = Set.of(HttpStatus.GATEWAY_TIMEOUT,
+                                                                                    HttpStatus.INTERNAL_SERVER_ERROR,
+                                                                                    HttpStatus.SERVICE_UNAVAILABLE);
+
     private static final int DEFAULT_TIMEOUT_RETRY_WAIT_TIME_IN_MILLIS = 30 * 1000; // 30 seconds
+    // Longer waits for rate limits are left to the callers, so that they do not block their threads:
+    private static final Duration MAX_RETRY_AFTER_TO_WAIT = Duration.ofSeconds(5);
 
     private static final Map<Integer, Duration> RETRY_COUNT_RESPONSE_TIME_BACKOFF = Map.of(1, Duration.ofMinutes(5), 2,
                                                                                            Duration.ofMinutes(8), 3,
                                                                                            Duration.ofMinutes(15));
 
     private Set<HttpStatus> additionalStatusesToIgnore = Collections.emptySet();
+    private CloudControllerCircuitBreaker circuitBreaker;
 
     @Override
     public ResilientCloudOperationExecutor withRetryCount(long retryCount) {
@@ -49,16 +64,60 @@ public class ResilientCloudOperationExecutor extends ResilientOperationExecutor
         return this;
     }
 
+    public ResilientCloudOperationExecutor withCircuitBreaker(CloudControllerCircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        return this;
+    }
+
+    @Override
+    public <T> T execute(Supplier<T> operation) {
+        return super.execute((Supplier<T>) () -> executeWithCircuitBreaker(operation));
+    }
+
+    private <T> T executeWithCircuitBreaker(Supplier<T> operation) {
+        if (circuitBreaker == null) {
+            return operation.get();
+        }
+        circuitBreaker.acquirePermission();
+        boolean failed = false;
+        try {
+            return operation.get();
+        } catch (RuntimeException e) {
+            failed = isCloudControllerFailure(e);
+            throw e;
+        } finally {
+            if (failed) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+        }
+    }
+
+    private boolean isCloudControllerFailure(RuntimeException e) {
+        if (e instanceof RetryAfterCloudOperationException) {
+            return false;
+        }
+        if (e instanceof CloudOperationException cloudOperationException) {
+            return CLOUD_CONTROLLER_FAILURE_STATUSES.contains(cloudOperationException.getStatusCode());
+        }
+        return isTimeout(e);
+    }
+
+    private static boolean isTimeout(RuntimeException e) {
+        return e.getCause() instanceof java.util.concurrent.TimeoutException || e instanceof io.netty.handler.timeout.TimeoutException;
+    }
+
     public <T> T executeWithExponentialBackoff(Function<Duration, T> operation) {
         int waitTimeBetweenRetriesInMillis = DEFAULT_TIMEOUT_RETRY_WAIT_TIME_IN_MILLIS;
         int retryIndex = 1;
         for (int i = 1; i < RETRY_COUNT_RESPONSE_TIME_BACKOFF.size(); i++) {
             try {
-                return operation.apply(RETRY_COUNT_RESPONSE_TIME_BACKOFF.get(retryIndex++));
+                Duration responseTimeout = RETRY_COUNT_RESPONSE_TIME_BACKOFF.get(retryIndex++);
+                return executeWithCircuitBreaker(() -> operation.apply(responseTimeout));
             } catch (RuntimeException e) {
                 handle(e);
-                if (e.getCause() instanceof java.util.concurrent.TimeoutException
-                    || e instanceof io.netty.handler.timeout.TimeoutException) {
+                if (isTimeout(e)) {
                     LOGGER.info(Messages.WAITING_MS_BEFORE_RETRYING_WITH_TIMEOUT_OF_MS, waitTimeBetweenRetriesInMillis,
                                 RETRY_COUNT_RESPONSE_TIME_BACKOFF.get(retryIndex)
                                                                  .toMillis());
@@ -67,7 +126,18 @@ public class ResilientCloudOperationExecutor extends ResilientOperationExecutor
                 }
             }
         }
-        return operation.apply(RETRY_COUNT_RESPONSE_TIME_BACKOFF.get(retryIndex));
+        Duration responseTimeout = RETRY_COUNT_RESPONSE_TIME_BACKOFF.get(retryIndex);
+        return executeWithCircuitBreaker(() -> operation.apply(responseTimeout));
+    }
+
+    @Override
+    protected long getWaitTimeBeforeRetryInMillis(RuntimeException e) {
+        long waitTimeInMillis = super.getWaitTimeBeforeRetryInMillis(e);
+        if (e instanceof RetryAfterCloudOperationException retryAfterException && isRateLimited(retryAfterException)) {
+            return Math.max(waitTimeInMillis, retryAfterException.getRetryAfter()
+                                                                 .toMillis());
+        }
+        return waitTimeInMillis;
     }
 
     @Override
@@ -76,6 +146,8 @@ public class ResilientCloudOperationExecutor extends ResilientOperationExecutor
             handle((CloudOperationException) e);
         } else {
             super.handle(e);
+            countRetry(isTimeout(e) ? TIMEOUT_REASON : e.getClass()
+                                                          .getSimpleName());
         }
     }
 
@@ -86,12 +158,28 @@ public class ResilientCloudOperationExecutor extends ResilientOperationExecutor
         LOGGER.warn(MessageFormat.format("Retrying operation that failed with status {0} and message: {1}", e.getStatusCode(),
                                          e.getMessage()),
                     e);
+        countRetry(Integer.toString(e.getStatusCode()
+                                     .value()));
     }
 
     private boolean shouldRetry(CloudOperationException e) {
+        if (e instanceof RetryAfterCloudOperationException retryAfterException) {
+            // Requests rejected by the circuit breaker are not retried, as it is open for longer than the usual wait between retries:
+            return isRateLimited(retryAfterException) && retryAfterException.getRetryAfter()
+                                                                            .compareTo(MAX_RETRY_AFTER_TO_WAIT) <= 0;
+        }
         return getStatusesToIgnore().contains(e.getStatusCode());
     }
 
+    private static boolean isRateLimited(RetryAfterCloudOperationException e) {
+        return e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS;
+    }
+
+    private static void countRetry(String reason) {
+        Metrics.counter(RETRIES_METRIC, REASON_TAG, reason)
+               .increment();
+    }
+
     private Set<HttpStatus> getStatusesToIgnore() {
         if (additionalStatusesToIgnore.isEmpty()) {
             return DEFAULT_STATUSES_TO_IGNORE;
@@ -42,7 +42,7 @@ public class ResilientOperationExecutor {
                 return operation.get();
             } catch (RuntimeException e) {
                 handle(e);
-                MiscUtil.sleep(waitTimeBetweenRetriesInMillis);
+                MiscUtil.sleep(getWaitTimeBeforeRetryInMillis(e));
             }
         }
         return operation.get();
@@ -60,6 +60,10 @@ public class ResilientOperationExecutor {
         return operation.get();
     }
 
+    protected long getWaitTimeBeforeRetryInMillis(RuntimeException e) {
+        return waitTimeBetweenRetriesInMillis;
+    }
+
     protected void handle(RuntimeException e) {
         if (e instanceof TimeoutException) {
             LOGGER.warn("Retrying operation that failed with exceeded timeout while waiting response from Cloud Controller", e);
@@ -0,0 +1,28 @@
+package org.cloudfoundry.multiapps.controller.client.util;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpStatus;
+
+import com.sap.cloudfoundry.client.facade.CloudOperationException;
+
+/**
+ * Signals that Cloud Controller cannot handle requests at the moment and that they should not be sent again before {@link #getRetryAfter()}
+ * has passed.
+ */
+public class RetryAfterCloudOperationException extends CloudOperationException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Duration retryAfter;
+
+    public RetryAfterCloudOperationException(HttpStatus statusCode, String description, Duration retryAfter) {
+        super(statusCode, statusCode.getReasonPhrase(), description);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+}
@@ -0,0 +1,133 @@
+package org.cloudfoundry.multiapps.controller.client.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CloudControllerCircuitBreakerTest {
+
+    private static final String ENDPOINT = "https://api.cf.example.com";
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CloudControllerCircuitBreaker circuitBreaker = new CloudControllerCircuitBreaker(ENDPOINT, FAILURE_THRESHOLD,
+                                                                                                   OPEN_DURATION, nanoTime::get,
+                                                                                                   meterRegistry);
+
+    @Test
+    void testOpensAfterConsecutiveFailures() {
+        failRequests(FAILURE_THRESHOLD - 1);
+        assertEquals(CloudControllerCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        failRequests(1);
+
+        assertEquals(CloudControllerCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(1, getCount(CloudControllerCircuitBreaker.OPENINGS_METRIC));
+    }
+
+    @Test
+    void testSuccessResetsConsecutiveFailures() {
+        failRequests(FAILURE_THRESHOLD - 1);
+        circuitBreaker.acquirePermission();
+        circuitBreaker.onSuccess();
+        failRequests(FAILURE_THRESHOLD - 1);
+
+        assertEquals(CloudControllerCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void testRejectsRequestsWhileOpen() {
+        failRequests(FAILURE_THRESHOLD);
+        nanoTime.addAndGet(Duration.ofSeconds(10)
+                                   .toNanos());
+
+        RetryAfterCloudOperationException exception = assertThrows(RetryAfterCloudOperationException.class,
+                                                                   circuitBreaker::acquirePermission);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+        assertEquals(Duration.ofSeconds(20), exception.getRetryAfter());
+        assertEquals(1, getCount(CloudControllerCircuitBreaker.REJECTIONS_METRIC));
+    }
+
+    @Test
+    void testLetsSingleTrialRequestThroughAfterOpenDuration() {
+        failRequests(FAILURE_THRESHOLD);
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+
+        circuitBreaker.acquirePermission();
+
+        assertEquals(CloudControllerCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertThrows(RetryAfterCloudOperationException.class, circuitBreaker::acquirePermission);
+    }
+
+    @Test
+    void testClosesWhenTrialRequestSucceeds() {
+        failRequests(FAILURE_THRESHOLD);
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+        circuitBreaker.acquirePermission();
+
+        circuitBreaker.onSuccess();
+
+        assertEquals(CloudControllerCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        circuitBreaker.acquirePermission();
+    }
+
+    @Test
+    void testOpensAgainWhenTrialRequestFails() {
+        failRequests(FAILURE_THRESHOLD);
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+
+        failRequests(1);
+
+        assertEquals(CloudControllerCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(2, getCount(CloudControllerCircuitBreaker.OPENINGS_METRIC));
+        assertThrows(RetryAfterCloudOperationException.class, circuitBreaker::acquirePermission);
+    }
+
+    @Test
+    void testStaysOpenWhenRequestPermittedBeforeOpeningSucceeds() {
+        failRequests(FAILURE_THRESHOLD);
+
+        circuitBreaker.onSuccess();
+
+        assertEquals(CloudControllerCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(RetryAfterCloudOperationException.class, circuitBreaker::acquirePermission);
+    }
+
+    @Test
+    void testIgnoresFailuresOfRequestsPermittedBeforeOpening() {
+        failRequests(FAILURE_THRESHOLD);
+        nanoTime.addAndGet(Duration.ofSeconds(10)
+                                   .toNanos());
+
+        circuitBreaker.onFailure();
+        nanoTime.addAndGet(Duration.ofSeconds(20)
+                                   .toNanos());
+
+        circuitBreaker.acquirePermission();
+        assertEquals(CloudControllerCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+    }
+
+    private void failRequests(int count) {
+        for (int i = 0; i < count; i++) {
+            circuitBreaker.acquirePermission();
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private double getCount(String metric) {
+        return meterRegistry.counter(metric, CloudControllerCircuitBreaker.ENDPOINT_TAG, ENDPOINT)
+                            .count();
+    }
+
+}
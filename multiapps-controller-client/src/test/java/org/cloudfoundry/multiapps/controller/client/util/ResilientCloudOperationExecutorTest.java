@@ -0,0 +1,105 @@
+package org.cloudfoundry.multiapps.controller.client.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.sap.cloudfoundry.client.facade.CloudOperationException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ResilientCloudOperationExecutorTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(10);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    void testBadGatewayIsNotCountedAsCloudControllerFailure() {
+        CloudControllerCircuitBreaker circuitBreaker = createCircuitBreaker(1);
+        ResilientCloudOperationExecutor executor = createExecutor(circuitBreaker);
+
+        assertThrows(CloudOperationException.class, () -> executor.execute((Supplier<String>) () -> fail(HttpStatus.BAD_GATEWAY)));
+
+        assertEquals(3, attempts.get());
+        assertEquals(CloudControllerCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void testServerErrorsOpenCircuitBreaker() {
+        CloudControllerCircuitBreaker circuitBreaker = createCircuitBreaker(2);
+        ResilientCloudOperationExecutor executor = createExecutor(circuitBreaker);
+
+        CloudOperationException exception = assertThrows(RetryAfterCloudOperationException.class,
+                                                         () -> executor.execute((Supplier<String>) () -> fail(HttpStatus.INTERNAL_SERVER_ERROR)));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+        assertEquals(2, attempts.get());
+        assertEquals(CloudControllerCircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void testRejectedRequestIsNotRetried() {
+        CloudControllerCircuitBreaker circuitBreaker = createCircuitBreaker(1);
+        circuitBreaker.acquirePermission();
+        circuitBreaker.onFailure();
+
+        assertThrows(RetryAfterCloudOperationException.class, () -> createExecutor(circuitBreaker).execute((Supplier<String>) () -> {
+            attempts.incrementAndGet();
+            return "result";
+        }));
+
+        assertEquals(0, attempts.get());
+        assertEquals(CloudControllerCircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void testRateLimitedRequestIsRetriedAfterShortWait() {
+        ResilientCloudOperationExecutor executor = createExecutor(createCircuitBreaker(1));
+
+        String result = executor.execute((Supplier<String>) () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new RetryAfterCloudOperationException(HttpStatus.TOO_MANY_REQUESTS, "Rate limit exceeded", Duration.ZERO);
+            }
+            return "result";
+        });
+
+        assertEquals("result", result);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void testRateLimitedRequestIsNotRetriedAfterLongWait() {
+        ResilientCloudOperationExecutor executor = createExecutor(createCircuitBreaker(1));
+
+        assertThrows(RetryAfterCloudOperationException.class, () -> executor.execute((Supplier<String>) () -> {
+            attempts.incrementAndGet();
+            throw new RetryAfterCloudOperationException(HttpStatus.TOO_MANY_REQUESTS, "Rate limit exceeded", Duration.ofSeconds(10));
+        }));
+
+        assertEquals(1, attempts.get());
+    }
+
+    private CloudControllerCircuitBreaker createCircuitBreaker(int failureThreshold) {
+        return new CloudControllerCircuitBreaker("endpoint", failureThreshold, OPEN_DURATION, nanoTime::get, new SimpleMeterRegistry());
+    }
+
+    private static ResilientCloudOperationExecutor createExecutor(CloudControllerCircuitBreaker circuitBreaker) {
+        return new ResilientCloudOperationExecutor().withWaitTimeBetweenRetriesInMillis(0)
+                                                    .withCircuitBreaker(circuitBreaker);
+    }
+
+    private String fail(HttpStatus status) {
+        attempts.incrementAndGet();
+        throw new CloudOperationException(status);
+    }
+
+}
@@ -54,6 +54,7 @@ open module org.cloudfoundry.multiapps.controller.core {
     requires jakarta.xml.bind;
     requires jakarta.inject;
     requires liquibase.core;
+    requires micrometer.core;
     requires org.apache.logging.log4j;
     requires org.apache.logging.log4j.core;
     requires org.apache.commons.collections4;
@@ -43,6 +43,7 @@ public final class Messages {
     public static final String NAMESPACE_IS_TOO_LONG = "Cannot shorten \"{0}-{1}\" to {2} characters - the namespace is too long for a prefix";
     public static final String ERROR_GETTING_APPLICATIONS = "Error getting Cloud Foundry applications";
     public static final String COULD_NOT_PARSE_ATTRIBUTES_OF_APP_0 = "Could not parse attributes of application \"{0}\"";
+    public static final String COULD_NOT_SERIALIZE_OBJECT_OF_TYPE_0 = "Could not serialize object of type \"{0}\"";
     public static final String ATTRIBUTE_0_OF_APP_1_IS_OF_TYPE_2_INSTEAD_OF_3 = "Attribute \"{0}\" of application \"{1}\" is of type {2} instead of {3}!";
     public static final String ILLEGAL_DESIRED_STATE = "Illegal desired application state: {0}";
     public static final String ILLEGAL_SERVICE_OPERATION_STATE = "Illegal service operation state: {0}";
@@ -86,11 +87,18 @@ public final class Messages {
     public static final String OBJECT_STORE_FILE_STORAGE_HEALTH_DATABASE_HEALTH = "Object store file storage health: \"{0}\", Database health: \"{1}\"";
     public static final String ERROR_OCCURRED_DURING_OBJECT_STORE_HEALTH_CHECKING_FOR_INSTANCE = "Error occurred during object store health checking for instance: \"{0}\"";
     public static final String ERROR_OCCURRED_WHILE_CHECKING_DATABASE_INSTANCE_0 = "Error occurred while checking database instance: \"{0}\"";
+    public static final String AUDIT_LOG_ENTRY_COULD_NOT_BE_STORED_ON_DISK_0 = "Audit log entry could not be stored on disk: {0}";
+    public static final String AUDIT_LOG_ENTRY_COULD_NOT_BE_WRITTEN_0 = "Audit log entry could not be written to the database: {0}";
+    public static final String SPILLED_AUDIT_LOG_ENTRY_COULD_NOT_BE_READ_MOVING_IT_TO_0 = "Spilled audit log entry could not be read, moving it to \"{0}\"";
+    public static final String UNSUPPORTED_AUDIT_LOG_OVERFLOW_POLICY_0 = "Unsupported audit log overflow policy: \"{0}\"";
 
     // Warning messages
     public static final String ENVIRONMENT_VARIABLE_IS_NOT_SET_USING_DEFAULT = "Environment variable \"{0}\" is not set. Using default \"{1}\"...";
     public static final String OPTIONAL_RESOURCE_IS_NOT_SERVICE = "Optional resource \"{0}\" it will be not created because it''s not a service";
     public static final String SERVICE_IS_NOT_ACTIVE = "Service \"{0}\" is inactive and will not be processed";
+    public static final String COULD_NOT_REFRESH_ENTRY_OF_CACHE_0 = "Could not refresh entry of cache \"{0}\". The current value is used until it expires";
+    public static final String TIMED_OUT_WAITING_FOR_ENTRY_OF_CACHE_0 = "Timed out waiting for entry of cache \"{0}\" to be created";
+    public static final String INTERRUPTED_WHILE_WAITING_FOR_ENTRY_OF_CACHE_0 = "Interrupted while waiting for entry of cache \"{0}\" to be created";
     public static final String DETECTED_INCREASED_NUMBER_OF_PROCESSES_WAITING_FOR_LOCKS_FOR_INSTANCE = "Detected increased number of processes waiting for locks: \"{0}\" for instance: \"{1}\"";
     public static final String DETECTED_INCREASED_NUMBER_OF_PROCESSES_WAITING_FOR_LOCKS_FOR_INSTANCE_0_GETTING_THE_LOCKS = "Detected increased number of processes waiting for locks for instance {0}. Getting the locks...";
 
@@ -143,6 +151,9 @@ public final class Messages {
     public static final String AUDIT_LOG_CLIENT_MAX_THREADS = "Audit log client max threads: {0}";
     public static final String AUDIT_LOG_CLIENT_QUEUE_CAPACITY = "Audit log client queue capacity: {0}";
     public static final String AUDIT_LOG_CLIENT_KEEP_ALIVE = "Audit log client keep alive: {0}";
+    public static final String AUDIT_LOG_QUEUE_CAPACITY = "Audit log queue capacity: {0}";
+    public static final String AUDIT_LOG_OVERFLOW_POLICY = "Audit log overflow policy: {0}";
+    public static final String AUDIT_LOG_SPILL_DIRECTORY = "Audit log spill directory: {0}";
     public static final String FLOWABLE_JOB_EXECUTOR_CORE_THREADS = "Flowable job executor core threads: {0}";
     public static final String FLOWABLE_JOB_EXECUTOR_MAX_THREADS = "Flowable job executor max threads: {0}";
     public static final String FLOWABLE_JOB_EXECUTOR_QUEUE_CAPACITY = "Flowable job executor queue capacity: {0}";
@@ -187,6 +198,14 @@ public final class Messages {
     public static final String THREADS_FOR_FILE_STORAGE_UPLOAD_0 = "Threads for file storage upload: {0}";
     public static final String DELETED_ORPHANED_MTA_DESCRIPTORS_COUNT = "Deleted orphaned mta descriptors count: {0}";
     public static final String IS_HEALTH_CHECK_ENABLED = "Is health check enabled: {0}";
+    public static final String MAX_APPLICATION_PACKAGES_CACHE_SIZE = "Max application packages cache size is set to: {0}";
+    public static final String THREADS_FOR_OBJECT_STORE_DOWNLOAD_0 = "Threads for object store download: {0}";
+    public static final String OBJECT_STORE_DOWNLOAD_CHUNK_SIZE_0 = "Object store download chunk size: {0}";
+    public static final String OBJECT_STORE_MAX_DOWNLOAD_BUFFER_SIZE_0 = "Object store max download buffer size: {0}";
+    public static final String THREADS_FOR_OBJECT_STORE_UPLOAD_0 = "Threads for object store upload: {0}";
+    public static final String OBJECT_STORE_UPLOAD_PART_SIZE_0 = "Object store upload part size: {0}";
+    public static final String OBJECT_STORE_MAX_UPLOAD_BUFFER_SIZE_0 = "Object store max upload buffer size: {0}";
+    public static final String PROCESS_VARIABLES_COMPRESSION_ENABLED_0 = "Process variables compression enabled: {0}";
 
     // Debug messages
     public static final String DEPLOYMENT_DESCRIPTOR = "Deployment descriptor: {0}";
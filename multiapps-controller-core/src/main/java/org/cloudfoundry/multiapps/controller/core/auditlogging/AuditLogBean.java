@@ -1,6 +1,7 @@
 package org.cloudfoundry.multiapps.controller.core.auditlogging;
 
 import org.cloudfoundry.multiapps.controller.core.auditlogging.impl.AuditLoggingFacadeSLImpl;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,8 +13,9 @@ public class AuditLogBean {
 
     @Bean
     @Inject
-    public AuditLoggingFacade buildAuditLoggingFacade(DataSource dataSource, UserInfoProvider userInfoProvider) {
-        return new AuditLoggingFacadeSLImpl(dataSource, userInfoProvider);
+    public AuditLoggingFacade buildAuditLoggingFacade(DataSource dataSource, UserInfoProvider userInfoProvider,
+                                                      ApplicationConfiguration configuration) {
+        return new AuditLoggingFacadeSLImpl(dataSource, userInfoProvider, configuration);
     }
 
     @Bean
@@ -0,0 +1,314 @@
+package org.cloudfoundry.multiapps.controller.core.auditlogging.impl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.cloudfoundry.multiapps.common.util.JsonUtil;
+import org.cloudfoundry.multiapps.controller.core.Messages;
+import org.cloudfoundry.multiapps.controller.core.auditlogging.impl.DBAppender.ExceptionHandler;
+import org.cloudfoundry.multiapps.controller.core.auditlogging.impl.DBAppender.LogEntryAdapter;
+import org.cloudfoundry.multiapps.controller.core.auditlogging.model.AuditLogOverflowPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Writes audit log entries to the database on a background thread, so that the threads which log them do not wait for the database. The
+ * entries are written in batches, each in its own transaction. When the queue is full, the overflow policy decides whether the logging
+ * thread waits or the entry is stored on the local disk. Entries which cannot be written are never dropped without being reported.
+ */
+class AsyncAuditLogWriter implements AutoCloseable {
+
+    static final String QUEUE_SIZE_METRIC = "multiapps.controller.audit.log.queue.size";
+    static final String WRITE_DURATION_METRIC = "multiapps.controller.audit.log.write.duration";
+    static final String SPILLED_ENTRIES_METRIC = "multiapps.controller.audit.log.spilled.entries";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncAuditLogWriter.class);
+
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final long POLL_INTERVAL_IN_MILLIS = 1000;
+    private static final long CLOSE_TIMEOUT_IN_MILLIS = 10000;
+    private static final int MAX_WRITE_ATTEMPTS_WITHOUT_SPILL = 3;
+    private static final long WRITE_RETRY_INTERVAL_IN_MILLIS = 500;
+    private static final String DRAINING_FILE_SUFFIX = ".draining";
+    private static final String PROGRESS_FILE_SUFFIX = ".progress";
+    private static final String REJECTED_FILE_SUFFIX = ".rejected";
+
+    private final DataSource dataSource;
+    private final String sql;
+    private final LogEntryAdapter entryAdapter;
+    private final ExceptionHandler exceptionHandler;
+    private final AuditLogOverflowPolicy overflowPolicy;
+    private final BlockingQueue<AuditLogEntry> queue;
+    private final Path spillFile;
+    private final Path drainingFile;
+    private final Path progressFile;
+    private final Path rejectedFile;
+    private final Object spillLock = new Object();
+    private final Timer writeTimer;
+    private final Counter spilledEntries;
+    private final Thread writerThread;
+    private volatile boolean closed;
+
+    AsyncAuditLogWriter(DataSource dataSource, String sql, LogEntryAdapter entryAdapter, ExceptionHandler exceptionHandler,
+                        AuditLogOverflowPolicy overflowPolicy, int queueCapacity, Path spillFile, MeterRegistry meterRegistry) {
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.sql = Objects.requireNonNull(sql);
+        this.entryAdapter = Objects.requireNonNull(entryAdapter);
+        this.exceptionHandler = Objects.requireNonNull(exceptionHandler);
+        this.overflowPolicy = overflowPolicy;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.spillFile = spillFile;
+        this.drainingFile = spillFile.resolveSibling(spillFile.getFileName() + DRAINING_FILE_SUFFIX);
+        this.progressFile = spillFile.resolveSibling(spillFile.getFileName() + PROGRESS_FILE_SUFFIX);
+        this.rejectedFile = spillFile.resolveSibling(spillFile.getFileName() + REJECTED_FILE_SUFFIX);
+        this.writeTimer = meterRegistry.timer(WRITE_DURATION_METRIC);
+        this.spilledEntries = meterRegistry.counter(SPILLED_ENTRIES_METRIC);
+        Gauge.builder(QUEUE_SIZE_METRIC, queue, BlockingQueue::size)
+             .register(meterRegistry);
+        this.writerThread = new Thread(this::writeEntries, "audit-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    void write(AuditLogEntry entry) {
+        if (closed) {
+            writeBatch(List.of(entry));
+            return;
+        }
+        if (overflowPolicy == AuditLogOverflowPolicy.SPILL_TO_DISK) {
+            if (!queue.offer(entry)) {
+                spill(List.of(entry));
+            }
+            return;
+        }
+        try {
+            queue.put(entry);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            writeBatch(List.of(entry));
+        }
+    }
+
+    private void writeEntries() {
+        while (!closed || !queue.isEmpty()) {
+            try {
+                AuditLogEntry entry = queue.poll(POLL_INTERVAL_IN_MILLIS, TimeUnit.MILLISECONDS);
+                if (entry == null) {
+                    writeSpilledEntries();
+                    continue;
+                }
+                List<AuditLogEntry> batch = new ArrayList<>(MAX_BATCH_SIZE);
+                batch.add(entry);
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                // The thread is stopped only by close(), once the remaining entries are written:
+                Thread.currentThread()
+                      .interrupt();
+                return;
+            } catch (RuntimeException e) {
+                exceptionHandler.handleException(e);
+            }
+        }
+        writeSpilledEntries();
+    }
+
+    /**
+     * Batches which cannot be spilled to the disk are retried a few times, since their entries are otherwise only kept in the application
+     * logs.
+     */
+    private void writeBatch(List<AuditLogEntry> batch) {
+        int maxAttempts = overflowPolicy == AuditLogOverflowPolicy.SPILL_TO_DISK ? 1 : MAX_WRITE_ATTEMPTS_WITHOUT_SPILL;
+        for (int attempt = 1;; attempt++) {
+            try {
+                writeTimer.recordCallable(() -> executeBatch(batch));
+                return;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts || !waitBeforeRetry()) {
+                    onWriteFailure(batch, e);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static boolean waitBeforeRetry() {
+        try {
+            Thread.sleep(WRITE_RETRY_INTERVAL_IN_MILLIS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            return false;
+        }
+    }
+
+    private int[] executeBatch(List<AuditLogEntry> batch) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (AuditLogEntry entry : batch) {
+                    entryAdapter.entryToStatement(entry, statement);
+                    statement.addBatch();
+                }
+                int[] result = statement.executeBatch();
+                connection.commit();
+                return result;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private void onWriteFailure(List<AuditLogEntry> batch, Exception e) {
+        exceptionHandler.handleException(e);
+        if (overflowPolicy == AuditLogOverflowPolicy.SPILL_TO_DISK) {
+            spill(batch);
+            return;
+        }
+        // The entries are at least kept in the application logs:
+        batch.forEach(entry -> LOGGER.error(MessageFormat.format(Messages.AUDIT_LOG_ENTRY_COULD_NOT_BE_WRITTEN_0, toJson(entry)), e));
+    }
+
+    private static String toJson(AuditLogEntry entry) {
+        return JsonUtil.toJson(entry.toMap());
+    }
+
+    private void spill(List<AuditLogEntry> entries) {
+        List<String> lines = entries.stream()
+                                    .map(AsyncAuditLogWriter::toJson)
+                                    .collect(Collectors.toList());
+        synchronized (spillLock) {
+            try {
+                Files.write(spillFile, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                spilledEntries.increment(entries.size());
+            } catch (IOException e) {
+                // The entries are at least kept in the application logs:
+                lines.forEach(line -> LOGGER.error(MessageFormat.format(Messages.AUDIT_LOG_ENTRY_COULD_NOT_BE_STORED_ON_DISK_0, line), e));
+            }
+        }
+    }
+
+    /**
+     * Writes the entries stored on the disk. They are moved to a separate file first, so that the entries spilled in the meantime are not
+     * deleted once the file is written. The entries of each written batch are removed from the file right after its transaction is
+     * committed, so a failure or a restart repeats at most the last batch. Lines which cannot be read are moved to a separate file instead
+     * of blocking the others.
+     */
+    private void writeSpilledEntries() {
+        try {
+            synchronized (spillLock) {
+                if (!Files.exists(drainingFile)) {
+                    if (!Files.exists(spillFile)) {
+                        return;
+                    }
+                    Files.move(spillFile, drainingFile, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            List<String> lines = readSpilledLines();
+            for (int i = 0; i < lines.size(); i += MAX_BATCH_SIZE) {
+                List<AuditLogEntry> batch = lines.subList(i, Math.min(i + MAX_BATCH_SIZE, lines.size()))
+                                                 .stream()
+                                                 .map(AsyncAuditLogWriter::fromJson)
+                                                 .collect(Collectors.toList());
+                writeTimer.recordCallable(() -> executeBatch(batch));
+                recordProgress(lines.subList(i + batch.size(), lines.size()));
+            }
+            Files.deleteIfExists(drainingFile);
+        } catch (Exception e) {
+            exceptionHandler.handleException(e);
+        }
+    }
+
+    private List<String> readSpilledLines() throws IOException {
+        List<String> lines = Files.readAllLines(drainingFile, StandardCharsets.UTF_8);
+        List<String> validLines = new ArrayList<>(lines.size());
+        List<String> rejectedLines = new ArrayList<>();
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                fromJson(line);
+                validLines.add(line);
+            } catch (RuntimeException e) {
+                LOGGER.error(MessageFormat.format(Messages.SPILLED_AUDIT_LOG_ENTRY_COULD_NOT_BE_READ_MOVING_IT_TO_0, rejectedFile), e);
+                rejectedLines.add(line);
+            }
+        }
+        if (!rejectedLines.isEmpty()) {
+            Files.write(rejectedFile, rejectedLines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            recordProgress(validLines);
+        }
+        return validLines;
+    }
+
+    private static AuditLogEntry fromJson(String line) {
+        return AuditLogEntry.fromMap(JsonUtil.convertJsonToMap(line));
+    }
+
+    /**
+     * Replaces the draining file with the lines which are not written yet. The file is replaced atomically, so that it never contains only
+     * a part of them.
+     */
+    private void recordProgress(List<String> remainingLines) throws IOException {
+        if (remainingLines.isEmpty()) {
+            Files.deleteIfExists(drainingFile);
+            return;
+        }
+        Files.write(progressFile, remainingLines, StandardCharsets.UTF_8);
+        Files.move(progressFile, drainingFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Writes the remaining entries and stops the background thread.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            writerThread.join(CLOSE_TIMEOUT_IN_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+        // Entries which were queued while the writer thread was exiting:
+        List<AuditLogEntry> remainingEntries = new ArrayList<>();
+        queue.drainTo(remainingEntries);
+        if (!remainingEntries.isEmpty()) {
+            writeBatch(remainingEntries);
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package org.cloudfoundry.multiapps.controller.core.auditlogging.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An audit log event captured on the thread which logged it, since the user and the time of the event are not available to the thread
+ * which writes it to the database.
+ */
+record AuditLogEntry(String user, long modified, String category, String severity, String message) {
+
+    private static final String USER = "user";
+    private static final String MODIFIED = "modified";
+    private static final String CATEGORY = "category";
+    private static final String SEVERITY = "severity";
+    private static final String MESSAGE = "message";
+
+    Map<String, Object> toMap() {
+        Map<String, Object> result = new HashMap<>();
+        result.put(USER, user);
+        result.put(MODIFIED, modified);
+        result.put(CATEGORY, category);
+        result.put(SEVERITY, severity);
+        result.put(MESSAGE, message);
+        return result;
+    }
+
+    static AuditLogEntry fromMap(Map<String, Object> map) {
+        return new AuditLogEntry((String) map.get(USER), ((Number) map.get(MODIFIED)).longValue(), (String) map.get(CATEGORY),
+                                 (String) map.get(SEVERITY), (String) map.get(MESSAGE));
+    }
+
+}
@@ -7,27 +7,36 @@ import org.apache.logging.log4j.core.Logger;
 import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.config.LoggerConfig;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.UserInfoProvider;
-import org.cloudfoundry.multiapps.controller.core.auditlogging.impl.DBAppender.LogEventAdapter;
+import org.cloudfoundry.multiapps.controller.core.auditlogging.impl.DBAppender.LogEntryAdapter;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import java.nio.file.Path;
 import java.sql.Timestamp;
 import javax.sql.DataSource;
 
-class AuditLogManager {
+class AuditLogManager implements AutoCloseable {
 
     private static final String AUDIT_LOG_INSERT_STATEMENT = "INSERT INTO AUDIT_LOG (USER, MODIFIED, CATEGORY, SEVERITY, MESSAGE) VALUES (?, ?, ?, ?, ?)";
 
-    private static final LogEventAdapter EVENT_ADAPTER = (category, event, userInfo, stmt) -> {
-        stmt.setString(1, userInfo == null ? null : userInfo.getName());
-        stmt.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
-        stmt.setString(3, category);
-        stmt.setString(4, event.getLevel()
-                               .toString());
-        stmt.setString(5, event.getMessage()
-                               .toString());
+    // Entries which could not be written before a restart of the instance are written once it is started again, as long as the spill
+    // directory is kept across restarts:
+    private static final String SPILL_FILE_NAME = "audit-log.spill";
+
+    private static final LogEntryAdapter ENTRY_ADAPTER = (entry, stmt) -> {
+        stmt.setString(1, entry.user());
+        stmt.setTimestamp(2, new Timestamp(entry.modified()));
+        stmt.setString(3, entry.category());
+        stmt.setString(4, entry.severity());
+        stmt.setString(5, entry.message());
     };
 
     private final AuditLoggingExceptionHandler exceptionHandler = new AuditLoggingExceptionHandler();
 
+    private final AsyncAuditLogWriter writer;
+
     private Logger securityLogger = null;
 
     private final Logger configLogger;
@@ -50,16 +59,32 @@ class AuditLogManager {
         return exceptionHandler.getException();
     }
 
-    AuditLogManager(DataSource dataSource, UserInfoProvider userInfoProvider) {
-        securityLogger = setUpLogger(dataSource, userInfoProvider, "SECURITY");
-        configLogger = setUpLogger(dataSource, userInfoProvider, "CONFIG");
-        actionLogger = setUpLogger(dataSource, userInfoProvider, "ACTION");
+    /**
+     * Returns the last failure of writing to the audit log since the previous call. The entries are written asynchronously, so the failure
+     * is not necessarily related to the last logged message.
+     */
+    Exception getAndClearException() {
+        return exceptionHandler.getAndClearException();
+    }
+
+    AuditLogManager(DataSource dataSource, UserInfoProvider userInfoProvider, ApplicationConfiguration configuration) {
+        this(dataSource, userInfoProvider, configuration, Path.of(configuration.getAuditLogSpillDirectory(), SPILL_FILE_NAME),
+             Metrics.globalRegistry);
     }
 
-    private Logger setUpLogger(DataSource dataSource, UserInfoProvider userInfoProvider, String name) {
+    AuditLogManager(DataSource dataSource, UserInfoProvider userInfoProvider, ApplicationConfiguration configuration, Path spillFile,
+                    MeterRegistry meterRegistry) {
+        writer = new AsyncAuditLogWriter(dataSource, AUDIT_LOG_INSERT_STATEMENT, ENTRY_ADAPTER, exceptionHandler,
+                                         configuration.getAuditLogOverflowPolicy(), configuration.getAuditLogQueueCapacity(), spillFile,
+                                         meterRegistry);
+        securityLogger = setUpLogger(userInfoProvider, "SECURITY");
+        configLogger = setUpLogger(userInfoProvider, "CONFIG");
+        actionLogger = setUpLogger(userInfoProvider, "ACTION");
+    }
+
+    private Logger setUpLogger(UserInfoProvider userInfoProvider, String name) {
         try (LoggerContext loggerContext = new LoggerContext(name)) {
-            DBAppender auditLogAppender = initializeDBAppender(dataSource, AUDIT_LOG_INSERT_STATEMENT, EVENT_ADAPTER, exceptionHandler,
-                                                               userInfoProvider, name);
+            DBAppender auditLogAppender = initializeDBAppender(writer, userInfoProvider, name);
             auditLogAppender.start();
             loggerContext.getConfiguration()
                          .addAppender(auditLogAppender);
@@ -69,9 +94,8 @@ class AuditLogManager {
         }
     }
 
-    private DBAppender initializeDBAppender(DataSource dataSource, String logInsertStatement, LogEventAdapter logEventAdapter,
-                                            AuditLoggingExceptionHandler exceptionHandler, UserInfoProvider userInfoProvider, String name) {
-        return new DBAppender(dataSource, logInsertStatement, logEventAdapter, exceptionHandler, userInfoProvider, name);
+    private DBAppender initializeDBAppender(AsyncAuditLogWriter writer, UserInfoProvider userInfoProvider, String name) {
+        return new DBAppender(writer, userInfoProvider, name);
     }
 
     private LoggerConfig initializeLoggerConfig(LoggerContext loggerContext) {
@@ -87,4 +111,9 @@ class AuditLogManager {
                                                .getAppender(auditLogAppender.getName()));
         loggerContext.updateLoggers();
     }
+
+    @Override
+    public void close() {
+        writer.close();
+    }
 }
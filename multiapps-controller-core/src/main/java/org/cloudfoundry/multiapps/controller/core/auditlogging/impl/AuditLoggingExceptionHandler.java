@@ -2,10 +2,10 @@ package org.cloudfoundry.multiapps.controller.core.auditlogging.impl;
 
 class AuditLoggingExceptionHandler implements DBAppender.ExceptionHandler {
 
-    private Exception exception;
+    private volatile Exception exception;
 
     @Override
-    public void handleException(Exception e) {
+    public synchronized void handleException(Exception e) {
         this.setException(e);
     }
 
@@ -13,6 +13,12 @@ class AuditLoggingExceptionHandler implements DBAppender.ExceptionHandler {
         return exception;
     }
 
+    synchronized Exception getAndClearException() {
+        Exception result = exception;
+        exception = null;
+        return result;
+    }
+
     void setException(Exception exception) {
         this.exception = exception;
     }
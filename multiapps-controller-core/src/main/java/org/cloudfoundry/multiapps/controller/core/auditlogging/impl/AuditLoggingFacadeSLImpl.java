@@ -8,16 +8,18 @@ import org.cloudfoundry.multiapps.controller.core.auditlogging.AuditLoggingFacad
 import org.cloudfoundry.multiapps.controller.core.auditlogging.UserInfoProvider;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.model.AuditLogConfiguration;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.model.ConfigurationChangeActions;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.springframework.beans.factory.DisposableBean;
 
 import javax.sql.DataSource;
 
-public class AuditLoggingFacadeSLImpl implements AuditLoggingFacade {
+public class AuditLoggingFacadeSLImpl implements AuditLoggingFacade, DisposableBean {
 
     private static final Logger LOGGER = (Logger) LogManager.getLogger(AuditLoggingFacadeSLImpl.class);
     private final AuditLogManager auditLogManager;
 
-    public AuditLoggingFacadeSLImpl(DataSource dataSource, UserInfoProvider userInfoProvider) {
-        this.auditLogManager = new AuditLogManager(dataSource, userInfoProvider);
+    public AuditLoggingFacadeSLImpl(DataSource dataSource, UserInfoProvider userInfoProvider, ApplicationConfiguration configuration) {
+        this.auditLogManager = new AuditLogManager(dataSource, userInfoProvider, configuration);
     }
 
     @Override
@@ -36,14 +38,16 @@ public class AuditLoggingFacadeSLImpl implements AuditLoggingFacade {
     }
 
     private void writeMessage(Logger logger, String message, Level level) {
-        Exception loggingException = null;
-        synchronized (auditLogManager) {
-            logger.log(level, message);
-            loggingException = auditLogManager.getException();
-        }
+        logger.log(level, message);
+        Exception loggingException = auditLogManager.getAndClearException();
         if (loggingException != null) {
             LOGGER.error(Messages.AUDIT_LOGGING_FAILED, loggingException);
         }
     }
 
+    @Override
+    public void destroy() {
+        auditLogManager.close();
+    }
+
 }
@@ -9,16 +9,14 @@ import org.apache.logging.log4j.core.layout.PatternLayout;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.UserInfoProvider;
 import org.cloudfoundry.multiapps.controller.core.util.UserInfo;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Objects;
-import javax.sql.DataSource;
 
 class DBAppender extends AbstractAppender {
 
-    interface LogEventAdapter {
-        void eventToStatement(String category, LogEvent event, UserInfo userInfo, PreparedStatement statement) throws SQLException;
+    interface LogEntryAdapter {
+        void entryToStatement(AuditLogEntry entry, PreparedStatement statement) throws SQLException;
     }
 
     interface ExceptionHandler {
@@ -30,32 +28,27 @@ class DBAppender extends AbstractAppender {
     private static final PatternLayout LAYOUT = PatternLayout.createDefaultLayout();
     private static final String DEFAULT_NAME = "DBAppender";
 
-    private final DataSource dataSource;
-    private final LogEventAdapter eventAdapter;
-    private final String sql;
-    private final ExceptionHandler exceptionHandler;
+    private final AsyncAuditLogWriter writer;
     private final UserInfoProvider userInfoProvider;
     private final String appenderName;
 
-    DBAppender(DataSource dataSource, String sql, LogEventAdapter eventAdapter, ExceptionHandler exceptionHandler,
-               UserInfoProvider userInfoProvider, String appenderName) {
+    DBAppender(AsyncAuditLogWriter writer, UserInfoProvider userInfoProvider, String appenderName) {
         super(DEFAULT_NAME, FILTER, LAYOUT, false, null);
-        this.dataSource = Objects.requireNonNull(dataSource);
-        this.sql = Objects.requireNonNull(sql);
-        this.eventAdapter = Objects.requireNonNull(eventAdapter);
-        this.exceptionHandler = Objects.requireNonNull(exceptionHandler);
+        this.writer = Objects.requireNonNull(writer);
         this.userInfoProvider = userInfoProvider;
         this.appenderName = appenderName;
     }
 
     @Override
     public void append(LogEvent event) {
-        try (Connection connection = dataSource.getConnection(); PreparedStatement stmt = connection.prepareStatement(sql)) {
-            eventAdapter.eventToStatement(getName(), event, userInfoProvider.getUserInfo(), stmt);
-            stmt.executeUpdate();
-        } catch (SQLException e) {
-            exceptionHandler.handleException(e);
-        }
+        UserInfo userInfo = userInfoProvider.getUserInfo();
+        writer.write(new AuditLogEntry(userInfo == null ? null : userInfo.getName(),
+                                       System.currentTimeMillis(),
+                                       getName(),
+                                       event.getLevel()
+                                            .toString(),
+                                       event.getMessage()
+                                            .toString()));
     }
 
     @Override
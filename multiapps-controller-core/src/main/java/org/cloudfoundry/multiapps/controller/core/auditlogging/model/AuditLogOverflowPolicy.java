@@ -0,0 +1,31 @@
+package org.cloudfoundry.multiapps.controller.core.auditlogging.model;
+
+import java.text.MessageFormat;
+
+import org.cloudfoundry.multiapps.controller.core.Messages;
+
+/**
+ * Determines what happens with an audit log entry when the queue of entries waiting to be written to the database is full.
+ */
+public enum AuditLogOverflowPolicy {
+
+    /**
+     * The thread which logs the entry waits until there is free space in the queue.
+     */
+    BLOCK,
+    /**
+     * The entry is stored on the local disk and written to the database once the queue is drained.
+     */
+    SPILL_TO_DISK;
+
+    public static AuditLogOverflowPolicy fromString(String value) {
+        for (AuditLogOverflowPolicy policy : values()) {
+            if (policy.name()
+                      .equalsIgnoreCase(value)) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException(MessageFormat.format(Messages.UNSUPPORTED_AUDIT_LOG_OVERFLOW_POLICY_0, value));
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.core.cf;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
@@ -9,6 +10,9 @@ import jakarta.inject.Named;
 
 import org.apache.commons.lang3.StringUtils;
 import org.cloudfoundry.multiapps.controller.client.ResilientCloudControllerClient;
+import org.cloudfoundry.multiapps.controller.client.util.CloudControllerCircuitBreaker;
+import org.cloudfoundry.multiapps.controller.client.util.TokenProperties;
+import org.cloudfoundry.multiapps.controller.core.model.CachedMap;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 
 import com.sap.cloudfoundry.client.facade.CloudControllerClient;
@@ -29,6 +33,11 @@ public class CloudControllerClientFactory {
     private final CloudControllerRestClientFactory clientFactory;
     private final OAuthClientFactory oAuthClientFactory;
     private final CloudControllerHeaderConfiguration headerConfiguration;
+    // Failures seen by one user in one space, e.g. because of a misbehaving application, must not suspend the requests of the others:
+    private final CachedMap<String, CloudControllerCircuitBreaker> circuitBreakers = CachedMap.<String, CloudControllerCircuitBreaker> builder()
+                                                                                              .name("cloud-controller-circuit-breakers")
+                                                                                              .expirationTime(Duration.ofMinutes(30))
+                                                                                              .build();
 
     @Inject
     public CloudControllerClientFactory(ApplicationConfiguration configuration, OAuthClientFactory oAuthClientFactory) {
@@ -53,7 +62,7 @@ public class CloudControllerClientFactory {
         OAuthClient oAuthClient = oAuthClientFactory.createOAuthClient();
         CloudControllerRestClient controllerClient = clientFactory.createClient(configuration.getControllerUrl(), createCredentials(token),
                                                                                 null, oAuthClient, Collections.emptyMap());
-        return new ResilientCloudControllerClient(controllerClient);
+        return new ResilientCloudControllerClient(controllerClient, getCircuitBreaker(token, controllerClient));
     }
 
     public CloudControllerClient createClient(OAuth2AccessTokenWithAdditionalInfo token, String org, String space, String correlationId) {
@@ -61,7 +70,7 @@ public class CloudControllerClientFactory {
         Map<String, String> requestTags = buildRequestTags(correlationId);
         CloudControllerRestClient controllerClient = clientFactory.createClient(configuration.getControllerUrl(), createCredentials(token),
                                                                                 org, space, oAuthClient, requestTags);
-        return new ResilientCloudControllerClient(controllerClient);
+        return new ResilientCloudControllerClient(controllerClient, getCircuitBreaker(token, controllerClient));
     }
 
     public CloudControllerClient createClient(OAuth2AccessTokenWithAdditionalInfo token, String spaceId, String correlationId) {
@@ -76,7 +85,7 @@ public class CloudControllerClientFactory {
 
         CloudControllerRestClient controllerClient = clientFactory.createClient(configuration.getControllerUrl(), credentials, target,
                                                                                 oAuthClient, requestTags);
-        return new ResilientCloudControllerClient(controllerClient);
+        return new ResilientCloudControllerClient(controllerClient, getCircuitBreaker(token, controllerClient));
     }
 
     public CloudSpaceClient createSpaceClient(OAuth2AccessTokenWithAdditionalInfo token) {
@@ -97,6 +106,20 @@ public class CloudControllerClientFactory {
                             .createLogCacheClient(configuration.getControllerUrl(), oAuthClient, requestTags);
     }
 
+    private CloudControllerCircuitBreaker getCircuitBreaker(OAuth2AccessTokenWithAdditionalInfo token,
+                                                           CloudControllerRestClient controllerClient) {
+        String userId = TokenProperties.fromToken(token)
+                                       .getUserId();
+        // The space is identified by its GUID, so that clients targeting it by name or by GUID share the same circuit breaker:
+        CloudSpace target = controllerClient.getTarget();
+        String spaceGuid = target == null ? StringUtils.EMPTY
+            : target.getGuid()
+                    .toString();
+        String endpoint = configuration.getControllerUrl()
+                                       .toString();
+        return circuitBreakers.computeIfAbsent(userId + ":" + spaceGuid, () -> new CloudControllerCircuitBreaker(endpoint));
+    }
+
     private CloudCredentials createCredentials(OAuth2AccessTokenWithAdditionalInfo token) {
         return new CloudCredentials(token, true);
     }
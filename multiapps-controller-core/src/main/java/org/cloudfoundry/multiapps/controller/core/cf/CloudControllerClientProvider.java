@@ -22,7 +22,11 @@ public class CloudControllerClientProvider implements DisposableBean {
     @Inject
     private TokenService tokenService;
 
-    private final CachedMap<String, CloudControllerClient> clients = new CachedMap<>(Duration.ofMinutes(30));
+    // Concurrent requests of the same user wait for a single client to be created, instead of creating one each:
+    private final CachedMap<String, CloudControllerClient> clients = CachedMap.<String, CloudControllerClient> builder()
+                                                                              .name("cloud-controller-clients")
+                                                                              .expirationTime(Duration.ofMinutes(30))
+                                                                              .build();
 
     /**
      * Returns a client for the specified user name and space id by either getting it from the clients cache or creating a new one.
@@ -0,0 +1,61 @@
+package org.cloudfoundry.multiapps.controller.core.cf;
+
+import java.time.Duration;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.cloudfoundry.multiapps.controller.core.model.CachedMap;
+import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
+import org.springframework.beans.factory.DisposableBean;
+
+import com.sap.cloudfoundry.client.facade.adapters.LogCacheClient;
+
+@Named
+public class LogCacheClientProvider implements DisposableBean {
+
+    private final CloudControllerClientFactory clientFactory;
+    private final TokenService tokenService;
+    private final CachedMap<String, LogCacheClient> clients = CachedMap.<String, LogCacheClient> builder()
+                                                                       .name("log-cache-clients")
+                                                                       .expirationTime(Duration.ofMinutes(30))
+                                                                       .build();
+
+    @Inject
+    public LogCacheClientProvider(CloudControllerClientFactory clientFactory, TokenService tokenService) {
+        this.clientFactory = clientFactory;
+        this.tokenService = tokenService;
+    }
+
+    /**
+     * Returns a log cache client for the specified user name and process by either getting it from the clients cache or creating a new
+     * one.
+     *
+     * @param userName the user name associated with the client
+     * @param correlationId of the process which is used to tag HTTP requests
+     * @return a log cache client for the access token of the user
+     */
+    public LogCacheClient getLogCacheClient(String userName, String correlationId) {
+        return clients.computeIfAbsent(getKey(userName, correlationId),
+                                       () -> clientFactory.createLogCacheClient(tokenService.getToken(userName), correlationId));
+    }
+
+    /**
+     * Releases the log cache client for the specified user name and process by removing it from the clients cache.
+     *
+     * @param userName the user name associated with the client
+     * @param correlationId of the process which used the client
+     */
+    public void releaseClient(String userName, String correlationId) {
+        clients.remove(getKey(userName, correlationId));
+    }
+
+    private String getKey(String userName, String correlationId) {
+        return correlationId + "|" + userName;
+    }
+
+    @Override
+    public void destroy() {
+        clients.clear();
+    }
+}
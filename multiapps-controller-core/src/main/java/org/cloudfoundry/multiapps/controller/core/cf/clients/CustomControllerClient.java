@@ -7,17 +7,28 @@ import java.util.Map;
 
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.cloudfoundry.multiapps.common.util.JsonUtil;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerHeaderConfiguration;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import com.sap.cloudfoundry.client.facade.CloudCredentials;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 public abstract class CustomControllerClient {
 
+    private static final int MAX_CONCURRENT_PAGE_REQUESTS = 4;
+    private static final String PAGE_QUERY_PARAM = "page";
+    private static final ParameterizedTypeReference<Map<String, Object>> PAGE_TYPE = new ParameterizedTypeReference<>() {
+    };
+
     private final WebClient webClient;
     private String correlationId = StringUtils.EMPTY;
     private final CloudControllerHeaderConfiguration headerConfiguration;
@@ -36,23 +47,63 @@ public abstract class CustomControllerClient {
     }
 
     protected <T> List<T> getListOfResources(ResourcesResponseMapper<T> responseMapper, String uri, Object... urlVariables) {
-        PaginationV3 pagination = addPageOfResources(uri, responseMapper, urlVariables);
-        while (!StringUtils.isEmpty(pagination.getNextUri())) {
-            pagination = addPageOfResources(pagination.getNextUri(), responseMapper);
+        Map<String, Object> firstPage = getPageOfResources(uri, urlVariables).block();
+        responseMapper.addResources(firstPage);
+        PaginationV3 pagination = PaginationV3.fromResponse(firstPage);
+        UriComponents nextUri = pagination.getUriComponents("next");
+        if (nextUri != null) {
+            addRemainingPagesOfResources(responseMapper, nextUri, pagination.getTotalPages());
         }
         return responseMapper.getMappedResources();
     }
 
-    private PaginationV3 addPageOfResources(String uri, ResourcesResponseMapper<?> responseMapper, Object... urlVariables) {
-        String responseString = webClient.get()
-                                         .uri(uri, urlVariables)
-                                         .headers(httpHeaders -> httpHeaders.addAll(generateRequestHeaders()))
-                                         .retrieve()
-                                         .bodyToMono(String.class)
-                                         .block();
-        Map<String, Object> responseMap = JsonUtil.convertJsonToMap(responseString);
-        responseMapper.addResources(responseMap);
-        return PaginationV3.fromResponse(responseMap);
+    /**
+     * The remaining pages are fetched concurrently, but are added to the response mapper one at a time and in their original order.
+     */
+    private void addRemainingPagesOfResources(ResourcesResponseMapper<?> responseMapper, UriComponents nextUri, int totalPages) {
+        int nextPage = getPageNumber(nextUri);
+        if (nextPage < 1 || totalPages < nextPage) {
+            addPagesOfResourcesSequentially(responseMapper, nextUri.toUriString());
+            return;
+        }
+        Flux.range(nextPage, totalPages - nextPage + 1)
+            .map(page -> getPageUri(nextUri, page))
+            .flatMapSequential(this::getPageOfResources, MAX_CONCURRENT_PAGE_REQUESTS)
+            .doOnNext(responseMapper::addResources)
+            .blockLast();
+    }
+
+    private int getPageNumber(UriComponents uri) {
+        String page = uri.getQueryParams()
+                         .getFirst(PAGE_QUERY_PARAM);
+        return NumberUtils.toInt(page, -1);
+    }
+
+    private String getPageUri(UriComponents uri, int page) {
+        return UriComponentsBuilder.newInstance()
+                                   .uriComponents(uri)
+                                   .replaceQueryParam(PAGE_QUERY_PARAM, page)
+                                   .build()
+                                   .toUriString();
+    }
+
+    private void addPagesOfResourcesSequentially(ResourcesResponseMapper<?> responseMapper, String uri) {
+        String nextUri = uri;
+        while (!StringUtils.isEmpty(nextUri)) {
+            Map<String, Object> page = getPageOfResources(nextUri).block();
+            responseMapper.addResources(page);
+            nextUri = PaginationV3.fromResponse(page)
+                                  .getNextUri();
+        }
+    }
+
+    private Mono<Map<String, Object>> getPageOfResources(String uri, Object... urlVariables) {
+        // The response body is decoded directly from the received buffers, without materialising it as a string first:
+        return webClient.get()
+                        .uri(uri, urlVariables)
+                        .headers(httpHeaders -> httpHeaders.addAll(generateRequestHeaders()))
+                        .retrieve()
+                        .bodyToMono(PAGE_TYPE);
     }
 
     private MultiValueMap<String, String> generateRequestHeaders() {
@@ -4,17 +4,24 @@ import com.sap.cloudfoundry.client.facade.CloudOperationException;
 import org.cloudfoundry.multiapps.common.ParsingException;
 import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.cloudfoundry.multiapps.controller.client.util.ResilientCloudOperationExecutor;
+import org.cloudfoundry.multiapps.controller.client.util.RetryAfterCloudOperationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.client.HttpStatusCodeException;
 
 import java.text.MessageFormat;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 public class CustomControllerClientErrorHandler {
 
+    static final String RATE_LIMIT_RESET_HEADER = "X-RateLimit-Reset";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(CustomControllerClientErrorHandler.class);
     private Supplier<ResilientCloudOperationExecutor> executorFactory = ResilientCloudOperationExecutor::new;
 
@@ -49,9 +56,36 @@ public class CustomControllerClientErrorHandler {
         String description = getDescriptionFromResponseBody(exception.getResponseBodyAsString());
         HttpStatus httpStatus = HttpStatus.valueOf(exception.getStatusCode()
                                                             .value());
+        if (httpStatus == HttpStatus.TOO_MANY_REQUESTS) {
+            Optional<Duration> retryAfter = getRetryAfter(exception.getResponseHeaders());
+            if (retryAfter.isPresent()) {
+                return new RetryAfterCloudOperationException(httpStatus, description, retryAfter.get());
+            }
+        }
         return new CloudOperationException(httpStatus, exception.getStatusText(), description);
     }
 
+    private Optional<Duration> getRetryAfter(HttpHeaders headers) {
+        if (headers == null) {
+            return Optional.empty();
+        }
+        try {
+            String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+            if (retryAfter != null) {
+                return Optional.of(Duration.ofSeconds(Long.parseLong(retryAfter.trim())));
+            }
+            String rateLimitReset = headers.getFirst(RATE_LIMIT_RESET_HEADER);
+            if (rateLimitReset != null) {
+                Duration untilReset = Duration.between(Instant.now(), Instant.ofEpochSecond(Long.parseLong(rateLimitReset.trim())));
+                return Optional.of(untilReset.isNegative() ? Duration.ZERO : untilReset);
+            }
+        } catch (NumberFormatException e) {
+            // Dates are also valid values of the Retry-After header, but Cloud Controller sends the number of seconds:
+            LOGGER.warn(MessageFormat.format("Could not parse the time to wait before retrying from the headers: {0}", headers), e);
+        }
+        return Optional.empty();
+    }
+
     private String getDescriptionFromResponseBody(String responseBody) {
         try {
             return tryParseDescriptionFromResponseBody(responseBody);
@@ -4,8 +4,11 @@ import java.util.Map;
 
 public class PaginationV3 extends ResponseUrisV3 {
 
-    private PaginationV3(Map<String, Object> includedUris) {
-        super(includedUris);
+    private final Map<String, Object> pagination;
+
+    private PaginationV3(Map<String, Object> pagination) {
+        super(pagination);
+        this.pagination = pagination;
     }
 
     public static PaginationV3 fromResponse(Map<String, Object> responseMap) {
@@ -27,4 +30,12 @@ public class PaginationV3 extends ResponseUrisV3 {
     public String getPreviousUri() {
         return getUriString("previous");
     }
+
+    public int getTotalPages() {
+        if (pagination == null) {
+            return 1;
+        }
+        Object totalPages = pagination.get("total_pages");
+        return totalPages instanceof Number number ? number.intValue() : 1;
+    }
 }
@@ -1,12 +1,22 @@
 package org.cloudfoundry.multiapps.controller.core.cf.detect;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
+import org.apache.commons.lang3.StringUtils;
+import org.cloudfoundry.client.v3.Metadata;
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.MtaMetadataLabels;
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.criteria.MtaMetadataCriteria;
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.criteria.MtaMetadataCriteriaBuilder;
@@ -18,18 +28,52 @@ import org.cloudfoundry.multiapps.controller.core.model.DeployedMta;
 import com.sap.cloudfoundry.client.facade.CloudControllerClient;
 import com.sap.cloudfoundry.client.facade.domain.CloudEntity;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 @Named
 public class DeployedMtaDetector {
 
+    static final String COLLECTOR_METRIC = "multiapps.controller.deployed.mta.detection.collector";
+    static final String COLLECTOR_TAG = "collector";
+
+    private static final int MAX_CONCURRENT_COLLECTORS = 16;
+    private static final long IDLE_COLLECTOR_THREAD_TIMEOUT_IN_SECONDS = 60;
+
     private List<MtaMetadataEntityCollector<?>> mtaMetadataEntityCollectors;
 
     private MtaMetadataEntityAggregator mtaMetadataEntityAggregator;
 
+    private final Executor collectorExecutor;
+
+    private final MeterRegistry meterRegistry;
+
     @Inject
     public DeployedMtaDetector(List<MtaMetadataEntityCollector<?>> mtaMetadataEntityCollectors,
                                MtaMetadataEntityAggregator mtaMetadataEntityAggregator) {
+        this(mtaMetadataEntityCollectors, mtaMetadataEntityAggregator, createCollectorExecutor(), Metrics.globalRegistry);
+    }
+
+    DeployedMtaDetector(List<MtaMetadataEntityCollector<?>> mtaMetadataEntityCollectors,
+                        MtaMetadataEntityAggregator mtaMetadataEntityAggregator, Executor collectorExecutor, MeterRegistry meterRegistry) {
         this.mtaMetadataEntityCollectors = mtaMetadataEntityCollectors;
         this.mtaMetadataEntityAggregator = mtaMetadataEntityAggregator;
+        this.collectorExecutor = collectorExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * When all collector threads are busy, the collectors are run by the thread which requested the detection. This keeps the number of
+     * threads bounded without making the detections wait for each other.
+     */
+    private static Executor createCollectorExecutor() {
+        return new ThreadPoolExecutor(0,
+                                      MAX_CONCURRENT_COLLECTORS,
+                                      IDLE_COLLECTOR_THREAD_TIMEOUT_IN_SECONDS,
+                                      TimeUnit.SECONDS,
+                                      new SynchronousQueue<>(),
+                                      new ThreadPoolExecutor.CallerRunsPolicy());
     }
 
     public List<DeployedMta> detectDeployedMtas(CloudControllerClient client) {
@@ -87,12 +131,72 @@ public class DeployedMtaDetector {
                                                                                     .findFirst();
     }
 
+    /**
+     * Collects the entities of all MTAs with the specified name, regardless of their namespace. The result can be passed to
+     * {@link #detectDeployedMtaByNameAndNamespace(String, List)} multiple times, so that detecting the MTA in several namespaces (e.g. the
+     * deployed MTA and its backup) does not fetch the same entities again.
+     */
+    public List<CloudEntity> collectMtaEntitiesByName(String mtaName, CloudControllerClient client) {
+        MtaMetadataCriteria selectionCriteria = MtaMetadataCriteriaBuilder.builder()
+                                                                          .label(MtaMetadataLabels.MTA_ID)
+                                                                          .hasValue(MtaMetadataUtil.getHashedLabel(mtaName))
+                                                                          .build();
+
+        return collectMtaEntities(selectionCriteria, client);
+    }
+
+    public Optional<DeployedMta> detectDeployedMtaByNameAndNamespace(String mtaName, String mtaNamespace, List<CloudEntity> mtaEntities) {
+        String hashedMtaName = MtaMetadataUtil.getHashedLabel(mtaName);
+        String hashedMtaNamespace = StringUtils.defaultIfEmpty(MtaMetadataUtil.getHashedLabel(mtaNamespace), null);
+        List<CloudEntity> matchingEntities = mtaEntities.stream()
+                                                        .filter(entity -> hasLabel(entity, MtaMetadataLabels.MTA_ID, hashedMtaName))
+                                                        .filter(entity -> hasLabel(entity, MtaMetadataLabels.MTA_NAMESPACE, hashedMtaNamespace))
+                                                        .collect(Collectors.toList());
+        return mtaMetadataEntityAggregator.aggregate(matchingEntities)
+                                          .stream()
+                                          .findFirst();
+    }
+
+    private boolean hasLabel(CloudEntity entity, String label, String value) {
+        Metadata metadata = entity.getV3Metadata();
+        if (metadata == null || metadata.getLabels() == null) {
+            return value == null;
+        }
+        return Objects.equals(value, metadata.getLabels()
+                                             .get(label));
+    }
+
     private List<DeployedMta> getDeployedMtasByMetadataSelectionCriteria(MtaMetadataCriteria criteria, CloudControllerClient client) {
-        List<CloudEntity> mtaMetadataEntities = mtaMetadataEntityCollectors.stream()
-                                                                           .map(collector -> collect(collector, criteria, client))
-                                                                           .flatMap(List::stream)
-                                                                           .collect(Collectors.toList());
-        return mtaMetadataEntityAggregator.aggregate(mtaMetadataEntities);
+        return mtaMetadataEntityAggregator.aggregate(collectMtaEntities(criteria, client));
+    }
+
+    private List<CloudEntity> collectMtaEntities(MtaMetadataCriteria criteria, CloudControllerClient client) {
+        List<CompletableFuture<List<? extends CloudEntity>>> collectorResults = new ArrayList<>();
+        for (MtaMetadataEntityCollector<?> collector : mtaMetadataEntityCollectors) {
+            collectorResults.add(collectAsync(collector, criteria, client));
+        }
+        return collectorResults.stream()
+                               .map(this::join)
+                               .flatMap(List::stream)
+                               .collect(Collectors.toList());
+    }
+
+    private CompletableFuture<List<? extends CloudEntity>> collectAsync(MtaMetadataEntityCollector<?> collector,
+                                                                        MtaMetadataCriteria criteria, CloudControllerClient client) {
+        Timer timer = meterRegistry.timer(COLLECTOR_METRIC, COLLECTOR_TAG, collector.getClass()
+                                                                                    .getSimpleName());
+        return CompletableFuture.supplyAsync(() -> timer.record(() -> collect(collector, criteria, client)), collectorExecutor);
+    }
+
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
     protected <T extends CloudEntity> List<T> collect(MtaMetadataEntityCollector<T> collector, MtaMetadataCriteria criteria,
@@ -0,0 +1,74 @@
+package org.cloudfoundry.multiapps.controller.core.cf.detect;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import jakarta.inject.Named;
+
+import org.cloudfoundry.multiapps.controller.core.model.CachedMap;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Keeps the results of deployed MTA detections in a space for a short time, so that clients which poll the MTAs in a space do not cause
+ * a detection against Cloud Controller on every request. The snapshots of a space are dropped as soon as an operation in it finishes.
+ * <p>
+ * The snapshots are shared by all users of a space. This relies on two facts: Cloud Controller shows the same applications and service
+ * instances of a space to every user who may access it, and the requests are only served after the user's access to the space has been
+ * checked.
+ */
+@Named
+public class DeployedMtasSnapshotCache implements DisposableBean {
+
+    private static final Duration SNAPSHOT_EXPIRATION_TIME = Duration.ofSeconds(30);
+
+    private final CachedMap<String, Map<String, Object>> snapshotsBySpace;
+
+    public DeployedMtasSnapshotCache() {
+        this(SNAPSHOT_EXPIRATION_TIME);
+    }
+
+    DeployedMtasSnapshotCache(Duration expirationTime) {
+        this.snapshotsBySpace = CachedMap.<String, Map<String, Object>> builder()
+                                         .name("deployed-mtas-snapshots")
+                                         .expirationTime(expirationTime)
+                                         .evictionCheckPeriod(Duration.ofMinutes(1))
+                                         .build();
+    }
+
+    /**
+     * Returns the snapshot for the specified detection in the space, running the detection if there is no snapshot yet. Empty snapshots
+     * are not kept, because an MTA which is being deployed by another instance would otherwise be reported as missing until they expire.
+     *
+     * @param spaceGuid the space in which the MTAs are detected
+     * @param detectionKey identifies the detection (e.g. MTAs with a given name) within the space
+     * @param detection runs the detection against Cloud Controller
+     * @param isEmpty tells whether a snapshot contains no MTAs
+     * @return the cached or the newly detected snapshot
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrDetect(String spaceGuid, String detectionKey, Supplier<T> detection, Predicate<T> isEmpty) {
+        // A detection which races with an invalidation stores its result in the dropped map, so it is never served:
+        Map<String, Object> snapshots = snapshotsBySpace.computeIfAbsent(spaceGuid, ConcurrentHashMap::new);
+        T snapshot = (T) snapshots.get(detectionKey);
+        if (snapshot == null) {
+            snapshot = detection.get();
+            if (!isEmpty.test(snapshot)) {
+                snapshots.put(detectionKey, snapshot);
+            }
+        }
+        return snapshot;
+    }
+
+    public void invalidate(String spaceGuid) {
+        snapshotsBySpace.remove(spaceGuid);
+    }
+
+    @Override
+    public void destroy() {
+        snapshotsBySpace.clear();
+    }
+
+}
@@ -45,7 +45,7 @@ public class MtaDescriptorMerger {
 
         deploymentDescriptor = handlerFactory.getDescriptorParametersCompatabilityValidator(mergedDescriptor, userMessageLogger)
                                              .validate();
-        logDebug(Messages.MERGED_DESCRIPTOR, SecureSerialization.toJson(deploymentDescriptor));
+        logDebug(Messages.MERGED_DESCRIPTOR, SecureSerialization.toLazyJson(deploymentDescriptor));
 
         return deploymentDescriptor;
     }
@@ -1,37 +1,106 @@
 package org.cloudfoundry.multiapps.controller.core.model;
 
+import java.lang.ref.WeakReference;
+import java.text.MessageFormat;
+import java.time.Clock;
 import java.time.Duration;
+import java.util.Comparator;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.core.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * A map whose entries expire after a fixed time. Values created by {@link #computeIfAbsent(Object, Supplier)} are created once per key,
+ * even if many threads ask for the same missing key at the same time. The expired entries of all maps are removed by a single shared
+ * thread.
+ */
 public class CachedMap<K, V> {
 
+    static final String REQUESTS_METRIC = "multiapps.controller.cache.requests";
+    static final String EVICTIONS_METRIC = "multiapps.controller.cache.evictions";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachedMap.class);
+
+    private static final String DEFAULT_NAME = "default";
+    private static final Duration DEFAULT_EVICTION_CHECK_PERIOD = Duration.ofMinutes(10);
+    private static final Duration DEFAULT_CREATION_TIMEOUT = Duration.ofMinutes(5);
+    private static final ScheduledExecutorService EVICTION_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cached-map-eviction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String name;
     private final Duration expirationTime;
-    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
-    private final Map<K, CachedObject<V>> cache = new ConcurrentHashMap<>();
+    private final Function<? super V, Duration> valueExpirationTime;
+    private final long maximumSize;
+    private final Duration refreshAheadTime;
+    private final Duration creationTimeout;
+    private final Clock clock;
+    private final Map<K, Entry<V>> cache = new ConcurrentHashMap<>();
+    private final ScheduledFuture<?> evictionTask;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter expiredEvictions;
+    private final Counter sizeEvictions;
 
     public CachedMap(Duration expirationTime) {
-        this(expirationTime, 10, TimeUnit.MINUTES);
+        this(new Builder<K, V>().expirationTime(expirationTime));
     }
 
     public CachedMap(Duration expirationTime, long evictionCheckPeriod, TimeUnit evictionCheckTimeUnit) {
-        this.expirationTime = expirationTime;
-        executor.scheduleAtFixedRate(this::clearStaleEntries, evictionCheckPeriod, evictionCheckPeriod, evictionCheckTimeUnit);
+        this(new Builder<K, V>().expirationTime(expirationTime)
+                                .evictionCheckPeriod(Duration.of(evictionCheckPeriod, evictionCheckTimeUnit.toChronoUnit())));
+    }
+
+    private CachedMap(Builder<K, V> builder) {
+        this.name = builder.name;
+        this.expirationTime = Objects.requireNonNull(builder.expirationTime);
+        this.valueExpirationTime = builder.valueExpirationTime;
+        this.maximumSize = builder.maximumSize;
+        this.refreshAheadTime = builder.refreshAheadTime;
+        this.creationTimeout = builder.creationTimeout;
+        this.clock = builder.clock;
+        this.hits = builder.meterRegistry.counter(REQUESTS_METRIC, "cache", name, "result", "hit");
+        this.misses = builder.meterRegistry.counter(REQUESTS_METRIC, "cache", name, "result", "miss");
+        this.expiredEvictions = builder.meterRegistry.counter(EVICTIONS_METRIC, "cache", name, "cause", "expired");
+        this.sizeEvictions = builder.meterRegistry.counter(EVICTIONS_METRIC, "cache", name, "cause", "size");
+        long evictionCheckPeriodInMillis = builder.evictionCheckPeriod.toMillis();
+        this.evictionTask = EVICTION_SCHEDULER.scheduleAtFixedRate(new EvictionTask(this), evictionCheckPeriodInMillis,
+                                                                   evictionCheckPeriodInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
     }
 
     public V get(K key) {
-        var value = cache.get(key);
-        if (value != null) {
-            if (!value.isExpired()) {
-                return value.get();
-            }
-            cache.remove(key);
+        Entry<V> entry = getEntry(key);
+        if (entry == null || !entry.isLoaded()) {
+            misses.increment();
+            return null;
         }
-        return null;
+        hits.increment();
+        return entry.getValue();
     }
 
     public V getOrDefault(K key, V defaultValue) {
@@ -39,18 +108,96 @@ public class CachedMap<K, V> {
         return value == null ? defaultValue : value;
     }
 
+    /**
+     * Returns the value for the key, creating it if there is none. Threads which ask for a key while its value is being created wait for
+     * it, instead of creating another one. If the creation fails, they all get the same exception and nothing is cached. A thread waits at
+     * most for the creation timeout of the map.
+     */
     public V computeIfAbsent(K key, Supplier<V> creator) {
-        V value = get(key);
-        if (value != null) {
-            return value;
+        Entry<V> entry = getEntry(key);
+        if (entry != null) {
+            hits.increment();
+            if (entry.isLoaded() && shouldRefresh(entry)) {
+                return refresh(key, entry, creator);
+            }
+            return await(entry);
+        }
+        Entry<V> newEntry = new Entry<>(clock.millis(), expirationTime);
+        Entry<V> currentEntry = cache.compute(key, (k, existingEntry) -> isValid(existingEntry) ? existingEntry : newEntry);
+        if (currentEntry != newEntry) {
+            hits.increment();
+            return await(currentEntry);
         }
-        value = creator.get();
-        put(key, value);
+        misses.increment();
+        V value = load(key, newEntry, creator);
+        evictIfNecessary();
         return value;
     }
 
+    private V load(K key, Entry<V> entry, Supplier<V> creator) {
+        try {
+            V value = creator.get();
+            entry.complete(value, clock.millis(), getExpirationTime(value));
+            if (value == null) {
+                cache.remove(key, entry);
+            }
+            return value;
+        } catch (RuntimeException | Error e) {
+            cache.remove(key, entry);
+            entry.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private V await(Entry<V> entry) {
+        try {
+            return entry.get(creationTimeout);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new SLException(e, Messages.TIMED_OUT_WAITING_FOR_ENTRY_OF_CACHE_0, name);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new SLException(e, Messages.INTERRUPTED_WHILE_WAITING_FOR_ENTRY_OF_CACHE_0, name);
+        }
+    }
+
+    private Duration getExpirationTime(V value) {
+        return valueExpirationTime == null || value == null ? expirationTime : valueExpirationTime.apply(value);
+    }
+
+    private boolean shouldRefresh(Entry<V> entry) {
+        return refreshAheadTime != null && entry.expiresWithin(clock.millis(), refreshAheadTime) && entry.startRefresh();
+    }
+
+    /**
+     * Creates a new value for an entry which is about to expire. Only the thread which started the refresh waits for it, while the others
+     * keep getting the current value. If the refresh fails, the current value is returned until it expires.
+     */
+    private V refresh(K key, Entry<V> entry, Supplier<V> creator) {
+        try {
+            V value = creator.get();
+            if (value != null) {
+                cache.replace(key, entry, Entry.of(value, clock.millis(), getExpirationTime(value)));
+                return value;
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_REFRESH_ENTRY_OF_CACHE_0, name), e);
+        }
+        entry.cancelRefresh();
+        return entry.getValue();
+    }
+
     public void put(K key, V value) {
-        cache.put(key, new CachedObject<>(value, expirationTime));
+        cache.put(key, Entry.of(value, clock.millis(), getExpirationTime(value)));
+        evictIfNecessary();
     }
 
     public void remove(K key) {
@@ -59,13 +206,240 @@ public class CachedMap<K, V> {
 
     public void clear() {
         cache.clear();
-        executor.shutdown();
+        evictionTask.cancel(false);
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    private Entry<V> getEntry(K key) {
+        Entry<V> entry = cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (isValid(entry)) {
+            if (maximumSize > 0) {
+                entry.recordAccess(clock.millis());
+            }
+            return entry;
+        }
+        if (cache.remove(key, entry)) {
+            expiredEvictions.increment();
+        }
+        return null;
+    }
+
+    private boolean isValid(Entry<?> entry) {
+        return entry != null && !entry.isExpired(clock.millis());
+    }
+
+    /**
+     * Removes the least recently used entries while there are more than the maximum size. Entries whose values are still being created
+     * are kept, so that the threads which wait for them are not left without a value.
+     */
+    private void evictIfNecessary() {
+        while (maximumSize > 0 && cache.size() > maximumSize) {
+            var leastRecentlyUsedEntry = cache.entrySet()
+                                              .stream()
+                                              .filter(entry -> entry.getValue()
+                                                                    .isLoaded())
+                                              .min(Comparator.comparingLong(entry -> entry.getValue()
+                                                                                          .getLastAccessTime()));
+            if (leastRecentlyUsedEntry.isEmpty()) {
+                return;
+            }
+            if (cache.remove(leastRecentlyUsedEntry.get()
+                                                   .getKey(),
+                             leastRecentlyUsedEntry.get()
+                                                   .getValue())) {
+                sizeEvictions.increment();
+            }
+        }
     }
 
     private void clearStaleEntries() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.millis();
         cache.values()
-             .removeIf(obj -> obj.isExpired(currentTime));
+             .removeIf(entry -> {
+                 boolean isExpired = entry.isExpired(currentTime);
+                 if (isExpired) {
+                     expiredEvictions.increment();
+                 }
+                 return isExpired;
+             });
+    }
+
+    /**
+     * Holds the map weakly, so that maps which are not cleared explicitly can still be garbage collected.
+     */
+    private static class EvictionTask implements Runnable {
+
+        private final WeakReference<CachedMap<?, ?>> cachedMap;
+
+        EvictionTask(CachedMap<?, ?> cachedMap) {
+            this.cachedMap = new WeakReference<>(cachedMap);
+        }
+
+        @Override
+        public void run() {
+            CachedMap<?, ?> map = cachedMap.get();
+            if (map == null) {
+                // Stops the periodic execution of the task:
+                throw new IllegalStateException("Cached map was garbage collected");
+            }
+            map.clearStaleEntries();
+        }
+
+    }
+
+    private static class Entry<V> {
+
+        private final CompletableFuture<V> value = new CompletableFuture<>();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile long expirationTimestamp;
+        private volatile long lastAccessTime;
+
+        Entry(long currentTime, Duration expirationTime) {
+            this.expirationTimestamp = currentTime + expirationTime.toMillis();
+            this.lastAccessTime = currentTime;
+        }
+
+        static <V> Entry<V> of(V value, long currentTime, Duration expirationTime) {
+            Entry<V> entry = new Entry<>(currentTime, expirationTime);
+            entry.value.complete(value);
+            return entry;
+        }
+
+        void complete(V value, long currentTime, Duration expirationTime) {
+            // The entry expires a full expiration time after its value is created, no matter how long the creation took:
+            expirationTimestamp = currentTime + expirationTime.toMillis();
+            this.value.complete(value);
+        }
+
+        void completeExceptionally(Throwable e) {
+            value.completeExceptionally(e);
+        }
+
+        boolean isLoaded() {
+            return value.isDone() && !value.isCompletedExceptionally();
+        }
+
+        V getValue() {
+            return value.getNow(null);
+        }
+
+        V get(Duration timeout) throws ExecutionException, TimeoutException, InterruptedException {
+            return value.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        boolean isExpired(long currentTime) {
+            // Entries whose values are still being created never expire, so that they are not created twice:
+            return value.isDone() && currentTime >= expirationTimestamp;
+        }
+
+        boolean expiresWithin(long currentTime, Duration duration) {
+            return currentTime + duration.toMillis() >= expirationTimestamp;
+        }
+
+        boolean startRefresh() {
+            return refreshing.compareAndSet(false, true);
+        }
+
+        void cancelRefresh() {
+            refreshing.set(false);
+        }
+
+        void recordAccess(long currentTime) {
+            // Avoids contended writes when the entry is read by many threads at once:
+            if (lastAccessTime != currentTime) {
+                lastAccessTime = currentTime;
+            }
+        }
+
+        long getLastAccessTime() {
+            return lastAccessTime;
+        }
+
+    }
+
+    public static class Builder<K, V> {
+
+        private String name = DEFAULT_NAME;
+        private Duration expirationTime;
+        private Function<? super V, Duration> valueExpirationTime;
+        private Duration evictionCheckPeriod = DEFAULT_EVICTION_CHECK_PERIOD;
+        private long maximumSize;
+        private Duration refreshAheadTime;
+        private Duration creationTimeout = DEFAULT_CREATION_TIMEOUT;
+        private MeterRegistry meterRegistry = Metrics.globalRegistry;
+        private Clock clock = Clock.systemUTC();
+
+        /**
+         * The name is used to tag the metrics of the map.
+         */
+        public Builder<K, V> name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder<K, V> expirationTime(Duration expirationTime) {
+            this.expirationTime = expirationTime;
+            return this;
+        }
+
+        /**
+         * When set, the expiration time of each value is computed from the value, instead of being the same for all values.
+         */
+        public Builder<K, V> valueExpirationTime(Function<? super V, Duration> valueExpirationTime) {
+            this.valueExpirationTime = valueExpirationTime;
+            return this;
+        }
+
+        public Builder<K, V> evictionCheckPeriod(Duration evictionCheckPeriod) {
+            this.evictionCheckPeriod = evictionCheckPeriod;
+            return this;
+        }
+
+        /**
+         * When set, the least recently used entries are removed once the map has more entries.
+         */
+        public Builder<K, V> maximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * When set, values which expire within this time are created again by the first call to
+         * {@link CachedMap#computeIfAbsent(Object, Supplier)}, so that frequently used entries do not expire.
+         */
+        public Builder<K, V> refreshAheadTime(Duration refreshAheadTime) {
+            this.refreshAheadTime = refreshAheadTime;
+            return this;
+        }
+
+        /**
+         * The longest time a thread waits for a value which another thread is creating.
+         */
+        public Builder<K, V> creationTimeout(Duration creationTimeout) {
+            this.creationTimeout = creationTimeout;
+            return this;
+        }
+
+        public Builder<K, V> meterRegistry(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+            return this;
+        }
+
+        Builder<K, V> clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public CachedMap<K, V> build() {
+            return new CachedMap<>(this);
+        }
+
     }
 
 }
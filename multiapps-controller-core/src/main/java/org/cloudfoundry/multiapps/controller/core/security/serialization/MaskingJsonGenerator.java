@@ -0,0 +1,391 @@
+package org.cloudfoundry.multiapps.controller.core.security.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+
+/**
+ * Masks sensitive elements while they are written, so that objects are serialized in a single pass. The value of a field with a sensitive
+ * name is replaced by the mask, even if it is an object or an array, and so is every text value which contains a sensitive name. Null values
+ * are never masked.
+ */
+class MaskingJsonGenerator extends JsonGeneratorDelegate {
+
+    private static final String MASK = SecureSerializerConfiguration.SECURE_SERIALIZATION_MASK.toString();
+
+    private final SecureSerializerConfiguration configuration;
+    private boolean maskNextValue;
+    private int maskedStructureDepth;
+
+    MaskingJsonGenerator(JsonGenerator delegate, SecureSerializerConfiguration configuration) {
+        // Objects passed to writeObject() and writeTree() must be written through this generator as well:
+        super(delegate, false);
+        this.configuration = configuration;
+    }
+
+    @Override
+    public void writeStartArray() throws IOException {
+        if (!skipStructureStart()) {
+            delegate.writeStartArray();
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void writeStartArray(int size) throws IOException {
+        if (!skipStructureStart()) {
+            delegate.writeStartArray(size);
+        }
+    }
+
+    @Override
+    public void writeStartArray(Object forValue) throws IOException {
+        if (!skipStructureStart()) {
+            delegate.writeStartArray(forValue);
+        }
+    }
+
+    @Override
+    public void writeStartArray(Object forValue, int size) throws IOException {
+        if (!skipStructureStart()) {
+            delegate.writeStartArray(forValue, size);
+        }
+    }
+
+    @Override
+    public void writeEndArray() throws IOException {
+        if (!skipStructureEnd()) {
+            delegate.writeEndArray();
+        }
+    }
+
+    @Override
+    public void writeStartObject() throws IOException {
+        if (!skipStructureStart()) {
+            delegate.writeStartObject();
+        }
+    }
+
+    @Override
+    public void writeStartObject(Object forValue) throws IOException {
+        if (!skipStructureStart()) {
+            delegate.writeStartObject(forValue);
+        }
+    }
+
+    @Override
+    public void writeStartObject(Object forValue, int size) throws IOException {
+        if (!skipStructureStart()) {
+            delegate.writeStartObject(forValue, size);
+        }
+    }
+
+    @Override
+    public void writeEndObject() throws IOException {
+        if (!skipStructureEnd()) {
+            delegate.writeEndObject();
+        }
+    }
+
+    @Override
+    public void writeFieldName(String name) throws IOException {
+        if (maskedStructureDepth > 0) {
+            return;
+        }
+        maskNextValue = configuration.isSensitive(name);
+        delegate.writeFieldName(name);
+    }
+
+    @Override
+    public void writeFieldName(SerializableString name) throws IOException {
+        if (maskedStructureDepth > 0) {
+            return;
+        }
+        maskNextValue = configuration.isSensitive(name.getValue());
+        delegate.writeFieldName(name);
+    }
+
+    @Override
+    public void writeFieldId(long id) throws IOException {
+        writeFieldName(Long.toString(id));
+    }
+
+    @Override
+    public void writeArray(int[] array, int offset, int length) throws IOException {
+        if (!skipValue()) {
+            delegate.writeArray(array, offset, length);
+        }
+    }
+
+    @Override
+    public void writeArray(long[] array, int offset, int length) throws IOException {
+        if (!skipValue()) {
+            delegate.writeArray(array, offset, length);
+        }
+    }
+
+    @Override
+    public void writeArray(double[] array, int offset, int length) throws IOException {
+        if (!skipValue()) {
+            delegate.writeArray(array, offset, length);
+        }
+    }
+
+    @Override
+    public void writeArray(String[] array, int offset, int length) throws IOException {
+        writeStartArray(array, length);
+        for (int i = offset; i < offset + length; i++) {
+            writeString(array[i]);
+        }
+        writeEndArray();
+    }
+
+    @Override
+    public void writeString(String text) throws IOException {
+        if (text == null) {
+            writeNull();
+            return;
+        }
+        if (!skipValue()) {
+            delegate.writeString(configuration.isSensitive(text) ? MASK : text);
+        }
+    }
+
+    @Override
+    public void writeString(char[] buffer, int offset, int length) throws IOException {
+        if (skipValue()) {
+            return;
+        }
+        if (configuration.isSensitive(CharBuffer.wrap(buffer, offset, length))) {
+            delegate.writeString(MASK);
+            return;
+        }
+        delegate.writeString(buffer, offset, length);
+    }
+
+    @Override
+    public void writeString(SerializableString text) throws IOException {
+        if (skipValue()) {
+            return;
+        }
+        if (configuration.isSensitive(text.getValue())) {
+            delegate.writeString(MASK);
+            return;
+        }
+        delegate.writeString(text);
+    }
+
+    @Override
+    public void writeString(Reader reader, int length) throws IOException {
+        StringBuilder text = new StringBuilder();
+        char[] buffer = new char[4096];
+        int remaining = length < 0 ? Integer.MAX_VALUE : length;
+        int read;
+        while (remaining > 0 && (read = reader.read(buffer, 0, Math.min(buffer.length, remaining))) != -1) {
+            text.append(buffer, 0, read);
+            remaining -= read;
+        }
+        writeString(text.toString());
+    }
+
+    @Override
+    public void writeRawUTF8String(byte[] buffer, int offset, int length) throws IOException {
+        writeString(new String(buffer, offset, length, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeUTF8String(byte[] buffer, int offset, int length) throws IOException {
+        writeString(new String(buffer, offset, length, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeRawValue(String text) throws IOException {
+        if (!skipValue()) {
+            delegate.writeRawValue(text);
+        }
+    }
+
+    @Override
+    public void writeRawValue(String text, int offset, int length) throws IOException {
+        if (!skipValue()) {
+            delegate.writeRawValue(text, offset, length);
+        }
+    }
+
+    @Override
+    public void writeRawValue(char[] text, int offset, int length) throws IOException {
+        if (!skipValue()) {
+            delegate.writeRawValue(text, offset, length);
+        }
+    }
+
+    @Override
+    public void writeRawValue(SerializableString text) throws IOException {
+        if (!skipValue()) {
+            delegate.writeRawValue(text);
+        }
+    }
+
+    @Override
+    public void writeBinary(Base64Variant variant, byte[] data, int offset, int length) throws IOException {
+        if (!skipValue()) {
+            delegate.writeBinary(variant, data, offset, length);
+        }
+    }
+
+    @Override
+    public int writeBinary(Base64Variant variant, InputStream data, int dataLength) throws IOException {
+        if (skipValue()) {
+            return 0;
+        }
+        return delegate.writeBinary(variant, data, dataLength);
+    }
+
+    @Override
+    public void writeNumber(short value) throws IOException {
+        if (!skipValue()) {
+            delegate.writeNumber(value);
+        }
+    }
+
+    @Override
+    public void writeNumber(int value) throws IOException {
+        if (!skipValue()) {
+            delegate.writeNumber(value);
+        }
+    }
+
+    @Override
+    public void writeNumber(long value) throws IOException {
+        if (!skipValue()) {
+            delegate.writeNumber(value);
+        }
+    }
+
+    @Override
+    public void writeNumber(BigInteger value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        if (!skipValue()) {
+            delegate.writeNumber(value);
+        }
+    }
+
+    @Override
+    public void writeNumber(double value) throws IOException {
+        if (!skipValue()) {
+            delegate.writeNumber(value);
+        }
+    }
+
+    @Override
+    public void writeNumber(float value) throws IOException {
+        if (!skipValue()) {
+            delegate.writeNumber(value);
+        }
+    }
+
+    @Override
+    public void writeNumber(BigDecimal value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        if (!skipValue()) {
+            delegate.writeNumber(value);
+        }
+    }
+
+    @Override
+    public void writeNumber(String encodedValue) throws IOException {
+        if (encodedValue == null) {
+            writeNull();
+            return;
+        }
+        if (!skipValue()) {
+            delegate.writeNumber(encodedValue);
+        }
+    }
+
+    @Override
+    public void writeNumber(char[] encodedValue, int offset, int length) throws IOException {
+        if (!skipValue()) {
+            delegate.writeNumber(encodedValue, offset, length);
+        }
+    }
+
+    @Override
+    public void writeBoolean(boolean state) throws IOException {
+        if (!skipValue()) {
+            delegate.writeBoolean(state);
+        }
+    }
+
+    @Override
+    public void writeNull() throws IOException {
+        if (maskedStructureDepth > 0) {
+            return;
+        }
+        maskNextValue = false;
+        delegate.writeNull();
+    }
+
+    @Override
+    public void writeEmbeddedObject(Object object) throws IOException {
+        if (object == null) {
+            writeNull();
+            return;
+        }
+        if (!skipValue()) {
+            delegate.writeEmbeddedObject(object);
+        }
+    }
+
+    /**
+     * Returns true if the next value must not be written, either because it is a part of a masked structure, or because the mask has been
+     * written in its place.
+     */
+    private boolean skipValue() throws IOException {
+        if (maskedStructureDepth > 0) {
+            return true;
+        }
+        if (maskNextValue) {
+            maskNextValue = false;
+            delegate.writeString(MASK);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean skipStructureStart() throws IOException {
+        if (maskedStructureDepth > 0) {
+            maskedStructureDepth++;
+            return true;
+        }
+        if (skipValue()) {
+            maskedStructureDepth = 1;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean skipStructureEnd() {
+        if (maskedStructureDepth > 0) {
+            maskedStructureDepth--;
+            return true;
+        }
+        return false;
+    }
+
+}
@@ -1,7 +1,15 @@
 package org.cloudfoundry.multiapps.controller.core.security.serialization;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.cloudfoundry.multiapps.common.ParsingException;
 import org.cloudfoundry.multiapps.common.util.JsonSerializationStrategy;
 import org.cloudfoundry.multiapps.common.util.JsonUtil;
+import org.cloudfoundry.multiapps.controller.core.Messages;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 public class SecureJsonSerializer extends SecureSerializer {
 
@@ -10,14 +18,19 @@ public class SecureJsonSerializer extends SecureSerializer {
     }
 
     @Override
-    protected Object toTree(Object object) {
-        return JsonUtil.getObjectMapper(JsonSerializationStrategy.DEFAULT)
-                       .convertValue(object, Object.class);
-    }
-
-    @Override
-    protected String serializeTree(Object object) {
-        return JsonUtil.toJson(object, configuration.formattedOutputIsEnabled());
+    public String serialize(Object object) {
+        ObjectMapper objectMapper = JsonUtil.getObjectMapper(JsonSerializationStrategy.DEFAULT);
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = new MaskingJsonGenerator(objectMapper.createGenerator(json), configuration)) {
+            if (configuration.formattedOutputIsEnabled()) {
+                generator.useDefaultPrettyPrinter();
+            }
+            objectMapper.writeValue(generator, object);
+        } catch (IOException e) {
+            throw new ParsingException(e, Messages.COULD_NOT_SERIALIZE_OBJECT_OF_TYPE_0, object.getClass()
+                                                                                              .getName());
+        }
+        return json.toString();
     }
 
 }
@@ -23,6 +23,20 @@ public final class SecureSerialization {
         return createJsonSerializer(object).serialize(object);
     }
 
+    /**
+     * Returns an object which serializes the specified one only when it is converted to a string. Use it for log message arguments, so that
+     * the object is not serialized when the message is not logged.
+     */
+    public static Object toLazyJson(Object object) {
+        return new Object() {
+
+            @Override
+            public String toString() {
+                return toJson(object);
+            }
+        };
+    }
+
     private static SecureJsonSerializer createJsonSerializer(Object object) {
         SecureJsonSerializer secureJsonSerializer = createJsonSerializerForVersionedEntity(object);
         if (secureJsonSerializer == null) {
@@ -3,8 +3,8 @@ package org.cloudfoundry.multiapps.controller.core.security.serialization;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-
-import org.apache.commons.lang3.StringUtils;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 public class SecureSerializerConfiguration {
 
@@ -16,6 +16,8 @@ public class SecureSerializerConfiguration {
     private boolean formattedOutput = true;
     private Collection<String> sensitiveElementNames = DEFAULT_SENSITIVE_NAMES;
     private Collection<String> sensitiveElementPaths = Collections.emptyList();
+    // All names are matched in a single pass, since every key and value of the serialized objects is checked:
+    private Pattern sensitiveElementNamesPattern = compile(DEFAULT_SENSITIVE_NAMES);
 
     public Collection<String> getSensitiveElementNames() {
         return sensitiveElementNames;
@@ -31,6 +33,7 @@ public class SecureSerializerConfiguration {
 
     public void setSensitiveElementNames(Collection<String> sensitiveElementNames) {
         this.sensitiveElementNames = sensitiveElementNames;
+        this.sensitiveElementNamesPattern = compile(sensitiveElementNames);
     }
 
     public void setSensitiveElementPaths(Collection<String> sensitiveElementPaths) {
@@ -41,9 +44,19 @@ public class SecureSerializerConfiguration {
         this.formattedOutput = formattedOutput;
     }
 
-    public boolean isSensitive(String value) {
-        return getSensitiveElementNames().stream()
-                                         .anyMatch(name -> StringUtils.containsIgnoreCase(value, name));
+    public boolean isSensitive(CharSequence value) {
+        return sensitiveElementNamesPattern != null && sensitiveElementNamesPattern.matcher(value)
+                                                                                   .find();
+    }
+
+    private static Pattern compile(Collection<String> names) {
+        if (names.isEmpty()) {
+            return null;
+        }
+        String alternatives = names.stream()
+                                   .map(Pattern::quote)
+                                   .collect(Collectors.joining("|"));
+        return Pattern.compile(alternatives, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
     }
 
 }
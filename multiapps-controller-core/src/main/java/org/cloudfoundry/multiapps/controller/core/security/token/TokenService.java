@@ -34,7 +34,7 @@ public class TokenService implements DisposableBean {
     private final AccessTokenService accessTokenService;
     private final TokenParserChain tokenParserChain;
     private final Duration tokenExpirationTime = Duration.ofMinutes(10);
-    private final CachedMap<String, OAuth2AccessTokenWithAdditionalInfo> cachedTokens = new CachedMap<>(tokenExpirationTime);
+    private final CachedMap<String, OAuth2AccessTokenWithAdditionalInfo> cachedTokens;
     private final ExecutorService threadPoolForTokensDeletion = new ThreadPoolExecutor(1,
                                                                                        3,
                                                                                        30,
@@ -45,6 +45,10 @@ public class TokenService implements DisposableBean {
     public TokenService(AccessTokenService accessTokenService, TokenParserChain tokenParserChain) {
         this.accessTokenService = accessTokenService;
         this.tokenParserChain = tokenParserChain;
+        this.cachedTokens = CachedMap.<String, OAuth2AccessTokenWithAdditionalInfo> builder()
+                                     .name("tokens")
+                                     .expirationTime(tokenExpirationTime)
+                                     .build();
     }
 
     /**
@@ -1,7 +1,18 @@
 package org.cloudfoundry.multiapps.controller.core.security.token.parsers;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -15,6 +26,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
 
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.JWSVerifier;
 import com.sap.cloudfoundry.client.facade.oauth2.OAuth2AccessTokenWithAdditionalInfo;
 import com.sap.cloudfoundry.client.facade.oauth2.TokenFactory;
 
@@ -24,81 +37,231 @@ public class JwtTokenParser implements TokenParser {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JwtTokenParser.class);
 
+    private static final int MAX_VERIFIED_TOKENS = 1000;
+    private static final Duration MIN_TIME_BETWEEN_TOKEN_KEY_REFRESHES = Duration.ofSeconds(10);
+
     protected final TokenFactory tokenFactory;
-    private TokenKey tokenKey;
     private final UAAClient uaaClient;
     private final TokenValidationStrategyFactory tokenValidationStrategyFactory;
+    private final Duration minTimeBetweenTokenKeyRefreshes;
+    // Only the keys currently published by UAA are trusted, so a key which UAA has removed is no longer used after the next refresh:
+    private volatile Map<String, TokenKey> tokenKeysById = Map.of();
+    private Instant lastTokenKeyRefreshTime;
+    private final Object tokenKeyRefreshLock = new Object();
+    // Clients which poll operations send the same token many times, so the verified tokens are kept until they expire:
+    private final Map<String, OAuth2AccessTokenWithAdditionalInfo> verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, OAuth2AccessTokenWithAdditionalInfo> eldest) {
+            return size() > MAX_VERIFIED_TOKENS;
+        }
+    };
 
     @Inject
     public JwtTokenParser(UAAClient uaaClient, TokenValidationStrategyFactory tokenValidationStrategyFactory) {
+        this(uaaClient, tokenValidationStrategyFactory, MIN_TIME_BETWEEN_TOKEN_KEY_REFRESHES);
+    }
+
+    JwtTokenParser(UAAClient uaaClient, TokenValidationStrategyFactory tokenValidationStrategyFactory,
+                   Duration minTimeBetweenTokenKeyRefreshes) {
         this.tokenFactory = new TokenFactory();
         this.uaaClient = uaaClient;
         this.tokenValidationStrategyFactory = tokenValidationStrategyFactory;
+        this.minTimeBetweenTokenKeyRefreshes = minTimeBetweenTokenKeyRefreshes;
     }
 
     @Override
     public Optional<OAuth2AccessTokenWithAdditionalInfo> parse(String tokenString) {
+        String tokenHash = computeHash(tokenString);
+        OAuth2AccessTokenWithAdditionalInfo verifiedToken = getVerifiedToken(tokenHash);
+        if (verifiedToken != null) {
+            return Optional.of(verifiedToken);
+        }
         try {
             verifyToken(tokenString);
-            return Optional.of(tokenFactory.createToken(tokenString));
+            OAuth2AccessTokenWithAdditionalInfo token = tokenFactory.createToken(tokenString);
+            addVerifiedToken(tokenHash, token);
+            return Optional.of(token);
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
             return Optional.empty();
         }
     }
 
+    private String computeHash(String tokenString) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                                         .digest(tokenString.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of()
+                            .formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private OAuth2AccessTokenWithAdditionalInfo getVerifiedToken(String tokenHash) {
+        synchronized (verifiedTokens) {
+            OAuth2AccessTokenWithAdditionalInfo token = verifiedTokens.get(tokenHash);
+            if (token != null && isExpired(token)) {
+                verifiedTokens.remove(tokenHash);
+                return null;
+            }
+            return token;
+        }
+    }
+
+    private boolean isExpired(OAuth2AccessTokenWithAdditionalInfo token) {
+        return !token.getOAuth2AccessToken()
+                     .getExpiresAt()
+                     .isAfter(Instant.now());
+    }
+
+    private void addVerifiedToken(String tokenHash, OAuth2AccessTokenWithAdditionalInfo token) {
+        if (token.getOAuth2AccessToken()
+                 .getExpiresAt() == null || isExpired(token)) {
+            return;
+        }
+        synchronized (verifiedTokens) {
+            verifiedTokens.put(tokenHash, token);
+        }
+    }
+
+    int getVerifiedTokensCount() {
+        synchronized (verifiedTokens) {
+            return verifiedTokens.size();
+        }
+    }
+
     protected void verifyToken(String tokenString) {
+        JWSObject jwsObject = parseJwsObject(tokenString);
+        Map<String, TokenKey> knownTokenKeys = getTokenKeys();
         try {
-            verify(tokenString);
+            verify(jwsObject, knownTokenKeys);
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
-            refreshTokenKey();
-            verify(tokenString);
+            refreshTokenKeys(knownTokenKeys);
+            verify(jwsObject, tokenKeysById);
         }
     }
 
-    private void verify(String tokenString) {
-        TokenKey tokenKey = getCachedTokenKey();
-        String algorithm = tokenKey.getAlgorithm();
-        ValidationStrategy validationStrategy = tokenValidationStrategyFactory.createStrategy(algorithm);
-        if (!validationStrategy.validateToken(tokenString, tokenKey.getValue())) {
-            throw new InternalAuthenticationServiceException(Messages.INVALID_TOKEN_PROVIDED);
+    private JWSObject parseJwsObject(String tokenString) {
+        try {
+            return JWSObject.parse(tokenString);
+        } catch (ParseException e) {
+            throw new InternalAuthenticationServiceException(e.getMessage(), e);
+        }
+    }
+
+    private void verify(JWSObject jwsObject, Map<String, TokenKey> tokenKeys) {
+        for (TokenKey tokenKey : getCandidateTokenKeys(jwsObject, tokenKeys)) {
+            if (tokenKey.getValidationStrategy()
+                        .validateToken(jwsObject, tokenKey.getVerifier())) {
+                return;
+            }
+        }
+        throw new InternalAuthenticationServiceException(Messages.INVALID_TOKEN_PROVIDED);
+    }
+
+    private Collection<TokenKey> getCandidateTokenKeys(JWSObject jwsObject, Map<String, TokenKey> tokenKeys) {
+        String keyId = jwsObject.getHeader()
+                                .getKeyID();
+        if (keyId == null) {
+            return tokenKeys.values();
+        }
+        TokenKey tokenKey = tokenKeys.get(keyId);
+        if (tokenKey != null) {
+            return List.of(tokenKey);
+        }
+        // UAA may return a key without an ID, which is then used for all tokens:
+        return tokenKeys.values()
+                        .stream()
+                        .filter(key -> key.getKeyId() == null)
+                        .collect(Collectors.toList());
+    }
+
+    private Map<String, TokenKey> getTokenKeys() {
+        Map<String, TokenKey> tokenKeys = tokenKeysById;
+        if (tokenKeys.isEmpty()) {
+            refreshTokenKeys(tokenKeys);
+            return tokenKeysById;
         }
+        return tokenKeys;
     }
 
-    private TokenKey getCachedTokenKey() {
-        if (tokenKey == null) {
-            synchronized (this) {
-                if (tokenKey == null) {
-                    refreshTokenKey();
+    /**
+     * Reads the current token keys from UAA, unless another thread has already done so after the specified keys were read. Refreshes are
+     * also rate limited, so that tokens which cannot be verified do not cause a request to UAA each.
+     */
+    private void refreshTokenKeys(Map<String, TokenKey> staleTokenKeys) {
+        synchronized (tokenKeyRefreshLock) {
+            if (tokenKeysById != staleTokenKeys || isTokenKeyRefreshedRecently()) {
+                return;
+            }
+            Map<String, TokenKey> tokenKeys = readTokenKeys();
+            if (!tokenKeys.keySet()
+                          .containsAll(tokenKeysById.keySet())) {
+                // Tokens signed with a removed key must be verified again:
+                synchronized (verifiedTokens) {
+                    verifiedTokens.clear();
                 }
             }
+            tokenKeysById = tokenKeys;
+            lastTokenKeyRefreshTime = Instant.now();
         }
-        return tokenKey;
     }
 
-    private void refreshTokenKey() {
-        tokenKey = readTokenKey();
+    private boolean isTokenKeyRefreshedRecently() {
+        return lastTokenKeyRefreshTime != null && lastTokenKeyRefreshTime.plus(minTimeBetweenTokenKeyRefreshes)
+                                                                         .isAfter(Instant.now());
+    }
+
+    private Map<String, TokenKey> readTokenKeys() {
+        Map<String, TokenKey> result = new LinkedHashMap<>();
+        for (Map<String, Object> tokenKeyResponse : uaaClient.readTokenKeys()) {
+            TokenKey tokenKey = createTokenKey(tokenKeyResponse);
+            result.put(tokenKey.getKeyId() == null ? "" : tokenKey.getKeyId(), tokenKey);
+        }
+        if (result.isEmpty()) {
+            throw new InternalAuthenticationServiceException("Response from /token_keys does not contain any keys");
+        }
+        return result;
     }
 
-    private TokenKey readTokenKey() {
-        Map<String, Object> tokenKeyResponse = uaaClient.readTokenKey();
+    private TokenKey createTokenKey(Map<String, Object> tokenKeyResponse) {
         Object value = tokenKeyResponse.get("value");
         Object algorithm = tokenKeyResponse.get("alg");
         if (value == null || algorithm == null) {
-            throw new InternalAuthenticationServiceException("Response from /token_key does not contain a key value or an algorithm");
+            throw new InternalAuthenticationServiceException("Response from /token_keys does not contain a key value or an algorithm");
         }
-        return new TokenKey(value.toString(), algorithm.toString());
+        Object keyId = tokenKeyResponse.get("kid");
+        ValidationStrategy validationStrategy = tokenValidationStrategyFactory.createStrategy(algorithm.toString());
+        return new TokenKey(keyId == null ? null : keyId.toString(),
+                            value.toString(),
+                            algorithm.toString(),
+                            validationStrategy,
+                            validationStrategy.createVerifier(value.toString()));
     }
 
     static class TokenKey {
 
+        private final String keyId;
         private final String value;
         private final String algorithm;
+        private final ValidationStrategy validationStrategy;
+        private final JWSVerifier verifier;
 
-        TokenKey(String value, String algorithm) {
+        TokenKey(String keyId, String value, String algorithm, ValidationStrategy validationStrategy, JWSVerifier verifier) {
+            this.keyId = keyId;
             this.value = value;
             this.algorithm = algorithm;
+            this.validationStrategy = validationStrategy;
+            this.verifier = verifier;
+        }
+
+        String getKeyId() {
+            return keyId;
         }
 
         String getValue() {
@@ -109,5 +272,13 @@ public class JwtTokenParser implements TokenParser {
             return algorithm;
         }
 
+        ValidationStrategy getValidationStrategy() {
+            return validationStrategy;
+        }
+
+        JWSVerifier getVerifier() {
+            return verifier;
+        }
+
     }
 }
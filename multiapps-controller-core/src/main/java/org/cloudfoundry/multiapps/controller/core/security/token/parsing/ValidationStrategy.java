@@ -11,10 +11,14 @@ public abstract class ValidationStrategy {
     public boolean validateToken(String jwtTokenString, String key) {
         JWSVerifier jwsVerifier = getVerifier(key);
         JWSObject jwsObject = getObject(jwtTokenString);
-        return verify(jwsVerifier, jwsObject);
+        return validateToken(jwsObject, jwsVerifier);
     }
 
-    private boolean verify(JWSVerifier jwsVerifier, JWSObject jwsObject) {
+    /**
+     * Validates an already parsed token with a verifier created by {@link #createVerifier(String)}. Verifiers are thread-safe, so they
+     * can be built once per key and reused for every token signed with it.
+     */
+    public boolean validateToken(JWSObject jwsObject, JWSVerifier jwsVerifier) {
         try {
             return jwsObject.verify(jwsVerifier);
         } catch (JOSEException e) {
@@ -22,6 +26,10 @@ public abstract class ValidationStrategy {
         }
     }
 
+    public JWSVerifier createVerifier(String key) {
+        return getVerifier(key);
+    }
+
     protected abstract JWSVerifier getVerifier(String key);
 
     protected abstract JWSObject getObject(String jwtTokenString);
@@ -8,6 +8,7 @@ import org.cloudfoundry.multiapps.common.ParsingException;
 import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.cloudfoundry.multiapps.common.util.MiscUtil;
 import org.cloudfoundry.multiapps.controller.core.Messages;
+import org.cloudfoundry.multiapps.controller.core.auditlogging.model.AuditLogOverflowPolicy;
 import org.cloudfoundry.multiapps.controller.core.configuration.Environment;
 import org.cloudfoundry.multiapps.controller.core.health.model.HealthCheckConfiguration;
 import org.cloudfoundry.multiapps.controller.core.health.model.ImmutableHealthCheckConfiguration;
@@ -67,6 +68,9 @@ public class ApplicationConfiguration {
     static final String CFG_AUDIT_LOG_CLIENT_CORE_THREADS = "AUDIT_LOG_CLIENT_CORE_THREADS";
     static final String CFG_AUDIT_LOG_CLIENT_MAX_THREADS = "AUDIT_LOG_CLIENT_MAX_THREADS";
     static final String CFG_AUDIT_LOG_CLIENT_QUEUE_CAPACITY = "AUDIT_LOG_CLIENT_QUEUE_CAPACITY";
+    static final String CFG_AUDIT_LOG_QUEUE_CAPACITY = "AUDIT_LOG_QUEUE_CAPACITY";
+    static final String CFG_AUDIT_LOG_OVERFLOW_POLICY = "AUDIT_LOG_OVERFLOW_POLICY";
+    static final String CFG_AUDIT_LOG_SPILL_DIRECTORY = "AUDIT_LOG_SPILL_DIRECTORY";
     static final String CFG_AUDIT_LOG_CLIENT_KEEP_ALIVE = "AUDIT_LOG_CLIENT_KEEP_ALIVE";
     static final String CFG_FLOWABLE_JOB_EXECUTOR_CORE_THREADS = "FLOWABLE_JOB_EXECUTOR_CORE_THREADS";
     static final String CFG_FLOWABLE_JOB_EXECUTOR_MAX_THREADS = "FLOWABLE_JOB_EXECUTOR_MAX_THREADS";
@@ -95,6 +99,14 @@ public class ApplicationConfiguration {
     static final String CFG_THREADS_FOR_FILE_UPLOAD_TO_CONTROLLER = "THREADS_FOR_FILE_UPLOAD_TO_CONTROLLER";
     static final String CFG_THREADS_FOR_FILE_STORAGE_UPLOAD = "THREADS_FOR_FILE_STORAGE_UPLOAD";
     static final String CFG_IS_HEALTH_CHECK_ENABLED = "IS_HEALTH_CHECK_ENABLED";
+    static final String CFG_MAX_APPLICATION_PACKAGES_CACHE_SIZE = "MAX_APPLICATION_PACKAGES_CACHE_SIZE";
+    static final String CFG_THREADS_FOR_OBJECT_STORE_DOWNLOAD = "THREADS_FOR_OBJECT_STORE_DOWNLOAD";
+    static final String CFG_OBJECT_STORE_DOWNLOAD_CHUNK_SIZE = "OBJECT_STORE_DOWNLOAD_CHUNK_SIZE";
+    static final String CFG_OBJECT_STORE_MAX_DOWNLOAD_BUFFER_SIZE = "OBJECT_STORE_MAX_DOWNLOAD_BUFFER_SIZE";
+    static final String CFG_THREADS_FOR_OBJECT_STORE_UPLOAD = "THREADS_FOR_OBJECT_STORE_UPLOAD";
+    static final String CFG_OBJECT_STORE_UPLOAD_PART_SIZE = "OBJECT_STORE_UPLOAD_PART_SIZE";
+    static final String CFG_OBJECT_STORE_MAX_UPLOAD_BUFFER_SIZE = "OBJECT_STORE_MAX_UPLOAD_BUFFER_SIZE";
+    static final String CFG_COMPRESS_PROCESS_VARIABLES = "COMPRESS_PROCESS_VARIABLES";
 
     private static final List<String> VCAP_APPLICATION_URIS_KEYS = List.of("full_application_uris", "application_uris", "uris");
 
@@ -125,6 +137,9 @@ public class ApplicationConfiguration {
     public static final Integer DEFAULT_AUDIT_LOG_CLIENT_CORE_THREADS = 32;
     public static final Integer DEFAULT_AUDIT_LOG_CLIENT_MAX_THREADS = 64;
     public static final Integer DEFAULT_AUDIT_LOG_CLIENT_QUEUE_CAPACITY = 32767;
+    public static final Integer DEFAULT_AUDIT_LOG_QUEUE_CAPACITY = 10000;
+    public static final AuditLogOverflowPolicy DEFAULT_AUDIT_LOG_OVERFLOW_POLICY = AuditLogOverflowPolicy.BLOCK;
+    public static final String DEFAULT_AUDIT_LOG_SPILL_DIRECTORY = System.getProperty("java.io.tmpdir");
     public static final Integer DEFAULT_AUDIT_LOG_CLIENT_KEEP_ALIVE = 60;
     public static final Integer DEFAULT_FLOWABLE_JOB_EXECUTOR_CORE_THREADS = 8;
     public static final Integer DEFAULT_FLOWABLE_JOB_EXECUTOR_MAX_THREADS = 32;
@@ -156,6 +171,14 @@ public class ApplicationConfiguration {
     public static final int DEFAULT_THREADS_FOR_FILE_UPLOAD_TO_CONTROLLER = 6;
     public static final int DEFAULT_THREADS_FOR_FILE_STORAGE_UPLOAD = 7;
     public static final boolean DEFAULT_IS_HEALTH_CHECK_ENABLED = false;
+    public static final long DEFAULT_MAX_APPLICATION_PACKAGES_CACHE_SIZE = 1024 * 1024 * 1024L; // 1GB
+    public static final int DEFAULT_THREADS_FOR_OBJECT_STORE_DOWNLOAD = 8;
+    public static final long DEFAULT_OBJECT_STORE_DOWNLOAD_CHUNK_SIZE = 0; // Parallel downloads are disabled
+    public static final long DEFAULT_OBJECT_STORE_MAX_DOWNLOAD_BUFFER_SIZE = 128 * 1024 * 1024L; // 128MB
+    public static final int DEFAULT_THREADS_FOR_OBJECT_STORE_UPLOAD = 8;
+    public static final long DEFAULT_OBJECT_STORE_UPLOAD_PART_SIZE = 16 * 1024 * 1024L; // 16MB
+    public static final long DEFAULT_OBJECT_STORE_MAX_UPLOAD_BUFFER_SIZE = 128 * 1024 * 1024L; // 128MB
+    public static final boolean DEFAULT_COMPRESS_PROCESS_VARIABLES = false;
 
     protected final Environment environment;
 
@@ -217,6 +240,17 @@ public class ApplicationConfiguration {
     private Integer threadsForFileUploadToController;
     private Integer threadsForFileStorageUpload;
     private Boolean isHealthCheckEnabled;
+    private Long maxApplicationPackagesCacheSize;
+    private Integer threadsForObjectStoreDownload;
+    private Long objectStoreDownloadChunkSize;
+    private Long objectStoreMaxDownloadBufferSize;
+    private Integer threadsForObjectStoreUpload;
+    private Long objectStoreUploadPartSize;
+    private Long objectStoreMaxUploadBufferSize;
+    private Boolean isProcessVariablesCompressionEnabled;
+    private Integer auditLogQueueCapacity;
+    private AuditLogOverflowPolicy auditLogOverflowPolicy;
+    private String auditLogSpillDirectory;
 
     public ApplicationConfiguration() {
         this(new Environment());
@@ -256,11 +290,22 @@ public class ApplicationConfiguration {
         getAuditLogClientMaxThreads();
         getAuditLogClientQueueCapacity();
         getAuditLogClientKeepAlive();
+        getAuditLogQueueCapacity();
+        getAuditLogOverflowPolicy();
+        getAuditLogSpillDirectory();
         getFssCacheUpdateTimeoutMinutes();
         getSnakeyamlMaxAliasesForCollections();
         getServiceHandlingMaxParallelThreads();
         getAbortedOperationsTtlInSeconds();
         getFilesAsyncUploadExecutorMaxThreads();
+        getMaxApplicationPackagesCacheSize();
+        getThreadsForObjectStoreDownload();
+        getObjectStoreDownloadChunkSize();
+        getObjectStoreMaxDownloadBufferSize();
+        getThreadsForObjectStoreUpload();
+        getObjectStoreUploadPartSize();
+        getObjectStoreMaxUploadBufferSize();
+        isProcessVariablesCompressionEnabled();
     }
 
     public Map<String, String> getNotSensitiveVariables() {
@@ -278,6 +323,7 @@ public class ApplicationConfiguration {
                       CFG_STEP_POLLING_INTERVAL_IN_SECONDS, CFG_SKIP_SSL_VALIDATION, CFG_VERSION, CFG_CHANGE_LOG_LOCK_POLL_RATE,
                       CFG_CHANGE_LOG_LOCK_DURATION, CFG_CHANGE_LOG_LOCK_ATTEMPTS, CFG_GLOBAL_CONFIG_SPACE,
                       CFG_AUDIT_LOG_CLIENT_CORE_THREADS, CFG_AUDIT_LOG_CLIENT_MAX_THREADS, CFG_AUDIT_LOG_CLIENT_QUEUE_CAPACITY,
+                      CFG_AUDIT_LOG_QUEUE_CAPACITY, CFG_AUDIT_LOG_OVERFLOW_POLICY, CFG_AUDIT_LOG_SPILL_DIRECTORY,
                       CFG_FLOWABLE_JOB_EXECUTOR_CORE_THREADS, CFG_FLOWABLE_JOB_EXECUTOR_MAX_THREADS,
                       CFG_FLOWABLE_JOB_EXECUTOR_QUEUE_CAPACITY, CFG_AUDIT_LOG_CLIENT_KEEP_ALIVE, CFG_CONTROLLER_CLIENT_CONNECTION_POOL_SIZE,
                       CFG_CONTROLLER_CLIENT_THREAD_POOL_SIZE, CFG_CONTROLLER_CLIENT_RESPONSE_TIMEOUT, CFG_DB_TRANSACTION_TIMEOUT_IN_SECONDS,
@@ -529,6 +575,27 @@ public class ApplicationConfiguration {
         return auditLogClientKeepAlive;
     }
 
+    public Integer getAuditLogQueueCapacity() {
+        if (auditLogQueueCapacity == null) {
+            auditLogQueueCapacity = getAuditLogQueueCapacityFromEnvironment();
+        }
+        return auditLogQueueCapacity;
+    }
+
+    public AuditLogOverflowPolicy getAuditLogOverflowPolicy() {
+        if (auditLogOverflowPolicy == null) {
+            auditLogOverflowPolicy = getAuditLogOverflowPolicyFromEnvironment();
+        }
+        return auditLogOverflowPolicy;
+    }
+
+    public String getAuditLogSpillDirectory() {
+        if (auditLogSpillDirectory == null) {
+            auditLogSpillDirectory = getAuditLogSpillDirectoryFromEnvironment();
+        }
+        return auditLogSpillDirectory;
+    }
+
     public Integer getFlowableJobExecutorCoreThreads() {
         if (flowableJobExecutorCoreThreads == null) {
             flowableJobExecutorCoreThreads = getFlowableJobExecutorCoreThreadsFromEnvironment();
@@ -676,6 +743,62 @@ public class ApplicationConfiguration {
         return isHealthCheckEnabled;
     }
 
+    public Long getMaxApplicationPackagesCacheSize() {
+        if (maxApplicationPackagesCacheSize == null) {
+            maxApplicationPackagesCacheSize = getMaxApplicationPackagesCacheSizeFromEnvironment();
+        }
+        return maxApplicationPackagesCacheSize;
+    }
+
+    public int getThreadsForObjectStoreDownload() {
+        if (threadsForObjectStoreDownload == null) {
+            threadsForObjectStoreDownload = getThreadsForObjectStoreDownloadFromEnvironment();
+        }
+        return threadsForObjectStoreDownload;
+    }
+
+    public Long getObjectStoreDownloadChunkSize() {
+        if (objectStoreDownloadChunkSize == null) {
+            objectStoreDownloadChunkSize = getObjectStoreDownloadChunkSizeFromEnvironment();
+        }
+        return objectStoreDownloadChunkSize;
+    }
+
+    public Long getObjectStoreMaxDownloadBufferSize() {
+        if (objectStoreMaxDownloadBufferSize == null) {
+            objectStoreMaxDownloadBufferSize = getObjectStoreMaxDownloadBufferSizeFromEnvironment();
+        }
+        return objectStoreMaxDownloadBufferSize;
+    }
+
+    public int getThreadsForObjectStoreUpload() {
+        if (threadsForObjectStoreUpload == null) {
+            threadsForObjectStoreUpload = getThreadsForObjectStoreUploadFromEnvironment();
+        }
+        return threadsForObjectStoreUpload;
+    }
+
+    public Long getObjectStoreUploadPartSize() {
+        if (objectStoreUploadPartSize == null) {
+            objectStoreUploadPartSize = getObjectStoreUploadPartSizeFromEnvironment();
+        }
+        return objectStoreUploadPartSize;
+    }
+
+    public Long getObjectStoreMaxUploadBufferSize() {
+        if (objectStoreMaxUploadBufferSize == null) {
+            objectStoreMaxUploadBufferSize = getObjectStoreMaxUploadBufferSizeFromEnvironment();
+        }
+        return objectStoreMaxUploadBufferSize;
+    }
+
+    public boolean isProcessVariablesCompressionEnabled() {
+        if (isProcessVariablesCompressionEnabled == null) {
+            isProcessVariablesCompressionEnabled = isProcessVariablesCompressionEnabledFromEnvironment();
+        }
+        return isProcessVariablesCompressionEnabled;
+    }
+
     private URL getControllerUrlFromEnvironment() {
         String controllerUrlString = environment.getString("CF_API");
         if (StringUtils.isEmpty(controllerUrlString)) {
@@ -971,6 +1094,25 @@ public class ApplicationConfiguration {
         return value;
     }
 
+    private Integer getAuditLogQueueCapacityFromEnvironment() {
+        Integer value = environment.getPositiveInteger(CFG_AUDIT_LOG_QUEUE_CAPACITY, DEFAULT_AUDIT_LOG_QUEUE_CAPACITY);
+        LOGGER.info(format(Messages.AUDIT_LOG_QUEUE_CAPACITY, value));
+        return value;
+    }
+
+    private AuditLogOverflowPolicy getAuditLogOverflowPolicyFromEnvironment() {
+        AuditLogOverflowPolicy value = environment.getVariable(CFG_AUDIT_LOG_OVERFLOW_POLICY, AuditLogOverflowPolicy::fromString,
+                                                               DEFAULT_AUDIT_LOG_OVERFLOW_POLICY);
+        LOGGER.info(format(Messages.AUDIT_LOG_OVERFLOW_POLICY, value));
+        return value;
+    }
+
+    private String getAuditLogSpillDirectoryFromEnvironment() {
+        String value = environment.getString(CFG_AUDIT_LOG_SPILL_DIRECTORY, DEFAULT_AUDIT_LOG_SPILL_DIRECTORY);
+        LOGGER.info(format(Messages.AUDIT_LOG_SPILL_DIRECTORY, value));
+        return value;
+    }
+
     private Integer getFlowableJobExecutorCoreThreadsFromEnvironment() {
         Integer value = environment.getPositiveInteger(CFG_FLOWABLE_JOB_EXECUTOR_CORE_THREADS, DEFAULT_FLOWABLE_JOB_EXECUTOR_CORE_THREADS);
         LOGGER.info(format(Messages.FLOWABLE_JOB_EXECUTOR_CORE_THREADS, value));
@@ -1112,6 +1254,54 @@ public class ApplicationConfiguration {
         return value;
     }
 
+    private Long getMaxApplicationPackagesCacheSizeFromEnvironment() {
+        Long value = environment.getLong(CFG_MAX_APPLICATION_PACKAGES_CACHE_SIZE, DEFAULT_MAX_APPLICATION_PACKAGES_CACHE_SIZE);
+        LOGGER.info(format(Messages.MAX_APPLICATION_PACKAGES_CACHE_SIZE, value));
+        return value;
+    }
+
+    private int getThreadsForObjectStoreDownloadFromEnvironment() {
+        int value = environment.getPositiveInteger(CFG_THREADS_FOR_OBJECT_STORE_DOWNLOAD, DEFAULT_THREADS_FOR_OBJECT_STORE_DOWNLOAD);
+        LOGGER.info(format(Messages.THREADS_FOR_OBJECT_STORE_DOWNLOAD_0, value));
+        return value;
+    }
+
+    private Long getObjectStoreDownloadChunkSizeFromEnvironment() {
+        Long value = environment.getLong(CFG_OBJECT_STORE_DOWNLOAD_CHUNK_SIZE, DEFAULT_OBJECT_STORE_DOWNLOAD_CHUNK_SIZE);
+        LOGGER.info(format(Messages.OBJECT_STORE_DOWNLOAD_CHUNK_SIZE_0, value));
+        return value;
+    }
+
+    private Long getObjectStoreMaxDownloadBufferSizeFromEnvironment() {
+        Long value = environment.getLong(CFG_OBJECT_STORE_MAX_DOWNLOAD_BUFFER_SIZE, DEFAULT_OBJECT_STORE_MAX_DOWNLOAD_BUFFER_SIZE);
+        LOGGER.info(format(Messages.OBJECT_STORE_MAX_DOWNLOAD_BUFFER_SIZE_0, value));
+        return value;
+    }
+
+    private int getThreadsForObjectStoreUploadFromEnvironment() {
+        int value = environment.getPositiveInteger(CFG_THREADS_FOR_OBJECT_STORE_UPLOAD, DEFAULT_THREADS_FOR_OBJECT_STORE_UPLOAD);
+        LOGGER.info(format(Messages.THREADS_FOR_OBJECT_STORE_UPLOAD_0, value));
+        return value;
+    }
+
+    private Long getObjectStoreUploadPartSizeFromEnvironment() {
+        Long value = environment.getLong(CFG_OBJECT_STORE_UPLOAD_PART_SIZE, DEFAULT_OBJECT_STORE_UPLOAD_PART_SIZE);
+        LOGGER.info(format(Messages.OBJECT_STORE_UPLOAD_PART_SIZE_0, value));
+        return value;
+    }
+
+    private Long getObjectStoreMaxUploadBufferSizeFromEnvironment() {
+        Long value = environment.getLong(CFG_OBJECT_STORE_MAX_UPLOAD_BUFFER_SIZE, DEFAULT_OBJECT_STORE_MAX_UPLOAD_BUFFER_SIZE);
+        LOGGER.info(format(Messages.OBJECT_STORE_MAX_UPLOAD_BUFFER_SIZE_0, value));
+        return value;
+    }
+
+    private boolean isProcessVariablesCompressionEnabledFromEnvironment() {
+        boolean value = environment.getBoolean(CFG_COMPRESS_PROCESS_VARIABLES, DEFAULT_COMPRESS_PROCESS_VARIABLES);
+        LOGGER.info(format(Messages.PROCESS_VARIABLES_COMPRESSION_ENABLED_0, value));
+        return value;
+    }
+
     public Boolean isInternalEnvironment() {
         return environment.getBoolean(SAP_INTERNAL_DELIVERY, DEFAULT_SAP_INTERNAL_DELIVERY);
     }
@@ -0,0 +1,153 @@
+package org.cloudfoundry.multiapps.controller.core.auditlogging.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.cloudfoundry.multiapps.common.util.JsonUtil;
+import org.cloudfoundry.multiapps.controller.core.auditlogging.model.AuditLogOverflowPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AsyncAuditLogWriterTest {
+
+    private static final String SQL = "INSERT INTO AUDIT_LOG (MESSAGE) VALUES (?)";
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement statement;
+    @TempDir
+    Path tempDirectory;
+    private final List<String> writtenMessages = new ArrayList<>();
+    private final AuditLoggingExceptionHandler exceptionHandler = new AuditLoggingExceptionHandler();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+    }
+
+    @Test
+    void testEntriesAreWrittenInBatches() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        AsyncAuditLogWriter writer = createWriter(AuditLogOverflowPolicy.BLOCK);
+
+        writer.write(createEntry("first"));
+        writer.write(createEntry("second"));
+        writer.close();
+
+        assertEquals(List.of("first", "second"), writtenMessages);
+        verify(statement, times(2)).addBatch();
+        verify(statement, atLeastOnce()).executeBatch();
+        assertEquals(0, writer.getQueueSize());
+    }
+
+    @Test
+    void testEntriesWhichCannotBeWrittenAreSpilledToDiskAndWrittenLater() throws Exception {
+        when(dataSource.getConnection()).thenThrow(new SQLException("Database is not available"))
+                                        .thenReturn(connection);
+        AsyncAuditLogWriter writer = createWriter(AuditLogOverflowPolicy.SPILL_TO_DISK);
+
+        writer.write(createEntry("first"));
+        writer.close();
+
+        assertTrue(writtenMessages.contains("first"));
+        assertFalse(Files.exists(tempDirectory.resolve("audit-log.spill")));
+        assertEquals(1, meterRegistry.counter(AsyncAuditLogWriter.SPILLED_ENTRIES_METRIC)
+                                     .count());
+    }
+
+    @Test
+    void testFailedBatchIsRetriedWhenItCannotBeSpilled() throws Exception {
+        when(dataSource.getConnection()).thenThrow(new SQLException("Database is not available"))
+                                        .thenReturn(connection);
+        AsyncAuditLogWriter writer = createWriter(AuditLogOverflowPolicy.BLOCK);
+
+        writer.write(createEntry("first"));
+        writer.close();
+
+        assertEquals(List.of("first"), writtenMessages);
+        verify(connection).commit();
+    }
+
+    @Test
+    void testUnreadableSpilledEntriesAreMovedAside() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        Files.write(getSpillFile(), List.of("{not json", toJson(createEntry("first"))));
+        AsyncAuditLogWriter writer = createWriter(AuditLogOverflowPolicy.SPILL_TO_DISK);
+
+        writer.close();
+
+        assertEquals(List.of("first"), writtenMessages);
+        assertEquals(List.of("{not json"), Files.readAllLines(tempDirectory.resolve("audit-log.spill.rejected")));
+        assertFalse(Files.exists(getSpillFile()));
+        assertFalse(Files.exists(tempDirectory.resolve("audit-log.spill.draining")));
+    }
+
+    @Test
+    void testWritingOfSpilledEntriesContinuesAfterLastCommittedBatch() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(statement.executeBatch()).thenReturn(new int[0])
+                                      .thenThrow(new SQLException("Database is not available"));
+        List<String> spilledEntries = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            spilledEntries.add(toJson(createEntry(Integer.toString(i))));
+        }
+        Files.write(getSpillFile(), spilledEntries);
+        createWriter(AuditLogOverflowPolicy.SPILL_TO_DISK).close();
+
+        writtenMessages.clear();
+        doReturn(new int[0]).when(statement)
+                            .executeBatch();
+        createWriter(AuditLogOverflowPolicy.SPILL_TO_DISK).close();
+
+        assertEquals(50, writtenMessages.size());
+        assertEquals("100", writtenMessages.get(0));
+        assertFalse(Files.exists(tempDirectory.resolve("audit-log.spill.draining")));
+    }
+
+    private Path getSpillFile() {
+        return tempDirectory.resolve("audit-log.spill");
+    }
+
+    private static String toJson(AuditLogEntry entry) {
+        return JsonUtil.toJson(entry.toMap());
+    }
+
+    private AsyncAuditLogWriter createWriter(AuditLogOverflowPolicy overflowPolicy) {
+        return new AsyncAuditLogWriter(dataSource, SQL, (entry, stmt) -> writtenMessages.add(entry.message()), exceptionHandler,
+                                       overflowPolicy, 10, getSpillFile(), meterRegistry);
+    }
+
+    private static AuditLogEntry createEntry(String message) {
+        return new AuditLogEntry("user", System.currentTimeMillis(), "ACTION", "INFO", message);
+    }
+
+}
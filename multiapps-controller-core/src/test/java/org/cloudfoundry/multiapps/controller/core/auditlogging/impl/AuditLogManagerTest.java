@@ -1,14 +1,24 @@
 package org.cloudfoundry.multiapps.controller.core.auditlogging.impl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import org.apache.logging.log4j.core.Logger;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.UserInfoProvider;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.persistence.test.TestDataSourceProvider;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
 import javax.sql.DataSource;
 
@@ -18,27 +28,35 @@ class AuditLogManagerTest {
 
     private AuditLogManager auditLogManager;
 
+    @TempDir
+    Path tempDirectory;
+
     private static final String AUDIT_LOG_CHANGELOG_LOCATION = "org/cloudfoundry/multiapps/controller/persistence/db/changelog/db-changelog.xml";
 
     @BeforeEach
     void setUp() throws Exception {
         testDataSource = TestDataSourceProvider.getDataSource(AUDIT_LOG_CHANGELOG_LOCATION);
-        auditLogManager = new AuditLogManager(testDataSource, createTestUserInfoProvider());
+        auditLogManager = new AuditLogManager(testDataSource, createTestUserInfoProvider(), new ApplicationConfiguration(),
+                                              tempDirectory.resolve("audit-log.spill"), new SimpleMeterRegistry());
     }
 
     @AfterEach
     void tearDown() throws Exception {
+        auditLogManager.close();
         testDataSource.getConnection()
                       .close();
     }
 
     @Test
-    void testAuditLogManager() {
+    void testAuditLogManager() throws Exception {
         List<Logger> loggers = loadAuditLoggers();
+        int initialAuditLogEntriesCount = countAuditLogEntries();
 
         logMessage(loggers);
+        auditLogManager.close();
 
         assertNull(auditLogManager.getException());
+        assertEquals(initialAuditLogEntriesCount + loggers.size(), countAuditLogEntries());
     }
 
     private List<Logger> loadAuditLoggers() {
@@ -49,6 +67,14 @@ class AuditLogManagerTest {
         loggers.forEach(logger -> logger.info("Test Message"));
     }
 
+    private int countAuditLogEntries() throws SQLException {
+        try (Connection connection = testDataSource.getConnection(); Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM AUDIT_LOG")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
     private static UserInfoProvider createTestUserInfoProvider() {
         return () -> null;
     }
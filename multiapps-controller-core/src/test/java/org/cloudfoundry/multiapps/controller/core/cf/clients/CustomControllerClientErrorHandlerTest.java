@@ -3,16 +3,19 @@ package org.cloudfoundry.multiapps.controller.core.cf.clients;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.time.Duration;
 import java.util.stream.Stream;
 
 import org.cloudfoundry.multiapps.common.test.TestUtil;
 import org.cloudfoundry.multiapps.controller.client.util.ResilientCloudOperationExecutor;
+import org.cloudfoundry.multiapps.controller.client.util.RetryAfterCloudOperationException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.client.HttpStatusCodeException;
 
@@ -73,6 +76,25 @@ class CustomControllerClientErrorHandlerTest {
         return exception;
     }
 
+    @Test
+    void testHandleErrorsWithRetryAfter() {
+        HttpStatusCodeException exception = prepareHttpStatusCodeException(HttpStatus.TOO_MANY_REQUESTS, "Too many requests",
+                                                                           "cf-error-response-body-1.json");
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "120");
+        Mockito.when(exception.getResponseHeaders())
+               .thenReturn(headers);
+        CustomControllerClientErrorHandler customControllerClientErrorHandler = new CustomControllerClientErrorHandler().withExecutorFactory(() -> NULL_RETRIER);
+
+        RetryAfterCloudOperationException result = Assertions.assertThrows(RetryAfterCloudOperationException.class,
+                                                                           () -> customControllerClientErrorHandler.handleErrors(() -> {
+                                                                               throw exception;
+                                                                           }));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, result.getStatusCode());
+        assertEquals(Duration.ofSeconds(120), result.getRetryAfter());
+    }
+
     @Test
     void testHandleErrorsWithWrongExceptionType() {
         ResilientCloudOperationExecutor resilientCloudOperationExecutor = new ResilientCloudOperationExecutor().withWaitTimeBetweenRetriesInMillis(0);
@@ -0,0 +1,84 @@
+package org.cloudfoundry.multiapps.controller.core.cf.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.sap.cloudfoundry.client.facade.CloudCredentials;
+
+import reactor.core.publisher.Mono;
+
+class CustomControllerClientTest {
+
+    private static final String CONTROLLER_URL = "https://api.cf.example.com";
+    private static final String EVENTS_PATH = "/v3/audit_events";
+
+    private final Queue<String> requestedPages = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void testRemainingPagesAreFetchedUsingTotalPages() {
+        var eventGetter = createEventGetter(page -> createPage(page, 4, true));
+
+        List<String> spaceIds = eventGetter.findEvents("audit.app.create", "2026-10-18T00:00:00Z");
+
+        assertEquals(List.of("space-1", "space-2", "space-3", "space-4"), spaceIds);
+        assertEquals(List.of("1", "2", "3", "4"), requestedPages.stream()
+                                                                .sorted()
+                                                                .toList());
+    }
+
+    @Test
+    void testPagesAreFollowedSequentiallyWithoutTotalPages() {
+        var eventGetter = createEventGetter(page -> createPage(page, 3, false));
+
+        List<String> spaceIds = eventGetter.findEvents("audit.app.create", "2026-10-18T00:00:00Z");
+
+        assertEquals(List.of("space-1", "space-2", "space-3"), spaceIds);
+        assertEquals(List.of("1", "2", "3"), List.copyOf(requestedPages));
+    }
+
+    private CFOptimizedEventGetter createEventGetter(Function<Integer, String> pageProvider) {
+        WebClient webClient = WebClient.builder()
+                                       .baseUrl(CONTROLLER_URL)
+                                       .exchangeFunction(request -> {
+                                           String page = UriComponentsBuilder.fromUri(request.url())
+                                                                             .build()
+                                                                             .getQueryParams()
+                                                                             .getFirst("page");
+                                           String requestedPage = page == null ? "1" : page;
+                                           requestedPages.add(requestedPage);
+                                           return Mono.just(ClientResponse.create(HttpStatus.OK)
+                                                                          .header(HttpHeaders.CONTENT_TYPE,
+                                                                                  MediaType.APPLICATION_JSON_VALUE)
+                                                                          .body(pageProvider.apply(Integer.parseInt(requestedPage)))
+                                                                          .build());
+                                       })
+                                       .build();
+        WebClientFactory webClientFactory = Mockito.mock(WebClientFactory.class);
+        Mockito.when(webClientFactory.getWebClient(Mockito.any()))
+               .thenReturn(webClient);
+        return new CFOptimizedEventGetter(Mockito.mock(ApplicationConfiguration.class), webClientFactory,
+                                          new CloudCredentials("user", "password"));
+    }
+
+    private static String createPage(int page, int totalPages, boolean includeTotalPages) {
+        String totalPagesField = includeTotalPages ? "\"total_pages\": " + totalPages + ", " : "";
+        String next = page < totalPages ? "{\"href\": \"" + CONTROLLER_URL + EVENTS_PATH + "?per_page=1&page=" + (page + 1) + "\"}" : "null";
+        return "{\"pagination\": {" + totalPagesField + "\"next\": " + next + "}, \"resources\": [{\"space\": {\"guid\": \"space-"
+            + page + "\"}}]}";
+    }
+
+}
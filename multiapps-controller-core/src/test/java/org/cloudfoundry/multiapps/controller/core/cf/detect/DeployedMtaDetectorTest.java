@@ -1,5 +1,7 @@
 package org.cloudfoundry.multiapps.controller.core.cf.detect;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -13,6 +15,8 @@ import org.cloudfoundry.multiapps.common.test.TestUtil;
 import org.cloudfoundry.multiapps.common.test.Tester;
 import org.cloudfoundry.multiapps.common.test.Tester.Expectation;
 import org.cloudfoundry.multiapps.common.util.JsonUtil;
+import org.cloudfoundry.multiapps.controller.core.cf.metadata.MtaMetadataAnnotations;
+import org.cloudfoundry.multiapps.controller.core.cf.metadata.MtaMetadataLabels;
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.entity.processor.MtaMetadataApplicationCollector;
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.entity.processor.MtaMetadataEntityAggregator;
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.entity.processor.MtaMetadataEntityCollector;
@@ -20,8 +24,10 @@ import org.cloudfoundry.multiapps.controller.core.cf.metadata.entity.processor.M
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.processor.MtaMetadataParser;
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.processor.MtaMetadataValidator;
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.util.MtaMetadataUtil;
+import org.cloudfoundry.multiapps.controller.core.model.DeployedMta;
 import org.cloudfoundry.multiapps.controller.core.util.NameUtil;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -33,11 +39,14 @@ import org.mockito.MockitoAnnotations;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.sap.cloudfoundry.client.facade.CloudControllerClient;
 import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
+import com.sap.cloudfoundry.client.facade.domain.CloudEntity;
 import com.sap.cloudfoundry.client.facade.domain.CloudServiceInstance;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudApplication;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudMetadata;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudServiceInstance;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class DeployedMtaDetectorTest {
 
     private final Tester tester = Tester.forClass(getClass());
@@ -189,6 +198,53 @@ class DeployedMtaDetectorTest {
         verifyNamespaceWasChecked(namespace);
     }
 
+    @Test
+    void testDetectDeployedMtasFromCollectedEntities() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        deployedMtaDetector = new DeployedMtaDetector(collectors, mtaMetadataEntityAggregator, Runnable::run, meterRegistry);
+        mockClientResults(List.of(createMtaApplication("app-1", null), createMtaApplication("app-2", "backup")), Collections.emptyList());
+
+        List<CloudEntity> mtaEntities = deployedMtaDetector.collectMtaEntitiesByName("quux", client);
+        DeployedMta deployedMta = deployedMtaDetector.detectDeployedMtaByNameAndNamespace("quux", null, mtaEntities)
+                                                     .get();
+        DeployedMta backupMta = deployedMtaDetector.detectDeployedMtaByNameAndNamespace("quux", "backup", mtaEntities)
+                                                   .get();
+
+        assertEquals("app-1", deployedMta.getApplications()
+                                         .get(0)
+                                         .getName());
+        assertEquals("app-2", backupMta.getApplications()
+                                       .get(0)
+                                       .getName());
+        Mockito.verify(client)
+               .getApplicationsByMetadataLabelSelector(ArgumentMatchers.anyString());
+        assertEquals(1, meterRegistry.get(DeployedMtaDetector.COLLECTOR_METRIC)
+                                     .tag(DeployedMtaDetector.COLLECTOR_TAG, MtaMetadataApplicationCollector.class.getSimpleName())
+                                     .timer()
+                                     .count());
+    }
+
+    private static CloudApplication createMtaApplication(String name, String namespace) {
+        Metadata.Builder metadata = Metadata.builder()
+                                            .label(MtaMetadataLabels.MTA_ID, MtaMetadataUtil.getHashedLabel("quux"))
+                                            .annotation(MtaMetadataAnnotations.MTA_ID, "quux")
+                                            .annotation(MtaMetadataAnnotations.MTA_VERSION, "1.0.0")
+                                            .annotation(MtaMetadataAnnotations.MTA_MODULE, "{\"name\":\"" + name + "\"}")
+                                            .annotation(MtaMetadataAnnotations.MTA_MODULE_PUBLIC_PROVIDED_DEPENDENCIES, "[]")
+                                            .annotation(MtaMetadataAnnotations.MTA_MODULE_BOUND_SERVICES, "[]");
+        if (namespace != null) {
+            metadata.label(MtaMetadataLabels.MTA_NAMESPACE, MtaMetadataUtil.getHashedLabel(namespace))
+                    .annotation(MtaMetadataAnnotations.MTA_NAMESPACE, namespace);
+        }
+        return ImmutableCloudApplication.builder()
+                                        .metadata(ImmutableCloudMetadata.builder()
+                                                                        .guid(NameUtil.getUUID(name))
+                                                                        .build())
+                                        .name(name)
+                                        .v3Metadata(metadata.build())
+                                        .build();
+    }
+
     private void verifyNamespaceWasChecked(String namespace) {
         if (namespace != null) {
             Mockito.verify(client)
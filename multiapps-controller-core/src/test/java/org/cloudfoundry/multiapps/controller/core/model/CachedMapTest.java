@@ -1,15 +1,34 @@
 package org.cloudfoundry.multiapps.controller.core.model;
 
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.cloudfoundry.multiapps.common.SLException;
 import org.junit.jupiter.api.Test;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class CachedMapTest {
 
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Test
     void testEviction() throws InterruptedException {
         CachedMap<String, String> map = new CachedMap<>(Duration.ofMillis(3), 10, TimeUnit.MILLISECONDS);
@@ -20,4 +39,193 @@ class CachedMapTest {
         map.clear();
     }
 
+    @Test
+    void testValueIsCreatedOnceForConcurrentRequests() throws Exception {
+        CachedMap<String, String> map = createMap().build();
+        AtomicInteger creations = new AtomicInteger();
+        CountDownLatch creationStarted = new CountDownLatch(1);
+        CountDownLatch creationAllowed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> map.computeIfAbsent("user", () -> {
+                    creations.incrementAndGet();
+                    creationStarted.countDown();
+                    await(creationAllowed);
+                    return "client";
+                })));
+            }
+            creationStarted.await();
+            creationAllowed.countDown();
+            for (Future<String> result : results) {
+                assertEquals("client", result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, creations.get());
+        assertEquals(1, getCount(CachedMap.REQUESTS_METRIC, "result", "miss"));
+        map.clear();
+    }
+
+    @Test
+    void testFailedCreationIsNotCached() {
+        CachedMap<String, String> map = createMap().build();
+        assertThrows(IllegalStateException.class, () -> map.computeIfAbsent("user", () -> {
+            throw new IllegalStateException("Token is not available");
+        }));
+        assertEquals("client", map.computeIfAbsent("user", () -> "client"));
+        map.clear();
+    }
+
+    @Test
+    void testValueCreationIsAwaitedUntilTimeout() throws Exception {
+        CachedMap<String, String> map = createMap().creationTimeout(Duration.ofMillis(10))
+                                                   .build();
+        CountDownLatch creationStarted = new CountDownLatch(1);
+        CountDownLatch creationAllowed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> result = executor.submit(() -> map.computeIfAbsent("user", () -> {
+                creationStarted.countDown();
+                await(creationAllowed);
+                return "client";
+            }));
+            creationStarted.await();
+
+            assertThrows(SLException.class, () -> map.computeIfAbsent("user", () -> "other-client"));
+            creationAllowed.countDown();
+            assertEquals("client", result.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals("client", map.get("user"));
+        map.clear();
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvictedWhenMaximumSizeIsExceeded() {
+        TestClock clock = new TestClock();
+        CachedMap<String, String> map = createMap().maximumSize(2)
+                                                   .clock(clock)
+                                                   .build();
+        map.put("first", "1");
+        map.put("second", "2");
+        clock.advance(Duration.ofMillis(1));
+        map.get("first");
+        map.put("third", "3");
+
+        assertEquals(2, map.size());
+        assertEquals("1", map.get("first"));
+        assertNull(map.get("second"));
+        assertEquals(1, getCount(CachedMap.EVICTIONS_METRIC, "cause", "size"));
+        map.clear();
+    }
+
+    @Test
+    void testEntryIsRefreshedBeforeItExpires() {
+        CachedMap<String, String> map = createMap().expirationTime(Duration.ofMinutes(1))
+                                                   .refreshAheadTime(Duration.ofMinutes(2))
+                                                   .build();
+        map.put("user", "old-client");
+
+        assertEquals("new-client", map.computeIfAbsent("user", () -> "new-client"));
+        assertEquals("new-client", map.get("user"));
+        map.clear();
+    }
+
+    @Test
+    void testCurrentValueIsReturnedWhenRefreshFails() {
+        CachedMap<String, String> map = createMap().expirationTime(Duration.ofMinutes(1))
+                                                   .refreshAheadTime(Duration.ofMinutes(2))
+                                                   .build();
+        map.put("user", "old-client");
+
+        assertEquals("old-client", map.computeIfAbsent("user", () -> {
+            throw new IllegalStateException("Token is not available");
+        }));
+        assertEquals("old-client", map.get("user"));
+        map.clear();
+    }
+
+    @Test
+    void testExpirationTimeIsComputedFromValue() {
+        CachedMap<String, String> map = createMap().valueExpirationTime(value -> value.isEmpty() ? Duration.ZERO : Duration.ofMinutes(1))
+                                                   .build();
+        map.put("empty", "");
+        map.put("user", "client");
+
+        assertNull(map.get("empty"));
+        assertEquals("client", map.get("user"));
+        map.clear();
+    }
+
+    private CachedMap.Builder<String, String> createMap() {
+        return CachedMap.<String, String> builder()
+                        .name("test")
+                        .expirationTime(Duration.ofMinutes(1))
+                        .meterRegistry(meterRegistry);
+    }
+
+    private double getCount(String metric, String tag, String value) {
+        return meterRegistry.counter(metric, "cache", "test", tag, value)
+                            .count();
+    }
+
+    @Test
+    void testEntryExpiresAfterExpirationTime() {
+        TestClock clock = new TestClock();
+        CachedMap<String, String> map = createMap().clock(clock)
+                                                   .build();
+        map.put("user", "client");
+
+        clock.advance(Duration.ofMinutes(1)
+                              .minusMillis(1));
+        assertEquals("client", map.get("user"));
+        clock.advance(Duration.ofMillis(1));
+        assertNull(map.get("user"));
+        assertEquals(1, getCount(CachedMap.EVICTIONS_METRIC, "cause", "expired"));
+        map.clear();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    private static class TestClock extends Clock {
+
+        private volatile long millis;
+
+        void advance(Duration duration) {
+            millis += duration.toMillis();
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
 }
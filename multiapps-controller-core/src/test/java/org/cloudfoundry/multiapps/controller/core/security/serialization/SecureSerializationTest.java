@@ -1,5 +1,11 @@
 package org.cloudfoundry.multiapps.controller.core.security.serialization;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.cloudfoundry.multiapps.common.test.TestUtil;
@@ -7,6 +13,7 @@ import org.cloudfoundry.multiapps.common.test.Tester;
 import org.cloudfoundry.multiapps.common.test.Tester.Expectation;
 import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.cloudfoundry.multiapps.mta.model.DeploymentDescriptor;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -42,6 +49,48 @@ class SecureSerializationTest {
         }, expectation);
     }
 
+    @Test
+    void testSensitiveElementsAreMaskedAtAnyDepth() {
+        Map<String, Object> credentials = new LinkedHashMap<>();
+        credentials.put("url", "https://example.com");
+        credentials.put("hosts", List.of("first", "second"));
+        Map<String, Object> object = new LinkedHashMap<>();
+        object.put("name", "app");
+        object.put("credentials", credentials);
+        object.put("ports", List.of(8080, 8081));
+        object.put("env", Arrays.asList("MY_TOKEN", null, "debug"));
+        object.put("nested", Map.of("apiKey", Map.of("value", "a")));
+
+        String json = createCompactSerializer().serialize(object);
+
+        assertEquals("{\"name\":\"app\",\"credentials\":\"********\",\"ports\":[8080,8081],\"env\":[\"********\",null,\"debug\"],"
+                         + "\"nested\":{\"apiKey\":\"********\"}}", json);
+    }
+
+    @Test
+    void testCustomSensitiveElementNames() {
+        SecureSerializerConfiguration configuration = new SecureSerializerConfiguration();
+        configuration.setFormattedOutput(false);
+        configuration.setSensitiveElementNames(List.of("host", "A.B"));
+
+        String json = new SecureJsonSerializer(configuration).serialize(Map.of("hosts", "x", "first", "a.b", "second", "aXb"));
+
+        assertEquals(Map.of("hosts", "********", "first", "********", "second", "aXb"), JsonUtil.convertJsonToMap(json));
+    }
+
+    @Test
+    void testLazyJsonIsSerializedWhenConvertedToString() {
+        Object lazyJson = SecureSerialization.toLazyJson(Map.of("token", "abc"));
+
+        assertEquals(SecureSerialization.toJson(Map.of("token", "abc")), lazyJson.toString());
+    }
+
+    private static SecureJsonSerializer createCompactSerializer() {
+        SecureSerializerConfiguration configuration = new SecureSerializerConfiguration();
+        configuration.setFormattedOutput(false);
+        return new SecureJsonSerializer(configuration);
+    }
+
     private static String getResourceAsString(String resource) {
         return TestUtil.getResourceAsStringWithoutCarriageReturns(resource, SecureSerializationTest.class);
     }
@@ -5,22 +5,43 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.cloudfoundry.multiapps.controller.client.uaa.UAAClient;
+import org.cloudfoundry.multiapps.controller.core.security.token.parsing.MACValidationStrategy;
 import org.cloudfoundry.multiapps.controller.core.security.token.parsing.TokenValidationStrategyFactory;
 import org.cloudfoundry.multiapps.controller.core.security.token.parsing.ValidationStrategy;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
 
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
 import com.sap.cloudfoundry.client.facade.oauth2.OAuth2AccessTokenWithAdditionalInfo;
 
 class JwtTokenParserTest {
 
+    private static final String UNVERIFIED_TOKEN = "eyJhbGciOiJIUzI1NiJ9.e30.c2lnbmF0dXJl";
+    private static final String FIRST_KEY_ID = "key-1";
+    private static final String FIRST_KEY = "first-key-with-at-least-256-bits-of-length";
+    private static final String SECOND_KEY_ID = "key-2";
+    private static final String SECOND_KEY = "second-key-with-at-least-256-bits-of-length";
+    private static final Map<String, Object> FIRST_TOKEN_KEY = Map.of("alg", "HS256", "value", FIRST_KEY, "kid", FIRST_KEY_ID);
+    private static final Map<String, Object> SECOND_TOKEN_KEY = Map.of("alg", "HS256", "value", SECOND_KEY, "kid", SECOND_KEY_ID);
+
     @Test
     void testParseNotCorrectJwtTokenWithOnlyTwoFieldsPresented() {
         JwtTokenParser parser = new JwtTokenParserMock(mockUaaClient(), mockTokenValidationStrategyFactory());
@@ -55,7 +76,7 @@ class JwtTokenParserTest {
     @Test
     void testWhenValidationStrategyThrowsException() {
         ValidationStrategy validationStrategy = Mockito.mock(ValidationStrategy.class);
-        Mockito.when(validationStrategy.validateToken(anyString(), anyString()))
+        Mockito.when(validationStrategy.validateToken(any(JWSObject.class), any()))
                .thenThrow(InternalAuthenticationServiceException.class);
         TokenValidationStrategyFactory tokenValidationStrategyFactory = mockTokenValidationStrategyFactory();
         Mockito.when(tokenValidationStrategyFactory.createStrategy(anyString()))
@@ -63,14 +84,14 @@ class JwtTokenParserTest {
         JwtTokenParser parser = new JwtTokenParserMock(mockUaaClient(false, "RS256", "not-at-all-matters"),
                                                        true,
                                                        tokenValidationStrategyFactory);
-        assertTrue(parser.parse("token-value")
+        assertTrue(parser.parse(UNVERIFIED_TOKEN)
                          .isEmpty());
     }
 
     @Test
     void testWhenValidationStrategyReturnsFalse() {
         ValidationStrategy validationStrategy = Mockito.mock(ValidationStrategy.class);
-        Mockito.when(validationStrategy.validateToken(anyString(), anyString()))
+        Mockito.when(validationStrategy.validateToken(any(JWSObject.class), any()))
                .thenReturn(false);
         TokenValidationStrategyFactory tokenValidationStrategyFactory = mockTokenValidationStrategyFactory();
         Mockito.when(tokenValidationStrategyFactory.createStrategy(anyString()))
@@ -78,14 +99,14 @@ class JwtTokenParserTest {
         JwtTokenParser parser = new JwtTokenParserMock(mockUaaClient(false, "RS256", "not-at-all-matters"),
                                                        true,
                                                        tokenValidationStrategyFactory);
-        assertTrue(parser.parse("token-value")
+        assertTrue(parser.parse(UNVERIFIED_TOKEN)
                          .isEmpty());
     }
 
     @Test
     void testWhenValidationStrategyReturnsTrue() {
         ValidationStrategy validationStrategy = Mockito.mock(ValidationStrategy.class);
-        Mockito.when(validationStrategy.validateToken(anyString(), anyString()))
+        Mockito.when(validationStrategy.validateToken(any(JWSObject.class), any()))
                .thenReturn(true);
         TokenValidationStrategyFactory tokenValidationStrategyFactory = Mockito.mock(TokenValidationStrategyFactory.class);
         Mockito.when(tokenValidationStrategyFactory.createStrategy(anyString()))
@@ -93,7 +114,122 @@ class JwtTokenParserTest {
         JwtTokenParser parser = new JwtTokenParserMock(mockUaaClient(false, "RS256", "not-at-all-matters"),
                                                        true,
                                                        tokenValidationStrategyFactory);
-        assertDoesNotThrow(() -> parser.parse("token-value"));
+        assertDoesNotThrow(() -> parser.parse(UNVERIFIED_TOKEN));
+    }
+
+    @Test
+    void testVerifiedTokenIsCached() throws Exception {
+        UAAClient uaaClient = mockUaaClient(FIRST_TOKEN_KEY);
+        ValidationStrategy validationStrategy = Mockito.spy(new MACValidationStrategy());
+        TokenValidationStrategyFactory tokenValidationStrategyFactory = mockTokenValidationStrategyFactory();
+        Mockito.when(tokenValidationStrategyFactory.createStrategy("HS256"))
+               .thenReturn(validationStrategy);
+        JwtTokenParser parser = new JwtTokenParser(uaaClient, tokenValidationStrategyFactory);
+        String token = createToken(FIRST_KEY_ID, FIRST_KEY, "1");
+
+        assertTrue(parser.parse(token)
+                         .isPresent());
+        assertTrue(parser.parse(token)
+                         .isPresent());
+
+        assertEquals(1, parser.getVerifiedTokensCount());
+        Mockito.verify(validationStrategy)
+               .validateToken(any(JWSObject.class), any());
+        Mockito.verify(validationStrategy)
+               .createVerifier(FIRST_KEY);
+    }
+
+    @Test
+    void testTokenWithInvalidSignatureIsNotCached() throws Exception {
+        UAAClient uaaClient = mockUaaClient(FIRST_TOKEN_KEY);
+        JwtTokenParser parser = new JwtTokenParser(uaaClient, new TokenValidationStrategyFactory());
+        String token = createToken(FIRST_KEY_ID, SECOND_KEY, "1");
+
+        assertTrue(parser.parse(token)
+                         .isEmpty());
+        assertTrue(parser.parse(token)
+                         .isEmpty());
+
+        assertEquals(0, parser.getVerifiedTokensCount());
+    }
+
+    @Test
+    void testTokenKeyIsNotRefreshedForEveryInvalidToken() throws Exception {
+        UAAClient uaaClient = mockUaaClient(FIRST_TOKEN_KEY);
+        JwtTokenParser parser = new JwtTokenParser(uaaClient, new TokenValidationStrategyFactory());
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(parser.parse(createToken(FIRST_KEY_ID, SECOND_KEY, Integer.toString(i)))
+                             .isEmpty());
+        }
+
+        Mockito.verify(uaaClient)
+               .readTokenKeys();
+    }
+
+    @Test
+    void testTokensSignedWithPreviousKeyAreVerifiedWhileTheKeyIsPublished() throws Exception {
+        UAAClient uaaClient = Mockito.mock(UAAClient.class);
+        Mockito.when(uaaClient.readTokenKeys())
+               .thenReturn(List.of(FIRST_TOKEN_KEY))
+               .thenReturn(List.of(FIRST_TOKEN_KEY, SECOND_TOKEN_KEY));
+        JwtTokenParser parser = new JwtTokenParser(uaaClient, new TokenValidationStrategyFactory(), Duration.ZERO);
+
+        assertTrue(parser.parse(createToken(FIRST_KEY_ID, FIRST_KEY, "1"))
+                         .isPresent());
+        assertTrue(parser.parse(createToken(SECOND_KEY_ID, SECOND_KEY, "2"))
+                         .isPresent());
+        assertTrue(parser.parse(createToken(FIRST_KEY_ID, FIRST_KEY, "3"))
+                         .isPresent());
+
+        Mockito.verify(uaaClient, Mockito.times(2))
+               .readTokenKeys();
+    }
+
+    @Test
+    void testTokensSignedWithRemovedKeyAreRejected() throws Exception {
+        UAAClient uaaClient = Mockito.mock(UAAClient.class);
+        Mockito.when(uaaClient.readTokenKeys())
+               .thenReturn(List.of(FIRST_TOKEN_KEY))
+               .thenReturn(List.of(SECOND_TOKEN_KEY));
+        JwtTokenParser parser = new JwtTokenParser(uaaClient, new TokenValidationStrategyFactory(), Duration.ZERO);
+        String tokenSignedWithFirstKey = createToken(FIRST_KEY_ID, FIRST_KEY, "1");
+
+        assertTrue(parser.parse(tokenSignedWithFirstKey)
+                         .isPresent());
+        assertTrue(parser.parse(createToken(SECOND_KEY_ID, SECOND_KEY, "2"))
+                         .isPresent());
+
+        assertEquals(1, parser.getVerifiedTokensCount());
+        assertTrue(parser.parse(tokenSignedWithFirstKey)
+                         .isEmpty());
+        assertTrue(parser.parse(createToken(FIRST_KEY_ID, FIRST_KEY, "3"))
+                         .isEmpty());
+    }
+
+    private static String createToken(String keyId, String key, String tokenId) throws JOSEException {
+        JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.HS256).keyID(keyId)
+                                                                    .build();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder().jwtID(tokenId)
+                                                        .subject("f069a809-1107-44c4-b742-b453fb63b1d7")
+                                                        .claim("scope", List.of("cloud_controller.read", "cloud_controller.write"))
+                                                        .claim("client_id", "cf")
+                                                        .claim("user_id", "f069a809-1107-44c4-b742-b453fb63b1d7")
+                                                        .claim("user_name", "test_test")
+                                                        .issueTime(new Date())
+                                                        .expirationTime(Date.from(Instant.now()
+                                                                                         .plus(Duration.ofMinutes(10))))
+                                                        .build();
+        SignedJWT jwt = new SignedJWT(header, claims);
+        jwt.sign(new MACSigner(key));
+        return jwt.serialize();
+    }
+
+    private UAAClient mockUaaClient(Map<String, Object> tokenKey) {
+        UAAClient client = Mockito.mock(UAAClient.class);
+        Mockito.when(client.readTokenKeys())
+               .thenReturn(List.of(tokenKey));
+        return client;
     }
 
     private UAAClient mockUaaClient() {
@@ -103,20 +239,20 @@ class JwtTokenParserTest {
     private UAAClient mockUaaClient(boolean callRealReadToken, String algorithm, String algorithmValue) {
         UAAClient client = Mockito.mock(UAAClient.class);
         if (callRealReadToken) {
-            Mockito.when(client.readTokenKey())
+            Mockito.when(client.readTokenKeys())
                    .thenCallRealMethod();
         }
         if (algorithm != null && algorithmValue != null) {
-            Mockito.when(client.readTokenKey())
-                   .thenReturn(Map.of("alg", algorithm, "value", algorithmValue));
+            Mockito.when(client.readTokenKeys())
+                   .thenReturn(List.of(Map.of("alg", algorithm, "value", algorithmValue)));
         } else {
             if (algorithm != null) {
-                Mockito.when(client.readTokenKey())
-                       .thenReturn(Map.of("alg", algorithm));
+                Mockito.when(client.readTokenKeys())
+                       .thenReturn(List.of(Map.of("alg", algorithm)));
             }
             if (algorithmValue != null) {
-                Mockito.when(client.readTokenKey())
-                       .thenReturn(Map.of("value", algorithmValue));
+                Mockito.when(client.readTokenKeys())
+                       .thenReturn(List.of(Map.of("value", algorithmValue)));
             }
         }
         return client;
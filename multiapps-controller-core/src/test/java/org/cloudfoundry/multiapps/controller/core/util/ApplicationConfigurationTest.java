@@ -385,6 +385,23 @@ class ApplicationConfigurationTest {
         Assertions.assertEquals(ApplicationConfiguration.DEFAULT_AUDIT_LOG_CLIENT_KEEP_ALIVE, configuration.getAuditLogClientKeepAlive());
     }
 
+    @Test
+    void testGetAuditLogQueueCapacity() {
+        Mockito.when(environment.getPositiveInteger(ApplicationConfiguration.CFG_AUDIT_LOG_QUEUE_CAPACITY,
+                                                    ApplicationConfiguration.DEFAULT_AUDIT_LOG_QUEUE_CAPACITY))
+               .thenReturn(ApplicationConfiguration.DEFAULT_AUDIT_LOG_QUEUE_CAPACITY);
+        Assertions.assertEquals(ApplicationConfiguration.DEFAULT_AUDIT_LOG_QUEUE_CAPACITY, configuration.getAuditLogQueueCapacity());
+    }
+
+    @Test
+    void testGetAuditLogSpillDirectory() {
+        String spillDirectory = "/home/vcap/audit-log";
+        Mockito.when(environment.getString(ApplicationConfiguration.CFG_AUDIT_LOG_SPILL_DIRECTORY,
+                                           ApplicationConfiguration.DEFAULT_AUDIT_LOG_SPILL_DIRECTORY))
+               .thenReturn(spillDirectory);
+        Assertions.assertEquals(spillDirectory, configuration.getAuditLogSpillDirectory());
+    }
+
     @Test
     void testGetFlowableJobExecutorCoreThreads() {
         Mockito.when(environment.getPositiveInteger(ApplicationConfiguration.CFG_FLOWABLE_JOB_EXECUTOR_CORE_THREADS,
@@ -47,9 +47,14 @@ public final class Messages {
     public static final String BACKUP_DESCRIPTOR_FOR_MTA_ID_0_AND_ID_1_ALREADY_EXIST = "Backup descriptor for mta id \"{0}\" and id \"{1}\" already exist";
     public static final String BACKUP_DESCRIPTOR_WITH_ID_NOT_EXIST = "Backup descriptor with ID \"{0}\" does not exist";
     public static final String DATABASE_HEALTH_CHECK_FAILED = "Database health check failed";
+    public static final String COULD_NOT_DOWNLOAD_BLOB_RANGE = "Could not download bytes {0}-{1} of blob {2} from ObjectStore";
+    public static final String UNEXPECTED_SIZE_OF_BLOB_RANGE = "Expected {0} bytes from blob {1} but got {2}";
+    public static final String MULTIPART_UPLOAD_OF_BLOB_0_FAILED = "Multipart upload of blob {0} to ObjectStore failed";
 
     // ERROR log messages:
     public static final String UPLOAD_STREAM_FAILED_TO_CLOSE = "Cannot close file upload stream";
+    public static final String COULD_NOT_PERSIST_BATCH_OF_0_OPERATION_LOGS = "Could not persist a batch of {0} operation logs, persisting them one by one";
+    public static final String COULD_NOT_PERSIST_LOG_0_OF_OPERATION_1 = "Could not persist log \"{0}\" of operation \"{1}\"";
 
     // WARN log messages:
     public static final String COULD_NOT_CLOSE_RESULT_SET = "Could not close result set.";
@@ -58,8 +63,13 @@ public final class Messages {
     public static final String COULD_NOT_CLOSE_LOGGER_CONTEXT = "Could not close logger context";
     public static final String COULD_NOT_ROLLBACK_TRANSACTION = "Could not rollback transaction!";
     public static final String COULD_NOT_PERSIST_LOGS_FILE = "Could not persist logs file: {0}";
+    public static final String OPERATION_LOGS_QUEUE_IS_FULL_PERSISTING_LOG_0_OF_OPERATION_1 = "Operation logs queue is full, persisting log \"{0}\" of operation \"{1}\" synchronously";
+    public static final String TIMED_OUT_WAITING_FOR_LOGS_OF_OPERATION_0_TO_BE_PERSISTED = "Timed out waiting for the logs of operation \"{0}\" to be persisted";
     public static final String ATTEMPT_TO_UPLOAD_BLOB_FAILED = "Attempt [{0}/{1}] to upload blob to ObjectStore failed with \"{2}\"";
+    public static final String ATTEMPT_TO_UPLOAD_PART_0_OF_BLOB_1_FAILED = "Attempt [{0}/{1}] to upload part {2} of blob {3} to ObjectStore failed with \"{4}\"";
+    public static final String COULD_NOT_ABORT_MULTIPART_UPLOAD_OF_BLOB_0 = "Could not abort multipart upload of blob {0}";
     public static final String ATTEMPT_TO_DOWNLOAD_MISSING_BLOB = "Attempt [{0}/{1}] to download missing blob {2} from ObjectStore";
+    public static final String ATTEMPT_TO_DOWNLOAD_BLOB_RANGE_FAILED = "Attempt [{0}/{1}] to download bytes {2}-{3} of blob {4} from ObjectStore failed with \"{5}\"";
     public static final String USER_METADATA_OF_BLOB_0_EMPTY_AND_WILL_BE_DELETED = "User metadata of blob \"{0}\" is empty and will be deleted";
     public static final String DATE_METADATA_OF_BLOB_0_IS_NOT_IN_PROPER_FORMAT_AND_WILL_BE_DELETED = "Date metadata of blob \"{0}\" is not in a proper format and will be deleted";
 
@@ -70,6 +80,7 @@ public final class Messages {
     // DEBUG log messages:
     public static final String STORED_FILE_0 = "Stored file: \"{0}\"";
     public static final String STORED_FILE_0_WITH_SIZE_1 = "Stored file \"{0}\" with size {1}";
+    public static final String UPLOADING_BLOB_0_IN_PARTS_OF_1_BYTES = "Uploading blob \"{0}\" in parts of {1} bytes";
     public static final String DELETED_0_FILES_WITH_SPACEIDS_1 = "Deleted {0} files with space ids \"{1}\".";
     public static final String DELETED_0_FILES_WITH_SPACE_1_AND_NAMESPACE_2 = "Deleted {0} files with space \"{1}\" and namespace \"{2}\".";
     public static final String DELETED_0_FILES_MODIFIED_BEFORE_1 = "Deleted {0} files modified before \"{1}\".";
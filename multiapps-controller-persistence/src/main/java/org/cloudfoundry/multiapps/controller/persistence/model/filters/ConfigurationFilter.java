@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 
 public class ConfigurationFilter {
 
+    private static final ContentFilter CONTENT_FILTER = new ContentFilter();
+
     private String providerId;
     private Map<String, Object> requiredContent;
     private String providerNid;
@@ -84,7 +86,7 @@ public class ConfigurationFilter {
         if (!namespaceConstraintIsSatisfied(entry.getProviderNamespace())) {
             return false;
         }
-        return new ContentFilter().test(entry.getContent(), requiredContent);
+        return CONTENT_FILTER.test(entry.getContent(), requiredContent);
     }
 
     private boolean namespaceConstraintIsSatisfied(String providerNamespace) {
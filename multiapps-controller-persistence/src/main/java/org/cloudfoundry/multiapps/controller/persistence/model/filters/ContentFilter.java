@@ -1,6 +1,7 @@
 package org.cloudfoundry.multiapps.controller.persistence.model.filters;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiPredicate;
@@ -11,6 +12,19 @@ import org.cloudfoundry.multiapps.common.util.JsonUtil;
 
 public class ContentFilter implements BiPredicate<String, Map<String, Object>> {
 
+    private static final int MAX_CACHED_CONTENTS = 1000;
+
+    // The same content is usually matched by many queries, so the most recently parsed contents are kept:
+    private final Map<String, Map<String, Object>> parsedContents = new LinkedHashMap<>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Map<String, Object>> eldest) {
+            return size() > MAX_CACHED_CONTENTS;
+        }
+    };
+
     @Override
     public boolean test(String content, Map<String, Object> requiredProperties) {
         if (MapUtils.isEmpty(requiredProperties)) {
@@ -34,11 +48,33 @@ public class ContentFilter implements BiPredicate<String, Map<String, Object>> {
         if (content == null) {
             return Collections.emptyMap();
         }
+        synchronized (parsedContents) {
+            Map<String, Object> parsedContent = parsedContents.get(content);
+            if (parsedContent != null) {
+                return parsedContent;
+            }
+        }
+        Map<String, Object> parsedContent = parseContent(content);
+        synchronized (parsedContents) {
+            parsedContents.put(content, parsedContent);
+        }
+        return parsedContent;
+    }
+
+    private Map<String, Object> parseContent(String content) {
         try {
-            return JsonUtil.convertJsonToMap(content);
+            Map<String, Object> parsedContent = JsonUtil.convertJsonToMap(content);
+            return parsedContent == null ? Collections.emptyMap() : Collections.unmodifiableMap(parsedContent);
         } catch (ParsingException e) {
-            return null;
+            // Content which cannot be parsed does not satisfy any required properties, just like empty content:
+            return Collections.emptyMap();
+        }
+    }
+
+    int getCachedContentsCount() {
+        synchronized (parsedContents) {
+            return parsedContents.size();
         }
     }
 
-}
\ No newline at end of file
+}
@@ -22,6 +22,8 @@ public interface ProgressMessageQuery extends Query<ProgressMessage, ProgressMes
 
     ProgressMessageQuery olderThan(LocalDateTime time);
 
+    ProgressMessageQuery idGreaterThan(Long id);
+
     ProgressMessageQuery orderById(OrderDirection orderDirection);
 
 }
\ No newline at end of file
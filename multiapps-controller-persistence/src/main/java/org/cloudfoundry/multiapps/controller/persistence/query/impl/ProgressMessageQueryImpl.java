@@ -96,6 +96,16 @@ public class ProgressMessageQueryImpl extends AbstractQueryImpl<ProgressMessage,
         return this;
     }
 
+    @Override
+    public ProgressMessageQuery idGreaterThan(Long id) {
+        queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.<Long> builder()
+                                                                       .attribute(AttributeNames.ID)
+                                                                       .condition(getCriteriaBuilder()::greaterThan)
+                                                                       .value(id)
+                                                                       .build());
+        return this;
+    }
+
     @Override
     public ProgressMessageQuery orderById(OrderDirection orderDirection) {
         setOrder(AttributeNames.ID, orderDirection);
@@ -1,5 +1,9 @@
 package org.cloudfoundry.multiapps.controller.persistence.query.providers;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -20,7 +24,9 @@ public class SqlOperationLogQueryProvider {
     private static final String ID_COLUMN_LABEL = "id";
     private static final String OPERATION_LOG_COLUMN_LABEL = "operation_log";
     private static final String OPERATION_LOG_NAME_COLUMN_LABEL = "operation_log_name";
-    private static final String SELECT_LOGS_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME = "SELECT ID, OPERATION_LOG, OPERATION_LOG_NAME FROM %s WHERE SPACE=? AND OPERATION_ID=? AND OPERATION_LOG_NAME=? ORDER BY MODIFIED ASC";
+    private static final String SELECT_LOG_CONTENT_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME = "SELECT OPERATION_LOG FROM %s WHERE SPACE=? AND OPERATION_ID=? AND OPERATION_LOG_NAME=? ORDER BY MODIFIED ASC";
+    private static final String COUNT_LOGS_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME = "SELECT COUNT(*) FROM %s WHERE SPACE=? AND OPERATION_ID=? AND OPERATION_LOG_NAME=?";
+    private static final int LOG_CONTENT_FETCH_SIZE = 100;
     private static final String SELECT_LOGS_BY_SPACE_ID_AND_NAME = "SELECT DISTINCT ID, OPERATION_LOG, OPERATION_LOG_NAME, MODIFIED FROM %s WHERE SPACE=? AND OPERATION_ID=? ORDER BY MODIFIED ASC";
     private final String tableName;
 
@@ -34,27 +40,46 @@ public class SqlOperationLogQueryProvider {
             PreparedStatement statement = null;
             try {
                 statement = connection.prepareStatement(getStoreLogQueryString());
-                statement.setString(1, operationLogEntry.getId());
-                statement.setString(2, operationLogEntry.getSpace());
+                setStoreLogParameters(statement, operationLogEntry);
+                return statement.executeUpdate();
+            } finally {
+                JdbcUtil.closeQuietly(statement);
+            }
+        };
+    }
 
-                if (operationLogEntry.getNamespace() == null) {
-                    statement.setNull(3, Types.NULL);
-                } else {
-                    statement.setString(3, operationLogEntry.getNamespace());
+    public SqlQuery<int[]> getStoreLogsQuery(List<OperationLogEntry> operationLogEntries) {
+        return (Connection connection) -> {
+            PreparedStatement statement = null;
+            try {
+                statement = connection.prepareStatement(getStoreLogQueryString());
+                for (OperationLogEntry operationLogEntry : operationLogEntries) {
+                    setStoreLogParameters(statement, operationLogEntry);
+                    statement.addBatch();
                 }
-
-                statement.setTimestamp(4, Timestamp.valueOf(operationLogEntry.getModified()));
-                statement.setString(5, operationLogEntry.getOperationId());
-                statement.setString(6, operationLogEntry.getOperationLog());
-                statement.setString(7, operationLogEntry.getOperationLogName());
-
-                return statement.executeUpdate();
+                return statement.executeBatch();
             } finally {
                 JdbcUtil.closeQuietly(statement);
             }
         };
     }
 
+    private void setStoreLogParameters(PreparedStatement statement, OperationLogEntry operationLogEntry) throws SQLException {
+        statement.setString(1, operationLogEntry.getId());
+        statement.setString(2, operationLogEntry.getSpace());
+
+        if (operationLogEntry.getNamespace() == null) {
+            statement.setNull(3, Types.NULL);
+        } else {
+            statement.setString(3, operationLogEntry.getNamespace());
+        }
+
+        statement.setTimestamp(4, Timestamp.valueOf(operationLogEntry.getModified()));
+        statement.setString(5, operationLogEntry.getOperationId());
+        statement.setString(6, operationLogEntry.getOperationLog());
+        statement.setString(7, operationLogEntry.getOperationLogName());
+    }
+
     public SqlQuery<List<OperationLogEntry>> getListFilesQueryBySpaceAndOperationId(String space, String operationId) {
         return (Connection connection) -> {
             PreparedStatement statement = null;
@@ -76,21 +101,17 @@ public class SqlOperationLogQueryProvider {
         };
     }
 
-    public SqlQuery<List<OperationLogEntry>> getListFilesQueryBySpaceOperationIdAndLogId(String space, String operationId, String logId) {
+    public SqlQuery<Boolean> getLogExistsQuery(String space, String operationId, String logId) {
         return (Connection connection) -> {
             PreparedStatement statement = null;
             ResultSet resultSet = null;
             try {
-                List<OperationLogEntry> logs = new ArrayList<>();
-                statement = connection.prepareStatement(getListFilesBySpaceOperationIdAndLogIdQueryString());
+                statement = connection.prepareStatement(getCountLogsBySpaceOperationIdAndLogIdQueryString());
                 statement.setString(1, space);
                 statement.setString(2, operationId);
                 statement.setString(3, logId);
                 resultSet = statement.executeQuery();
-                while (resultSet.next()) {
-                    logs.add(getOperationLogEntry(resultSet));
-                }
-                return logs;
+                return resultSet.next() && resultSet.getLong(1) > 0;
             } finally {
                 JdbcUtil.closeQuietly(resultSet);
                 JdbcUtil.closeQuietly(statement);
@@ -98,6 +119,55 @@ public class SqlOperationLogQueryProvider {
         };
     }
 
+    /**
+     * Writes the content of the log to the output stream, skipping its first {@code offset} bytes. The rows are read with a forward-only
+     * cursor, so that the content is never loaded into memory as a whole. Failures to write to the stream are thrown as
+     * {@link UncheckedIOException}.
+     *
+     * @return the number of written bytes
+     */
+    public SqlQuery<Long> getWriteLogContentQuery(String space, String operationId, String logId, long offset, OutputStream outputStream) {
+        return (Connection connection) -> {
+            PreparedStatement statement = null;
+            ResultSet resultSet = null;
+            try {
+                statement = connection.prepareStatement(getLogContentBySpaceOperationIdAndLogIdQueryString(), ResultSet.TYPE_FORWARD_ONLY,
+                                                        ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(LOG_CONTENT_FETCH_SIZE);
+                statement.setString(1, space);
+                statement.setString(2, operationId);
+                statement.setString(3, logId);
+                resultSet = statement.executeQuery();
+                return writeLogContent(resultSet, offset, outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                JdbcUtil.closeQuietly(resultSet);
+                JdbcUtil.closeQuietly(statement);
+            }
+        };
+    }
+
+    private long writeLogContent(ResultSet resultSet, long offset, OutputStream outputStream) throws SQLException, IOException {
+        long bytesToSkip = offset;
+        long writtenBytes = 0;
+        while (resultSet.next()) {
+            String log = resultSet.getString(OPERATION_LOG_COLUMN_LABEL);
+            if (log == null) {
+                continue;
+            }
+            byte[] content = log.getBytes(StandardCharsets.UTF_8);
+            if (bytesToSkip >= content.length) {
+                bytesToSkip -= content.length;
+                continue;
+            }
+            outputStream.write(content, (int) bytesToSkip, content.length - (int) bytesToSkip);
+            writtenBytes += content.length - bytesToSkip;
+            bytesToSkip = 0;
+        }
+        return writtenBytes;
+    }
+
     private String getStoreLogQueryString() {
         return String.format(INSERT_FILE_ATTRIBUTES_AND_CONTENT, tableName);
     }
@@ -106,8 +176,12 @@ public class SqlOperationLogQueryProvider {
         return String.format(SELECT_LOGS_BY_SPACE_ID_AND_NAME, tableName);
     }
 
-    private String getListFilesBySpaceOperationIdAndLogIdQueryString() {
-        return String.format(SELECT_LOGS_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME, tableName);
+    private String getCountLogsBySpaceOperationIdAndLogIdQueryString() {
+        return String.format(COUNT_LOGS_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME, tableName);
+    }
+
+    private String getLogContentBySpaceOperationIdAndLogIdQueryString() {
+        return String.format(SELECT_LOG_CONTENT_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME, tableName);
     }
 
     private OperationLogEntry getOperationLogEntry(ResultSet resultSet) throws SQLException {
@@ -59,6 +59,11 @@ public class DatabaseFileService extends FileService {
         }
     }
 
+    @Override
+    public InputStream openInputStream(FileEntry fileEntry) throws FileStorageException {
+        return openInputStream(fileEntry.getSpace(), fileEntry.getId());
+    }
+
     @Override
     public int deleteBySpaceAndNamespace(String space, String namespace) throws FileStorageException {
         return deleteFileAttributesBySpaceAndNamespace(space, namespace);
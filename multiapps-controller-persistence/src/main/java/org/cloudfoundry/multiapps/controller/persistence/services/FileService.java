@@ -149,6 +149,10 @@ public class FileService {
         return fileStorage.openInputStream(space, id);
     }
 
+    public InputStream openInputStream(FileEntry fileEntry) throws FileStorageException {
+        return fileStorage.openInputStream(fileEntry);
+    }
+
     public int deleteBySpaceAndNamespace(String space, String namespace) throws FileStorageException {
         fileStorage.deleteFilesBySpaceAndNamespace(space, namespace);
         return deleteFileAttributesBySpaceAndNamespace(space, namespace);
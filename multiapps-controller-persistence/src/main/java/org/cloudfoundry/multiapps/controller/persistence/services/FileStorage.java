@@ -25,6 +25,13 @@ public interface FileStorage {
 
     InputStream openInputStream(String space, String id) throws FileStorageException;
 
+    /**
+     * Same as {@link #openInputStream(String, String)}, but lets the storage use the known size of the file
+     */
+    default InputStream openInputStream(FileEntry fileEntry) throws FileStorageException {
+        return openInputStream(fileEntry.getSpace(), fileEntry.getId());
+    }
+
     /**
      * Executes a simple call to Object Store to validate it operates properly, otherwise throws runtime exception
      */
@@ -0,0 +1,210 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.cloudfoundry.multiapps.common.util.MiscUtil;
+import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.jclouds.blobstore.BlobStore;
+import org.jclouds.blobstore.domain.MultipartPart;
+import org.jclouds.blobstore.domain.MultipartUpload;
+import org.jclouds.http.HttpResponseException;
+import org.jclouds.io.Payloads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Uploads the content of a single blob as a multipart upload. Parts are read sequentially from the content stream and uploaded
+ * concurrently, with at most {@code maxPartsInFlight} of them buffered in memory at a time. The buffers are also taken from
+ * {@code bufferPermits}, which is shared by all uploads and bounds their total memory. A failed part is retried on its own, without
+ * uploading the rest of the blob again.
+ */
+class MultipartBlobUpload {
+
+    static final String PART_UPLOAD_METRIC = "multiapps.controller.object.store.upload.part";
+    static final String OUTCOME_TAG = "outcome";
+    static final String SUCCESS_OUTCOME = "success";
+    static final String FAILURE_OUTCOME = "failure";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MultipartBlobUpload.class);
+
+    private final BlobStore blobStore;
+    private final MultipartUpload multipartUpload;
+    private final ExecutorService executor;
+    private final int partSize;
+    private final Semaphore partsInFlight;
+    private final Semaphore bufferPermits;
+    private final int bufferPermitsPerPart;
+    private final int maxRetries;
+    private final long retryWaitTimeInMillis;
+    private final Timer successfulPartUploads;
+    private final Timer failedPartUploads;
+    private volatile boolean failed;
+
+    MultipartBlobUpload(BlobStore blobStore, MultipartUpload multipartUpload, ExecutorService executor, int partSize, int maxPartsInFlight,
+                        Semaphore bufferPermits, int bufferPermitsPerPart, int maxRetries, long retryWaitTimeInMillis,
+                        MeterRegistry meterRegistry) {
+        this.blobStore = blobStore;
+        this.multipartUpload = multipartUpload;
+        this.executor = executor;
+        this.partSize = partSize;
+        this.partsInFlight = new Semaphore(maxPartsInFlight);
+        this.bufferPermits = bufferPermits;
+        this.bufferPermitsPerPart = bufferPermitsPerPart;
+        this.maxRetries = maxRetries;
+        this.retryWaitTimeInMillis = retryWaitTimeInMillis;
+        this.successfulPartUploads = createTimer(meterRegistry, SUCCESS_OUTCOME);
+        this.failedPartUploads = createTimer(meterRegistry, FAILURE_OUTCOME);
+    }
+
+    private static Timer createTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder(PART_UPLOAD_METRIC)
+                    .tag(OUTCOME_TAG, outcome)
+                    .register(meterRegistry);
+    }
+
+    /**
+     * Uploads the whole content and completes the multipart upload. The upload is aborted if any of its parts cannot be uploaded.
+     */
+    void upload(InputStream content) throws FileStorageException {
+        List<Future<MultipartPart>> parts = new ArrayList<>();
+        try {
+            submitParts(content, parts);
+            blobStore.completeMultipartUpload(multipartUpload, awaitParts(parts));
+        } catch (IOException | ExecutionException | RuntimeException e) {
+            abort(parts);
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            throw new FileStorageException(MessageFormat.format(Messages.MULTIPART_UPLOAD_OF_BLOB_0_FAILED, multipartUpload.blobName()),
+                                           cause);
+        }
+    }
+
+    private void submitParts(InputStream content, List<Future<MultipartPart>> parts) throws IOException {
+        int partNumber = 1;
+        while (!failed) {
+            acquirePartBuffer();
+            byte[] part = readPart(content);
+            if (part.length == 0) {
+                releasePartBuffer();
+                return;
+            }
+            int currentPartNumber = partNumber++;
+            parts.add(submitPart(currentPartNumber, part));
+            if (part.length < partSize) {
+                return;
+            }
+        }
+    }
+
+    private void acquirePartBuffer() throws InterruptedIOException {
+        try {
+            partsInFlight.acquire();
+            try {
+                bufferPermits.acquire(bufferPermitsPerPart);
+            } catch (InterruptedException e) {
+                partsInFlight.release();
+                throw e;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        }
+    }
+
+    private void releasePartBuffer() {
+        bufferPermits.release(bufferPermitsPerPart);
+        partsInFlight.release();
+    }
+
+    private byte[] readPart(InputStream content) throws IOException {
+        try {
+            return content.readNBytes(partSize);
+        } catch (IOException e) {
+            releasePartBuffer();
+            throw e;
+        }
+    }
+
+    private Future<MultipartPart> submitPart(int partNumber, byte[] part) {
+        // The buffer is released once the part is done, including when it is cancelled before it has started:
+        FutureTask<MultipartPart> partUpload = new FutureTask<>(() -> uploadPartWithRetries(partNumber, part)) {
+            @Override
+            protected void done() {
+                releasePartBuffer();
+            }
+        };
+        try {
+            executor.execute(partUpload);
+        } catch (RejectedExecutionException e) {
+            releasePartBuffer();
+            throw e;
+        }
+        return partUpload;
+    }
+
+    private MultipartPart uploadPartWithRetries(int partNumber, byte[] part) {
+        try {
+            for (int i = 1;; i++) {
+                Timer.Sample sample = Timer.start();
+                try {
+                    MultipartPart uploadedPart = blobStore.uploadMultipartPart(multipartUpload, partNumber,
+                                                                               Payloads.newByteArrayPayload(part));
+                    sample.stop(successfulPartUploads);
+                    return uploadedPart;
+                } catch (HttpResponseException e) {
+                    sample.stop(failedPartUploads);
+                    LOGGER.warn(MessageFormat.format(Messages.ATTEMPT_TO_UPLOAD_PART_0_OF_BLOB_1_FAILED, i, maxRetries, partNumber,
+                                                     multipartUpload.blobName(), e.getMessage()),
+                                e);
+                    if (i >= maxRetries) {
+                        throw e;
+                    }
+                }
+                MiscUtil.sleep(i * retryWaitTimeInMillis);
+            }
+        } catch (RuntimeException e) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    private List<MultipartPart> awaitParts(List<Future<MultipartPart>> parts) throws ExecutionException, InterruptedIOException {
+        List<MultipartPart> uploadedParts = new ArrayList<>(parts.size());
+        for (Future<MultipartPart> part : parts) {
+            try {
+                uploadedParts.add(part.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                throw new InterruptedIOException(e.getMessage());
+            }
+        }
+        uploadedParts.sort(Comparator.comparingInt(MultipartPart::partNumber));
+        return uploadedParts;
+    }
+
+    private void abort(List<Future<MultipartPart>> parts) {
+        parts.forEach(part -> part.cancel(true));
+        try {
+            blobStore.abortMultipartUpload(multipartUpload);
+        } catch (RuntimeException e) {
+            LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_ABORT_MULTIPART_UPLOAD_OF_BLOB_0, multipartUpload.blobName()), e);
+        }
+    }
+
+}
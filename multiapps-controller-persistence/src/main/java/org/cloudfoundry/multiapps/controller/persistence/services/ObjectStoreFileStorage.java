@@ -2,6 +2,8 @@ package org.cloudfoundry.multiapps.controller.persistence.services;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.math.BigInteger;
 import java.text.MessageFormat;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -12,7 +14,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.cloudfoundry.multiapps.common.util.MiscUtil;
@@ -20,9 +26,11 @@ import org.cloudfoundry.multiapps.controller.persistence.Constants;
 import org.cloudfoundry.multiapps.controller.persistence.Messages;
 import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
 import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.stream.ParallelRangeInputStream;
 import org.jclouds.blobstore.BlobStore;
 import org.jclouds.blobstore.ContainerNotFoundException;
 import org.jclouds.blobstore.domain.Blob;
+import org.jclouds.blobstore.domain.MultipartUpload;
 import org.jclouds.blobstore.domain.PageSet;
 import org.jclouds.blobstore.domain.StorageMetadata;
 import org.jclouds.blobstore.options.GetOptions;
@@ -32,21 +40,50 @@ import org.jclouds.http.HttpResponseException;
 import org.jclouds.io.Payload;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.util.CollectionUtils;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 public class ObjectStoreFileStorage implements FileStorage {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ObjectStoreFileStorage.class);
     private static final int MAX_RETRIES_COUNT = 3;
     private static final long RETRY_BASE_WAIT_TIME_IN_MILLIS = 5000L;
+    private static final int MAX_DOWNLOAD_CHUNKS_AHEAD = 4;
+    private static final int MIN_CHUNKS_FOR_PARALLEL_DOWNLOAD = 4;
+    private static final Pattern CONTENT_RANGE_PATTERN = Pattern.compile("bytes \\d+-\\d+/(\\d+)");
+    private static final int MAX_UPLOAD_PARTS_IN_FLIGHT = 4;
 
     private final BlobStore blobStore;
     private final String container;
+    private final ExecutorService downloadExecutor;
+    private final long downloadChunkSizeInBytes;
+    private final Semaphore downloadChunkPermits;
+    private final ExecutorService uploadExecutor;
+    private final long uploadPartSizeInBytes;
+    private final int maxUploadBufferPermits;
+    private final Semaphore uploadBufferPermits;
+    private final MeterRegistry meterRegistry;
 
     public ObjectStoreFileStorage(BlobStore blobStore, String container) {
+        this(blobStore, container, ImmutableObjectStoreTransferOptions.builder()
+                                                                      .build());
+    }
+
+    public ObjectStoreFileStorage(BlobStore blobStore, String container, ObjectStoreTransferOptions transferOptions) {
         this.blobStore = blobStore;
         this.container = container;
+        this.downloadExecutor = transferOptions.getDownloadExecutor();
+        this.downloadChunkSizeInBytes = transferOptions.getDownloadChunkSizeInBytes();
+        this.downloadChunkPermits = new Semaphore(getDownloadChunkPermitsCount(transferOptions));
+        this.uploadExecutor = transferOptions.getUploadExecutor();
+        this.uploadPartSizeInBytes = transferOptions.getUploadPartSizeInBytes();
+        // The permits are bytes, so that parts which are larger than the configured size are accounted for correctly:
+        this.maxUploadBufferPermits = (int) Math.min(Math.max(transferOptions.getMaxUploadBufferSizeInBytes(), 0), Integer.MAX_VALUE);
+        this.uploadBufferPermits = new Semaphore(maxUploadBufferPermits);
+        this.meterRegistry = transferOptions.getMeterRegistry();
     }
 
     @Override
@@ -62,7 +99,12 @@ public class ObjectStoreFileStorage implements FileStorage {
                              .userMetadata(createFileEntryMetadata(fileEntry))
                              .build();
         try {
-            putBlobWithRetries(blob, 3);
+            long partSize = getUploadPartSize(fileSize);
+            if (partSize > 0) {
+                uploadBlobInParts(blob, content, partSize);
+            } else {
+                putBlobWithRetries(blob, 3);
+            }
             LOGGER.debug(MessageFormat.format(Messages.STORED_FILE_0_WITH_SIZE_1, fileEntry.getId(), fileSize));
         } catch (ContainerNotFoundException e) {
             throw new FileStorageException(MessageFormat.format(Messages.FILE_UPLOAD_FAILED, fileEntry.getName(),
@@ -102,10 +144,8 @@ public class ObjectStoreFileStorage implements FileStorage {
 
     @Override
     public <T> T processFileContent(String space, String id, FileContentProcessor<T> fileContentProcessor) throws FileStorageException {
-        FileEntry fileEntry = createFileEntry(space, id);
-        try {
-            Payload payload = getBlobPayload(fileEntry);
-            return processContent(fileContentProcessor, payload);
+        try (InputStream fileContentStream = openInputStream(space, id)) {
+            return fileContentProcessor.process(fileContentStream);
         } catch (Exception e) {
             throw new FileStorageException(e);
         }
@@ -160,9 +200,151 @@ public class ObjectStoreFileStorage implements FileStorage {
 
     @Override
     public InputStream openInputStream(String space, String id) throws FileStorageException {
-        FileEntry fileEntry = createFileEntry(space, id);
-        Payload payload = getBlobPayload(fileEntry);
-        return openPayloadInputStream(payload);
+        return openInputStream(createFileEntry(space, id));
+    }
+
+    @Override
+    public InputStream openInputStream(FileEntry fileEntry) throws FileStorageException {
+        if (downloadExecutor == null || downloadChunkSizeInBytes <= 0 || fitsInSingleChunk(fileEntry)) {
+            return openPayloadInputStream(getBlobPayload(fileEntry));
+        }
+        // The first chunk is requested as a range, so its response tells the size of the blob without a separate metadata request:
+        Blob firstChunk = getBlobRangeWithRetries(fileEntry, 0, downloadChunkSizeInBytes - 1);
+        String contentRange = getHeader(firstChunk, HttpHeaders.CONTENT_RANGE);
+        if (contentRange == null) {
+            // Responses to range requests always contain this header, so without it the whole blob has been returned:
+            return openPayloadInputStream(firstChunk.getPayload());
+        }
+        Long blobSize = getBlobSize(contentRange);
+        if (blobSize == null) {
+            firstChunk.getPayload()
+                      .release();
+            return openPayloadInputStream(getBlobPayload(fileEntry));
+        }
+        InputStream firstChunkStream = openPayloadInputStream(firstChunk.getPayload());
+        if (blobSize <= downloadChunkSizeInBytes) {
+            return firstChunkStream;
+        }
+        try {
+            return new SequenceInputStream(firstChunkStream, openRemainingContent(fileEntry, blobSize));
+        } catch (FileStorageException | RuntimeException e) {
+            closeQuietly(firstChunkStream);
+            throw e;
+        }
+    }
+
+    private boolean fitsInSingleChunk(FileEntry fileEntry) {
+        // Such blobs gain nothing from ranges, and a range request for an empty blob is not satisfiable:
+        BigInteger size = fileEntry.getSize();
+        return size != null && size.compareTo(BigInteger.valueOf(downloadChunkSizeInBytes)) <= 0;
+    }
+
+    private int getDownloadChunkPermitsCount(ObjectStoreTransferOptions transferOptions) {
+        if (transferOptions.getDownloadChunkSizeInBytes() <= 0) {
+            return 0;
+        }
+        long chunksCount = transferOptions.getMaxDownloadBufferSizeInBytes() / transferOptions.getDownloadChunkSizeInBytes();
+        return (int) Math.min(chunksCount, Integer.MAX_VALUE);
+    }
+
+    private Blob getBlobRangeWithRetries(FileEntry fileEntry, long startOffset, long endOffset) throws FileStorageException {
+        for (int i = 1; i <= MAX_RETRIES_COUNT; i++) {
+            try {
+                Blob blob = blobStore.getBlob(container, fileEntry.getId(), new GetOptions().range(startOffset, endOffset));
+                if (blob != null) {
+                    return blob;
+                }
+                LOGGER.warn(MessageFormat.format(Messages.ATTEMPT_TO_DOWNLOAD_MISSING_BLOB, i, MAX_RETRIES_COUNT, fileEntry.getId()));
+            } catch (RuntimeException e) {
+                LOGGER.warn(MessageFormat.format(Messages.ATTEMPT_TO_DOWNLOAD_BLOB_RANGE_FAILED, i, MAX_RETRIES_COUNT, startOffset,
+                                                 endOffset, fileEntry.getId(), e.getMessage()),
+                            e);
+                if (i == MAX_RETRIES_COUNT) {
+                    throw new FileStorageException(e);
+                }
+            }
+            if (i < MAX_RETRIES_COUNT) {
+                MiscUtil.sleep(i * getRetryWaitTime());
+            }
+        }
+        throw new FileStorageException(MessageFormat.format(Messages.FILE_WITH_ID_AND_SPACE_DOES_NOT_EXIST, fileEntry.getId(),
+                                                            fileEntry.getSpace()));
+    }
+
+    private String getHeader(Blob blob, String name) {
+        return blob.getAllHeaders()
+                   .entries()
+                   .stream()
+                   .filter(header -> name.equalsIgnoreCase(header.getKey()))
+                   .map(Map.Entry::getValue)
+                   .findFirst()
+                   .orElse(null);
+    }
+
+    private Long getBlobSize(String contentRange) {
+        Matcher matcher = CONTENT_RANGE_PATTERN.matcher(contentRange.trim());
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    private InputStream openRemainingContent(FileEntry fileEntry, long blobSize) throws FileStorageException {
+        long firstChunkSize = downloadChunkSizeInBytes;
+        if (blobSize <= MIN_CHUNKS_FOR_PARALLEL_DOWNLOAD * downloadChunkSizeInBytes) {
+            // Concurrent requests do not pay off for a few chunks, so the rest of such blobs is read with a single request:
+            return openPayloadInputStream(getBlobPayloadWithOffset(fileEntry, firstChunkSize, blobSize - 1));
+        }
+        return new ParallelRangeInputStream(blobSize - firstChunkSize,
+                                            downloadChunkSizeInBytes,
+                                            MAX_DOWNLOAD_CHUNKS_AHEAD,
+                                            downloadExecutor,
+                                            downloadChunkPermits,
+                                            (startOffset, endOffset) -> downloadChunkWithRetries(fileEntry, firstChunkSize + startOffset,
+                                                                                                 firstChunkSize + endOffset));
+    }
+
+    private void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            LOGGER.warn(e.getMessage(), e);
+        }
+    }
+
+    private byte[] downloadChunkWithRetries(FileEntry fileEntry, long startOffset, long endOffset) throws IOException {
+        int expectedSize = (int) (endOffset - startOffset + 1);
+        for (int i = 1; i <= MAX_RETRIES_COUNT; i++) {
+            try {
+                byte[] chunk = downloadChunk(fileEntry, startOffset, endOffset, expectedSize);
+                if (chunk != null) {
+                    return chunk;
+                }
+                LOGGER.warn(MessageFormat.format(Messages.ATTEMPT_TO_DOWNLOAD_MISSING_BLOB, i, MAX_RETRIES_COUNT, fileEntry.getId()));
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn(MessageFormat.format(Messages.ATTEMPT_TO_DOWNLOAD_BLOB_RANGE_FAILED, i, MAX_RETRIES_COUNT, startOffset,
+                                                 endOffset, fileEntry.getId(), e.getMessage()),
+                            e);
+            }
+            if (i < MAX_RETRIES_COUNT) {
+                MiscUtil.sleep(i * getRetryWaitTime());
+            }
+        }
+        throw new IOException(MessageFormat.format(Messages.COULD_NOT_DOWNLOAD_BLOB_RANGE, startOffset, endOffset,
+                                                   fileEntry.getId()));
+    }
+
+    private byte[] downloadChunk(FileEntry fileEntry, long startOffset, long endOffset, int expectedSize) throws IOException {
+        Blob blob = blobStore.getBlob(container, fileEntry.getId(), new GetOptions().range(startOffset, endOffset));
+        if (blob == null) {
+            return null;
+        }
+        try (InputStream chunkStream = blob.getPayload()
+                                           .openStream()) {
+            byte[] chunk = chunkStream.readNBytes(expectedSize);
+            if (chunk.length != expectedSize) {
+                throw new IOException(MessageFormat.format(Messages.UNEXPECTED_SIZE_OF_BLOB_RANGE, expectedSize, fileEntry.getId(),
+                                                           chunk.length));
+            }
+            return chunk;
+        }
     }
 
     private InputStream openPayloadInputStream(Payload payload) throws FileStorageException {
@@ -198,6 +380,41 @@ public class ObjectStoreFileStorage implements FileStorage {
         }
     }
 
+    private long getUploadPartSize(long fileSize) {
+        if (uploadExecutor == null || uploadPartSizeInBytes <= 0 || maxUploadBufferPermits <= 0 || fileSize <= uploadPartSizeInBytes) {
+            return 0;
+        }
+        try {
+            long partSize = Math.max(uploadPartSizeInBytes, blobStore.getMinimumMultipartPartSize());
+            long maxNumberOfParts = blobStore.getMaximumNumberOfParts();
+            if (fileSize > partSize * maxNumberOfParts) {
+                partSize = (fileSize + maxNumberOfParts - 1) / maxNumberOfParts;
+            }
+            return Math.min(partSize, blobStore.getMaximumMultipartPartSize());
+        } catch (UnsupportedOperationException e) {
+            // Not all providers support multipart uploads, so upload such blobs in one request:
+            return 0;
+        }
+    }
+
+    private void uploadBlobInParts(Blob blob, InputStream content, long partSize) throws FileStorageException {
+        LOGGER.debug(MessageFormat.format(Messages.UPLOADING_BLOB_0_IN_PARTS_OF_1_BYTES, blob.getMetadata()
+                                                                                          .getName(),
+                                          partSize));
+        MultipartUpload multipartUpload = blobStore.initiateMultipartUpload(container, blob.getMetadata(), new PutOptions());
+        new MultipartBlobUpload(blobStore,
+                                multipartUpload,
+                                uploadExecutor,
+                                Math.toIntExact(partSize),
+                                MAX_UPLOAD_PARTS_IN_FLIGHT,
+                                uploadBufferPermits,
+                                // A part larger than the whole buffer still gets uploaded, but only while no other part is buffered:
+                                (int) Math.min(partSize, maxUploadBufferPermits),
+                                MAX_RETRIES_COUNT,
+                                getRetryWaitTime(),
+                                meterRegistry).upload(content);
+    }
+
     private void putBlobWithRetries(Blob blob, int retries) {
         for (int i = 1; i <= retries; i++) {
             try {
@@ -0,0 +1,55 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.util.concurrent.ExecutorService;
+
+import org.cloudfoundry.multiapps.common.Nullable;
+import org.immutables.value.Value;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Controls how {@link ObjectStoreFileStorage} transfers large blobs. Blobs larger than the chunk (or part) size are transferred in
+ * chunks (or parts) by the respective executor. Transfers are done in a single request when no executor is set.
+ */
+@Value.Immutable
+public interface ObjectStoreTransferOptions {
+
+    @Nullable
+    ExecutorService getDownloadExecutor();
+
+    @Value.Default
+    default long getDownloadChunkSizeInBytes() {
+        return 0;
+    }
+
+    /**
+     * Bounds the memory used by the chunks which are fetched ahead of the ones being read, across all downloads.
+     */
+    @Value.Default
+    default long getMaxDownloadBufferSizeInBytes() {
+        return 128 * 1024 * 1024L;
+    }
+
+    @Nullable
+    ExecutorService getUploadExecutor();
+
+    @Value.Default
+    default long getUploadPartSizeInBytes() {
+        return 0;
+    }
+
+    /**
+     * Bounds the memory used by the parts which are read ahead of the ones being uploaded, across all uploads.
+     */
+    @Value.Default
+    default long getMaxUploadBufferSizeInBytes() {
+        return 128 * 1024 * 1024L;
+    }
+
+    @Value.Default
+    default MeterRegistry getMeterRegistry() {
+        return Metrics.globalRegistry;
+    }
+
+}
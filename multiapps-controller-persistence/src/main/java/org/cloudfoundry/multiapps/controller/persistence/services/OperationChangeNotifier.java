@@ -0,0 +1,90 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Named;
+
+/**
+ * Wakes up the requests which wait for an operation to change, i.e. for new progress messages or for a new state. Only the changes made by
+ * this instance are signalled, so the waiting requests should still check the database periodically.
+ */
+@Named
+public class OperationChangeNotifier {
+
+    private final Map<String, Set<Subscription>> subscriptionsByProcessId = new ConcurrentHashMap<>();
+
+    /**
+     * Subscribes for the changes of an operation. The subscription must be closed once it is no longer needed.
+     */
+    public Subscription subscribe(String processId) {
+        Subscription subscription = new Subscription(processId);
+        subscriptionsByProcessId.compute(processId, (key, subscriptions) -> {
+            Set<Subscription> result = subscriptions == null ? ConcurrentHashMap.newKeySet() : subscriptions;
+            result.add(subscription);
+            return result;
+        });
+        return subscription;
+    }
+
+    public void notifyChange(String processId) {
+        Set<Subscription> subscriptions = subscriptionsByProcessId.get(processId);
+        if (subscriptions != null) {
+            subscriptions.forEach(Subscription::signal);
+        }
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        subscriptionsByProcessId.computeIfPresent(subscription.processId, (key, subscriptions) -> {
+            subscriptions.remove(subscription);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+
+    int getSubscribedOperationsCount() {
+        return subscriptionsByProcessId.size();
+    }
+
+    public class Subscription implements AutoCloseable {
+
+        private final String processId;
+        private boolean changed;
+
+        private Subscription(String processId) {
+            this.processId = processId;
+        }
+
+        /**
+         * Blocks until the operation changes or the timeout elapses. A change which happened after the subscription, but before this
+         * call, is returned immediately.
+         *
+         * @return whether the operation has changed
+         */
+        public synchronized boolean awaitChange(Duration timeout) throws InterruptedException {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            while (!changed) {
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            }
+            changed = false;
+            return true;
+        }
+
+        private synchronized void signal() {
+            changed = true;
+            notifyAll();
+        }
+
+        @Override
+        public void close() {
+            unsubscribe(this);
+        }
+    }
+
+}
@@ -0,0 +1,228 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Persists operation logs asynchronously. The logs of all operations are collected in a bounded queue and stored with batch inserts,
+ * either when a batch is full or when its oldest entry has waited for {@link #MAX_FLUSH_DELAY}. When the queue is full, the callers wait
+ * for free space for up to {@link #MAX_WAIT_FOR_FREE_SPACE} and finally persist their logs themselves. The logs of an operation which has
+ * ended can be persisted right away with {@link #flush(String)}.
+ */
+@Named
+public class OperationLogBatchWriter implements DisposableBean {
+
+    static final String QUEUE_SIZE_METRIC = "multiapps.controller.operation.logs.queue.size";
+    static final String FLUSH_METRIC = "multiapps.controller.operation.logs.flush";
+
+    private static final int QUEUE_CAPACITY = 10000;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final long MAX_BATCH_LENGTH = 4 * 1024 * 1024L;
+    private static final Duration MAX_FLUSH_DELAY = Duration.ofSeconds(1);
+    private static final Duration MAX_WAIT_FOR_FREE_SPACE = Duration.ofSeconds(5);
+    private static final Duration MAX_WAIT_FOR_SHUTDOWN = Duration.ofSeconds(30);
+    private static final Duration MAX_WAIT_FOR_PENDING_LOGS = Duration.ofSeconds(30);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OperationLogBatchWriter.class);
+
+    private final ProcessLogsPersistenceService processLogsPersistenceService;
+    private final BlockingQueue<OperationLogEntry> queue;
+    private final int maxBatchSize;
+    private final Duration maxFlushDelay;
+    private final Timer flushTimer;
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor();
+    // The number of entries of each operation which are queued or being persisted, guarded by itself:
+    private final Map<String, Integer> pendingEntriesByOperation = new HashMap<>();
+    private volatile boolean running = true;
+
+    @Inject
+    public OperationLogBatchWriter(ProcessLogsPersistenceService processLogsPersistenceService) {
+        this(processLogsPersistenceService, QUEUE_CAPACITY, MAX_BATCH_SIZE, MAX_FLUSH_DELAY, Metrics.globalRegistry);
+    }
+
+    OperationLogBatchWriter(ProcessLogsPersistenceService processLogsPersistenceService, int queueCapacity, int maxBatchSize,
+                            Duration maxFlushDelay, MeterRegistry meterRegistry) {
+        this.processLogsPersistenceService = processLogsPersistenceService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxFlushDelay = maxFlushDelay;
+        this.flushTimer = meterRegistry.timer(FLUSH_METRIC);
+        Gauge.builder(QUEUE_SIZE_METRIC, queue, BlockingQueue::size)
+             .register(meterRegistry);
+        flushExecutor.submit(this::flushContinuously);
+    }
+
+    /**
+     * Queues the entry to be persisted. When the queue is full, the calling thread, e.g. a Flowable job thread, is blocked for up to
+     * {@link #MAX_WAIT_FOR_FREE_SPACE} and then persists the entry itself.
+     */
+    public void write(OperationLogEntry operationLogEntry) {
+        if (running) {
+            // Counted before it is queued, so that the flush thread cannot persist it before it is counted:
+            addPendingEntry(operationLogEntry);
+            if (offer(operationLogEntry)) {
+                return;
+            }
+            removePendingEntries(List.of(operationLogEntry));
+        }
+        LOGGER.warn(MessageFormat.format(Messages.OPERATION_LOGS_QUEUE_IS_FULL_PERSISTING_LOG_0_OF_OPERATION_1,
+                                         operationLogEntry.getOperationLogName(), operationLogEntry.getOperationId()));
+        processLogsPersistenceService.persistLog(operationLogEntry);
+    }
+
+    private boolean offer(OperationLogEntry operationLogEntry) {
+        try {
+            return queue.offer(operationLogEntry, MAX_WAIT_FOR_FREE_SPACE.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Persists the queued entries of the operation on the calling thread and waits for those which are being persisted by the flush thread,
+     * so that the logs of an operation are complete once it is in a final state.
+     */
+    public void flush(String operationId) {
+        List<OperationLogEntry> operationLogEntries = new ArrayList<>();
+        queue.removeIf(operationLogEntry -> operationId.equals(operationLogEntry.getOperationId())
+            && operationLogEntries.add(operationLogEntry));
+        flushInBatches(operationLogEntries);
+        try {
+            awaitPendingEntries(operationId);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    private void addPendingEntry(OperationLogEntry operationLogEntry) {
+        synchronized (pendingEntriesByOperation) {
+            pendingEntriesByOperation.merge(operationLogEntry.getOperationId(), 1, Integer::sum);
+        }
+    }
+
+    private void removePendingEntries(List<OperationLogEntry> operationLogEntries) {
+        synchronized (pendingEntriesByOperation) {
+            for (OperationLogEntry operationLogEntry : operationLogEntries) {
+                pendingEntriesByOperation.computeIfPresent(operationLogEntry.getOperationId(),
+                                                           (operationId, count) -> count == 1 ? null : count - 1);
+            }
+            pendingEntriesByOperation.notifyAll();
+        }
+    }
+
+    private void awaitPendingEntries(String operationId) throws InterruptedException {
+        long deadline = System.nanoTime() + MAX_WAIT_FOR_PENDING_LOGS.toNanos();
+        synchronized (pendingEntriesByOperation) {
+            while (pendingEntriesByOperation.containsKey(operationId)) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    LOGGER.warn(MessageFormat.format(Messages.TIMED_OUT_WAITING_FOR_LOGS_OF_OPERATION_0_TO_BE_PERSISTED, operationId));
+                    return;
+                }
+                pendingEntriesByOperation.wait(remainingMillis);
+            }
+        }
+    }
+
+    private void flushContinuously() {
+        boolean interrupted = false;
+        while (running && !interrupted) {
+            List<OperationLogEntry> batch = new ArrayList<>();
+            try {
+                fillBatch(batch);
+            } catch (InterruptedException e) {
+                // The writer is being destroyed, so store what has been taken from the queue and stop:
+                interrupted = true;
+            }
+            flush(batch);
+        }
+    }
+
+    private void fillBatch(List<OperationLogEntry> batch) throws InterruptedException {
+        OperationLogEntry operationLogEntry = queue.poll(maxFlushDelay.toMillis(), TimeUnit.MILLISECONDS);
+        long deadline = System.nanoTime() + maxFlushDelay.toNanos();
+        long batchLength = 0;
+        while (operationLogEntry != null) {
+            batch.add(operationLogEntry);
+            batchLength += getLength(operationLogEntry);
+            if (batch.size() >= maxBatchSize || batchLength >= MAX_BATCH_LENGTH) {
+                break;
+            }
+            operationLogEntry = queue.poll(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static long getLength(OperationLogEntry operationLogEntry) {
+        return operationLogEntry.getOperationLog() == null ? 0 : operationLogEntry.getOperationLog()
+                                                                                  .length();
+    }
+
+    private void flush(List<OperationLogEntry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            processLogsPersistenceService.persistLogs(batch);
+        } catch (RuntimeException e) {
+            // Do not lose the whole batch because of a single entry which cannot be stored:
+            LOGGER.error(MessageFormat.format(Messages.COULD_NOT_PERSIST_BATCH_OF_0_OPERATION_LOGS, batch.size()), e);
+            batch.forEach(this::persistLogSafely);
+        } finally {
+            sample.stop(flushTimer);
+            removePendingEntries(batch);
+        }
+    }
+
+    private void persistLogSafely(OperationLogEntry operationLogEntry) {
+        try {
+            processLogsPersistenceService.persistLog(operationLogEntry);
+        } catch (RuntimeException e) {
+            LOGGER.error(MessageFormat.format(Messages.COULD_NOT_PERSIST_LOG_0_OF_OPERATION_1, operationLogEntry.getOperationLogName(),
+                                              operationLogEntry.getOperationId()),
+                         e);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        flushExecutor.shutdownNow();
+        flushExecutor.awaitTermination(MAX_WAIT_FOR_SHUTDOWN.toMillis(), TimeUnit.MILLISECONDS);
+        List<OperationLogEntry> remainingEntries = new ArrayList<>();
+        queue.drainTo(remainingEntries);
+        flushInBatches(remainingEntries);
+    }
+
+    private void flushInBatches(List<OperationLogEntry> operationLogEntries) {
+        for (int i = 0; i < operationLogEntries.size(); i += maxBatchSize) {
+            flush(operationLogEntries.subList(i, Math.min(i + maxBatchSize, operationLogEntries.size())));
+        }
+    }
+
+}
@@ -23,6 +23,8 @@ public class OperationService extends PersistenceService<Operation, OperationDto
 
     @Inject
     protected OperationMapper operationMapper;
+    @Inject
+    protected OperationChangeNotifier operationChangeNotifier;
 
     @Inject
     public OperationService(EntityManagerFactory entityManagerFactory) {
@@ -33,6 +35,13 @@ public class OperationService extends PersistenceService<Operation, OperationDto
         return new OperationQueryImpl(createEntityManager(), operationMapper);
     }
 
+    @Override
+    public Operation update(Operation oldOperation, Operation newOperation) {
+        Operation updatedOperation = super.update(oldOperation, newOperation);
+        operationChangeNotifier.notifyChange(oldOperation.getProcessId());
+        return updatedOperation;
+    }
+
     @Override
     protected PersistenceObjectMapper<Operation, OperationDto> getPersistenceObjectMapper() {
         return operationMapper;
@@ -8,8 +8,10 @@ import org.apache.logging.log4j.message.Message;
 import org.apache.logging.log4j.message.ObjectMessage;
 import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry;
 
+import java.util.Collection;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class ProcessLogger {
 
@@ -19,6 +21,8 @@ public class ProcessLogger {
     private final UUID id;
     private OperationLogEntry operationLogEntry;
     private String logMessage;
+    // The size of the log message is added to this counter for as long as the logger is buffered by its provider:
+    private AtomicLong bufferedSizeCounter;
 
     private boolean headerIsSet = false;
 
@@ -42,6 +46,17 @@ public class ProcessLogger {
         createLogMessage(message, Level.DEBUG, throwable);
     }
 
+    /**
+     * Logs all messages at once, so that a single logger can hold many lines, e.g. the recent logs of an application.
+     */
+    public void debugAll(Collection<?> messages) {
+        StringBuilder formattedLogMessages = new StringBuilder();
+        for (Object message : messages) {
+            formattedLogMessages.append(layout.toSerializable(createEvent(message, Level.DEBUG)));
+        }
+        setLogMessage(formattedLogMessages.toString());
+    }
+
     public void error(Object message) {
         createLogMessage(message, Level.ERROR);
     }
@@ -101,13 +116,29 @@ public class ProcessLogger {
         return new Log4jLogEvent(logName, null, null, stackTrace, logLevel, logMessage, null, t);
     }
 
-    private void setLogMessage(String formattedLogMessage) {
+    synchronized void startCountingBufferedSize(AtomicLong counter) {
+        bufferedSizeCounter = counter;
+        counter.addAndGet(getLogMessageSize());
+    }
+
+    synchronized void stopCountingBufferedSize() {
+        if (bufferedSizeCounter != null) {
+            bufferedSizeCounter.addAndGet(-getLogMessageSize());
+            bufferedSizeCounter = null;
+        }
+    }
+
+    private synchronized void setLogMessage(String formattedLogMessage) {
+        long previousSize = getLogMessageSize();
         byte[] header = layout.getHeader();
         if (header != null && !headerIsSet) {
             setLogMessageWithHeader(formattedLogMessage, header);
         } else {
             logMessage = formattedLogMessage;
         }
+        if (bufferedSizeCounter != null) {
+            bufferedSizeCounter.addAndGet(getLogMessageSize() - previousSize);
+        }
     }
 
     private void setLogMessageWithHeader(String formattedLogMessage, byte[] header) {
@@ -119,6 +150,10 @@ public class ProcessLogger {
         headerIsSet = true;
     }
 
+    private long getLogMessageSize() {
+        return logMessage == null ? 0 : logMessage.length();
+    }
+
     @Override
     public boolean equals(Object incommingObject) {
         if (this == incommingObject) {
@@ -16,13 +16,12 @@ import java.util.UUID;
 public class ProcessLoggerPersister {
 
     private final ProcessLoggerProvider processLoggerProvider;
-    private final ProcessLogsPersistenceService processLogsPersistenceService;
+    private final OperationLogBatchWriter operationLogBatchWriter;
 
     @Inject
-    public ProcessLoggerPersister(ProcessLoggerProvider processLoggerProvider,
-                                  ProcessLogsPersistenceService processLogsPersistenceService) {
+    public ProcessLoggerPersister(ProcessLoggerProvider processLoggerProvider, OperationLogBatchWriter operationLogBatchWriter) {
         this.processLoggerProvider = processLoggerProvider;
-        this.processLogsPersistenceService = processLogsPersistenceService;
+        this.operationLogBatchWriter = operationLogBatchWriter;
     }
 
     @Async("asyncExecutor")
@@ -61,7 +60,7 @@ public class ProcessLoggerPersister {
                                                                             .withOperationLog(processLogsMessage.getValue()
                                                                                                                 .toString())
                                                                             .withModified(LocalDateTime.now());
-            processLogsPersistenceService.persistLog(operationLogEntry);
+            operationLogBatchWriter.write(operationLogEntry);
         }
     }
 }
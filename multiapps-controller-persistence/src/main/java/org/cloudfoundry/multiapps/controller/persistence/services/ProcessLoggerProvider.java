@@ -1,8 +1,11 @@
 package org.cloudfoundry.multiapps.controller.persistence.services;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import jakarta.inject.Named;
@@ -16,9 +19,14 @@ import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableOperatio
 import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry;
 import org.flowable.engine.delegate.DelegateExecution;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
 @Named("processLoggerProvider")
 public class ProcessLoggerProvider {
     static final String LOG_LAYOUT = "#%d{yyyy MM dd HH:mm:ss.SSS}#%d{XXX}#%p#%c#%t#%n%m#%n";
+    static final String BUFFERED_LOGS_SIZE_METRIC = "multiapps.controller.process.logs.buffered.size";
     private static final String DEFAULT_LOG_NAME = "OPERATION";
     private static final String LOG_FILE_EXTENSION = ".log";
     private final LoggerContext loggerContext = (LoggerContext) LogManager.getContext(false);
@@ -27,7 +35,21 @@ public class ProcessLoggerProvider {
                                                              .withConfiguration(loggerContext.getConfiguration())
                                                              .build();
 
-    private final Queue<ProcessLogger> loggerChache = new ConcurrentLinkedQueue<>();
+    // The loggers of every operation are kept per activity in the order of their creation. The entry of an operation is created and
+    // removed atomically together with its loggers, so that a logger is never added to an entry which is no longer in the map.
+    private final Map<String, OperationLoggers> loggersByOperation = new ConcurrentHashMap<>();
+    private final AtomicLong bufferedLogsSize = new AtomicLong();
+
+    public ProcessLoggerProvider() {
+        this(Metrics.globalRegistry);
+    }
+
+    ProcessLoggerProvider(MeterRegistry meterRegistry) {
+        // The log messages are buffered as strings, so their size is measured in characters rather than in bytes:
+        Gauge.builder(BUFFERED_LOGS_SIZE_METRIC, bufferedLogsSize, AtomicLong::get)
+             .baseUnit("characters")
+             .register(meterRegistry);
+    }
 
     public ProcessLogger getLogger(DelegateExecution execution) {
         return getLogger(execution, DEFAULT_LOG_NAME);
@@ -49,7 +71,7 @@ public class ProcessLoggerProvider {
             return new NullProcessLogger(spaceId, execution.getProcessInstanceId(), activityId);
         }
         ProcessLogger processLogger = createProcessLogger(spaceId, correlationId, activityId, name, logNameWithExtension, layout);
-        loggerChache.add(processLogger);
+        addProcessLoggerToCache(processLogger);
         return processLogger;
     }
 
@@ -76,23 +98,73 @@ public class ProcessLoggerProvider {
         return new ProcessLogger(operationLogEntry, loggerName, patternLayout, activityId);
     }
 
-    public List<ProcessLogger> getExistingLoggers(String operationId, String activityId) {
-        return loggerChache.stream()
-                           .filter(logger -> hasLoggerSpecificProcessIdAndActivityId(operationId, activityId, logger))
-                           .toList();
+    private void addProcessLoggerToCache(ProcessLogger processLogger) {
+        loggersByOperation.compute(getOperationId(processLogger), (operationId, operationLoggers) -> {
+            OperationLoggers loggers = operationLoggers != null ? operationLoggers : new OperationLoggers();
+            loggers.add(processLogger);
+            processLogger.startCountingBufferedSize(bufferedLogsSize);
+            return loggers;
+        });
     }
 
-    private boolean hasLoggerSpecificProcessIdAndActivityId(String operationId, String activityId, ProcessLogger logger) {
-        return operationId.equals(logger.getOperationLogEntry()
-                                        .getOperationId())
-            && activityId.equals(logger.getActivityId());
+    public List<ProcessLogger> getExistingLoggers(String operationId, String activityId) {
+        OperationLoggers operationLoggers = loggersByOperation.get(operationId);
+        if (operationLoggers == null) {
+            return List.of();
+        }
+        return operationLoggers.get(activityId);
     }
 
+    /**
+     * Loggers are usually removed in the order of their creation, in which case the removal takes constant time.
+     */
     public void removeProcessLoggerFromCache(ProcessLogger processLogger) {
-        loggerChache.remove(processLogger);
+        loggersByOperation.computeIfPresent(getOperationId(processLogger), (operationId, operationLoggers) -> {
+            if (operationLoggers.remove(processLogger)) {
+                processLogger.stopCountingBufferedSize();
+            }
+            return operationLoggers.isEmpty() ? null : operationLoggers;
+        });
+    }
+
+    private static String getOperationId(ProcessLogger processLogger) {
+        return processLogger.getOperationLogEntry()
+                            .getOperationId();
     }
 
     private String getSpaceId(DelegateExecution execution) {
         return (String) execution.getVariable(Constants.VARIABLE_NAME_SPACE_ID);
     }
+
+    private static class OperationLoggers {
+
+        private final Map<String, Queue<ProcessLogger>> loggersByActivity = new ConcurrentHashMap<>();
+
+        void add(ProcessLogger processLogger) {
+            loggersByActivity.computeIfAbsent(processLogger.getActivityId(), activityId -> new ConcurrentLinkedQueue<>())
+                             .add(processLogger);
+        }
+
+        List<ProcessLogger> get(String activityId) {
+            Queue<ProcessLogger> loggers = loggersByActivity.get(activityId);
+            return loggers == null ? List.of() : List.copyOf(loggers);
+        }
+
+        boolean remove(ProcessLogger processLogger) {
+            Queue<ProcessLogger> loggers = loggersByActivity.get(processLogger.getActivityId());
+            if (loggers == null || !loggers.remove(processLogger)) {
+                return false;
+            }
+            if (loggers.isEmpty()) {
+                loggersByActivity.remove(processLogger.getActivityId());
+            }
+            return true;
+        }
+
+        boolean isEmpty() {
+            return loggersByActivity.isEmpty();
+        }
+
+    }
+
 }
\ No newline at end of file
@@ -7,6 +7,8 @@ import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry
 import org.cloudfoundry.multiapps.controller.persistence.query.providers.ByteArraySqlFileQueryProvider;
 import org.cloudfoundry.multiapps.controller.persistence.query.providers.SqlOperationLogQueryProvider;
 
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.sql.SQLException;
 import java.text.MessageFormat;
 import java.util.List;
@@ -42,22 +44,26 @@ public class ProcessLogsPersistenceService extends DatabaseFileService {
         }
     }
 
-    public String getOperationLog(String space, String operationId, String logId) throws FileStorageException {
-        List<OperationLogEntry> operationLogs = listOperationLogs(space, operationId, logId);
-
-        StringBuilder builder = new StringBuilder();
-        for (OperationLogEntry operationLog : operationLogs) {
-            builder.append(operationLog.getOperationLog());
+    public boolean operationLogExists(String space, String operationId, String logId) throws FileStorageException {
+        try {
+            return getSqlQueryExecutor().execute(sqlOperationLogQueryProvider.getLogExistsQuery(space, operationId, logId));
+        } catch (SQLException e) {
+            throw new FileStorageException(
+                MessageFormat.format(Messages.ERROR_GETTING_LOGS_WITH_SPACE_OPERATION_ID_AND_NAME, space, operationId, logId), e);
         }
-        return builder.toString();
     }
 
-    private List<OperationLogEntry> listOperationLogs(final String space, final String operationId, String logId)
+    /**
+     * Streams the content of the log to the output stream, starting after its first {@code offset} bytes.
+     *
+     * @return the number of written bytes
+     */
+    public long writeOperationLog(String space, String operationId, String logId, long offset, OutputStream outputStream)
         throws FileStorageException {
         try {
             return getSqlQueryExecutor().execute(
-                sqlOperationLogQueryProvider.getListFilesQueryBySpaceOperationIdAndLogId(space, operationId, logId));
-        } catch (SQLException e) {
+                sqlOperationLogQueryProvider.getWriteLogContentQuery(space, operationId, logId, offset, outputStream));
+        } catch (SQLException | UncheckedIOException e) {
             throw new FileStorageException(
                 MessageFormat.format(Messages.ERROR_GETTING_LOGS_WITH_SPACE_OPERATION_ID_AND_NAME, space, operationId, logId), e);
         }
@@ -70,4 +76,15 @@ public class ProcessLogsPersistenceService extends DatabaseFileService {
             throw new OperationLogStorageException(Messages.FAILED_TO_SAVE_OPERATION_LOG_IN_DATABASE, e);
         }
     }
+
+    /**
+     * Stores all entries with a single batch insert in one transaction.
+     */
+    public void persistLogs(List<OperationLogEntry> operationLogEntries) {
+        try {
+            getSqlQueryExecutor().execute(sqlOperationLogQueryProvider.getStoreLogsQuery(operationLogEntries));
+        } catch (SQLException e) {
+            throw new OperationLogStorageException(Messages.FAILED_TO_SAVE_OPERATION_LOG_IN_DATABASE, e);
+        }
+    }
 }
@@ -22,6 +22,8 @@ public class ProgressMessageService extends PersistenceService<ProgressMessage,
 
     @Inject
     protected ProgressMessageMapper progressMessageMapper;
+    @Inject
+    protected OperationChangeNotifier operationChangeNotifier;
 
     @Inject
     public ProgressMessageService(EntityManagerFactory entityManagerFactory) {
@@ -32,6 +34,13 @@ public class ProgressMessageService extends PersistenceService<ProgressMessage,
         return new ProgressMessageQueryImpl(createEntityManager(), progressMessageMapper);
     }
 
+    @Override
+    public ProgressMessage add(ProgressMessage progressMessage) {
+        ProgressMessage addedProgressMessage = super.add(progressMessage);
+        operationChangeNotifier.notifyChange(progressMessage.getProcessId());
+        return addedProgressMessage;
+    }
+
     @Override
     protected ProgressMessageDto merge(ProgressMessageDto existingProgressMessage, ProgressMessageDto newProgressMessage) {
         super.merge(existingProgressMessage, newProgressMessage);
@@ -0,0 +1,175 @@
+package org.cloudfoundry.multiapps.controller.persistence.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Reads content of a known size by fetching consecutive ranges of it concurrently and returning them in order. At most
+ * {@code maxChunksAhead} chunks are fetched ahead of the one being read. Each of them needs a permit from {@code chunkPermits}, which can
+ * be shared by several streams to bound the memory used by all of them. When no permit is available or the executor rejects a chunk,
+ * the next chunk is read by the calling thread, so the stream falls back to sequential reading instead of waiting for other streams.
+ */
+public class ParallelRangeInputStream extends InputStream {
+
+    private static final byte[] EMPTY_CHUNK = new byte[0];
+
+    private final long size;
+    private final long chunkSize;
+    private final int maxChunksAhead;
+    private final ExecutorService executor;
+    private final Semaphore chunkPermits;
+    private final RangeReader rangeReader;
+    private final Deque<Future<byte[]>> pendingChunks = new ArrayDeque<>();
+    private long nextChunkOffset;
+    private byte[] currentChunk = EMPTY_CHUNK;
+    private boolean currentChunkHasPermit;
+    private int positionInChunk;
+    private boolean closed;
+
+    public ParallelRangeInputStream(long size, long chunkSize, int maxChunksAhead, ExecutorService executor, Semaphore chunkPermits,
+                                    RangeReader rangeReader) {
+        this.size = size;
+        this.chunkSize = chunkSize;
+        this.maxChunksAhead = maxChunksAhead;
+        this.executor = executor;
+        this.chunkPermits = chunkPermits;
+        this.rangeReader = rangeReader;
+        scheduleChunks();
+    }
+
+    private void scheduleChunks() {
+        while (pendingChunks.size() < maxChunksAhead && nextChunkOffset < size && chunkPermits.tryAcquire()) {
+            long startOffset = nextChunkOffset;
+            long endOffset = getEndOffset(startOffset);
+            try {
+                pendingChunks.add(executor.submit(() -> rangeReader.read(startOffset, endOffset)));
+            } catch (RejectedExecutionException e) {
+                // The executor is busy, so the next chunk will be read by the calling thread:
+                chunkPermits.release();
+                return;
+            }
+            nextChunkOffset = endOffset + 1;
+        }
+    }
+
+    private long getEndOffset(long startOffset) {
+        return Math.min(startOffset + chunkSize, size) - 1;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureAvailableData()) {
+            return -1;
+        }
+        return currentChunk[positionInChunk++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        if (length == 0) {
+            return 0;
+        }
+        if (!ensureAvailableData()) {
+            return -1;
+        }
+        int bytesToCopy = Math.min(length, currentChunk.length - positionInChunk);
+        System.arraycopy(currentChunk, positionInChunk, buffer, offset, bytesToCopy);
+        positionInChunk += bytesToCopy;
+        return bytesToCopy;
+    }
+
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        return currentChunk.length - positionInChunk;
+    }
+
+    private boolean ensureAvailableData() throws IOException {
+        ensureOpen();
+        while (positionInChunk >= currentChunk.length) {
+            releaseCurrentChunk();
+            Future<byte[]> nextChunk = pendingChunks.poll();
+            if (nextChunk != null) {
+                currentChunkHasPermit = true;
+                currentChunk = awaitChunk(nextChunk);
+            } else if (nextChunkOffset < size) {
+                currentChunk = readNextChunk();
+            } else {
+                return false;
+            }
+            positionInChunk = 0;
+            scheduleChunks();
+        }
+        return true;
+    }
+
+    private void releaseCurrentChunk() {
+        currentChunk = EMPTY_CHUNK;
+        if (currentChunkHasPermit) {
+            currentChunkHasPermit = false;
+            chunkPermits.release();
+        }
+    }
+
+    private byte[] awaitChunk(Future<byte[]> chunk) throws IOException {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private byte[] readNextChunk() throws IOException {
+        long startOffset = nextChunkOffset;
+        long endOffset = getEndOffset(startOffset);
+        byte[] chunk = rangeReader.read(startOffset, endOffset);
+        nextChunkOffset = endOffset + 1;
+        return chunk;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pendingChunks.forEach(chunk -> chunk.cancel(true));
+        chunkPermits.release(pendingChunks.size());
+        pendingChunks.clear();
+        releaseCurrentChunk();
+    }
+
+    @FunctionalInterface
+    public interface RangeReader {
+
+        /**
+         * Reads the content between the given offsets. Both offsets are inclusive.
+         */
+        byte[] read(long startOffset, long endOffset) throws IOException;
+
+    }
+
+}
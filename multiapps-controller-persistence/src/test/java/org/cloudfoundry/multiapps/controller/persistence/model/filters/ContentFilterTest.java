@@ -0,0 +1,38 @@
+package org.cloudfoundry.multiapps.controller.persistence.model.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ContentFilterTest {
+
+    private static final String CONTENT = "{\"type\":\"com.acme.db\",\"plan\":\"small\"}";
+
+    private final ContentFilter contentFilter = new ContentFilter();
+
+    @Test
+    void testContentIsParsedOnce() {
+        assertTrue(contentFilter.test(CONTENT, Map.of("type", "com.acme.db")));
+        assertTrue(contentFilter.test(CONTENT, Map.of("type", "com.acme.db", "plan", "small")));
+        assertFalse(contentFilter.test(CONTENT, Map.of("plan", "large")));
+        assertEquals(1, contentFilter.getCachedContentsCount());
+    }
+
+    @Test
+    void testInvalidContentDoesNotMatch() {
+        assertFalse(contentFilter.test("{\"type\"", Map.of("type", "com.acme.db")));
+        assertFalse(contentFilter.test("{\"type\"", Map.of("type", "com.acme.db")));
+        assertFalse(contentFilter.test(null, Map.of("type", "com.acme.db")));
+    }
+
+    @Test
+    void testEveryContentMatchesWithoutRequiredProperties() {
+        assertTrue(contentFilter.test("{\"type\"", Map.of()));
+        assertEquals(0, contentFilter.getCachedContentsCount());
+    }
+
+}
@@ -0,0 +1,84 @@
+package org.cloudfoundry.multiapps.controller.persistence.query.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+import org.cloudfoundry.multiapps.controller.persistence.dto.ConfigurationEntryDto;
+import org.cloudfoundry.multiapps.controller.persistence.dto.ConfigurationEntryDto.AttributeNames;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ConfigurationEntryQueryImplTest {
+
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private CriteriaBuilder criteriaBuilder;
+    @Mock
+    private Root<ConfigurationEntryDto> root;
+    @Mock
+    private Path<String> contentPath;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        when(entityManager.getCriteriaBuilder()).thenReturn(criteriaBuilder);
+        doReturn(contentPath).when(root)
+                             .get(AttributeNames.CONTENT);
+    }
+
+    @Test
+    void testRequiredPropertyNameAndValueAreMatchedInContent() {
+        createPredicates(Map.of("type", "com.acme.db"));
+
+        verify(criteriaBuilder).like(contentPath, "%\"type\"%");
+        verify(criteriaBuilder).like(contentPath, "%\"com.acme.db\"%");
+        verify(criteriaBuilder, times(2)).like(any(Expression.class), anyString());
+    }
+
+    @Test
+    void testOnlyNameIsMatchedInContentForNonStringValue() {
+        createPredicates(Map.of("port", 5432));
+
+        verify(criteriaBuilder).like(contentPath, "%\"port\"%");
+        verify(criteriaBuilder, times(1)).like(any(Expression.class), anyString());
+    }
+
+    @Test
+    void testStringWhichMayBeEscapedIsNotMatchedInContent() {
+        createPredicates(Map.of("description", "say \"hi\""));
+
+        verify(criteriaBuilder).like(contentPath, "%\"description\"%");
+        verify(criteriaBuilder, times(1)).like(any(Expression.class), anyString());
+    }
+
+    @Test
+    void testNothingIsMatchedInContentWithoutRequiredProperties() {
+        createPredicates(null);
+
+        verify(criteriaBuilder, never()).like(any(Expression.class), anyString());
+    }
+
+    private void createPredicates(Map<String, Object> requiredProperties) {
+        ConfigurationEntryQueryImpl query = new ConfigurationEntryQueryImpl(entityManager, null);
+        query.requiredProperties(requiredProperties);
+        query.queryCriteria.toQueryPredicates(root);
+    }
+
+}
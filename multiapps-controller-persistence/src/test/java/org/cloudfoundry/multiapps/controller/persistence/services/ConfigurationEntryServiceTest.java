@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
@@ -141,6 +142,35 @@ class ConfigurationEntryServiceTest {
 
     }
 
+    @Test
+    void testQueryByRequiredProperties() {
+        ConfigurationEntry matchingEntry = createConfigurationEntry(4L, "providerNid", "providerId4", "1.0", null, "org", "space",
+                                                                    "{\"type\":\"com.acme.db\",\"service_url\":\"https://db.acme.com\",\"port\":5432}");
+        ConfigurationEntry entryWithOtherType = createConfigurationEntry(5L, "providerNid", "providerId5", "1.0", null, "org", "space",
+                                                                         "{\"type\":\"com.acme.cache\",\"port\":5432}");
+        ConfigurationEntry entryWithTypeInOtherProperty = createConfigurationEntry(6L, "providerNid", "providerId6", "1.0", null, "org",
+                                                                                   "space", "{\"kind\":\"com.acme.db\",\"type\":1}");
+        ConfigurationEntry entryWithInvalidContent = createConfigurationEntry(7L, "providerNid", "providerId7", "1.0", null, "org",
+                                                                              "space", "\"type\" \"com.acme.db\"");
+        addConfigurationEntries(List.of(matchingEntry, entryWithOtherType, entryWithTypeInOtherProperty, entryWithInvalidContent));
+
+        assertEquals(List.of(matchingEntry.getId()), getIdsOfEntriesWithProperties(Map.of("type", "com.acme.db")));
+        assertEquals(List.of(matchingEntry.getId()), getIdsOfEntriesWithProperties(Map.of("service_url", "https://db.acme.com")));
+        assertEquals(List.of(entryWithTypeInOtherProperty.getId()), getIdsOfEntriesWithProperties(Map.of("kind", "com.acme.db")));
+        assertEquals(List.of(), getIdsOfEntriesWithProperties(Map.of("type", "com.acme.db", "port", 1)));
+        assertEquals(List.of(), getIdsOfEntriesWithProperties(Map.of("description", "<none>")));
+    }
+
+    private List<Long> getIdsOfEntriesWithProperties(Map<String, Object> requiredProperties) {
+        return configurationEntryService.createQuery()
+                                        .requiredProperties(requiredProperties)
+                                        .list()
+                                        .stream()
+                                        .map(ConfigurationEntry::getId)
+                                        .sorted()
+                                        .toList();
+    }
+
     private void testQueryByCriteria(ConfigurationEntryQueryBuilder configurationEntryQueryBuilder) {
 
         addConfigurationEntries(ALL_ENTRIES);
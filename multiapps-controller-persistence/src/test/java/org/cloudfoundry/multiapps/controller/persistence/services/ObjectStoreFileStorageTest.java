@@ -1,9 +1,18 @@
 package org.cloudfoundry.multiapps.controller.persistence.services;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -20,6 +29,8 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import jakarta.xml.bind.DatatypeConverter;
 
@@ -30,17 +41,25 @@ import org.jclouds.ContextBuilder;
 import org.jclouds.blobstore.BlobStore;
 import org.jclouds.blobstore.BlobStoreContext;
 import org.jclouds.blobstore.domain.Blob;
+import org.jclouds.blobstore.options.GetOptions;
+import org.jclouds.http.HttpResponseException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
 import org.springframework.http.MediaType;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class ObjectStoreFileStorageTest {
 
     private static final String TEST_FILE_LOCATION = "src/test/resources/pexels-photo-401794.jpeg";
     private static final String SECOND_FILE_TEST_LOCATION = "src/test/resources/pexels-photo-463467.jpeg";
     private static final String DIGEST_METHOD = "MD5";
     private static final String CONTAINER = "container4e";
+    private static final long DOWNLOAD_CHUNK_SIZE = 256 * 1024L;
+    private static final long UPLOAD_PART_SIZE = 512 * 1024L;
 
     private String spaceId;
     private String namespace;
@@ -49,6 +68,10 @@ class ObjectStoreFileStorageTest {
 
     private BlobStoreContext blobStoreContext;
 
+    private final ExecutorService downloadExecutor = Executors.newFixedThreadPool(4);
+    private final ExecutorService uploadExecutor = Executors.newFixedThreadPool(4);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @BeforeEach
     public void setUp() {
         createBlobStoreContext();
@@ -76,6 +99,8 @@ class ObjectStoreFileStorageTest {
         if (blobStoreContext != null) {
             blobStoreContext.close();
         }
+        downloadExecutor.shutdownNow();
+        uploadExecutor.shutdownNow();
     }
 
     @Test
@@ -218,6 +243,162 @@ class ObjectStoreFileStorageTest {
         assertThrows(FileStorageException.class, () -> validateFileContent(dummyFileEntry, fileDigest));
     }
 
+    @Test
+    void processFileContentWithParallelDownload() throws Exception {
+        FileEntry fileEntry = addFile(TEST_FILE_LOCATION);
+        fileStorage = createFileStorageWithParallelDownload(blobStoreContext.getBlobStore());
+        String testFileDigest = DigestHelper.computeFileChecksum(Paths.get(TEST_FILE_LOCATION), DIGEST_METHOD)
+                                            .toLowerCase();
+        validateFileContent(fileEntry, testFileDigest);
+    }
+
+    @Test
+    void openInputStreamWithParallelDownload() throws Exception {
+        FileEntry fileEntry = addFile(SECOND_FILE_TEST_LOCATION);
+        fileStorage = createFileStorageWithParallelDownload(blobStoreContext.getBlobStore());
+        try (InputStream content = fileStorage.openInputStream(fileEntry.getSpace(), fileEntry.getId())) {
+            assertArrayEquals(Files.readAllBytes(Paths.get(SECOND_FILE_TEST_LOCATION)), content.readAllBytes());
+        }
+    }
+
+    @Test
+    void parallelDownloadRetriesOnlyFailedChunk() throws Exception {
+        FileEntry fileEntry = addFile(TEST_FILE_LOCATION);
+        BlobStore blobStore = blobStoreContext.getBlobStore();
+        BlobStore unreliableBlobStore = mock(BlobStore.class, AdditionalAnswers.delegatesTo(blobStore));
+        doThrow(new IllegalStateException("Connection reset")).doAnswer(invocation -> blobStore.getBlob(CONTAINER, fileEntry.getId(),
+                                                                                                      invocation.getArgument(2)))
+                                                              .when(unreliableBlobStore)
+                                                              .getBlob(eq(CONTAINER), eq(fileEntry.getId()), any(GetOptions.class));
+        fileStorage = createFileStorageWithParallelDownload(unreliableBlobStore);
+
+        try (InputStream content = fileStorage.openInputStream(fileEntry.getSpace(), fileEntry.getId())) {
+            assertArrayEquals(Files.readAllBytes(Paths.get(TEST_FILE_LOCATION)), content.readAllBytes());
+        }
+        long chunksCount = (Files.size(Paths.get(TEST_FILE_LOCATION)) + DOWNLOAD_CHUNK_SIZE - 1) / DOWNLOAD_CHUNK_SIZE;
+        verify(unreliableBlobStore, times((int) chunksCount + 1)).getBlob(eq(CONTAINER), eq(fileEntry.getId()), any(GetOptions.class));
+        verify(unreliableBlobStore, never()).blobMetadata(any(), any());
+    }
+
+    @Test
+    void blobSmallerThanChunkIsDownloadedWithSingleRequest() throws Exception {
+        FileEntry fileEntry = addFile(SECOND_FILE_TEST_LOCATION);
+        BlobStore blobStore = mock(BlobStore.class, AdditionalAnswers.delegatesTo(blobStoreContext.getBlobStore()));
+        fileStorage = createFileStorageWithParallelDownload(blobStore, Files.size(Paths.get(SECOND_FILE_TEST_LOCATION)) + 1);
+
+        try (InputStream content = fileStorage.openInputStream(fileEntry.getSpace(), fileEntry.getId())) {
+            assertArrayEquals(Files.readAllBytes(Paths.get(SECOND_FILE_TEST_LOCATION)), content.readAllBytes());
+        }
+        verify(blobStore).getBlob(eq(CONTAINER), eq(fileEntry.getId()), any(GetOptions.class));
+        verify(blobStore, never()).blobMetadata(any(), any());
+    }
+
+    @Test
+    void emptyBlobIsDownloadedWithoutRangeRequest() throws Exception {
+        FileEntry fileEntry = addFileContent("empty.txt", new byte[0]);
+        BlobStore blobStore = mock(BlobStore.class, AdditionalAnswers.delegatesTo(blobStoreContext.getBlobStore()));
+        fileStorage = createFileStorageWithParallelDownload(blobStore);
+
+        try (InputStream content = fileStorage.openInputStream(fileEntry)) {
+            assertEquals(0, content.readAllBytes().length);
+        }
+        verify(blobStore).getBlob(CONTAINER, fileEntry.getId());
+        verify(blobStore, never()).getBlob(eq(CONTAINER), eq(fileEntry.getId()), any(GetOptions.class));
+    }
+
+    @Test
+    void blobWithFewChunksIsNotDownloadedInParallel() throws Exception {
+        FileEntry fileEntry = addFile(TEST_FILE_LOCATION);
+        BlobStore blobStore = mock(BlobStore.class, AdditionalAnswers.delegatesTo(blobStoreContext.getBlobStore()));
+        fileStorage = createFileStorageWithParallelDownload(blobStore, Files.size(Paths.get(TEST_FILE_LOCATION)) / 2);
+
+        try (InputStream content = fileStorage.openInputStream(fileEntry.getSpace(), fileEntry.getId())) {
+            assertArrayEquals(Files.readAllBytes(Paths.get(TEST_FILE_LOCATION)), content.readAllBytes());
+        }
+        verify(blobStore, times(2)).getBlob(eq(CONTAINER), eq(fileEntry.getId()), any(GetOptions.class));
+    }
+
+    @Test
+    void addFileWithMultipartUpload() throws Exception {
+        fileStorage = createFileStorageWithMultipartUpload(blobStoreContext.getBlobStore());
+        FileEntry fileEntry = addFile(SECOND_FILE_TEST_LOCATION);
+
+        assertFileExists(true, fileEntry);
+        String testFileDigest = DigestHelper.computeFileChecksum(Paths.get(SECOND_FILE_TEST_LOCATION), DIGEST_METHOD)
+                                            .toLowerCase();
+        validateFileContent(fileEntry, testFileDigest);
+        assertEquals(getPartsCount(SECOND_FILE_TEST_LOCATION), getPartUploadsCount(MultipartBlobUpload.SUCCESS_OUTCOME));
+    }
+
+    @Test
+    void multipartUploadRetriesOnlyFailedPart() throws Exception {
+        BlobStore blobStore = blobStoreContext.getBlobStore();
+        BlobStore unreliableBlobStore = mock(BlobStore.class, AdditionalAnswers.delegatesTo(blobStore));
+        doThrow(new HttpResponseException("Connection reset", null, null)).doAnswer(AdditionalAnswers.delegatesTo(blobStore))
+                                                                          .when(unreliableBlobStore)
+                                                                          .uploadMultipartPart(any(), anyInt(), any());
+        fileStorage = createFileStorageWithMultipartUpload(unreliableBlobStore);
+
+        FileEntry fileEntry = addFile(TEST_FILE_LOCATION);
+
+        String testFileDigest = DigestHelper.computeFileChecksum(Paths.get(TEST_FILE_LOCATION), DIGEST_METHOD)
+                                            .toLowerCase();
+        validateFileContent(fileEntry, testFileDigest);
+        long partsCount = getPartsCount(TEST_FILE_LOCATION);
+        verify(unreliableBlobStore, times((int) partsCount + 1)).uploadMultipartPart(any(), anyInt(), any());
+        assertEquals(1, getPartUploadsCount(MultipartBlobUpload.FAILURE_OUTCOME));
+    }
+
+    @Test
+    void multipartUploadIsAbortedWhenPartCannotBeUploaded() {
+        BlobStore unreliableBlobStore = mock(BlobStore.class, AdditionalAnswers.delegatesTo(blobStoreContext.getBlobStore()));
+        doThrow(new HttpResponseException("Connection reset", null, null)).when(unreliableBlobStore)
+                                                                          .uploadMultipartPart(any(), anyInt(), any());
+        fileStorage = createFileStorageWithMultipartUpload(unreliableBlobStore);
+
+        assertThrows(FileStorageException.class, () -> addFile(TEST_FILE_LOCATION));
+        verify(unreliableBlobStore).abortMultipartUpload(any());
+    }
+
+    private FileStorage createFileStorageWithParallelDownload(BlobStore blobStore) {
+        return createFileStorageWithParallelDownload(blobStore, DOWNLOAD_CHUNK_SIZE);
+    }
+
+    private FileStorage createFileStorageWithParallelDownload(BlobStore blobStore, long downloadChunkSize) {
+        return createFileStorage(blobStore, ImmutableObjectStoreTransferOptions.builder()
+                                                                               .downloadExecutor(downloadExecutor)
+                                                                               .downloadChunkSizeInBytes(downloadChunkSize)
+                                                                               .build());
+    }
+
+    private FileStorage createFileStorageWithMultipartUpload(BlobStore blobStore) {
+        return createFileStorage(blobStore, ImmutableObjectStoreTransferOptions.builder()
+                                                                               .uploadExecutor(uploadExecutor)
+                                                                               .uploadPartSizeInBytes(UPLOAD_PART_SIZE)
+                                                                               .meterRegistry(meterRegistry)
+                                                                               .build());
+    }
+
+    private FileStorage createFileStorage(BlobStore blobStore, ObjectStoreTransferOptions transferOptions) {
+        return new ObjectStoreFileStorage(blobStore, CONTAINER, transferOptions) {
+            @Override
+            protected long getRetryWaitTime() {
+                return 1;
+            }
+        };
+    }
+
+    private long getPartsCount(String pathString) throws IOException {
+        return (Files.size(Paths.get(pathString)) + UPLOAD_PART_SIZE - 1) / UPLOAD_PART_SIZE;
+    }
+
+    private long getPartUploadsCount(String outcome) {
+        return meterRegistry.get(MultipartBlobUpload.PART_UPLOAD_METRIC)
+                            .tag(MultipartBlobUpload.OUTCOME_TAG, outcome)
+                            .timer()
+                            .count();
+    }
+
     private void validateFileContent(FileEntry storedFile, final String expectedFileChecksum) throws FileStorageException {
         fileStorage.processFileContent(storedFile.getSpace(), storedFile.getId(), contentStream -> {
             // make a digest out of the content and compare it to the original
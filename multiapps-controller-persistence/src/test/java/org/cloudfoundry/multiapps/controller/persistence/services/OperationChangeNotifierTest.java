@@ -0,0 +1,55 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.cloudfoundry.multiapps.controller.persistence.services.OperationChangeNotifier.Subscription;
+import org.junit.jupiter.api.Test;
+
+class OperationChangeNotifierTest {
+
+    private static final String PROCESS_ID = "1";
+
+    private final OperationChangeNotifier notifier = new OperationChangeNotifier();
+
+    @Test
+    void testChangeBeforeAwaitIsNotLost() throws Exception {
+        try (Subscription subscription = notifier.subscribe(PROCESS_ID)) {
+            notifier.notifyChange(PROCESS_ID);
+            assertTrue(subscription.awaitChange(Duration.ZERO));
+            assertFalse(subscription.awaitChange(Duration.ZERO));
+        }
+    }
+
+    @Test
+    void testChangesOfOtherOperationsAreIgnored() throws Exception {
+        try (Subscription subscription = notifier.subscribe(PROCESS_ID)) {
+            notifier.notifyChange("2");
+            assertFalse(subscription.awaitChange(Duration.ofMillis(10)));
+        }
+    }
+
+    @Test
+    void testWaitingSubscriberIsWokenUp() throws Exception {
+        try (Subscription subscription = notifier.subscribe(PROCESS_ID)) {
+            CompletableFuture<Void> change = CompletableFuture.runAsync(() -> notifier.notifyChange(PROCESS_ID));
+            assertTrue(subscription.awaitChange(Duration.ofSeconds(10)));
+            change.join();
+        }
+    }
+
+    @Test
+    void testClosedSubscriptionsAreRemoved() {
+        Subscription first = notifier.subscribe(PROCESS_ID);
+        Subscription second = notifier.subscribe(PROCESS_ID);
+        first.close();
+        assertEquals(1, notifier.getSubscribedOperationsCount());
+        second.close();
+        assertEquals(0, notifier.getSubscribedOperationsCount());
+    }
+
+}
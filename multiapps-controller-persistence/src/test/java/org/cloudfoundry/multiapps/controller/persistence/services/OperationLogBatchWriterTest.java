@@ -0,0 +1,160 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableOperationLogEntry;
+import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OperationLogBatchWriterTest {
+
+    private static final int QUEUE_CAPACITY = 10;
+    private static final int MAX_BATCH_SIZE = 3;
+    private static final long VERIFICATION_TIMEOUT_IN_MILLIS = 5000;
+
+    @Mock
+    private ProcessLogsPersistenceService processLogsPersistenceService;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OperationLogBatchWriter operationLogBatchWriter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        operationLogBatchWriter.destroy();
+    }
+
+    @Test
+    void testLogsAreFlushedInBatches() {
+        operationLogBatchWriter = createOperationLogBatchWriter(Duration.ofSeconds(1));
+        List<OperationLogEntry> operationLogEntries = createOperationLogEntries(4);
+
+        operationLogEntries.forEach(operationLogBatchWriter::write);
+
+        verify(processLogsPersistenceService, timeout(VERIFICATION_TIMEOUT_IN_MILLIS)).persistLogs(operationLogEntries.subList(0, 3));
+        verify(processLogsPersistenceService, timeout(VERIFICATION_TIMEOUT_IN_MILLIS)).persistLogs(operationLogEntries.subList(3, 4));
+        verify(processLogsPersistenceService, never()).persistLog(any());
+    }
+
+    @Test
+    void testFlushIsRecorded() throws InterruptedException {
+        operationLogBatchWriter = createOperationLogBatchWriter(Duration.ofMillis(10));
+
+        operationLogBatchWriter.write(createOperationLogEntry(0));
+        verify(processLogsPersistenceService, timeout(VERIFICATION_TIMEOUT_IN_MILLIS)).persistLogs(anyList());
+        operationLogBatchWriter.destroy();
+
+        assertEquals(1, meterRegistry.get(OperationLogBatchWriter.FLUSH_METRIC)
+                                     .timer()
+                                     .count());
+        assertEquals(0, meterRegistry.get(OperationLogBatchWriter.QUEUE_SIZE_METRIC)
+                                     .gauge()
+                                     .value());
+    }
+
+    @Test
+    void testLogsAreStoredOneByOneWhenBatchFails() {
+        operationLogBatchWriter = createOperationLogBatchWriter(Duration.ofMillis(10));
+        doThrow(new OperationLogStorageException("Connection refused")).when(processLogsPersistenceService)
+                                                                        .persistLogs(anyList());
+        List<OperationLogEntry> operationLogEntries = createOperationLogEntries(2);
+
+        operationLogEntries.forEach(operationLogBatchWriter::write);
+
+        verify(processLogsPersistenceService, timeout(VERIFICATION_TIMEOUT_IN_MILLIS)).persistLog(operationLogEntries.get(0));
+        verify(processLogsPersistenceService, timeout(VERIFICATION_TIMEOUT_IN_MILLIS)).persistLog(operationLogEntries.get(1));
+    }
+
+    @Test
+    void testRemainingLogsAreFlushedOnDestroy() throws InterruptedException {
+        operationLogBatchWriter = createOperationLogBatchWriter(Duration.ofSeconds(10));
+        List<OperationLogEntry> operationLogEntries = createOperationLogEntries(2);
+        operationLogEntries.forEach(operationLogBatchWriter::write);
+
+        operationLogBatchWriter.destroy();
+
+        ArgumentCaptor<List<OperationLogEntry>> batchesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(processLogsPersistenceService, atLeastOnce()).persistLogs(batchesCaptor.capture());
+        assertEquals(operationLogEntries, batchesCaptor.getAllValues()
+                                                       .stream()
+                                                       .flatMap(List::stream)
+                                                       .toList());
+    }
+
+    @Test
+    void testLogsOfOperationArePersistedWhenFlushed() {
+        operationLogBatchWriter = createOperationLogBatchWriter(Duration.ofSeconds(1));
+        List<OperationLogEntry> operationLogEntries = createOperationLogEntries(2);
+        operationLogEntries.forEach(operationLogBatchWriter::write);
+
+        operationLogBatchWriter.flush("operation");
+
+        ArgumentCaptor<List<OperationLogEntry>> batchesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(processLogsPersistenceService, atLeastOnce()).persistLogs(batchesCaptor.capture());
+        List<OperationLogEntry> persistedEntries = batchesCaptor.getAllValues()
+                                                                .stream()
+                                                                .flatMap(List::stream)
+                                                                .toList();
+        assertEquals(2, persistedEntries.size());
+        assertTrue(persistedEntries.containsAll(operationLogEntries));
+    }
+
+    @Test
+    void testLogIsPersistedSynchronouslyAfterDestroy() throws InterruptedException {
+        operationLogBatchWriter = createOperationLogBatchWriter(Duration.ofMillis(10));
+        operationLogBatchWriter.destroy();
+        OperationLogEntry operationLogEntry = createOperationLogEntry(0);
+
+        operationLogBatchWriter.write(operationLogEntry);
+
+        verify(processLogsPersistenceService).persistLog(operationLogEntry);
+    }
+
+    private OperationLogBatchWriter createOperationLogBatchWriter(Duration maxFlushDelay) {
+        return new OperationLogBatchWriter(processLogsPersistenceService, QUEUE_CAPACITY, MAX_BATCH_SIZE, maxFlushDelay, meterRegistry);
+    }
+
+    private static List<OperationLogEntry> createOperationLogEntries(int count) {
+        return IntStream.range(0, count)
+                        .mapToObj(OperationLogBatchWriterTest::createOperationLogEntry)
+                        .toList();
+    }
+
+    private static OperationLogEntry createOperationLogEntry(int index) {
+        return ImmutableOperationLogEntry.builder()
+                                         .id("log-" + index)
+                                         .space("space")
+                                         .operationId("operation")
+                                         .operationLogName("OPERATION.log")
+                                         .operationLog("message " + index)
+                                         .modified(LocalDateTime.now())
+                                         .build();
+    }
+
+}
@@ -190,6 +190,7 @@ class OperationServiceTest {
         EntityManagerFactory entityManagerFactory = Persistence.createEntityManagerFactory("TestDefault");
         OperationService operationService = new OperationService(entityManagerFactory);
         operationService.operationMapper = new OperationMapper();
+        operationService.operationChangeNotifier = new OperationChangeNotifier();
         return operationService;
     }
 
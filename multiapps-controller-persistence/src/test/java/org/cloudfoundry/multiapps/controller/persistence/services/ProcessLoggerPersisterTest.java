@@ -28,7 +28,7 @@ class ProcessLoggerPersisterTest {
     @Mock
     private DelegateExecution delegateExecution;
     @Mock
-    private ProcessLogsPersistenceService processLogsPersistenceService;
+    private OperationLogBatchWriter operationLogBatchWriter;
 
     @Spy
     private ProcessLoggerProvider processLoggerProvider;
@@ -44,7 +44,7 @@ class ProcessLoggerPersisterTest {
         when(delegateExecution.getCurrentActivityId()).thenReturn(TEST_TASK_ID);
         when(delegateExecution.getVariable(Constants.VARIABLE_NAME_SPACE_ID)).thenReturn(TEST_SPACE_ID);
         when(delegateExecution.getProcessInstanceId()).thenReturn(TEST_TASK_ID);
-        processLoggerPersister = new ProcessLoggerPersister(processLoggerProvider, processLogsPersistenceService);
+        processLoggerPersister = new ProcessLoggerPersister(processLoggerProvider, operationLogBatchWriter);
     }
 
     @Test
@@ -57,7 +57,7 @@ class ProcessLoggerPersisterTest {
         Mockito.verify(processLoggerProvider).getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID);
         Mockito.verify(processLoggerProvider).removeProcessLoggerFromCache(processLogger);
         Mockito.verify(processLoggerProvider).removeProcessLoggerFromCache(processLoggerSecond);
-        Mockito.verify(processLogsPersistenceService, times(2)).persistLog(any());
+        Mockito.verify(operationLogBatchWriter, times(2)).write(any());
 
         Assertions.assertEquals(processLoggerProvider.getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID).size(), 0);
     }
@@ -74,7 +74,7 @@ class ProcessLoggerPersisterTest {
         Mockito.verify(processLoggerProvider).removeProcessLoggerFromCache(processLogger);
         Mockito.verify(processLoggerProvider).removeProcessLoggerFromCache(processLoggerSecond);
         Mockito.verify(processLoggerProvider).removeProcessLoggerFromCache(processLoggerThird);
-        Mockito.verify(processLogsPersistenceService, times(2)).persistLog(any());
+        Mockito.verify(operationLogBatchWriter, times(2)).write(any());
 
         Assertions.assertEquals(processLoggerProvider.getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID).size(), 0);
     }
@@ -84,6 +84,6 @@ class ProcessLoggerPersisterTest {
         processLoggerPersister.persistLogs(TEST_CORRELATION_ID, TEST_TASK_ID);
 
         Mockito.verify(processLoggerProvider).getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID);
-        Mockito.verify(processLogsPersistenceService, times(0)).persistLog(any());
+        Mockito.verify(operationLogBatchWriter, times(0)).write(any());
     }
 }
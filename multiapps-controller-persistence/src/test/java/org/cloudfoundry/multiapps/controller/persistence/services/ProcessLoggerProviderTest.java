@@ -17,6 +17,10 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class ProcessLoggerProviderTest {
 
     private final static String TEST_LOG_NAME = "test-log-name";
@@ -25,6 +29,8 @@ class ProcessLoggerProviderTest {
     private final static String TEST_CORRELATION_ID = "test-correlation-id";
     private final static String TEST_SECOND_CORRELATION_ID = "test-second-correlation-id";
     private final static String TEST_TASK_ID = "test-task-id";
+    private final static String TEST_SECOND_TASK_ID = "test-second-task-id";
+    private final static String TEST_MESSAGE = "test-message";
     private final static String TEST_SPACE_ID = "test-space-id";
     private final static LoggerContext loggerContext = (LoggerContext) LogManager.getContext(false);
     private final static PatternLayout patternLayout = PatternLayout.newBuilder()
@@ -108,4 +114,53 @@ class ProcessLoggerProviderTest {
         Assertions.assertEquals(0, processLoggerProvider.getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID)
                                                         .size());
     }
+
+    @Test
+    void testExistingLoggersAreReturnedInOrderOfCreation() {
+        ProcessLogger firstProcessLogger = processLoggerProvider.getLogger(delegateExecution);
+        ProcessLogger secondProcessLogger = processLoggerProvider.getLogger(delegateExecution, TEST_LOG_NAME);
+
+        when(delegateExecution.getVariable(Constants.TASK_ID)).thenReturn(TEST_SECOND_TASK_ID);
+        processLoggerProvider.getLogger(delegateExecution);
+
+        Assertions.assertEquals(List.of(firstProcessLogger, secondProcessLogger),
+                                processLoggerProvider.getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID));
+        Assertions.assertEquals(1, processLoggerProvider.getExistingLoggers(TEST_CORRELATION_ID, TEST_SECOND_TASK_ID)
+                                                        .size());
+    }
+
+    @Test
+    void testAllMessagesAreKeptBySingleLogger() {
+        ProcessLogger processLogger = processLoggerProvider.getLogger(delegateExecution, TEST_LOG_NAME);
+
+        processLogger.debugAll(List.of(TEST_MESSAGE, TEST_MESSAGE + "-2"));
+
+        String logMessage = processLogger.getLogMessage();
+        Assertions.assertTrue(logMessage.indexOf(TEST_MESSAGE) < logMessage.indexOf(TEST_MESSAGE + "-2"));
+        Assertions.assertEquals(1, processLoggerProvider.getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID)
+                                                        .size());
+    }
+
+    @Test
+    void testBufferedLogsSize() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProcessLoggerProvider processLoggerProvider = new ProcessLoggerProvider(meterRegistry);
+        ProcessLogger processLogger = processLoggerProvider.getLogger(delegateExecution);
+        processLogger.info(TEST_MESSAGE);
+
+        Gauge gauge = meterRegistry.get(ProcessLoggerProvider.BUFFERED_LOGS_SIZE_METRIC)
+                                   .gauge();
+        Assertions.assertEquals(processLogger.getLogMessage()
+                                             .length(),
+                                gauge.value());
+        Assertions.assertEquals("characters", gauge.getId()
+                                                   .getBaseUnit());
+        Assertions.assertTrue(gauge.getId()
+                                   .getTags()
+                                   .isEmpty());
+
+        processLoggerProvider.removeProcessLoggerFromCache(processLogger);
+
+        Assertions.assertEquals(0, gauge.value());
+    }
 }
@@ -2,8 +2,10 @@ package org.cloudfoundry.multiapps.controller.persistence.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.Date;
 import java.util.List;
 
@@ -99,6 +101,25 @@ class ProgressMessageServiceTest {
         testQueryByCriteria((query, message) -> query.text(message.getText()));
     }
 
+    @Test
+    void testQueryByIdGreaterThan() {
+        addProgressMessages(List.of(PROGRESS_MESSAGE_1, PROGRESS_MESSAGE_2));
+        List<ProgressMessage> newerMessages = progressMessageService.createQuery()
+                                                                    .idGreaterThan(PROGRESS_MESSAGE_1.getId())
+                                                                    .list();
+        assertEquals(1, newerMessages.size());
+        assertEquals(PROGRESS_MESSAGE_2.getId(), newerMessages.get(0)
+                                                              .getId());
+    }
+
+    @Test
+    void testAddNotifiesTheSubscribersOfTheOperation() throws Exception {
+        try (var subscription = progressMessageService.operationChangeNotifier.subscribe(PROGRESS_MESSAGE_1.getProcessId())) {
+            progressMessageService.add(PROGRESS_MESSAGE_1);
+            assertTrue(subscription.awaitChange(Duration.ZERO));
+        }
+    }
+
     private void testQueryByCriteria(ProgressMessageQueryBuilder progressMessageQueryBuilder) {
         addProgressMessages(List.of(PROGRESS_MESSAGE_1, PROGRESS_MESSAGE_2));
         assertEquals(1, progressMessageQueryBuilder.build(progressMessageService.createQuery(), PROGRESS_MESSAGE_1)
@@ -140,6 +161,7 @@ class ProgressMessageServiceTest {
         EntityManagerFactory entityManagerFactory = Persistence.createEntityManagerFactory("TestDefault");
         ProgressMessageService progressMessageService = new ProgressMessageService(entityManagerFactory);
         progressMessageService.progressMessageMapper = new ProgressMessageMapper();
+        progressMessageService.operationChangeNotifier = new OperationChangeNotifier();
         return progressMessageService;
     }
 
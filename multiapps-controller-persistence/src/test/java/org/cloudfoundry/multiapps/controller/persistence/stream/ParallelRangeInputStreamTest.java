@@ -0,0 +1,136 @@
+package org.cloudfoundry.multiapps.controller.persistence.stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ParallelRangeInputStreamTest {
+
+    private static final int CHUNK_SIZE = 100;
+    private static final int MAX_CHUNKS_AHEAD = 3;
+    private static final int CHUNK_PERMITS = 5;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final Semaphore chunkPermits = new Semaphore(CHUNK_PERMITS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 99, 100, 101, 1000, 1234 })
+    void testContentIsReadInOrder(int size) throws IOException {
+        byte[] content = createContent(size);
+        try (InputStream inputStream = createInputStream(content, (startOffset, endOffset) -> readRange(content, startOffset, endOffset))) {
+            assertArrayEquals(content, inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    void testSingleByteReads() throws IOException {
+        byte[] content = createContent(250);
+        try (InputStream inputStream = createInputStream(content, (startOffset, endOffset) -> readRange(content, startOffset, endOffset))) {
+            for (byte expectedByte : content) {
+                assertEquals(expectedByte & 0xFF, inputStream.read());
+            }
+            assertEquals(-1, inputStream.read());
+        }
+    }
+
+    @Test
+    void testReadAheadIsBounded() throws IOException {
+        byte[] content = createContent(1000);
+        AtomicInteger requestedChunks = new AtomicInteger();
+        try (InputStream inputStream = createInputStream(content, (startOffset, endOffset) -> {
+            requestedChunks.incrementAndGet();
+            return readRange(content, startOffset, endOffset);
+        })) {
+            assertEquals(content[0] & 0xFF, inputStream.read());
+            assertTrue(requestedChunks.get() <= MAX_CHUNKS_AHEAD + 1);
+        }
+    }
+
+    @Test
+    void testFailureOfChunkIsPropagated() throws IOException {
+        byte[] content = createContent(1000);
+        try (InputStream inputStream = createInputStream(content, (startOffset, endOffset) -> {
+            if (startOffset == 200) {
+                throw new IOException("Connection reset");
+            }
+            return readRange(content, startOffset, endOffset);
+        })) {
+            IOException exception = assertThrows(IOException.class, inputStream::readAllBytes);
+            assertEquals("Connection reset", exception.getMessage());
+        }
+    }
+
+    @Test
+    void testChunksInFlightAreBoundedAcrossStreams() throws IOException {
+        byte[] content = createContent(1000);
+        try (InputStream first = createInputStream(content, (startOffset, endOffset) -> readRange(content, startOffset, endOffset));
+            InputStream second = createInputStream(content, (startOffset, endOffset) -> readRange(content, startOffset, endOffset))) {
+            assertEquals(0, chunkPermits.availablePermits());
+            assertArrayEquals(content, first.readAllBytes());
+            assertArrayEquals(content, second.readAllBytes());
+        }
+        assertEquals(CHUNK_PERMITS, chunkPermits.availablePermits());
+    }
+
+    @Test
+    void testContentIsReadSequentiallyWithoutPermits() throws IOException {
+        byte[] content = createContent(1000);
+        chunkPermits.acquireUninterruptibly(CHUNK_PERMITS);
+        try (InputStream inputStream = createInputStream(content, (startOffset, endOffset) -> readRange(content, startOffset, endOffset))) {
+            assertArrayEquals(content, inputStream.readAllBytes());
+        }
+        assertEquals(0, chunkPermits.availablePermits());
+    }
+
+    @Test
+    void testPermitsAreReleasedOnClose() throws IOException {
+        byte[] content = createContent(1000);
+        InputStream inputStream = createInputStream(content, (startOffset, endOffset) -> readRange(content, startOffset, endOffset));
+        inputStream.read();
+        inputStream.close();
+        assertEquals(CHUNK_PERMITS, chunkPermits.availablePermits());
+    }
+
+    @Test
+    void testReadAfterClose() throws IOException {
+        byte[] content = createContent(1000);
+        InputStream inputStream = createInputStream(content, (startOffset, endOffset) -> readRange(content, startOffset, endOffset));
+        inputStream.close();
+        assertThrows(IOException.class, inputStream::read);
+    }
+
+    private InputStream createInputStream(byte[] content, ParallelRangeInputStream.RangeReader rangeReader) {
+        return new ParallelRangeInputStream(content.length, CHUNK_SIZE, MAX_CHUNKS_AHEAD, executor, chunkPermits, rangeReader);
+    }
+
+    private static byte[] createContent(int size) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        return content;
+    }
+
+    private static byte[] readRange(byte[] content, long startOffset, long endOffset) {
+        return Arrays.copyOfRange(content, (int) startOffset, (int) endOffset + 1);
+    }
+
+}
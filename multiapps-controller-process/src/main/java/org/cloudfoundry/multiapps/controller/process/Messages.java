@@ -9,6 +9,8 @@ public class Messages {
     public static final String CANT_DETERMINE_CURRENT_USER = "Cannot determine the current user";
     public static final String CONFLICTING_PROCESS_FOUND = "Conflicting process \"{0}\" found for MTA \"{1}\"";
     public static final String REQUIRED_PROCESS_VARIABLE_IS_MISSING = "Required process variable \"{0}\" is missing.";
+    public static final String COULD_NOT_COMPRESS_VARIABLE_VALUE = "Could not compress the value of a process variable";
+    public static final String COULD_NOT_DECOMPRESS_VARIABLE_VALUE = "Could not decompress the value of a process variable";
     public static final String ERROR_RETRIEVING_MTA_MODULE_CONTENT = "Error retrieving content of MTA module \"{0}\"";
     public static final String ERROR_RETRIEVING_MTA_REQUIRED_DEPENDENCY_CONTENT = "Error retrieving content of MTA required dependency \"{0}\"";
     public static final String ERROR_RETRIEVING_MTA_RESOURCE_CONTENT = "Error retrieving content of MTA resource \"{0}\"";
@@ -19,6 +21,7 @@ public class Messages {
     public static final String INVALID_VALUE_0_FOR_PARAMETER_1_VALID_VALUES_ARE_2 = "Invalid value \"{0}\" for parameter \"{1}\". Valid values are: {2}";
     public static final String INVALID_NAMESPACE_LENGTH = "Invalid value for parameter namespace. The namespace cannot be more than {0} symbols.";
     public static final String ERROR_NO_FILE_ASSOCIATED_WITH_THE_SPECIFIED_FILE_ID_0_IN_SPACE_1 = "There is no file associated with the specified file id \"{0}\" in space \"{1}\"";
+    public static final String EXPECTED_TO_READ_0_BYTES_FROM_ARCHIVE_1_AT_OFFSET_2_BUT_GOT_3 = "Expected to read {0} bytes from archive \"{1}\" at offset {2}, but got {3}";
     public static final String UNKNOWN_SERVICE_ID = "Unknown service id \"{0}\"";
     public static final String UNKNOWN_SERVICE_ID_FOR_PROCESS_0 = "Unknown service id for process \"{0}\"";
     public static final String MISSING_SERVICE_BROKER_NAME = "Missing service broker name for application \"{0}\"";
@@ -202,6 +205,7 @@ public class Messages {
     public static final String COULD_NOT_DELETE_SERVICE = "Could not delete service \"{0}\", as it does not exist";
     public static final String COULD_NOT_DELETE_SUBSCRIPTION = "Could not delete subscription for application \"{0}\" and resource \"{1}\"";
     public static final String COULD_NOT_UPDATE_SUBSCRIBER = "Could not update application \"{0}\" from MTA \"{1}\" for subscription \"{2}\"";
+    public static final String COULD_NOT_UPDATE_SUBSCRIBER_0_FROM_MTA_1_FOR_SUBSCRIPTION_2_APPLICATION_NOT_FOUND = "Could not update application \"{0}\" from MTA \"{1}\" for subscription \"{2}\", because the application was not found";
     public static final String COULD_NOT_RESTART_SUBSCRIBER_0 = "Could not restart subscribed application \"{0}\"";
     public static final String CANNOT_CHANGE_VISIBILITY_OF_SERVICE_BROKER_FROM_SPACE_SCOPED_TO_GLOBAL = "Visibility of service broker \"{0}\" will not be changed from space-scoped to global, as visibility changes are not yet supported!";
     public static final String CANNOT_CHANGE_VISIBILITY_OF_SERVICE_BROKER_FROM_GLOBAL_TO_SPACE_SCOPED = "Visibility of service broker \"{0}\" will not be changed from global to space-scoped, as visibility changes are not yet supported!";
@@ -256,6 +260,10 @@ public class Messages {
     public static final String ERROR_WHILE_CREATING_SERVICE_KEY_0_FOR_OPTIONAL_SERVICE_1 = "Error while creating service key \"{0}\" for optional service \"{1}\"";
     public static final String ERROR_WHILE_DELETING_SERVICE_KEY_0_FOR_OPTIONAL_SERVICE_1 = "Error while deleting service key \"{0}\" for optional service \"{1}\"";
     public static final String SERVICE_KEY_0_IS_ALREADY_DELETED = "Service key \"{0}\" is already deleted";
+    public static final String ARCHIVE_0_DOES_NOT_HAVE_USABLE_CENTRAL_DIRECTORY_FALLING_BACK_TO_STREAMING = "Archive \"{0}\" does not have a usable central directory. Falling back to streaming the whole archive to determine its entries";
+    public static final String COULD_NOT_READ_CACHED_APPLICATION_PACKAGE_0 = "Could not read cached application package \"{0}\"";
+    public static final String COULD_NOT_CACHE_APPLICATION_PACKAGE_0 = "Could not cache application package \"{0}\"";
+    public static final String CLOUD_CONTROLLER_CANNOT_HANDLE_REQUESTS_0_POLLING_AGAIN_IN_1_SECONDS = "Cloud Controller cannot handle requests at the moment: {0}. Polling again in {1} seconds";
     public static final String FILE_WITH_ID_0_OPERATION_OWNERSHIP_CHANGED_FROM_0_TO_1 = "File with id \"{0}\" operation ownership was changed from \"{1}\" to \"{2}\" and won't be deleted";
 
     public static final String PARAMETERS_0_ARE_NOT_SUPPORTED_OR_REFERENCED_BY_ANY_OTHER_ENTITIES = "Parameter(s) \"{0}\" are not supported in the specified scope, or referenced by any other entities. These parameters will not be processed and can be lost after the operation completes.";
@@ -751,6 +759,10 @@ public class Messages {
     public static final String NEW_METADATA = "New metadata: {0}";
     public static final String OPENING_A_NEW_INPUT_STREAM_FOR_FILE_WITH_ID_0_AND_NAME_1 = "Opening a new input stream for file with ID: {0} and name: {1}";
     public static final String ARCHIVE_WITH_ID_0_AND_NAME_1_WAS_STORED = "Archive with ID: {0} and name: {1} was stored";
+    public static final String REUSING_APPLICATION_PACKAGE_0_FOR_MODULE_1 = "Reusing application package \"{0}\" for module \"{1}\"";
+    public static final String USING_APPLICATION_PACKAGE_EXTRACTED_DURING_DIGEST_CALCULATION_0 = "Using application package extracted during the digest calculation: \"{0}\"";
+    public static final String USING_CACHED_APPLICATION_PACKAGE_0_FOR_MODULE_1 = "Using cached application package \"{0}\" for module \"{1}\"";
+    public static final String COULD_NOT_LINK_0_TO_1_COPYING = "Could not link \"{0}\" to \"{1}\", copying it instead";
     public static final String NOT_ALL_OF_THE_APPLICATION_0_INSTANCES_ARE_RUNNING_WAITING_FOR_ALL_INSTANCES_TO_START = "Not all of the application {0} instances are running. Waiting for all instances to start";
     public static final String THE_DETECTED_APPLICATION_HAS_THE_SAME_NAME_AS_THE_NEW_ONE = "The detected application has the same name as the new one";
     public static final String DESIRED_APPLICATION_0_INSTANCES_1_AND_NOW_SCALED_TO_2 = "Desired application \"{0}\" instances {1} and now scaled to {2}";
@@ -2,6 +2,7 @@ package org.cloudfoundry.multiapps.controller.process.context;
 
 import java.util.List;
 
+import org.cloudfoundry.multiapps.common.Nullable;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions;
 import org.cloudfoundry.multiapps.controller.process.util.StepLogger;
@@ -30,4 +31,10 @@ public interface ApplicationToUploadContext {
     String getAppArchiveId();
 
     List<ArchiveEntryWithStreamPositions> getArchiveEntries();
+
+    @Nullable
+    String getApplicationDigest();
+
+    @Nullable
+    String getAppArchiveDigest();
 }
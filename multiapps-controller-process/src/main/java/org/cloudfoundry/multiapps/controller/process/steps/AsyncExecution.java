@@ -6,4 +6,8 @@ public interface AsyncExecution {
 
     String getPollingErrorMessage(ProcessContext context);
 
+    default PollingPolicy getPollingPolicy() {
+        return PollingPolicy.FIXED_INTERVAL;
+    }
+
 }
@@ -1,11 +1,22 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
+import java.time.Duration;
 import java.util.List;
 
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.cloudfoundry.multiapps.controller.client.util.RetryAfterCloudOperationException;
+import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+
 public abstract class AsyncFlowableStep extends SyncFlowableStep {
 
+    static final String POLLS_METRIC = "multiapps.controller.process.step.polls";
+    static final String POLLS_PER_EXECUTION_METRIC = "multiapps.controller.process.step.polls.per.execution";
+    static final String EXECUTION_TAG = "execution";
+
     private static final Integer DEFAULT_STEP_EXECUTION_INDEX = 0;
 
     @Override
@@ -15,7 +26,13 @@ public abstract class AsyncFlowableStep extends SyncFlowableStep {
             return executeStepExecution(context);
         }
         context.setVariable(Variables.ASYNC_STEP_EXECUTION_INDEX, DEFAULT_STEP_EXECUTION_INDEX);
-        return executeAsyncStep(context);
+        context.setVariable(Variables.ASYNC_STEP_EXECUTION_POLL_COUNT, 0);
+        context.removeVariable(Variables.POLLED_APPLICATION_GUIDS);
+        StepPhase nextStepPhase = executeAsyncStep(context);
+        if (nextStepPhase == StepPhase.POLL) {
+            setNextPollingInterval(context, getAsyncStepExecutions(context));
+        }
+        return nextStepPhase;
     }
 
     private StepPhase executeStepExecution(ProcessContext context) throws Exception {
@@ -23,13 +40,41 @@ public abstract class AsyncFlowableStep extends SyncFlowableStep {
         AsyncExecution stepExecution = getStepExecution(context, stepExecutions);
         try {
             AsyncExecutionState stepExecutionStatus = stepExecution.execute(context);
-            return handleStepExecutionStatus(context, stepExecutionStatus, stepExecutions);
+            countPoll(context, stepExecution, stepExecutionStatus);
+            StepPhase nextStepPhase = handleStepExecutionStatus(context, stepExecutionStatus, stepExecutions);
+            if (nextStepPhase == StepPhase.POLL) {
+                setNextPollingInterval(context, stepExecutions);
+            }
+            return nextStepPhase;
         } catch (Exception e) {
+            RetryAfterCloudOperationException retryAfterException = getRetryAfterException(e);
+            if (retryAfterException != null) {
+                return postponePoll(context, retryAfterException);
+            }
             processException(e, stepExecution.getPollingErrorMessage(context), getStepErrorMessageAdditionalDescription(context));
         }
         return StepPhase.RETRY;
     }
 
+    private RetryAfterCloudOperationException getRetryAfterException(Exception e) {
+        int index = ExceptionUtils.indexOfType(e, RetryAfterCloudOperationException.class);
+        return index == -1 ? null : (RetryAfterCloudOperationException) ExceptionUtils.getThrowableList(e)
+                                                                                      .get(index);
+    }
+
+    /**
+     * Cloud Controller has asked not to be called for a while, so instead of failing the step or waiting on the current thread, the
+     * poll is repeated by the next timer, which is postponed accordingly. The step timeout still applies.
+     */
+    private StepPhase postponePoll(ProcessContext context, RetryAfterCloudOperationException e) {
+        long intervalInSeconds = Math.max(configuration.getStepPollingIntervalInSeconds(), e.getRetryAfter()
+                                                                                            .toSeconds());
+        context.getStepLogger()
+               .warn(Messages.CLOUD_CONTROLLER_CANNOT_HANDLE_REQUESTS_0_POLLING_AGAIN_IN_1_SECONDS, e.getDescription(), intervalInSeconds);
+        context.setVariable(Variables.STEP_POLLING_INTERVAL_IN_SECONDS, (int) intervalInSeconds);
+        return StepPhase.POLL;
+    }
+
     private AsyncExecution getStepExecution(ProcessContext context, List<AsyncExecution> stepExecutions) {
         Integer executionIndex = getStepExecutionIndex(context);
         return stepExecutions.get(executionIndex);
@@ -39,6 +84,34 @@ public abstract class AsyncFlowableStep extends SyncFlowableStep {
         return context.getVariable(Variables.ASYNC_STEP_EXECUTION_INDEX);
     }
 
+    private void countPoll(ProcessContext context, AsyncExecution stepExecution, AsyncExecutionState stepExecutionState) {
+        String executionName = stepExecution.getClass()
+                                            .getSimpleName();
+        Metrics.counter(POLLS_METRIC, EXECUTION_TAG, executionName)
+               .increment();
+        int pollCount = context.getVariable(Variables.ASYNC_STEP_EXECUTION_POLL_COUNT) + 1;
+        if (stepExecutionState == AsyncExecutionState.RUNNING) {
+            context.setVariable(Variables.ASYNC_STEP_EXECUTION_POLL_COUNT, pollCount);
+            return;
+        }
+        DistributionSummary.builder(POLLS_PER_EXECUTION_METRIC)
+                           .tag(EXECUTION_TAG, executionName)
+                           .register(Metrics.globalRegistry)
+                           .record(pollCount);
+        context.setVariable(Variables.ASYNC_STEP_EXECUTION_POLL_COUNT, 0);
+    }
+
+    private void setNextPollingInterval(ProcessContext context, List<AsyncExecution> stepExecutions) {
+        int executionIndex = getStepExecutionIndex(context);
+        PollingPolicy pollingPolicy = executionIndex < stepExecutions.size() ? stepExecutions.get(executionIndex)
+                                                                                             .getPollingPolicy()
+            : PollingPolicy.FIXED_INTERVAL;
+        Duration initialInterval = Duration.ofSeconds(configuration.getStepPollingIntervalInSeconds());
+        Duration nextInterval = pollingPolicy.getInterval(initialInterval,
+                                                          context.getVariable(Variables.ASYNC_STEP_EXECUTION_POLL_COUNT));
+        context.setVariable(Variables.STEP_POLLING_INTERVAL_IN_SECONDS, (int) nextInterval.toSeconds());
+    }
+
     private StepPhase handleStepExecutionStatus(ProcessContext context, AsyncExecutionState stepExecutionState,
                                                 List<AsyncExecution> stepExecutions) {
         if (stepExecutionState == AsyncExecutionState.FINISHED) {
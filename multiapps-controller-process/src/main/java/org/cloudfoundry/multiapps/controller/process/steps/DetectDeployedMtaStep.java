@@ -24,6 +24,7 @@ import org.springframework.context.annotation.Scope;
 
 import com.sap.cloudfoundry.client.facade.CloudControllerClient;
 import com.sap.cloudfoundry.client.facade.CloudCredentials;
+import com.sap.cloudfoundry.client.facade.domain.CloudEntity;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -47,10 +48,11 @@ public class DetectDeployedMtaStep extends SyncFlowableStep {
         String mtaId = context.getVariable(Variables.MTA_ID);
         String mtaNamespace = context.getVariable(Variables.MTA_NAMESPACE);
         CloudControllerClient client = context.getControllerClient();
+        List<CloudEntity> mtaEntities = deployedMtaDetector.collectMtaEntitiesByName(mtaId, client);
 
-        DeployedMta deployedMta = detectDeployedMta(mtaId, mtaNamespace, client, context);
+        DeployedMta deployedMta = detectDeployedMta(mtaId, mtaNamespace, mtaEntities, context);
 
-        detectBackupMta(mtaId, mtaNamespace, client, context);
+        detectBackupMta(mtaId, mtaNamespace, mtaEntities, context);
 
         var deployedServiceKeys = detectDeployedServiceKeys(mtaId, mtaNamespace, deployedMta, context);
         context.setVariable(Variables.DEPLOYED_MTA_SERVICE_KEYS, deployedServiceKeys);
@@ -59,9 +61,10 @@ public class DetectDeployedMtaStep extends SyncFlowableStep {
         return StepPhase.DONE;
     }
 
-    private DeployedMta detectDeployedMta(String mtaId, String mtaNamespace, CloudControllerClient client, ProcessContext context) {
+    private DeployedMta detectDeployedMta(String mtaId, String mtaNamespace, List<CloudEntity> mtaEntities, ProcessContext context) {
         getStepLogger().debug(Messages.DETECTING_MTA_BY_ID_AND_NAMESPACE, mtaId, mtaNamespace);
-        Optional<DeployedMta> optionalDeployedMta = deployedMtaDetector.detectDeployedMtaByNameAndNamespace(mtaId, mtaNamespace, client);
+        Optional<DeployedMta> optionalDeployedMta = deployedMtaDetector.detectDeployedMtaByNameAndNamespace(mtaId, mtaNamespace,
+                                                                                                            mtaEntities);
 
         if (optionalDeployedMta.isEmpty()) {
             logNoMtaDeployedDetected(mtaId, mtaNamespace);
@@ -77,12 +80,12 @@ public class DetectDeployedMtaStep extends SyncFlowableStep {
         return deployedMta;
     }
 
-    private void detectBackupMta(String mtaId, String mtaNamespace, CloudControllerClient client, ProcessContext context) {
+    private void detectBackupMta(String mtaId, String mtaNamespace, List<CloudEntity> mtaEntities, ProcessContext context) {
         getStepLogger().debug(Messages.DETECTING_BACKUP_MTA_BY_ID_AND_NAMESPACE, mtaId, mtaNamespace);
         Optional<DeployedMta> optionalBackupMta = deployedMtaDetector.detectDeployedMtaByNameAndNamespace(mtaId,
                                                                                                           NameUtil.computeUserNamespaceWithSystemNamespace(Constants.MTA_BACKUP_NAMESPACE,
                                                                                                                                                            mtaNamespace),
-                                                                                                          client);
+                                                                                                          mtaEntities);
 
         if (optionalBackupMta.isEmpty()) {
             context.setVariable(Variables.BACKUP_MTA, null);
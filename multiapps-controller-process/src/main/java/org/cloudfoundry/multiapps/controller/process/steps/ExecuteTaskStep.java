@@ -9,8 +9,7 @@ import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
-import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
-import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.util.TimeoutType;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
@@ -27,9 +26,7 @@ public class ExecuteTaskStep extends TimeoutAsyncFlowableStep {
     protected LongSupplier currentTimeSupplier = System::currentTimeMillis;
 
     @Inject
-    private CloudControllerClientFactory clientFactory;
-    @Inject
-    private TokenService tokenService;
+    private LogCacheClientProvider logCacheClientProvider;
 
     @Override
     protected StepPhase executeAsyncStep(ProcessContext context) {
@@ -53,7 +50,7 @@ public class ExecuteTaskStep extends TimeoutAsyncFlowableStep {
 
     @Override
     protected List<AsyncExecution> getAsyncStepExecutions(ProcessContext context) {
-        return List.of(new PollExecuteTaskStatusExecution(clientFactory, tokenService));
+        return List.of(new PollExecuteTaskStatusExecution(logCacheClientProvider));
     }
 
     @Override
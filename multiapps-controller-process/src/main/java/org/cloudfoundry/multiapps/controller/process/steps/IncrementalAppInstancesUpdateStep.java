@@ -10,11 +10,10 @@ import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
-import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMta;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMtaApplication;
 import org.cloudfoundry.multiapps.controller.core.model.ImmutableIncrementalAppInstanceUpdateConfiguration;
-import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.util.TimeoutType;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
@@ -38,13 +37,11 @@ public class IncrementalAppInstancesUpdateStep extends TimeoutAsyncFlowableStep
     private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalAppInstancesUpdateStep.class);
     private static final int MAX_TIMEOUT = (int) TimeUnit.HOURS.toSeconds(24);
 
-    private final CloudControllerClientFactory clientFactory;
-    private final TokenService tokenService;
+    private final LogCacheClientProvider logCacheClientProvider;
 
     @Inject
-    public IncrementalAppInstancesUpdateStep(CloudControllerClientFactory clientFactory, TokenService tokenService) {
-        this.clientFactory = clientFactory;
-        this.tokenService = tokenService;
+    public IncrementalAppInstancesUpdateStep(LogCacheClientProvider logCacheClientProvider) {
+        this.logCacheClientProvider = logCacheClientProvider;
     }
 
     @Override
@@ -172,8 +169,8 @@ public class IncrementalAppInstancesUpdateStep extends TimeoutAsyncFlowableStep
     protected List<AsyncExecution> getAsyncStepExecutions(ProcessContext context) {
         // The sequence of executions is crucial, as the incremental blue-green deployment alternates between them during the polling
         // process
-        return List.of(new PollStartLiveAppExecution(clientFactory, tokenService),
-                       new PollStartAppExecutionWithRollbackExecution(clientFactory, tokenService),
+        return List.of(new PollStartLiveAppExecution(logCacheClientProvider),
+                       new PollStartAppExecutionWithRollbackExecution(logCacheClientProvider),
                        new PollIncrementalAppInstanceUpdateExecution());
     }
 
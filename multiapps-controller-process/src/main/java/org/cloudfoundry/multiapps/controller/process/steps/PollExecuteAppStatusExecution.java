@@ -11,11 +11,10 @@ import java.util.Objects;
 import java.util.UUID;
 
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
-import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
 import org.cloudfoundry.multiapps.controller.core.cf.apps.ApplicationStateAction;
 import org.cloudfoundry.multiapps.controller.core.helpers.ApplicationAttributes;
 import org.cloudfoundry.multiapps.controller.core.model.SupportedParameters;
-import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLoggerProvider;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
@@ -57,15 +56,13 @@ public class PollExecuteAppStatusExecution implements AsyncExecution {
         }
     }
 
-    private final CloudControllerClientFactory clientFactory;
-    private final TokenService tokenService;
+    private final LogCacheClientProvider logCacheClientProvider;
 
     private static final String DEFAULT_SUCCESS_MARKER = "STDOUT:SUCCESS";
     private static final String DEFAULT_FAILURE_MARKER = "STDERR:FAILURE";
 
-    public PollExecuteAppStatusExecution(CloudControllerClientFactory clientFactory, TokenService tokenService) {
-        this.clientFactory = clientFactory;
-        this.tokenService = tokenService;
+    public PollExecuteAppStatusExecution(LogCacheClientProvider logCacheClientProvider) {
+        this.logCacheClientProvider = logCacheClientProvider;
     }
 
     @Override
@@ -82,9 +79,9 @@ public class PollExecuteAppStatusExecution implements AsyncExecution {
         LocalDateTime logsOffset = context.getVariable(Variables.LOGS_OFFSET_FOR_APP_EXECUTION);
         var user = context.getVariable(Variables.USER);
         var correlationId = context.getVariable(Variables.CORRELATION_ID);
-        var logCacheClient = clientFactory.createLogCacheClient(tokenService.getToken(user), correlationId);
+        var logCacheClient = logCacheClientProvider.getLogCacheClient(user, correlationId);
 
-        UUID appGuid = client.getApplicationGuid(app.getName());
+        UUID appGuid = StepsUtil.getPolledApplicationGuid(context, client, app.getName());
         List<ApplicationLog> recentLogs = logCacheClient.getRecentLogs(appGuid, logsOffset);
         setLogsOffset(context, recentLogs);
 
@@ -101,6 +98,11 @@ public class PollExecuteAppStatusExecution implements AsyncExecution {
         return MessageFormat.format(Messages.ERROR_EXECUTING_APP_1, app.getName());
     }
 
+    @Override
+    public PollingPolicy getPollingPolicy() {
+        return PollingPolicy.APPLICATION_OPERATIONS;
+    }
+
     private AppExecutionDetailedStatus getAppExecutionStatus(ProcessContext context, ApplicationAttributes appAttributes,
                                                              List<ApplicationLog> recentLogs) {
         long startTime = context.getVariable(Variables.START_TIME);
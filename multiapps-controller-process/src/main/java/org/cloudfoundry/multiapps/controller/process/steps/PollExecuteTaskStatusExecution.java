@@ -4,8 +4,7 @@ import java.text.MessageFormat;
 import java.util.UUID;
 
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
-import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
-import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLoggerProvider;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
@@ -19,12 +18,10 @@ public class PollExecuteTaskStatusExecution implements AsyncExecution {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PollExecuteTaskStatusExecution.class);
 
-    private final CloudControllerClientFactory clientFactory;
-    private final TokenService tokenService;
+    private final LogCacheClientProvider logCacheClientProvider;
 
-    public PollExecuteTaskStatusExecution(CloudControllerClientFactory clientFactory, TokenService tokenService) {
-        this.clientFactory = clientFactory;
-        this.tokenService = tokenService;
+    public PollExecuteTaskStatusExecution(LogCacheClientProvider logCacheClientProvider) {
+        this.logCacheClientProvider = logCacheClientProvider;
     }
 
     @Override
@@ -43,9 +40,9 @@ public class PollExecuteTaskStatusExecution implements AsyncExecution {
 
         var user = context.getVariable(Variables.USER);
         var correlationId = context.getVariable(Variables.CORRELATION_ID);
-        var logCacheClient = clientFactory.createLogCacheClient(tokenService.getToken(user), correlationId);
+        var logCacheClient = logCacheClientProvider.getLogCacheClient(user, correlationId);
 
-        UUID appGuid = client.getApplicationGuid(app.getName());
+        UUID appGuid = StepsUtil.getPolledApplicationGuid(context, client, app.getName());
         StepsUtil.saveAppLogs(context, logCacheClient, appGuid, app.getName(), LOGGER, processLoggerProvider);
 
         if (currentState == CloudTask.State.SUCCEEDED) {
@@ -65,4 +62,9 @@ public class PollExecuteTaskStatusExecution implements AsyncExecution {
         CloudTask task = context.getVariable(Variables.STARTED_TASK);
         return MessageFormat.format(Messages.ERROR_EXECUTING_TASK_0_ON_APP_1, task.getName(), app.getName());
     }
+
+    @Override
+    public PollingPolicy getPollingPolicy() {
+        return PollingPolicy.TASK_EXECUTIONS;
+    }
 }
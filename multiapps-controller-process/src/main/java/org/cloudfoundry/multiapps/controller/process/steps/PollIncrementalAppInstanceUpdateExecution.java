@@ -105,4 +105,9 @@ public class PollIncrementalAppInstanceUpdateExecution implements AsyncExecution
                                            .getModuleName());
     }
 
+    @Override
+    public PollingPolicy getPollingPolicy() {
+        return PollingPolicy.APPLICATION_OPERATIONS;
+    }
+
 }
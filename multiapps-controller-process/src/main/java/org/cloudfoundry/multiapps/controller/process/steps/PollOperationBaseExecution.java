@@ -45,4 +45,9 @@ public abstract class PollOperationBaseExecution implements AsyncExecution {
         return getOnErrorHandler(context);
     }
 
+    @Override
+    public PollingPolicy getPollingPolicy() {
+        return PollingPolicy.SERVICE_OPERATIONS;
+    }
+
 }
@@ -53,7 +53,7 @@ public class PollServiceBindingLastOperationExecution implements AsyncExecution
     private CloudServiceBinding getServiceBindingForAppAndServiceInstance(ProcessContext context, CloudControllerClient controllerClient) {
         CloudApplication app = context.getVariable(Variables.APP_TO_PROCESS);
         String serviceInstanceName = context.getVariable(Variables.SERVICE_TO_UNBIND_BIND);
-        UUID applicationGuid = controllerClient.getApplicationGuid(app.getName());
+        UUID applicationGuid = StepsUtil.getPolledApplicationGuid(context, controllerClient, app.getName());
         UUID serviceInstanceGuid = controllerClient.getRequiredServiceInstanceGuid(serviceInstanceName);
         return controllerClient.getServiceBindingForApplication(applicationGuid, serviceInstanceGuid);
     }
@@ -96,4 +96,9 @@ public class PollServiceBindingLastOperationExecution implements AsyncExecution
         return MessageFormat.format(Messages.ERROR_WHILE_POLLING_SERVICE_BINDING_OPERATIONS_BETWEEN_APP_0_AND_SERVICE_INSTANCE_1,
                                     app.getName(), serviceInstanceName);
     }
+
+    @Override
+    public PollingPolicy getPollingPolicy() {
+        return PollingPolicy.SERVICE_OPERATIONS;
+    }
 }
@@ -49,4 +49,9 @@ public class PollServiceBindingOrKeyOperationExecution implements AsyncExecution
     public String getPollingErrorMessage(ProcessContext context) {
         return Messages.ERROR_MONITORING_OPERATION_OF_BINDING_OR_KEY_OF_SERVICE;
     }
+
+    @Override
+    public PollingPolicy getPollingPolicy() {
+        return PollingPolicy.SERVICE_OPERATIONS;
+    }
 }
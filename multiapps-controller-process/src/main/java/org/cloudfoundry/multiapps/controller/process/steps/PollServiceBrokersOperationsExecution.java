@@ -79,4 +79,9 @@ public class PollServiceBrokersOperationsExecution implements AsyncExecution {
         return Messages.ERROR_POLLING_ASYNC_SERVICE_BROKERS;
     }
 
+    @Override
+    public PollingPolicy getPollingPolicy() {
+        return PollingPolicy.SERVICE_OPERATIONS;
+    }
+
 }
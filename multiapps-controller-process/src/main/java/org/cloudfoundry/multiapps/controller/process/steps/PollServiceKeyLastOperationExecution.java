@@ -58,4 +58,9 @@ public class PollServiceKeyLastOperationExecution implements AsyncExecution {
         CloudServiceKey serviceKeyToDelete = context.getVariable(Variables.SERVICE_KEY_TO_PROCESS);
         return MessageFormat.format(Messages.ERROR_WHILE_POLLING_SERVICE_KEY_OPERATION_0, serviceKeyToDelete.getName());
     }
+
+    @Override
+    public PollingPolicy getPollingPolicy() {
+        return PollingPolicy.SERVICE_OPERATIONS;
+    }
 }
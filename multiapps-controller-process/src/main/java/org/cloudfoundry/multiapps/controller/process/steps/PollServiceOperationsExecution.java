@@ -12,6 +12,7 @@ import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudServiceInstanceExtended;
+import org.cloudfoundry.multiapps.controller.client.util.RetryAfterCloudOperationException;
 import org.cloudfoundry.multiapps.controller.core.security.serialization.SecureSerialization;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.util.ServiceOperationGetter;
@@ -45,9 +46,10 @@ public abstract class PollServiceOperationsExecution implements AsyncExecution {
             return AsyncExecutionState.FINISHED;
         }
 
+        Map<String, ServiceOperation> lastServiceOperations = getLastServiceOperationsAndHandleExceptions(context, servicesToPoll);
         Map<CloudServiceInstanceExtended, ServiceOperation> servicesWithLastOperation = new HashMap<>();
         for (CloudServiceInstanceExtended service : servicesToPoll) {
-            ServiceOperation lastServiceOperation = getLastServiceOperationAndHandleExceptions(context, service);
+            ServiceOperation lastServiceOperation = getLastServiceOperation(context, service, lastServiceOperations.get(service.getName()));
             if (lastServiceOperation != null) {
                 servicesWithLastOperation.put(service, lastServiceOperation);
             }
@@ -90,22 +92,29 @@ public abstract class PollServiceOperationsExecution implements AsyncExecution {
         return getServicesWithTriggeredOperations(servicesData, triggeredServiceOperations);
     }
 
-    private ServiceOperation getLastServiceOperationAndHandleExceptions(ProcessContext context, CloudServiceInstanceExtended service) {
+    private Map<String, ServiceOperation> getLastServiceOperationsAndHandleExceptions(ProcessContext context,
+                                                                                      List<CloudServiceInstanceExtended> services) {
         try {
-            ServiceOperation lastServiceOperation = getLastServiceOperation(context, service);
-            if (lastServiceOperation != null) {
-                return mapOperationState(context.getStepLogger(), lastServiceOperation, service);
-            }
-            handleMissingOperationState(context.getStepLogger(), service);
-            return null;
+            return serviceOperationGetter.getLastServiceOperations(context.getControllerClient(), services);
+        } catch (RetryAfterCloudOperationException e) {
+            // The step polls again when Cloud Controller can handle requests:
+            throw e;
         } catch (CloudOperationException e) {
-            String errorMessage = format(Messages.ERROR_POLLING_OF_SERVICE, service.getName(), e.getStatusText());
+            String serviceNames = services.stream()
+                                          .map(CloudServiceInstanceExtended::getName)
+                                          .collect(Collectors.joining(", "));
+            String errorMessage = format(Messages.ERROR_POLLING_OF_SERVICE, serviceNames, e.getStatusText());
             throw new CloudControllerException(e.getStatusCode(), errorMessage, e.getDescription());
         }
     }
 
-    private ServiceOperation getLastServiceOperation(ProcessContext context, CloudServiceInstanceExtended service) {
-        return serviceOperationGetter.getLastServiceOperation(context.getControllerClient(), service);
+    private ServiceOperation getLastServiceOperation(ProcessContext context, CloudServiceInstanceExtended service,
+                                                     ServiceOperation lastServiceOperation) {
+        if (lastServiceOperation != null) {
+            return mapOperationState(context.getStepLogger(), lastServiceOperation, service);
+        }
+        handleMissingOperationState(context.getStepLogger(), service);
+        return null;
     }
 
     protected ServiceOperation mapOperationState(StepLogger stepLogger, ServiceOperation lastServiceOperation,
@@ -152,4 +161,9 @@ public abstract class PollServiceOperationsExecution implements AsyncExecution {
 
     protected abstract void handleMissingOperationState(StepLogger stepLogger, CloudServiceInstanceExtended service);
 
+    @Override
+    public PollingPolicy getPollingPolicy() {
+        return PollingPolicy.SERVICE_OPERATIONS;
+    }
+
 }
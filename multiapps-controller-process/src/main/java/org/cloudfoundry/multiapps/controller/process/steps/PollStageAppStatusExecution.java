@@ -3,8 +3,7 @@ package org.cloudfoundry.multiapps.controller.process.steps;
 import java.text.MessageFormat;
 import java.util.UUID;
 
-import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
-import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLoggerProvider;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationStager;
@@ -23,14 +22,11 @@ public class PollStageAppStatusExecution implements AsyncExecution {
     private static final Logger LOGGER = LoggerFactory.getLogger(PollStageAppStatusExecution.class);
 
     private final ApplicationStager applicationStager;
-    private final CloudControllerClientFactory clientFactory;
-    private final TokenService tokenService;
+    private final LogCacheClientProvider logCacheClientProvider;
 
-    public PollStageAppStatusExecution(ApplicationStager applicationStager, CloudControllerClientFactory clientFactory,
-                                       TokenService tokenService) {
+    public PollStageAppStatusExecution(ApplicationStager applicationStager, LogCacheClientProvider logCacheClientProvider) {
         this.applicationStager = applicationStager;
-        this.clientFactory = clientFactory;
-        this.tokenService = tokenService;
+        this.logCacheClientProvider = logCacheClientProvider;
     }
 
     @Override
@@ -47,9 +43,9 @@ public class PollStageAppStatusExecution implements AsyncExecution {
 
         var user = context.getVariable(Variables.USER);
         var correlationId = context.getVariable(Variables.CORRELATION_ID);
-        var logCacheClient = clientFactory.createLogCacheClient(tokenService.getToken(user), correlationId);
+        var logCacheClient = logCacheClientProvider.getLogCacheClient(user, correlationId);
 
-        UUID appGuid = client.getApplicationGuid(application.getName());
+        UUID appGuid = StepsUtil.getPolledApplicationGuid(context, client, application.getName());
         StepsUtil.saveAppLogs(context, logCacheClient, appGuid, application.getName(), LOGGER, processLoggerProvider);
 
         if (state.getState() != PackageState.STAGED) {
@@ -66,6 +62,11 @@ public class PollStageAppStatusExecution implements AsyncExecution {
         return MessageFormat.format(Messages.ERROR_STAGING_APP_0, application.getName());
     }
 
+    @Override
+    public PollingPolicy getPollingPolicy() {
+        return PollingPolicy.APPLICATION_OPERATIONS;
+    }
+
     private AsyncExecutionState checkStagingState(StepLogger stepLogger, String appName, StagingState state) {
         if (state.getState() == PackageState.FAILED) {
             stepLogger.error(Messages.ERROR_STAGING_APP_0_DESCRIPTION_1, appName, state.getError());
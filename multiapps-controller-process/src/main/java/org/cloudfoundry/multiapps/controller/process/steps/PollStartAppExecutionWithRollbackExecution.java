@@ -1,9 +1,8 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
-import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
 import org.cloudfoundry.multiapps.controller.core.model.IncrementalAppInstanceUpdateConfiguration;
-import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 
@@ -14,8 +13,8 @@ import static org.cloudfoundry.multiapps.controller.process.steps.StepsUtil.enab
 
 public class PollStartAppExecutionWithRollbackExecution extends PollStartAppStatusExecution {
 
-    public PollStartAppExecutionWithRollbackExecution(CloudControllerClientFactory clientFactory, TokenService tokenService) {
-        super(clientFactory, tokenService);
+    public PollStartAppExecutionWithRollbackExecution(LogCacheClientProvider logCacheClientProvider) {
+        super(logCacheClientProvider);
     }
 
     @Override
@@ -6,8 +6,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
-import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
 import org.cloudfoundry.multiapps.controller.core.util.UriUtil;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLoggerProvider;
 import org.cloudfoundry.multiapps.controller.process.Messages;
@@ -24,12 +23,10 @@ import com.sap.cloudfoundry.client.facade.domain.InstanceState;
 public class PollStartAppStatusExecution implements AsyncExecution {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PollStartAppStatusExecution.class);
-    private final CloudControllerClientFactory clientFactory;
-    private final TokenService tokenService;
+    private final LogCacheClientProvider logCacheClientProvider;
 
-    public PollStartAppStatusExecution(CloudControllerClientFactory clientFactory, TokenService tokenService) {
-        this.clientFactory = clientFactory;
-        this.tokenService = tokenService;
+    public PollStartAppStatusExecution(LogCacheClientProvider logCacheClientProvider) {
+        this.logCacheClientProvider = logCacheClientProvider;
     }
 
     @Override
@@ -49,7 +46,7 @@ public class PollStartAppStatusExecution implements AsyncExecution {
 
         var user = context.getVariable(Variables.USER);
         var correlationId = context.getVariable(Variables.CORRELATION_ID);
-        var logCacheClient = clientFactory.createLogCacheClient(tokenService.getToken(user), correlationId);
+        var logCacheClient = logCacheClientProvider.getLogCacheClient(user, correlationId);
 
         StepsUtil.saveAppLogs(context, logCacheClient, app.getGuid(), app.getName(), LOGGER, processLoggerProvider);
         return checkStartupStatus(context, app, status);
@@ -60,6 +57,11 @@ public class PollStartAppStatusExecution implements AsyncExecution {
         return format(Messages.ERROR_STARTING_APP_0, appToPoll);
     }
 
+    @Override
+    public PollingPolicy getPollingPolicy() {
+        return PollingPolicy.APPLICATION_OPERATIONS;
+    }
+
     protected CloudApplication getAppToPoll(ProcessContext context) {
         return context.getVariable(Variables.APP_TO_PROCESS);
     }
@@ -2,9 +2,8 @@ package org.cloudfoundry.multiapps.controller.process.steps;
 
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
-import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMtaApplication;
-import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 
@@ -13,8 +12,8 @@ import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
 
 public class PollStartLiveAppExecution extends PollStartAppStatusExecution {
 
-    public PollStartLiveAppExecution(CloudControllerClientFactory clientFactory, TokenService tokenService) {
-        super(clientFactory, tokenService);
+    public PollStartLiveAppExecution(LogCacheClientProvider logCacheClientProvider) {
+        super(logCacheClientProvider);
     }
 
     @Override
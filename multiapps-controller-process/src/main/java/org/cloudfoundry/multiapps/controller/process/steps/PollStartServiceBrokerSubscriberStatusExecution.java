@@ -1,15 +1,13 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
-import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
-import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
 
 import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
 
 public class PollStartServiceBrokerSubscriberStatusExecution extends PollStartAppStatusExecution {
 
-    public PollStartServiceBrokerSubscriberStatusExecution(CloudControllerClientFactory clientFactory,
-                                                           TokenService tokenService) {
-        super(clientFactory, tokenService);
+    public PollStartServiceBrokerSubscriberStatusExecution(LogCacheClientProvider logCacheClientProvider) {
+        super(logCacheClientProvider);
     }
 
     @Override
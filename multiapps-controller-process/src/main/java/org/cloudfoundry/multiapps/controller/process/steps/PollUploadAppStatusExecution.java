@@ -77,4 +77,9 @@ public class PollUploadAppStatusExecution implements AsyncExecution {
                                                                         .getName());
     }
 
+    @Override
+    public PollingPolicy getPollingPolicy() {
+        return PollingPolicy.APPLICATION_OPERATIONS;
+    }
+
 }
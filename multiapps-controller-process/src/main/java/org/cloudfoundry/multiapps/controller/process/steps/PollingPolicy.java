@@ -0,0 +1,46 @@
+package org.cloudfoundry.multiapps.controller.process.steps;
+
+import java.time.Duration;
+
+import org.immutables.value.Value;
+
+/**
+ * Determines how often an {@link AsyncExecution} is polled. The interval starts from the configured step polling interval and grows by
+ * {@link #getMultiplier()} with each poll, until it reaches {@link #getMaxInterval()}. Operations which usually complete quickly are thus
+ * still polled often, while the long-running ones create far fewer timer jobs.
+ */
+@Value.Immutable
+public interface PollingPolicy {
+
+    PollingPolicy FIXED_INTERVAL = ImmutablePollingPolicy.builder()
+                                                         .maxInterval(Duration.ZERO)
+                                                         .build();
+    PollingPolicy APPLICATION_OPERATIONS = ImmutablePollingPolicy.builder()
+                                                                 .maxInterval(Duration.ofSeconds(15))
+                                                                 .build();
+    PollingPolicy TASK_EXECUTIONS = ImmutablePollingPolicy.builder()
+                                                          .maxInterval(Duration.ofSeconds(30))
+                                                          .build();
+    PollingPolicy SERVICE_OPERATIONS = ImmutablePollingPolicy.builder()
+                                                             .maxInterval(Duration.ofSeconds(60))
+                                                             .build();
+
+    Duration getMaxInterval();
+
+    @Value.Default
+    default double getMultiplier() {
+        return 1.5;
+    }
+
+    /**
+     * @param initialInterval the interval before the first poll
+     * @param pollCount the number of polls which have already been done
+     * @return the interval before the next poll, which is never shorter than the initial one
+     */
+    default Duration getInterval(Duration initialInterval, int pollCount) {
+        long maxIntervalInSeconds = Math.max(getMaxInterval().toSeconds(), initialInterval.toSeconds());
+        double intervalInSeconds = initialInterval.toSeconds() * Math.pow(getMultiplier(), pollCount);
+        return Duration.ofSeconds((long) Math.min(intervalInSeconds, maxIntervalInSeconds));
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -21,6 +22,7 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Scope;
 
 import com.sap.cloudfoundry.client.facade.CloudControllerClient;
+import com.sap.cloudfoundry.client.facade.domain.CloudEntity;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -56,11 +58,13 @@ public class PrepareBackupMtaForDeploymentStep extends SyncFlowableStep {
 
         acquireOperationLock(context, mtaId);
 
+        List<CloudEntity> mtaEntities = deployedMtaDetector.collectMtaEntitiesByName(mtaId, client);
         Optional<DeployedMta> backupMtaOptional = deployedMtaDetector.detectDeployedMtaByNameAndNamespace(mtaId,
                                                                                                           mtaNamespaceWithSystemNamespace,
-                                                                                                          client);
+                                                                                                          mtaEntities);
 
-        Optional<DeployedMta> deployedMtaOptional = deployedMtaDetector.detectDeployedMtaByNameAndNamespace(mtaId, mtaNamespace, client);
+        Optional<DeployedMta> deployedMtaOptional = deployedMtaDetector.detectDeployedMtaByNameAndNamespace(mtaId, mtaNamespace,
+                                                                                                            mtaEntities);
         if (backupMtaOptional.isEmpty() || deployedMtaOptional.isEmpty()) {
             throw new ContentException(Messages.ROLLBACK_OF_MTA_ID_0_CANNOT_BE_DONE_MISSING_DEPLOYED_MTA, mtaId);
         }
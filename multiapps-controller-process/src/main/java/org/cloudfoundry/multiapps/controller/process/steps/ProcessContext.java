@@ -5,6 +5,7 @@ import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvid
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.client.LoggingCloudControllerClient;
 import org.cloudfoundry.multiapps.controller.process.util.StepLogger;
+import org.cloudfoundry.multiapps.controller.process.variables.DeserializedVariableCache;
 import org.cloudfoundry.multiapps.controller.process.variables.Variable;
 import org.cloudfoundry.multiapps.controller.process.variables.VariableHandling;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
@@ -17,6 +18,7 @@ public class ProcessContext {
     private final DelegateExecution execution;
     private final StepLogger stepLogger;
     private final CloudControllerClientProvider clientProvider;
+    private final DeserializedVariableCache variableCache = new DeserializedVariableCache();
 
     public ProcessContext(DelegateExecution execution, StepLogger stepLogger, CloudControllerClientProvider clientProvider) {
         this.execution = execution;
@@ -56,11 +58,11 @@ public class ProcessContext {
     }
 
     public <T> T getVariable(Variable<T> variable) {
-        return VariableHandling.get(execution, variable);
+        return variableCache.get(execution, variable);
     }
 
     public <T> T getVariableIfSet(Variable<T> variable) {
-        return VariableHandling.getIfSet(execution, variable);
+        return variableCache.getIfSet(execution, variable);
     }
 
     public <T> T getVariableBackwardsCompatible(Variable<T> variable) {
@@ -68,10 +70,12 @@ public class ProcessContext {
     }
 
     public <T> void setVariable(Variable<T> variable, T value) {
+        variableCache.invalidate(variable);
         VariableHandling.set(execution, variable, value);
     }
 
     public void removeVariable(Variable<?> variable) {
+        variableCache.invalidate(variable);
         VariableHandling.remove(execution, variable);
     }
 
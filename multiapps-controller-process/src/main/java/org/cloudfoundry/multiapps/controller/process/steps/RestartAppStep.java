@@ -4,9 +4,8 @@ import java.text.MessageFormat;
 import java.time.Duration;
 import java.util.List;
 
-import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
 import org.cloudfoundry.multiapps.controller.core.model.HookPhase;
-import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.util.TimeoutType;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
@@ -27,9 +26,7 @@ import jakarta.inject.Named;
 public class RestartAppStep extends TimeoutAsyncFlowableStepWithHooks implements BeforeStepHookPhaseProvider {
 
     @Inject
-    protected CloudControllerClientFactory clientFactory;
-    @Inject
-    protected TokenService tokenService;
+    protected LogCacheClientProvider logCacheClientProvider;
 
     @Override
     public StepPhase executePollingStep(ProcessContext context) {
@@ -90,8 +87,8 @@ public class RestartAppStep extends TimeoutAsyncFlowableStepWithHooks implements
 
     @Override
     protected List<AsyncExecution> getAsyncStepExecutions(ProcessContext context) {
-        return List.of(new PollStartAppStatusExecution(clientFactory, tokenService),
-                       new PollExecuteAppStatusExecution(clientFactory, tokenService));
+        return List.of(new PollStartAppStatusExecution(logCacheClientProvider),
+                       new PollExecuteAppStatusExecution(logCacheClientProvider));
     }
 
     @Override
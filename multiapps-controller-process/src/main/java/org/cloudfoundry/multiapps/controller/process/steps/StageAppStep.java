@@ -7,8 +7,7 @@ import java.util.List;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
-import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
-import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationStager;
 import org.cloudfoundry.multiapps.controller.process.util.TimeoutType;
@@ -23,9 +22,7 @@ import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
 public class StageAppStep extends TimeoutAsyncFlowableStep {
 
     @Inject
-    protected CloudControllerClientFactory clientFactory;
-    @Inject
-    protected TokenService tokenService;
+    protected LogCacheClientProvider logCacheClientProvider;
 
     @Override
     protected StepPhase executeAsyncStep(ProcessContext context) {
@@ -42,7 +39,7 @@ public class StageAppStep extends TimeoutAsyncFlowableStep {
 
     @Override
     protected List<AsyncExecution> getAsyncStepExecutions(ProcessContext context) {
-        return List.of(new PollStageAppStatusExecution(new ApplicationStager(context), clientFactory, tokenService));
+        return List.of(new PollStageAppStatusExecution(new ApplicationStager(context), logCacheClientProvider));
     }
 
     @Override
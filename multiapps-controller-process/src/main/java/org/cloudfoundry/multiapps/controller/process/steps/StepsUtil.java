@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -29,6 +30,8 @@ import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLoggerP
 import org.cloudfoundry.multiapps.controller.process.Constants;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.flowable.FlowableFacade;
+import org.cloudfoundry.multiapps.controller.process.util.SavedCloudControllerRequests;
+import org.cloudfoundry.multiapps.controller.process.variables.JsonBinaryCodec;
 import org.cloudfoundry.multiapps.controller.process.variables.Variable;
 import org.cloudfoundry.multiapps.controller.process.variables.VariableHandling;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
@@ -113,7 +116,7 @@ public class StepsUtil {
             return Collections.emptyList();
         }
         byte[] deletedEntriesByteArray = (byte[]) deletedEntries.getValue();
-        return Arrays.asList(JsonUtil.fromJsonBinary(deletedEntriesByteArray, ConfigurationEntry[].class));
+        return Arrays.asList(JsonBinaryCodec.decode(deletedEntriesByteArray, ConfigurationEntry[].class));
     }
 
     static List<ConfigurationEntry> getDeletedEntriesFromAllProcesses(ProcessContext context, FlowableFacade flowableFacade) {
@@ -134,7 +137,7 @@ public class StepsUtil {
             return Collections.emptyList();
         }
         byte[] binaryJson = (byte[]) publishedEntries.getValue();
-        return Arrays.asList(JsonUtil.fromJsonBinary(binaryJson, ConfigurationEntry[].class));
+        return Arrays.asList(JsonBinaryCodec.decode(binaryJson, ConfigurationEntry[].class));
     }
 
     static List<ConfigurationEntry> getPublishedEntriesFromSubProcesses(ProcessContext context, FlowableFacade flowableFacade) {
@@ -163,10 +166,11 @@ public class StepsUtil {
             appName = BlueGreenApplicationNameSuffix.removeSuffix(appName);
         }
         var loggerPrefix = getLoggerPrefix(logger);
-        for (ApplicationLog log : recentLogs) {
-            processLoggerProvider.getLogger(context.getExecution(), appName)
-                                 .debug(loggerPrefix + log.toString());
-        }
+        List<String> logLines = recentLogs.stream()
+                                          .map(log -> loggerPrefix + log.toString())
+                                          .toList();
+        processLoggerProvider.getLogger(context.getExecution(), appName)
+                             .debugAll(logLines);
 
         var lastLog = recentLogs.get(recentLogs.size() - 1);
         context.setVariable(Variables.LOGS_OFFSET, lastLog.getTimestamp());
@@ -286,6 +290,24 @@ public class StepsUtil {
         client.updateApplicationMetadata(uuid, metadata);
     }
 
+    /**
+     * Gets the GUID of an application polled by the current step. The GUID of an application cannot change, so it is requested only once
+     * per step execution.
+     */
+    static UUID getPolledApplicationGuid(ProcessContext context, CloudControllerClient client, String applicationName) {
+        Map<String, UUID> applicationGuids = context.getVariable(Variables.POLLED_APPLICATION_GUIDS);
+        UUID applicationGuid = applicationGuids.get(applicationName);
+        if (applicationGuid != null) {
+            SavedCloudControllerRequests.count(SavedCloudControllerRequests.APPLICATION_GUID_REQUEST, 1);
+            return applicationGuid;
+        }
+        applicationGuid = client.getApplicationGuid(applicationName);
+        Map<String, UUID> updatedApplicationGuids = new HashMap<>(applicationGuids);
+        updatedApplicationGuids.put(applicationName, applicationGuid);
+        context.setVariable(Variables.POLLED_APPLICATION_GUIDS, updatedApplicationGuids);
+        return applicationGuid;
+    }
+
     public static void enableAutoscaling(CloudControllerClient client, CloudApplication application) {
         UUID applicationId = client.getApplicationGuid(application.getName());
         Metadata metadata = Metadata.builder()
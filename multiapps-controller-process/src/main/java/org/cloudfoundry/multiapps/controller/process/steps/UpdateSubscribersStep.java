@@ -1,13 +1,23 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
@@ -55,6 +65,8 @@ import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
 import com.sap.cloudfoundry.client.facade.domain.CloudSpace;
 import com.sap.cloudfoundry.client.facade.rest.CloudSpaceClient;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
@@ -81,7 +93,14 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
 
     private static final String DUMMY_VERSION = "1.0.0";
 
+    static final int MAX_PARALLEL_REQUESTS_PER_SPACE = 5;
+    private static final String THREAD_NAME_PREFIX = "update-subscribers-";
+
+    static final String DURATION_METRIC = "multiapps.controller.subscribers.update.duration";
+    static final String CLOUD_CONTROLLER_REQUESTS_METRIC = "multiapps.controller.subscribers.update.cloud.controller.requests";
+
     protected BiFunction<ClientHelper, String, CloudSpace> targetCalculator = ClientHelper::attemptToFindSpace;
+    protected MeterRegistry meterRegistry = Metrics.globalRegistry;
 
     @Inject
     private ConfigurationSubscriptionService configurationSubscriptionService;
@@ -99,6 +118,7 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
     @Override
     protected StepPhase executeStep(ProcessContext context) {
         getStepLogger().debug(Messages.UPDATING_SUBSCRIBERS);
+        long startTime = System.nanoTime();
         List<ConfigurationEntry> publishedEntries = StepsUtil.getPublishedEntriesFromSubProcesses(context, flowableFacade);
         List<ConfigurationEntry> deletedEntries = StepsUtil.getDeletedEntriesFromAllProcesses(context, flowableFacade);
         List<ConfigurationEntry> updatedEntries = ListUtils.union(publishedEntries, deletedEntries);
@@ -108,20 +128,34 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
         List<ConfigurationSubscription> subscriptions = configurationSubscriptionService.createQuery()
                                                                                         .onSelectMatching(updatedEntries)
                                                                                         .list();
-        ClientHelper clientHelper = new ClientHelper(createSpaceClient(context));
-        for (ConfigurationSubscription subscription : subscriptions) {
-            CloudSpace target = targetCalculator.apply(clientHelper, subscription.getSpaceId());
-            if (target == null) {
-                getStepLogger().warn(Messages.COULD_NOT_COMPUTE_ORG_AND_SPACE, subscription.getSpaceId());
-                continue;
-            }
-            CloudControllerClient client = getClient(context, target);
-            CloudApplication subscriberApp = client.getApplication(subscription.getAppName());
-            Map<String, String> appEnv = client.getApplicationEnvironment(subscriberApp.getGuid());
-            CloudApplication updatedApplication = updateSubscriber(context, subscription, client, subscriberApp, appEnv);
-            if (updatedApplication != null) {
-                addApplicationToProperList(updatedSubscribers, updatedServiceBrokerSubscribers, updatedApplication, appEnv);
+        AtomicInteger cloudControllerRequests = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(MAX_PARALLEL_REQUESTS_PER_SPACE, createThreadFactory(context));
+        try {
+            ClientHelper clientHelper = new ClientHelper(createSpaceClient(context));
+            for (var subscriptionsInSpace : groupBySpace(subscriptions).entrySet()) {
+                cloudControllerRequests.incrementAndGet();
+                CloudSpace target = targetCalculator.apply(clientHelper, subscriptionsInSpace.getKey());
+                if (target == null) {
+                    getStepLogger().warn(Messages.COULD_NOT_COMPUTE_ORG_AND_SPACE, subscriptionsInSpace.getKey());
+                    continue;
+                }
+                List<SubscriberUpdate> subscriberUpdates = updateSubscribersInSpace(context, target, subscriptionsInSpace.getValue(),
+                                                                                    executor, cloudControllerRequests);
+                for (SubscriberUpdate subscriberUpdate : subscriberUpdates) {
+                    if (subscriberUpdate.failure == null) {
+                        addApplicationToProperList(updatedSubscribers, updatedServiceBrokerSubscribers, subscriberUpdate.application,
+                                                   subscriberUpdate.applicationEnv);
+                    } else {
+                        warnSubscriberNotUpdated(subscriberUpdate.subscription, subscriberUpdate.failure);
+                    }
+                }
             }
+        } finally {
+            executor.shutdownNow();
+            meterRegistry.timer(DURATION_METRIC)
+                         .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            meterRegistry.counter(CLOUD_CONTROLLER_REQUESTS_METRIC)
+                         .increment(cloudControllerRequests.get());
         }
         context.setVariable(Variables.UPDATED_SUBSCRIBERS, removeDuplicates(updatedSubscribers));
         context.setVariable(Variables.UPDATED_SERVICE_BROKER_SUBSCRIBERS, updatedServiceBrokerSubscribers);
@@ -129,6 +163,152 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
         return StepPhase.DONE;
     }
 
+    private ThreadFactory createThreadFactory(ProcessContext context) {
+        String threadNamePrefix = THREAD_NAME_PREFIX + context.getExecution()
+                                                             .getProcessInstanceId()
+            + "-";
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private Map<String, List<ConfigurationSubscription>> groupBySpace(List<ConfigurationSubscription> subscriptions) {
+        return subscriptions.stream()
+                            .collect(Collectors.groupingBy(ConfigurationSubscription::getSpaceId, LinkedHashMap::new, Collectors.toList()));
+    }
+
+    /**
+     * Fetches the subscriber applications and their environments concurrently, resolves the new environments one by one and
+     * then applies them concurrently. The updates of the same application are applied in order, each one on top of the previous one. The
+     * concurrent requests are sent with a client which does not log, as the step logger must only be used by the step thread.
+     */
+    private List<SubscriberUpdate> updateSubscribersInSpace(ProcessContext context, CloudSpace space,
+                                                            List<ConfigurationSubscription> subscriptions, ExecutorService executor,
+                                                            AtomicInteger cloudControllerRequests) {
+        CloudControllerClient client = getClient(context, space);
+        CloudControllerClient requestsClient = getRequestsClient(context, space);
+        Map<String, CloudApplication> subscriberApps = getSubscriberApplications(requestsClient, subscriptions, executor,
+                                                                                cloudControllerRequests);
+        Map<UUID, Map<String, String>> appEnvs = getApplicationEnvironments(requestsClient, subscriberApps.values(), executor,
+                                                                             cloudControllerRequests);
+
+        List<SubscriberUpdate> subscriberUpdates = new ArrayList<>();
+        for (ConfigurationSubscription subscription : subscriptions) {
+            CloudApplication subscriberApp = subscriberApps.get(subscription.getAppName());
+            if (subscriberApp == null) {
+                getStepLogger().warn(Messages.COULD_NOT_UPDATE_SUBSCRIBER_0_FROM_MTA_1_FOR_SUBSCRIPTION_2_APPLICATION_NOT_FOUND,
+                                     subscription.getAppName(), subscription.getMtaId(), getRequiredDependency(subscription).getName());
+                continue;
+            }
+            Map<String, String> appEnv = appEnvs.get(subscriberApp.getGuid());
+            Map<String, String> updatedEnv = updateSubscriber(context, subscription, client, appEnv);
+            if (updatedEnv != null) {
+                appEnvs.put(subscriberApp.getGuid(), updatedEnv);
+                subscriberUpdates.add(new SubscriberUpdate(subscription, subscriberApp, appEnv, updatedEnv));
+            }
+        }
+
+        Map<UUID, List<SubscriberUpdate>> subscriberUpdatesByApp = subscriberUpdates.stream()
+                                                                                    .collect(Collectors.groupingBy(subscriberUpdate -> subscriberUpdate.application.getGuid(),
+                                                                                                                   LinkedHashMap::new,
+                                                                                                                   Collectors.toList()));
+        List<Callable<Void>> updateTasks = subscriberUpdatesByApp.values()
+                                                                 .stream()
+                                                                 .map(updatesOfApp -> (Callable<Void>) () -> applyUpdates(requestsClient,
+                                                                                                                          updatesOfApp,
+                                                                                                                          cloudControllerRequests))
+                                                                 .collect(Collectors.toList());
+        executeConcurrently(executor, updateTasks);
+        for (SubscriberUpdate subscriberUpdate : subscriberUpdates) {
+            getStepLogger().debug(Messages.UPDATING_ENVIRONMENT_OF_APPLICATION_0, subscriberUpdate.application.getName());
+        }
+        return subscriberUpdates;
+    }
+
+    /**
+     * Looks up the subscriber applications by name concurrently. Listing the applications in the space would return all of them, and there
+     * could be many more than the subscribers.
+     */
+    private Map<String, CloudApplication> getSubscriberApplications(CloudControllerClient client,
+                                                                    List<ConfigurationSubscription> subscriptions, ExecutorService executor,
+                                                                    AtomicInteger cloudControllerRequests) {
+        List<String> appNames = subscriptions.stream()
+                                             .map(ConfigurationSubscription::getAppName)
+                                             .distinct()
+                                             .collect(Collectors.toList());
+        List<Callable<CloudApplication>> lookupTasks = appNames.stream()
+                                                               .map(appName -> (Callable<CloudApplication>) () -> {
+                                                                   cloudControllerRequests.incrementAndGet();
+                                                                   return client.getApplication(appName, false);
+                                                               })
+                                                               .collect(Collectors.toList());
+        List<CloudApplication> apps = executeConcurrently(executor, lookupTasks);
+        Map<String, CloudApplication> appsByName = new HashMap<>();
+        for (int i = 0; i < appNames.size(); i++) {
+            getStepLogger().debug(Messages.GETTING_APPLICATION_0, appNames.get(i));
+            if (apps.get(i) != null) {
+                appsByName.put(appNames.get(i), apps.get(i));
+            }
+        }
+        return appsByName;
+    }
+
+    private Map<UUID, Map<String, String>> getApplicationEnvironments(CloudControllerClient client, Collection<CloudApplication> apps,
+                                                                      ExecutorService executor, AtomicInteger cloudControllerRequests) {
+        List<CloudApplication> appsList = List.copyOf(apps);
+        List<Callable<Map<String, String>>> envTasks = appsList.stream()
+                                                               .map(app -> (Callable<Map<String, String>>) () -> {
+                                                                   cloudControllerRequests.incrementAndGet();
+                                                                   return client.getApplicationEnvironment(app.getGuid());
+                                                               })
+                                                               .collect(Collectors.toList());
+        List<Map<String, String>> envs = executeConcurrently(executor, envTasks);
+        Map<UUID, Map<String, String>> envsByApp = new HashMap<>();
+        for (int i = 0; i < appsList.size(); i++) {
+            getStepLogger().debug(Messages.GETTING_ENVIRONMENT_OF_APPLICATION_0, appsList.get(i)
+                                                                                        .getName());
+            envsByApp.put(appsList.get(i)
+                                  .getGuid(),
+                          envs.get(i));
+        }
+        return envsByApp;
+    }
+
+    private Void applyUpdates(CloudControllerClient client, List<SubscriberUpdate> updatesOfApp, AtomicInteger cloudControllerRequests) {
+        for (SubscriberUpdate subscriberUpdate : updatesOfApp) {
+            try {
+                cloudControllerRequests.incrementAndGet();
+                client.updateApplicationEnv(subscriberUpdate.application.getName(), subscriberUpdate.updatedEnv);
+            } catch (CloudOperationException | SLException e) {
+                // Reported per subscriber by the step thread, as the step logger must only be used by it:
+                subscriberUpdate.failure = e;
+            }
+        }
+        return null;
+    }
+
+    private <T> List<T> executeConcurrently(ExecutorService executor, List<Callable<T>> tasks) {
+        try {
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new SLException(e, Messages.ERROR_UPDATING_SUBSCRIBERS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new SLException(e.getCause(), Messages.ERROR_UPDATING_SUBSCRIBERS);
+        }
+    }
+
     @Override
     protected String getStepErrorMessage(ProcessContext context) {
         return Messages.ERROR_UPDATING_SUBSCRIBERS;
@@ -160,22 +340,25 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
         return new ArrayList<>(applicationsMap.values());
     }
 
-    private CloudApplication updateSubscriber(ProcessContext context, ConfigurationSubscription subscription, CloudControllerClient client,
-                                              CloudApplication subscriberApp, Map<String, String> appEnv) {
+    private Map<String, String> updateSubscriber(ProcessContext context, ConfigurationSubscription subscription,
+                                                 CloudControllerClient client, Map<String, String> appEnv) {
         try {
-            return attemptToUpdateSubscriber(context, client, subscription, subscriberApp, appEnv);
+            return attemptToUpdateSubscriber(context, client, subscription, appEnv);
         } catch (CloudOperationException | SLException e) {
-            String appName = subscription.getAppName();
-            String mtaId = subscription.getMtaId();
-            String subscriptionName = getRequiredDependency(subscription).getName();
-            getStepLogger().warn(e, Messages.COULD_NOT_UPDATE_SUBSCRIBER, appName, mtaId, subscriptionName);
+            warnSubscriberNotUpdated(subscription, e);
             return null;
         }
     }
 
-    private CloudApplication attemptToUpdateSubscriber(ProcessContext context, CloudControllerClient client,
-                                                       ConfigurationSubscription subscription, CloudApplication subscriberApp,
-                                                       Map<String, String> appEnv) {
+    private void warnSubscriberNotUpdated(ConfigurationSubscription subscription, Exception e) {
+        String appName = subscription.getAppName();
+        String mtaId = subscription.getMtaId();
+        String subscriptionName = getRequiredDependency(subscription).getName();
+        getStepLogger().warn(e, Messages.COULD_NOT_UPDATE_SUBSCRIBER, appName, mtaId, subscriptionName);
+    }
+
+    private Map<String, String> attemptToUpdateSubscriber(ProcessContext context, CloudControllerClient client,
+                                                          ConfigurationSubscription subscription, Map<String, String> appEnv) {
         CloudHandlerFactory handlerFactory = CloudHandlerFactory.forSchemaVersion(MAJOR_SCHEMA_VERSION);
 
         DeploymentDescriptor dummyDescriptor = buildDummyDescriptor(subscription, handlerFactory);
@@ -220,8 +403,7 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
 
         getStepLogger().info(Messages.UPDATING_SUBSCRIBER, subscription.getAppName(), subscription.getMtaId(),
                              getRequiredDependency(subscription).getName());
-        client.updateApplicationEnv(subscriberApp.getName(), currentEnvironment);
-        return subscriberApp;
+        return currentEnvironment;
     }
 
     private boolean updateCurrentEnvironment(Map<String, String> currentEnvironment, Map<String, String> updatedEnvironment,
@@ -283,6 +465,14 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
                                                 .toString());
     }
 
+    private CloudControllerClient getRequestsClient(ProcessContext context, CloudSpace space) {
+        String userName = StepsUtil.determineCurrentUser(context.getExecution());
+        String correlationId = context.getVariable(Variables.CORRELATION_ID);
+        return clientProvider.getControllerClient(userName, space.getGuid()
+                                                                 .toString(),
+                                                  correlationId);
+    }
+
     private DeploymentDescriptor buildDummyDescriptor(ConfigurationSubscription subscription, CloudHandlerFactory handlerFactory) {
         ModuleDto moduleDto = subscription.getModuleDto();
         String resourceJson = JsonUtil.toJson(subscription.getResourceDto());
@@ -311,6 +501,24 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
         return true;
     }
 
+    private static class SubscriberUpdate {
+
+        private final ConfigurationSubscription subscription;
+        private final CloudApplication application;
+        private final Map<String, String> applicationEnv;
+        private final Map<String, String> updatedEnv;
+        private Exception failure;
+
+        SubscriberUpdate(ConfigurationSubscription subscription, CloudApplication application, Map<String, String> applicationEnv,
+                         Map<String, String> updatedEnv) {
+            this.subscription = subscription;
+            this.application = application;
+            this.applicationEnv = applicationEnv;
+            this.updatedEnv = updatedEnv;
+        }
+
+    }
+
     private static class ReferenceDetector extends ReferencingPropertiesVisitor {
 
         public ReferenceDetector(String name) {
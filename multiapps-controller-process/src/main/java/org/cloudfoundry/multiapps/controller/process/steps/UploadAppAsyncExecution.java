@@ -7,6 +7,7 @@ import java.text.MessageFormat;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -26,7 +27,10 @@ import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.context.ApplicationToUploadContext;
 import org.cloudfoundry.multiapps.controller.process.context.ImmutableApplicationToUploadContext;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationArchiveContext;
+import org.cloudfoundry.multiapps.controller.process.util.ApplicationPackageCache;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationZipBuilder;
+import org.cloudfoundry.multiapps.controller.process.util.ExtractedApplicationPackageCache;
+import org.cloudfoundry.multiapps.controller.process.util.ExtractedApplicationPackageCache.CachedApplicationPackage;
 import org.cloudfoundry.multiapps.controller.process.util.StepLogger;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.slf4j.Logger;
@@ -42,13 +46,19 @@ public class UploadAppAsyncExecution implements AsyncExecution {
     private static final Logger LOGGER = LoggerFactory.getLogger(UploadAppAsyncExecution.class);
 
     private final ApplicationZipBuilder applicationZipBuilder;
+    private final ApplicationPackageCache applicationPackageCache;
+    private final ExtractedApplicationPackageCache extractedApplicationPackageCache;
     private final ProcessLoggerPersister processLoggerPersister;
     private final ApplicationConfiguration applicationConfiguration;
     private final ExecutorService appUploaderThreadPool;
 
-    public UploadAppAsyncExecution(ApplicationZipBuilder applicationZipBuilder, ProcessLoggerPersister processLoggerPersister,
-                                   ApplicationConfiguration applicationConfiguration, ExecutorService appUploaderThreadPool) {
+    public UploadAppAsyncExecution(ApplicationZipBuilder applicationZipBuilder, ApplicationPackageCache applicationPackageCache,
+                                   ExtractedApplicationPackageCache extractedApplicationPackageCache,
+                                   ProcessLoggerPersister processLoggerPersister, ApplicationConfiguration applicationConfiguration,
+                                   ExecutorService appUploaderThreadPool) {
         this.applicationZipBuilder = applicationZipBuilder;
+        this.applicationPackageCache = applicationPackageCache;
+        this.extractedApplicationPackageCache = extractedApplicationPackageCache;
         this.processLoggerPersister = processLoggerPersister;
         this.applicationConfiguration = applicationConfiguration;
         this.appUploaderThreadPool = appUploaderThreadPool;
@@ -103,6 +113,8 @@ public class UploadAppAsyncExecution implements AsyncExecution {
                                                   .appArchiveId(context.getRequiredVariable(Variables.APP_ARCHIVE_ID))
                                                   .stepLogger(context.getStepLogger())
                                                   .archiveEntries(context.getVariable(Variables.ARCHIVE_ENTRIES_POSITIONS))
+                                                  .applicationDigest(context.getVariable(Variables.CALCULATED_APPLICATION_DIGEST))
+                                                  .appArchiveDigest(context.getVariable(Variables.APP_ARCHIVE_DIGEST))
                                                   .build();
     }
 
@@ -141,9 +153,35 @@ public class UploadAppAsyncExecution implements AsyncExecution {
     }
 
     private Path extractApplicationFromArchive(ApplicationToUploadContext applicationToUploadContext) {
+        Optional<Path> cachedPackagePath = applicationPackageCache.take(applicationToUploadContext.getAppArchiveId(),
+                                                                       applicationToUploadContext.getModuleFileName(),
+                                                                       applicationToUploadContext.getApplicationDigest());
+        if (cachedPackagePath.isPresent()) {
+            applicationToUploadContext.getStepLogger()
+                                      .debug(Messages.USING_APPLICATION_PACKAGE_EXTRACTED_DURING_DIGEST_CALCULATION_0,
+                                             cachedPackagePath.get());
+            return cachedPackagePath.get();
+        }
+        Optional<CachedApplicationPackage> cachedApplicationPackage = extractedApplicationPackageCache.get(applicationToUploadContext.getSpaceGuid(),
+                                                                                                           applicationToUploadContext.getAppArchiveDigest(),
+                                                                                                           applicationToUploadContext.getModuleFileName());
+        if (cachedApplicationPackage.isPresent()) {
+            applicationToUploadContext.getStepLogger()
+                                      .debug(Messages.USING_CACHED_APPLICATION_PACKAGE_0_FOR_MODULE_1, cachedApplicationPackage.get()
+                                                                                                                               .path(),
+                                             applicationToUploadContext.getModuleFileName());
+            return cachedApplicationPackage.get()
+                                           .path();
+        }
         LocalDateTime startTime = LocalDateTime.now();
-        Path extractedAppPath = extractFromMtar(createApplicationArchiveContext(applicationToUploadContext,
-                                                                                applicationConfiguration.getMaxResourceFileSize()));
+        ApplicationArchiveContext applicationArchiveContext = createApplicationArchiveContext(applicationToUploadContext,
+                                                                                              applicationConfiguration.getMaxResourceFileSize());
+        Path extractedAppPath = extractFromMtar(applicationArchiveContext);
+        extractedApplicationPackageCache.put(applicationToUploadContext.getSpaceGuid(), applicationToUploadContext.getAppArchiveDigest(),
+                                             applicationToUploadContext.getModuleFileName(),
+                                             applicationArchiveContext.getDigestCalculator()
+                                                                      .getDigest(),
+                                             extractedAppPath);
         long timeElapsedForUpload = Duration.between(startTime, LocalDateTime.now())
                                             .toMillis();
         applicationToUploadContext.getStepLogger()
@@ -19,7 +19,9 @@ import org.cloudfoundry.multiapps.controller.core.security.serialization.SecureS
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationArchiveContext;
-import org.cloudfoundry.multiapps.controller.process.util.ApplicationDigestCalculator;
+import org.cloudfoundry.multiapps.controller.process.util.ApplicationPackageCache;
+import org.cloudfoundry.multiapps.controller.process.util.ApplicationPackageDigestCalculator;
+import org.cloudfoundry.multiapps.controller.process.util.ExtractedApplicationPackageCache;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationStager;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationZipBuilder;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions;
@@ -47,7 +49,11 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
     private static final Logger LOGGER = LoggerFactory.getLogger(UploadAppStep.class);
 
     @Inject
-    protected ApplicationDigestCalculator applicationDigestCalculator;
+    protected ApplicationPackageDigestCalculator applicationPackageDigestCalculator;
+    @Inject
+    protected ApplicationPackageCache applicationPackageCache;
+    @Inject
+    protected ExtractedApplicationPackageCache extractedApplicationPackageCache;
     @Inject
     protected ApplicationZipBuilder applicationZipBuilder;
     @Inject
@@ -81,10 +87,10 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
         } else {
             getStepLogger().infoWithoutProgressMessage(Messages.CALCULATING_APPLICATION_DIGEST_0, applicationToProcess.getName());
             String newApplicationDigest = getNewApplicationDigest(context, moduleFileName);
+            context.setVariable(Variables.CALCULATED_APPLICATION_DIGEST, newApplicationDigest);
             boolean contentChanged = detectApplicationFileDigestChanges(appEnv, newApplicationDigest);
             if (contentChanged) {
                 context.setVariable(Variables.SHOULD_UPDATE_APPLICATION_DIGEST, true);
-                context.setVariable(Variables.CALCULATED_APPLICATION_DIGEST, newApplicationDigest);
                 return StepPhase.POLL;
             }
         }
@@ -97,7 +103,7 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
         CloudPackage latestPackage = mostRecentPackage.get();
         Optional<CloudPackage> currentPackage = cloudPackagesGetter.getAppPackage(client, cloudApp.getGuid());
         if (currentPackage.isEmpty() && isPackageInValidState(latestPackage)) {
-            context.setVariable(Variables.SHOULD_SKIP_APPLICATION_UPLOAD, true);
+            skipApplicationUpload(context, moduleFileName);
             return useLatestPackage(context, latestPackage);
         }
 
@@ -107,15 +113,21 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
 
         if (isPackageInValidState(latestPackage)
             && (context.getVariable(Variables.APP_NEEDS_RESTAGE) || !packagesMatch(currentPackage.get(), latestPackage))) {
-            context.setVariable(Variables.SHOULD_SKIP_APPLICATION_UPLOAD, true);
+            skipApplicationUpload(context, moduleFileName);
             return useLatestPackage(context, latestPackage);
         }
 
         getStepLogger().info(Messages.CONTENT_OF_APPLICATION_0_IS_NOT_CHANGED, applicationToProcess.getName());
-        context.setVariable(Variables.SHOULD_SKIP_APPLICATION_UPLOAD, true);
+        skipApplicationUpload(context, moduleFileName);
         return StepPhase.DONE;
     }
 
+    private void skipApplicationUpload(ProcessContext context, String moduleFileName) {
+        context.setVariable(Variables.SHOULD_SKIP_APPLICATION_UPLOAD, true);
+        applicationPackageCache.evict(context.getRequiredVariable(Variables.APP_ARCHIVE_ID), moduleFileName,
+                                      context.getVariable(Variables.CALCULATED_APPLICATION_DIGEST));
+    }
+
     private boolean packagesMatch(CloudPackage currentPackage, CloudPackage latestPackage) {
         return Objects.equals(currentPackage.getGuid(), latestPackage.getGuid());
     }
@@ -127,7 +139,8 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
 
     private String getNewApplicationDigest(ProcessContext context, String fileName) {
         ApplicationArchiveContext applicationArchiveContext = createApplicationArchiveContext(context, fileName);
-        return applicationDigestCalculator.calculateApplicationDigest(applicationArchiveContext);
+        return applicationPackageDigestCalculator.calculateDigestAndCachePackage(applicationArchiveContext,
+                                                                                 context.getVariable(Variables.APP_ARCHIVE_DIGEST));
     }
 
     protected ApplicationArchiveContext createApplicationArchiveContext(ProcessContext context, String fileName) {
@@ -183,7 +196,12 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
 
     @Override
     protected List<AsyncExecution> getAsyncStepExecutions(ProcessContext context) {
-        return List.of(new UploadAppAsyncExecution(applicationZipBuilder, getProcessLogsPersister(), configuration, appUploaderThreadPool),
+        return List.of(new UploadAppAsyncExecution(applicationZipBuilder,
+                                                   applicationPackageCache,
+                                                   extractedApplicationPackageCache,
+                                                   getProcessLogsPersister(),
+                                                   configuration,
+                                                   appUploaderThreadPool),
                        new PollUploadAppStatusExecution());
     }
 
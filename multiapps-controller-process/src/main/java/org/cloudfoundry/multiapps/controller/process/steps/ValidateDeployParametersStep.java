@@ -66,6 +66,8 @@ public class ValidateDeployParametersStep extends SyncFlowableStep {
         if (archivePartEntries.size() == 1) {
             getStepLogger().infoWithoutProgressMessage(Messages.ARCHIVE_WAS_NOT_SPLIT_TOTAL_SIZE_IN_BYTES_0, archivePartEntries.get(0)
                                                                                                                                .getSize());
+            context.setVariable(Variables.APP_ARCHIVE_DIGEST, archivePartEntries.get(0)
+                                                                                .getDigest());
         } else {
             mergeArchive(context, archivePartEntries);
         }
@@ -181,6 +183,7 @@ public class ValidateDeployParametersStep extends SyncFlowableStep {
                                                        archivePartEntries.size(), archiveSize);
             FileEntry uploadedArchive = persistArchive(archiveStreamWithName, context, archiveSize);
             context.setVariable(Variables.APP_ARCHIVE_ID, uploadedArchive.getId());
+            context.setVariable(Variables.APP_ARCHIVE_DIGEST, uploadedArchive.getDigest());
             getStepLogger().infoWithoutProgressMessage(MessageFormat.format(Messages.ARCHIVE_WITH_ID_0_AND_NAME_1_WAS_STORED,
                                                                             uploadedArchive.getId(),
                                                                             archiveStreamWithName.getArchiveName()));
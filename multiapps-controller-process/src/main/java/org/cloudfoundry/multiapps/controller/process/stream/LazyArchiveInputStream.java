@@ -107,7 +107,7 @@ public class LazyArchiveInputStream extends InputStream {
         try {
             stepLogger.debug(Messages.OPENING_A_NEW_INPUT_STREAM_FOR_FILE_WITH_ID_0_AND_NAME_1, archiveFileEntry.getId(),
                              archiveFileEntry.getName());
-            InputStream inputStream = fileService.openInputStream(archiveFileEntry.getSpace(), archiveFileEntry.getId());
+            InputStream inputStream = fileService.openInputStream(archiveFileEntry);
             return new BufferedInputStream(inputStream, BUFFERED_SIZE);
         } catch (FileStorageException e) {
             throw new SLException(e, e.getMessage());
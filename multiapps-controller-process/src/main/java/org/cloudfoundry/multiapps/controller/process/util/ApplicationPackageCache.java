@@ -0,0 +1,85 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.cloudfoundry.multiapps.controller.core.util.FileUtils;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.inject.Named;
+
+/**
+ * Keeps the application packages extracted during the digest calculation of the upload step, so that the upload itself does not need to
+ * read the module from the file storage again. The cache is local to the instance. Packages which are not taken within
+ * {@link #MAX_PACKAGE_AGE} (e.g. because the upload was executed by another instance or the operation was aborted) are deleted.
+ */
+@Named
+public class ApplicationPackageCache {
+
+    private static final Duration MAX_PACKAGE_AGE = Duration.ofMinutes(30);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationPackageCache.class);
+
+    private final Map<PackageKey, CachedPackage> packages = new ConcurrentHashMap<>();
+
+    public void put(String appArchiveId, String moduleFileName, String digest, Path packagePath) {
+        deleteExpiredPackages();
+        CachedPackage previousPackage = packages.put(new PackageKey(appArchiveId, moduleFileName, digest),
+                                                     new CachedPackage(packagePath, Instant.now()));
+        if (previousPackage != null && !previousPackage.path()
+                                                       .equals(packagePath)) {
+            FileUtils.cleanUp(previousPackage.path(), LOGGER);
+        }
+    }
+
+    /**
+     * Removes the package from the cache. The caller becomes responsible for deleting the returned file.
+     */
+    public Optional<Path> take(String appArchiveId, String moduleFileName, String digest) {
+        if (digest == null) {
+            return Optional.empty();
+        }
+        CachedPackage cachedPackage = packages.remove(new PackageKey(appArchiveId, moduleFileName, digest));
+        if (cachedPackage == null || !Files.exists(cachedPackage.path())) {
+            return Optional.empty();
+        }
+        LOGGER.debug(MessageFormat.format(Messages.REUSING_APPLICATION_PACKAGE_0_FOR_MODULE_1, cachedPackage.path(), moduleFileName));
+        return Optional.of(cachedPackage.path());
+    }
+
+    public void evict(String appArchiveId, String moduleFileName, String digest) {
+        take(appArchiveId, moduleFileName, digest).ifPresent(packagePath -> FileUtils.cleanUp(packagePath, LOGGER));
+    }
+
+    private void deleteExpiredPackages() {
+        Instant expirationTime = Instant.now()
+                                        .minus(MAX_PACKAGE_AGE);
+        packages.entrySet()
+                .removeIf(entry -> {
+                    if (entry.getValue()
+                             .createdAt()
+                             .isBefore(expirationTime)) {
+                        FileUtils.cleanUp(entry.getValue()
+                                               .path(),
+                                          LOGGER);
+                        return true;
+                    }
+                    return false;
+                });
+    }
+
+    private record PackageKey(String appArchiveId, String moduleFileName, String digest) {
+    }
+
+    private record CachedPackage(Path path, Instant createdAt) {
+    }
+
+}
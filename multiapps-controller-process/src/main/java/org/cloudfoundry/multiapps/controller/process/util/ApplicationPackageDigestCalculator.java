@@ -0,0 +1,52 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.cloudfoundry.multiapps.controller.process.util.ExtractedApplicationPackageCache.CachedApplicationPackage;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Calculates the digest of an application while extracting it in a new archive, so that the module is read from the file storage only
+ * once. The extracted archive is kept in the {@link ApplicationPackageCache} for the upload. Packages of archives which were already
+ * deployed are taken from the {@link ExtractedApplicationPackageCache} without reading the file storage at all.
+ */
+@Named
+public class ApplicationPackageDigestCalculator {
+
+    private final ApplicationZipBuilder applicationZipBuilder;
+    private final ApplicationPackageCache applicationPackageCache;
+    private final ExtractedApplicationPackageCache extractedApplicationPackageCache;
+
+    @Inject
+    public ApplicationPackageDigestCalculator(ApplicationZipBuilder applicationZipBuilder, ApplicationPackageCache applicationPackageCache,
+                                              ExtractedApplicationPackageCache extractedApplicationPackageCache) {
+        this.applicationZipBuilder = applicationZipBuilder;
+        this.applicationPackageCache = applicationPackageCache;
+        this.extractedApplicationPackageCache = extractedApplicationPackageCache;
+    }
+
+    public String calculateDigestAndCachePackage(ApplicationArchiveContext applicationArchiveContext, String archiveDigest) {
+        String appArchiveId = applicationArchiveContext.getAppArchiveId();
+        String moduleFileName = applicationArchiveContext.getModuleFileName();
+        String spaceGuid = applicationArchiveContext.getSpaceId();
+        Optional<CachedApplicationPackage> cachedPackage = extractedApplicationPackageCache.get(spaceGuid, archiveDigest, moduleFileName);
+        if (cachedPackage.isPresent()) {
+            applicationPackageCache.put(appArchiveId, moduleFileName, cachedPackage.get()
+                                                                                   .applicationDigest(),
+                                        cachedPackage.get()
+                                                     .path());
+            return cachedPackage.get()
+                                .applicationDigest();
+        }
+        Path packagePath = applicationZipBuilder.extractApplicationInNewArchive(applicationArchiveContext);
+        String digest = applicationArchiveContext.getDigestCalculator()
+                                                 .getDigest();
+        extractedApplicationPackageCache.put(spaceGuid, archiveDigest, moduleFileName, digest, packagePath);
+        applicationPackageCache.put(appArchiveId, moduleFileName, digest, packagePath);
+        return digest;
+    }
+
+}
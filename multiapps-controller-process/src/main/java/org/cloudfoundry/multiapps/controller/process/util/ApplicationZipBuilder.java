@@ -101,7 +101,12 @@ public class ApplicationZipBuilder {
         try (ZipOutputStream zipOutputStream = new ZipOutputStream(fileOutputStream)) {
             String moduleFileName = applicationArchiveContext.getModuleFileName();
             do {
-                if (!isAlreadyUploaded(zipEntry.getName(), applicationArchiveContext) && !zipEntry.isDirectory()) {
+                if (zipEntry.isDirectory()) {
+                    continue;
+                }
+                if (isAlreadyUploaded(zipEntry.getName(), applicationArchiveContext)) {
+                    copy(zipArchiveInputStream, OutputStream.nullOutputStream(), applicationArchiveContext);
+                } else {
                     zipOutputStream.putNextEntry(createNewZipEntry(zipEntry.getName(), moduleFileName));
                     copy(zipArchiveInputStream, zipOutputStream, applicationArchiveContext);
                     zipOutputStream.closeEntry();
@@ -133,6 +138,8 @@ public class ApplicationZipBuilder {
             }
             output.write(buffer, 0, numberOfReadBytes);
             applicationArchiveContext.calculateCurrentSizeInBytes(numberOfReadBytes);
+            applicationArchiveContext.getDigestCalculator()
+                                     .updateDigest(buffer, 0, numberOfReadBytes);
         }
     }
 
@@ -141,7 +148,9 @@ public class ApplicationZipBuilder {
         throws IOException {
         String moduleFileName = applicationArchiveContext.getModuleFileName();
         do {
-            if (!isAlreadyUploaded(zipEntry.getName(), applicationArchiveContext)) {
+            if (isAlreadyUploaded(zipEntry.getName(), applicationArchiveContext)) {
+                copy(zipArchiveInputStream, OutputStream.nullOutputStream(), applicationArchiveContext);
+            } else {
                 copy(zipArchiveInputStream, fileOutputStream, applicationArchiveContext);
             }
         } while ((zipEntry = applicationArchiveIterator.getNextEntryByName(moduleFileName, zipArchiveInputStream)) != null);
@@ -158,8 +167,11 @@ public class ApplicationZipBuilder {
                                                                                     .maxFileSizeInBytes(applicationArchiveContext.getMaxSizeInBytes())
                                                                                     .build(),
                                                         archiveEntryWithStreamPositions,
-                                                        (bytesBuffer, bytesRead) -> writeModuleContent(bytesBuffer, bytesRead,
-                                                                                                       fileOutputStream));
+                                                        (bytesBuffer, bytesRead) -> {
+                                                            writeModuleContent(bytesBuffer, bytesRead, fileOutputStream);
+                                                            applicationArchiveContext.getDigestCalculator()
+                                                                                     .updateDigest(bytesBuffer, 0, bytesRead);
+                                                        });
         }
     }
 
@@ -1,16 +1,22 @@
 package org.cloudfoundry.multiapps.controller.process.util;
 
 import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.zip.ZipEntry;
 
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.core.util.FileUtils;
+import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -20,6 +26,8 @@ public class ArchiveEntryStreamWithStreamPositionsDeterminer {
 
     public static final int BUFFER_SIZE = 4 * 1024; // 4KB
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArchiveEntryStreamWithStreamPositionsDeterminer.class);
+
     private final FileService fileService;
 
     @Inject
@@ -29,37 +37,63 @@ public class ArchiveEntryStreamWithStreamPositionsDeterminer {
 
     public List<ArchiveEntryWithStreamPositions> determineArchiveEntries(String spaceGuid, String appArchiveId) {
         try {
-            return fileService.processFileContent(spaceGuid, appArchiveId, archiveStream -> {
-                List<ArchiveEntryWithStreamPositions> archiveEntriesWithPositions = new ArrayList<>();
-                try (
-                    ZipArchiveInputStream zipStream = new ZipArchiveInputStream(archiveStream, StandardCharsets.UTF_8.name(), true, true)) {
-                    ZipArchiveEntry entry = zipStream.getNextEntry();
-                    while (entry != null) {
-                        validateEntry(entry);
-                        long startOffset = entry.getDataOffset();
-                        long endOffset = startOffset;
-                        byte[] buffer = new byte[BUFFER_SIZE];
-                        while (zipStream.read(buffer, 0, buffer.length) != -1) {
-                            // read the entry, to calculate the compressed size
-                        }
-                        endOffset += zipStream.getCompressedCount();
-                        archiveEntriesWithPositions.add(ImmutableArchiveEntryWithStreamPositions.builder()
-                                                                                                .name(entry.getName())
-                                                                                                .startPosition(startOffset)
-                                                                                                .endPosition(endOffset)
-                                                                                                .compressionMethod(ArchiveEntryWithStreamPositions.CompressionMethod.parseValue(entry.getMethod()))
-                                                                                                .isDirectory(entry.isDirectory())
-                                                                                                .build());
-                        entry = zipStream.getNextEntry();
-                    }
-                }
-                return archiveEntriesWithPositions;
-            });
+            Optional<List<ArchiveEntryWithStreamPositions>> archiveEntriesFromCentralDirectory = determineArchiveEntriesFromCentralDirectory(spaceGuid,
+                                                                                                                                             appArchiveId);
+            if (archiveEntriesFromCentralDirectory.isPresent()) {
+                return archiveEntriesFromCentralDirectory.get();
+            }
+            LOGGER.warn(MessageFormat.format(Messages.ARCHIVE_0_DOES_NOT_HAVE_USABLE_CENTRAL_DIRECTORY_FALLING_BACK_TO_STREAMING,
+                                             appArchiveId));
+            return determineArchiveEntriesByStreaming(spaceGuid, appArchiveId);
         } catch (FileStorageException e) {
             throw new SLException(e, e.getMessage());
         }
     }
 
+    private Optional<List<ArchiveEntryWithStreamPositions>> determineArchiveEntriesFromCentralDirectory(String spaceGuid,
+                                                                                                        String appArchiveId)
+        throws FileStorageException {
+        FileEntry archiveFileEntry = fileService.getFile(spaceGuid, appArchiveId);
+        if (archiveFileEntry == null || archiveFileEntry.getSize() == null) {
+            return Optional.empty();
+        }
+        Optional<List<ArchiveEntryWithStreamPositions>> archiveEntries = new ZipCentralDirectoryReader(fileService,
+                                                                                                       spaceGuid,
+                                                                                                       appArchiveId).readArchiveEntries(archiveFileEntry.getSize()
+                                                                                                                                                        .longValue());
+        archiveEntries.ifPresent(entries -> entries.forEach(entry -> FileUtils.validatePath(entry.getName())));
+        return archiveEntries;
+    }
+
+    private List<ArchiveEntryWithStreamPositions> determineArchiveEntriesByStreaming(String spaceGuid, String appArchiveId)
+        throws FileStorageException {
+        return fileService.processFileContent(spaceGuid, appArchiveId, archiveStream -> {
+            List<ArchiveEntryWithStreamPositions> archiveEntriesWithPositions = new ArrayList<>();
+            try (ZipArchiveInputStream zipStream = new ZipArchiveInputStream(archiveStream, StandardCharsets.UTF_8.name(), true, true)) {
+                ZipArchiveEntry entry = zipStream.getNextEntry();
+                while (entry != null) {
+                    validateEntry(entry);
+                    long startOffset = entry.getDataOffset();
+                    long endOffset = startOffset;
+                    byte[] buffer = new byte[BUFFER_SIZE];
+                    while (zipStream.read(buffer, 0, buffer.length) != -1) {
+                        // read the entry, to calculate the compressed size
+                    }
+                    endOffset += zipStream.getCompressedCount();
+                    archiveEntriesWithPositions.add(ImmutableArchiveEntryWithStreamPositions.builder()
+                                                                                            .name(entry.getName())
+                                                                                            .startPosition(startOffset)
+                                                                                            .endPosition(endOffset)
+                                                                                            .compressionMethod(ArchiveEntryWithStreamPositions.CompressionMethod.parseValue(entry.getMethod()))
+                                                                                            .isDirectory(entry.isDirectory())
+                                                                                            .build());
+                    entry = zipStream.getNextEntry();
+                }
+            }
+            return archiveEntriesWithPositions;
+        });
+    }
+
     protected void validateEntry(ZipEntry entry) {
         FileUtils.validatePath(entry.getName());
     }
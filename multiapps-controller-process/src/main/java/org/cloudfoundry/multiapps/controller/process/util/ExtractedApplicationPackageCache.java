@@ -0,0 +1,204 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.apache.commons.io.FilenameUtils;
+import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.core.util.FileUtils;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Disk-backed cache of extracted application packages, keyed by the space, the digest of the MTA archive and the module file name. It
+ * allows the same archive to be deployed multiple times without extracting its modules from the file storage again. The packages are
+ * scoped by space, as the archive digest is an MD5 digest whose collisions can be crafted, so a package must not be shared across tenants.
+ * The least recently used packages are evicted when the total size of the cache exceeds the configured limit.
+ */
+@Named
+public class ExtractedApplicationPackageCache {
+
+    static final String HITS_METRIC = "multiapps.controller.application.packages.cache.hits";
+    static final String MISSES_METRIC = "multiapps.controller.application.packages.cache.misses";
+    static final String EVICTIONS_METRIC = "multiapps.controller.application.packages.cache.evictions";
+    static final String SIZE_METRIC = "multiapps.controller.application.packages.cache.size";
+
+    private static final String CACHE_DIRECTORY_PREFIX = "application-packages-cache";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExtractedApplicationPackageCache.class);
+
+    private final Path cacheDirectory;
+    private final long maxSizeInBytes;
+    private final Map<PackageKey, CachedPackage> packages = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeInBytes;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    @Inject
+    public ExtractedApplicationPackageCache(ApplicationConfiguration configuration) {
+        this(createCacheDirectory(), configuration.getMaxApplicationPackagesCacheSize(), Metrics.globalRegistry);
+    }
+
+    ExtractedApplicationPackageCache(Path cacheDirectory, long maxSizeInBytes, MeterRegistry meterRegistry) {
+        this.cacheDirectory = cacheDirectory;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.hits = meterRegistry.counter(HITS_METRIC);
+        this.misses = meterRegistry.counter(MISSES_METRIC);
+        this.evictions = meterRegistry.counter(EVICTIONS_METRIC);
+        Gauge.builder(SIZE_METRIC, this, ExtractedApplicationPackageCache::getSizeInBytes)
+             .baseUnit("bytes")
+             .register(meterRegistry);
+    }
+
+    private static Path createCacheDirectory() {
+        try {
+            return Files.createTempDirectory(CACHE_DIRECTORY_PREFIX);
+        } catch (IOException e) {
+            throw new SLException(e, e.getMessage());
+        }
+    }
+
+    public boolean isEnabled() {
+        return maxSizeInBytes > 0;
+    }
+
+    /**
+     * Returns a copy of the cached package and the digest of the application in it. The caller is responsible for deleting the returned
+     * file. Misses are not counted here, as the same package may be looked up more than once before it is extracted.
+     */
+    public Optional<CachedApplicationPackage> get(String spaceGuid, String archiveDigest, String moduleFileName) {
+        if (!isEnabled() || archiveDigest == null) {
+            return Optional.empty();
+        }
+        CachedPackage cachedPackage;
+        synchronized (this) {
+            cachedPackage = packages.get(new PackageKey(spaceGuid, archiveDigest, moduleFileName));
+        }
+        if (cachedPackage == null) {
+            return Optional.empty();
+        }
+        try {
+            Path packagePath = linkOrCopy(cachedPackage.path(), createTempFile(cachedPackage.path()));
+            hits.increment();
+            LOGGER.debug(MessageFormat.format(Messages.USING_CACHED_APPLICATION_PACKAGE_0_FOR_MODULE_1, cachedPackage.path(),
+                                              moduleFileName));
+            return Optional.of(new CachedApplicationPackage(packagePath, cachedPackage.applicationDigest()));
+        } catch (IOException e) {
+            // The package may have been evicted concurrently:
+            LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_READ_CACHED_APPLICATION_PACKAGE_0, cachedPackage.path()), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores a copy of the package. The passed file remains owned by the caller. Each call counts as a miss, as the package has been
+     * extracted because it was not found in the cache.
+     */
+    public void put(String spaceGuid, String archiveDigest, String moduleFileName, String applicationDigest, Path packagePath) {
+        if (!isEnabled() || archiveDigest == null) {
+            return;
+        }
+        misses.increment();
+        if (applicationDigest == null) {
+            return;
+        }
+        PackageKey key = new PackageKey(spaceGuid, archiveDigest, moduleFileName);
+        synchronized (this) {
+            if (packages.containsKey(key)) {
+                return;
+            }
+        }
+        try {
+            long packageSize = Files.size(packagePath);
+            if (packageSize > maxSizeInBytes) {
+                return;
+            }
+            Path cachedPackagePath = linkOrCopy(packagePath, cacheDirectory.resolve(UUID.randomUUID() + getExtension(packagePath)));
+            addPackage(key, new CachedPackage(cachedPackagePath, packageSize, applicationDigest));
+        } catch (IOException e) {
+            LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_CACHE_APPLICATION_PACKAGE_0, packagePath), e);
+        }
+    }
+
+    private synchronized void addPackage(PackageKey key, CachedPackage cachedPackage) {
+        CachedPackage previousPackage = packages.put(key, cachedPackage);
+        if (previousPackage != null) {
+            deletePackage(previousPackage);
+        }
+        sizeInBytes += cachedPackage.size();
+        evictLeastRecentlyUsedPackages();
+    }
+
+    private void evictLeastRecentlyUsedPackages() {
+        Iterator<CachedPackage> iterator = packages.values()
+                                                   .iterator();
+        while (sizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+            CachedPackage cachedPackage = iterator.next();
+            iterator.remove();
+            deletePackage(cachedPackage);
+            evictions.increment();
+        }
+    }
+
+    private void deletePackage(CachedPackage cachedPackage) {
+        sizeInBytes -= cachedPackage.size();
+        FileUtils.cleanUp(cachedPackage.path(), LOGGER);
+    }
+
+    synchronized long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    private Path createTempFile(Path cachedPackagePath) throws IOException {
+        Path tempFile = Files.createTempFile(null, getExtension(cachedPackagePath));
+        Files.delete(tempFile);
+        return tempFile;
+    }
+
+    private static Path linkOrCopy(Path source, Path target) throws IOException {
+        try {
+            return Files.createLink(target, source);
+        } catch (UnsupportedOperationException | IOException e) {
+            LOGGER.debug(MessageFormat.format(Messages.COULD_NOT_LINK_0_TO_1_COPYING, target, source), e);
+        }
+        try {
+            return Files.copy(source, target);
+        } catch (IOException e) {
+            FileUtils.cleanUp(target, LOGGER);
+            throw e;
+        }
+    }
+
+    private static String getExtension(Path path) {
+        String extension = FilenameUtils.getExtension(path.getFileName()
+                                                          .toString());
+        return extension.isEmpty() ? "" : "." + extension;
+    }
+
+    public record CachedApplicationPackage(Path path, String applicationDigest) {
+    }
+
+    private record PackageKey(String spaceGuid, String archiveDigest, String moduleFileName) {
+    }
+
+    private record CachedPackage(Path path, long size, String applicationDigest) {
+    }
+
+}
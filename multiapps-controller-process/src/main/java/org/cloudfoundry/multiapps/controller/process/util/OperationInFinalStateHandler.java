@@ -15,6 +15,8 @@ import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.cloudfoundry.multiapps.controller.api.model.Operation.State;
 import org.cloudfoundry.multiapps.controller.api.model.ProcessType;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
+import org.cloudfoundry.multiapps.controller.core.cf.detect.DeployedMtasSnapshotCache;
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.MtaMetadataAnnotations;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMta;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMtaApplication;
@@ -26,6 +28,7 @@ import org.cloudfoundry.multiapps.controller.persistence.services.DescriptorBack
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.persistence.services.HistoricOperationEventService;
+import org.cloudfoundry.multiapps.controller.persistence.services.OperationLogBatchWriter;
 import org.cloudfoundry.multiapps.controller.persistence.services.OperationService;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.dynatrace.DynatraceProcessDuration;
@@ -53,6 +56,10 @@ public class OperationInFinalStateHandler {
     @Inject
     private CloudControllerClientProvider clientProvider;
     @Inject
+    private LogCacheClientProvider logCacheClientProvider;
+    @Inject
+    private DeployedMtasSnapshotCache deployedMtasSnapshotCache;
+    @Inject
     private FileService fileService;
     @Inject
     private HistoricOperationEventService historicOperationEventService;
@@ -62,6 +69,8 @@ public class OperationInFinalStateHandler {
     private OperationTimeAggregator operationTimeAggregator;
     @Inject
     private DynatracePublisher dynatracePublisher;
+    @Inject
+    private OperationLogBatchWriter operationLogBatchWriter;
     private final SafeExecutor safeExecutor = new SafeExecutor();
 
     public void handle(DelegateExecution execution, ProcessType processType, Operation.State state) {
@@ -73,6 +82,10 @@ public class OperationInFinalStateHandler {
         String correlationId = VariableHandling.get(execution, Variables.CORRELATION_ID);
         safeExecutor.execute(() -> deleteDeploymentFiles(correlationId, execution));
         safeExecutor.execute(() -> deleteCloudControllerClientForProcess(execution));
+        safeExecutor.execute(() -> deleteLogCacheClientForProcess(correlationId, execution));
+        safeExecutor.execute(() -> invalidateDeployedMtasSnapshots(execution));
+        // The logs are persisted before the operation is final, so that whoever sees the final state also sees all of its logs:
+        safeExecutor.execute(() -> operationLogBatchWriter.flush(correlationId));
         safeExecutor.execute(() -> setOperationState(correlationId, state));
         safeExecutor.execute(() -> deletePreviousBackupDescriptors(execution, processType, state));
         safeExecutor.execute(() -> trackOperationDuration(correlationId, execution, processType, state));
@@ -98,6 +111,18 @@ public class OperationInFinalStateHandler {
         clientProvider.releaseClient(user, spaceGuid);
     }
 
+    private void deleteLogCacheClientForProcess(String correlationId, DelegateExecution execution) {
+        String user = StepsUtil.determineCurrentUser(execution);
+
+        logCacheClientProvider.releaseClient(user, correlationId);
+    }
+
+    private void invalidateDeployedMtasSnapshots(DelegateExecution execution) {
+        String spaceGuid = VariableHandling.get(execution, Variables.SPACE_GUID);
+
+        deployedMtasSnapshotCache.invalidate(spaceGuid);
+    }
+
     protected void setOperationState(String processInstanceId, Operation.State state) {
         Operation operation = operationService.createQuery()
                                               .processId(processInstanceId)
@@ -0,0 +1,26 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Counts the Cloud Controller requests which were not sent, because their results were already known or were fetched together with the
+ * results of other requests.
+ */
+public final class SavedCloudControllerRequests {
+
+    public static final String METRIC = "multiapps.controller.cloud.controller.requests.saved";
+    public static final String REQUEST_TAG = "request";
+    public static final String APPLICATION_GUID_REQUEST = "application.guid";
+    public static final String SERVICE_INSTANCE_REQUEST = "service.instance";
+
+    private SavedCloudControllerRequests() {
+    }
+
+    public static void count(String request, int savedRequests) {
+        if (savedRequests > 0) {
+            Metrics.counter(METRIC, REQUEST_TAG, request)
+                   .increment(savedRequests);
+        }
+    }
+
+}
@@ -1,7 +1,11 @@
 package org.cloudfoundry.multiapps.controller.process.util;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import jakarta.inject.Named;
 
@@ -26,6 +30,31 @@ public class ServiceOperationGetter {
         return serviceInstance.getLastOperation();
     }
 
+    /**
+     * Gets the last operations of several services with a single request. The returned map contains the services by name and may have
+     * {@code null} values for services without a last operation.
+     */
+    public Map<String, ServiceOperation> getLastServiceOperations(CloudControllerClient client,
+                                                                  List<CloudServiceInstanceExtended> services) {
+        List<String> serviceNames = services.stream()
+                                            .map(CloudServiceInstanceExtended::getName)
+                                            .collect(Collectors.toList());
+        Map<String, CloudServiceInstance> serviceInstances = client.getServiceInstancesWithoutAuxiliaryContentByNames(serviceNames)
+                                                                   .stream()
+                                                                   .collect(Collectors.toMap(CloudServiceInstance::getName,
+                                                                                             Function.identity(),
+                                                                                             (first, second) -> first));
+        SavedCloudControllerRequests.count(SavedCloudControllerRequests.SERVICE_INSTANCE_REQUEST, services.size() - 1);
+        Map<String, ServiceOperation> lastServiceOperations = new HashMap<>();
+        for (CloudServiceInstanceExtended service : services) {
+            CloudServiceInstance serviceInstance = serviceInstances.get(service.getName());
+            ServiceOperation lastServiceOperation = serviceInstance == null ? getLastDeleteServiceOperation(client, service)
+                : serviceInstance.getLastOperation();
+            lastServiceOperations.put(service.getName(), lastServiceOperation);
+        }
+        return lastServiceOperations;
+    }
+
     private ServiceOperation getLastDeleteServiceOperation(CloudControllerClient client, CloudServiceInstanceExtended service) {
         if (service.getMetadata() == null) {
             return null;
@@ -0,0 +1,33 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.process.variables.VariableHandling;
+import org.cloudfoundry.multiapps.controller.process.variables.Variables;
+import org.flowable.engine.delegate.DelegateExecution;
+
+/**
+ * Provides the duration of the timers between two polls of an asynchronous step. It is the interval chosen by the polling policy of the
+ * step, or the configured step polling interval for processes which have not chosen one.
+ */
+@Named("stepPollingIntervalGetter")
+public class StepPollingIntervalGetter {
+
+    private final ApplicationConfiguration configuration;
+
+    @Inject
+    public StepPollingIntervalGetter(ApplicationConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    public int getInSeconds(DelegateExecution execution) {
+        Integer pollingInterval = VariableHandling.get(execution, Variables.STEP_POLLING_INTERVAL_IN_SECONDS);
+        if (pollingInterval == null || pollingInterval <= 0) {
+            return configuration.getStepPollingIntervalInSeconds();
+        }
+        return pollingInterval;
+    }
+
+}
@@ -0,0 +1,198 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.persistence.services.ImmutableFileContentToProcess;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+
+/**
+ * Determines the positions of the archive entries by reading only the end of central directory record, the central directory and the
+ * local file headers of the archive through ranged reads. The entry content is never downloaded or inflated.
+ */
+public class ZipCentralDirectoryReader {
+
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int CENTRAL_DIRECTORY_FILE_HEADER_SIGNATURE = 0x02014b50;
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+
+    private static final int END_OF_CENTRAL_DIRECTORY_MIN_LENGTH = 22;
+    private static final int MAX_ARCHIVE_COMMENT_LENGTH = 0xFFFF;
+    private static final int CENTRAL_DIRECTORY_FILE_HEADER_LENGTH = 46;
+    private static final int LOCAL_FILE_HEADER_LENGTH = 30;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+    private static final int ZIP64_MAGIC_SHORT = 0xFFFF;
+    // Local file headers which are close to each other are fetched with a single ranged read
+    private static final long MAX_LOCAL_HEADERS_READ_WINDOW = 1024 * 1024L; // 1MB
+
+    private final FileService fileService;
+    private final String spaceGuid;
+    private final String appArchiveId;
+
+    public ZipCentralDirectoryReader(FileService fileService, String spaceGuid, String appArchiveId) {
+        this.fileService = fileService;
+        this.spaceGuid = spaceGuid;
+        this.appArchiveId = appArchiveId;
+    }
+
+    /**
+     * @return the archive entries in the order in which they are stored in the archive or an empty optional if the archive does not have
+     *         a central directory, which can be used for determining the entry positions (e.g. ZIP64 archives or archives with a prefix)
+     */
+    public Optional<List<ArchiveEntryWithStreamPositions>> readArchiveEntries(long archiveSize) throws FileStorageException {
+        if (archiveSize < END_OF_CENTRAL_DIRECTORY_MIN_LENGTH) {
+            return Optional.empty();
+        }
+        long tailLength = Math.min(archiveSize, END_OF_CENTRAL_DIRECTORY_MIN_LENGTH + MAX_ARCHIVE_COMMENT_LENGTH);
+        long tailStartOffset = archiveSize - tailLength;
+        ByteBuffer tail = readRange(tailStartOffset, (int) tailLength);
+        int endOfCentralDirectoryPosition = findEndOfCentralDirectory(tail);
+        if (endOfCentralDirectoryPosition < 0) {
+            return Optional.empty();
+        }
+        int totalEntries = Short.toUnsignedInt(tail.getShort(endOfCentralDirectoryPosition + 10));
+        long centralDirectorySize = Integer.toUnsignedLong(tail.getInt(endOfCentralDirectoryPosition + 12));
+        long centralDirectoryOffset = Integer.toUnsignedLong(tail.getInt(endOfCentralDirectoryPosition + 16));
+        if (totalEntries == ZIP64_MAGIC_SHORT || centralDirectorySize == ZIP64_MAGIC || centralDirectoryOffset == ZIP64_MAGIC
+            || centralDirectoryOffset + centralDirectorySize != tailStartOffset + endOfCentralDirectoryPosition) {
+            return Optional.empty();
+        }
+        List<CentralDirectoryEntry> centralDirectoryEntries = parseCentralDirectory(getCentralDirectory(tail, tailStartOffset,
+                                                                                                        centralDirectoryOffset,
+                                                                                                        (int) centralDirectorySize),
+                                                                                    totalEntries);
+        if (centralDirectoryEntries == null) {
+            return Optional.empty();
+        }
+        return resolveArchiveEntries(centralDirectoryEntries, centralDirectoryOffset);
+    }
+
+    private int findEndOfCentralDirectory(ByteBuffer tail) {
+        for (int position = tail.limit() - END_OF_CENTRAL_DIRECTORY_MIN_LENGTH; position >= 0; position--) {
+            if (tail.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                int commentLength = Short.toUnsignedInt(tail.getShort(position + 20));
+                if (position + END_OF_CENTRAL_DIRECTORY_MIN_LENGTH + commentLength == tail.limit()) {
+                    return position;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private ByteBuffer getCentralDirectory(ByteBuffer tail, long tailStartOffset, long centralDirectoryOffset, int centralDirectorySize)
+        throws FileStorageException {
+        if (centralDirectoryOffset >= tailStartOffset) {
+            int startPosition = (int) (centralDirectoryOffset - tailStartOffset);
+            return tail.slice(startPosition, centralDirectorySize)
+                       .order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return readRange(centralDirectoryOffset, centralDirectorySize);
+    }
+
+    private List<CentralDirectoryEntry> parseCentralDirectory(ByteBuffer centralDirectory, int totalEntries) {
+        List<CentralDirectoryEntry> entries = new ArrayList<>(totalEntries);
+        int position = 0;
+        for (int i = 0; i < totalEntries; i++) {
+            if (position + CENTRAL_DIRECTORY_FILE_HEADER_LENGTH > centralDirectory.limit()
+                || centralDirectory.getInt(position) != CENTRAL_DIRECTORY_FILE_HEADER_SIGNATURE) {
+                return null;
+            }
+            int compressionMethod = Short.toUnsignedInt(centralDirectory.getShort(position + 10));
+            long compressedSize = Integer.toUnsignedLong(centralDirectory.getInt(position + 20));
+            int nameLength = Short.toUnsignedInt(centralDirectory.getShort(position + 28));
+            int extraFieldLength = Short.toUnsignedInt(centralDirectory.getShort(position + 30));
+            int commentLength = Short.toUnsignedInt(centralDirectory.getShort(position + 32));
+            long localHeaderOffset = Integer.toUnsignedLong(centralDirectory.getInt(position + 42));
+            if (compressedSize == ZIP64_MAGIC || localHeaderOffset == ZIP64_MAGIC
+                || position + CENTRAL_DIRECTORY_FILE_HEADER_LENGTH + nameLength > centralDirectory.limit()) {
+                return null;
+            }
+            byte[] name = new byte[nameLength];
+            centralDirectory.get(position + CENTRAL_DIRECTORY_FILE_HEADER_LENGTH, name);
+            entries.add(new CentralDirectoryEntry(new String(name, StandardCharsets.UTF_8),
+                                                  compressionMethod,
+                                                  compressedSize,
+                                                  localHeaderOffset));
+            position += CENTRAL_DIRECTORY_FILE_HEADER_LENGTH + nameLength + extraFieldLength + commentLength;
+        }
+        return entries;
+    }
+
+    private Optional<List<ArchiveEntryWithStreamPositions>> resolveArchiveEntries(List<CentralDirectoryEntry> centralDirectoryEntries,
+                                                                                  long centralDirectoryOffset)
+        throws FileStorageException {
+        List<CentralDirectoryEntry> sortedEntries = new ArrayList<>(centralDirectoryEntries);
+        sortedEntries.sort(Comparator.comparingLong(CentralDirectoryEntry::localHeaderOffset));
+        List<ArchiveEntryWithStreamPositions> archiveEntries = new ArrayList<>(sortedEntries.size());
+        int windowStartIndex = 0;
+        while (windowStartIndex < sortedEntries.size()) {
+            long windowStartOffset = sortedEntries.get(windowStartIndex)
+                                                  .localHeaderOffset();
+            int windowEndIndex = windowStartIndex + 1;
+            while (windowEndIndex < sortedEntries.size() && sortedEntries.get(windowEndIndex)
+                                                                         .localHeaderOffset()
+                + LOCAL_FILE_HEADER_LENGTH - windowStartOffset <= MAX_LOCAL_HEADERS_READ_WINDOW) {
+                windowEndIndex++;
+            }
+            long windowEndOffset = sortedEntries.get(windowEndIndex - 1)
+                                                .localHeaderOffset()
+                + LOCAL_FILE_HEADER_LENGTH;
+            if (windowEndOffset > centralDirectoryOffset) {
+                return Optional.empty();
+            }
+            ByteBuffer window = readRange(windowStartOffset, (int) (windowEndOffset - windowStartOffset));
+            for (CentralDirectoryEntry entry : sortedEntries.subList(windowStartIndex, windowEndIndex)) {
+                int position = (int) (entry.localHeaderOffset() - windowStartOffset);
+                if (window.getInt(position) != LOCAL_FILE_HEADER_SIGNATURE) {
+                    return Optional.empty();
+                }
+                int localNameLength = Short.toUnsignedInt(window.getShort(position + 26));
+                int localExtraFieldLength = Short.toUnsignedInt(window.getShort(position + 28));
+                long dataOffset = entry.localHeaderOffset() + LOCAL_FILE_HEADER_LENGTH + localNameLength + localExtraFieldLength;
+                archiveEntries.add(toArchiveEntryWithStreamPositions(entry, dataOffset));
+            }
+            windowStartIndex = windowEndIndex;
+        }
+        return Optional.of(archiveEntries);
+    }
+
+    private ArchiveEntryWithStreamPositions toArchiveEntryWithStreamPositions(CentralDirectoryEntry entry, long dataOffset) {
+        return ImmutableArchiveEntryWithStreamPositions.builder()
+                                                       .name(entry.name())
+                                                       .startPosition(dataOffset)
+                                                       .endPosition(dataOffset + entry.compressedSize())
+                                                       .compressionMethod(ArchiveEntryWithStreamPositions.CompressionMethod.parseValue(entry.compressionMethod()))
+                                                       .isDirectory(entry.name()
+                                                                         .endsWith("/"))
+                                                       .build();
+    }
+
+    private ByteBuffer readRange(long startOffset, int length) throws FileStorageException {
+        byte[] bytes = fileService.processFileContentWithOffset(ImmutableFileContentToProcess.builder()
+                                                                                             .guid(appArchiveId)
+                                                                                             .spaceGuid(spaceGuid)
+                                                                                             .startOffset(startOffset)
+                                                                                             // the end offset is inclusive
+                                                                                             .endOffset(startOffset + length - 1)
+                                                                                             .build(),
+                                                                inputStream -> inputStream.readNBytes(length));
+        if (bytes.length != length) {
+            throw new FileStorageException(MessageFormat.format(Messages.EXPECTED_TO_READ_0_BYTES_FROM_ARCHIVE_1_AT_OFFSET_2_BUT_GOT_3, length,
+                                                                appArchiveId, startOffset, bytes.length));
+        }
+        return ByteBuffer.wrap(bytes)
+                         .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private record CentralDirectoryEntry(String name, int compressionMethod, long compressedSize, long localHeaderOffset) {
+    }
+
+}
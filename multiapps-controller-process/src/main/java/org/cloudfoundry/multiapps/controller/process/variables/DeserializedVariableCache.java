@@ -0,0 +1,64 @@
+package org.cloudfoundry.multiapps.controller.process.variables;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.flowable.common.engine.api.variable.VariableContainer;
+
+/**
+ * Keeps the deserialized values of variables with immutable values, so that reading the same variable several times during a step does
+ * not deserialize it again. A cached value is used only while the variable still holds the very same serialized value it was created
+ * from. List values are copied before they are returned, so that the callers can modify them without affecting each other.
+ */
+public class DeserializedVariableCache {
+
+    private final Map<String, CachedValue> cachedValues = new ConcurrentHashMap<>();
+
+    public <T> T get(VariableContainer container, Variable<T> variable) {
+        Object serializedValue = container.getVariable(variable.getName());
+        if (serializedValue == null) {
+            return variable.getDefaultValue();
+        }
+        return deserialize(variable, serializedValue);
+    }
+
+    public <T> T getIfSet(VariableContainer container, Variable<T> variable) {
+        Object serializedValue = container.getVariable(variable.getName());
+        if (serializedValue == null) {
+            return null;
+        }
+        return deserialize(variable, serializedValue);
+    }
+
+    public void invalidate(Variable<?> variable) {
+        cachedValues.remove(variable.getName());
+    }
+
+    private <T> T deserialize(Variable<T> variable, Object serializedValue) {
+        if (!variable.hasImmutableValues()) {
+            return VariableHandling.deserialize(variable, serializedValue);
+        }
+        CachedValue cachedValue = cachedValues.get(variable.getName());
+        // Setting a variable always stores a new serialized value, so comparing the references is enough:
+        if (cachedValue != null && cachedValue.serializedValue() == serializedValue) {
+            return copy(cachedValue.value());
+        }
+        T value = VariableHandling.deserialize(variable, serializedValue);
+        cachedValues.put(variable.getName(), new CachedValue(serializedValue, value));
+        return copy(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T copy(Object value) {
+        if (value instanceof List<?> list) {
+            return (T) new ArrayList<>(list);
+        }
+        return (T) value;
+    }
+
+    private record CachedValue(Object serializedValue, Object value) {
+    }
+
+}
@@ -0,0 +1,89 @@
+package org.cloudfoundry.multiapps.controller.process.variables;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.common.util.JsonSerializationStrategy;
+import org.cloudfoundry.multiapps.common.util.JsonUtil;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+/**
+ * Encodes the values of binary variables as JSON. When compression is enabled, JSON larger than {@link #COMPRESSION_THRESHOLD_IN_BYTES} is
+ * compressed with GZIP. Both forms are always decoded, as GZIP data starts with bytes that cannot start a JSON document.
+ * <p>
+ * Compression is disabled by default, because versions without this codec cannot read compressed values. It should only be enabled once a
+ * rollback to such a version is no longer needed. Disabling it again is safe.
+ */
+public final class JsonBinaryCodec {
+
+    static final int COMPRESSION_THRESHOLD_IN_BYTES = 4 * 1024;
+
+    private static final byte GZIP_MAGIC_FIRST_BYTE = (byte) GZIPInputStream.GZIP_MAGIC;
+    private static final byte GZIP_MAGIC_SECOND_BYTE = (byte) (GZIPInputStream.GZIP_MAGIC >> 8);
+
+    private static volatile boolean compressionEnabled;
+
+    private JsonBinaryCodec() {
+    }
+
+    public static void setCompressionEnabled(boolean compressionEnabled) {
+        JsonBinaryCodec.compressionEnabled = compressionEnabled;
+    }
+
+    public static byte[] encode(Object value) {
+        return compressIfLarge(JsonUtil.toJsonBinary(value));
+    }
+
+    public static byte[] encode(Object value, JsonSerializationStrategy serializationStrategy) {
+        return compressIfLarge(JsonUtil.toJsonBinary(value, serializationStrategy));
+    }
+
+    public static <T> T decode(byte[] encodedValue, Class<T> classOfT) {
+        return JsonUtil.fromJsonBinary(decompressIfNeeded(encodedValue), classOfT);
+    }
+
+    public static <T> T decode(byte[] encodedValue, TypeReference<T> type) {
+        return JsonUtil.fromJsonBinary(decompressIfNeeded(encodedValue), type);
+    }
+
+    public static <T> T decode(byte[] encodedValue, JsonSerializationStrategy serializationStrategy, TypeReference<T> type) {
+        return JsonUtil.fromJsonBinary(decompressIfNeeded(encodedValue), serializationStrategy, type);
+    }
+
+    static boolean isCompressed(byte[] encodedValue) {
+        return encodedValue.length >= 2 && encodedValue[0] == GZIP_MAGIC_FIRST_BYTE && encodedValue[1] == GZIP_MAGIC_SECOND_BYTE;
+    }
+
+    private static byte[] compressIfLarge(byte[] json) {
+        if (!compressionEnabled || json.length < COMPRESSION_THRESHOLD_IN_BYTES) {
+            return json;
+        }
+        ByteArrayOutputStream compressedJson = new ByteArrayOutputStream(json.length / 4);
+        try (OutputStream compressingStream = new GZIPOutputStream(compressedJson)) {
+            compressingStream.write(json);
+        } catch (IOException e) {
+            throw new SLException(e, Messages.COULD_NOT_COMPRESS_VARIABLE_VALUE);
+        }
+        return compressedJson.size() < json.length ? compressedJson.toByteArray() : json;
+    }
+
+    private static byte[] decompressIfNeeded(byte[] encodedValue) {
+        if (!isCompressed(encodedValue)) {
+            return encodedValue;
+        }
+        try (InputStream decompressingStream = new GZIPInputStream(new ByteArrayInputStream(encodedValue))) {
+            return decompressingStream.readAllBytes();
+        } catch (IOException e) {
+            throw new SLException(e, Messages.COULD_NOT_DECOMPRESS_VARIABLE_VALUE);
+        }
+    }
+
+}
@@ -3,7 +3,6 @@ package org.cloudfoundry.multiapps.controller.process.variables;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.flowable.common.engine.api.variable.VariableContainer;
 import org.immutables.value.Value;
 
@@ -14,6 +13,12 @@ public abstract class JsonBinaryListVariable<T> implements ListVariable<T, List<
 
     public abstract TypeReference<T> getType();
 
+    @Override
+    @Value.Default
+    public boolean hasImmutableValues() {
+        return false;
+    }
+
     @Override
     public Serializer<List<T>> getSerializer() {
         return new Serializer<List<T>>() {
@@ -21,7 +26,7 @@ public abstract class JsonBinaryListVariable<T> implements ListVariable<T, List<
             @Override
             public Object serialize(List<T> values) {
                 return values.stream()
-                             .map(JsonUtil::toJsonBinary)
+                             .map(JsonBinaryCodec::encode)
                              .collect(Collectors.toList());
             }
 
@@ -30,7 +35,7 @@ public abstract class JsonBinaryListVariable<T> implements ListVariable<T, List<
             public List<T> deserialize(Object serializedValue) {
                 List<byte[]> serializedValues = (List<byte[]>) serializedValue;
                 return serializedValues.stream()
-                                       .map(value -> JsonUtil.fromJsonBinary(value, getType()))
+                                       .map(value -> JsonBinaryCodec.decode(value, getType()))
                                        .collect(Collectors.toList());
             }
 
@@ -4,7 +4,6 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.cloudfoundry.multiapps.common.util.JsonSerializationStrategy;
-import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.flowable.common.engine.api.variable.VariableContainer;
 import org.immutables.value.Value;
 
@@ -22,7 +21,7 @@ public abstract class JsonBinaryListVariableAllowingNulls<T> implements ListVari
             @Override
             public Object serialize(List<T> values) {
                 return values.stream()
-                             .map(value -> JsonUtil.toJsonBinary(value, JsonSerializationStrategy.ALLOW_NULLS))
+                             .map(value -> JsonBinaryCodec.encode(value, JsonSerializationStrategy.ALLOW_NULLS))
                              .collect(Collectors.toList());
             }
 
@@ -31,7 +30,7 @@ public abstract class JsonBinaryListVariableAllowingNulls<T> implements ListVari
             public List<T> deserialize(Object serializedValue) {
                 List<byte[]> serializedValues = (List<byte[]>) serializedValue;
                 return serializedValues.stream()
-                                       .map(value -> JsonUtil.fromJsonBinary(value, JsonSerializationStrategy.ALLOW_NULLS, getType()))
+                                       .map(value -> JsonBinaryCodec.decode(value, JsonSerializationStrategy.ALLOW_NULLS, getType()))
                                        .collect(Collectors.toList());
             }
 
@@ -1,6 +1,5 @@
 package org.cloudfoundry.multiapps.controller.process.variables;
 
-import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.flowable.common.engine.api.variable.VariableContainer;
 import org.immutables.value.Value;
 
@@ -11,18 +10,24 @@ public abstract class JsonBinaryVariable<T> implements Variable<T> {
 
     public abstract TypeReference<T> getType();
 
+    @Override
+    @Value.Default
+    public boolean hasImmutableValues() {
+        return false;
+    }
+
     @Override
     public Serializer<T> getSerializer() {
         return new Serializer<T>() {
 
             @Override
             public Object serialize(T object) {
-                return JsonUtil.toJsonBinary(object);
+                return JsonBinaryCodec.encode(object);
             }
 
             @Override
             public T deserialize(Object serializedObject) {
-                return JsonUtil.fromJsonBinary((byte[]) serializedObject, getType());
+                return JsonBinaryCodec.decode((byte[]) serializedObject, getType());
             }
 
             @Override
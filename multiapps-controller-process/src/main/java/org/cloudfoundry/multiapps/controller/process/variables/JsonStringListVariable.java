@@ -14,6 +14,12 @@ public abstract class JsonStringListVariable<T> implements ListVariable<T, List<
 
     public abstract TypeReference<T> getType();
 
+    @Override
+    @Value.Default
+    public boolean hasImmutableValues() {
+        return false;
+    }
+
     @Override
     public Serializer<List<T>> getSerializer() {
         return new Serializer<List<T>>() {
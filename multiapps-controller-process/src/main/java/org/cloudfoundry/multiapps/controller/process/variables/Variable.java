@@ -27,4 +27,12 @@ public interface Variable<T> {
 
     Serializer<T> getSerializer();
 
+    /**
+     * Returns true if the deserialized values of the variable, or the elements of its list values, cannot be modified. Only the values of
+     * such variables are kept by {@link DeserializedVariableCache}.
+     */
+    default boolean hasImmutableValues() {
+        return false;
+    }
+
 }
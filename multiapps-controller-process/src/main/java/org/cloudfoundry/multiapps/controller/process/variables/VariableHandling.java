@@ -1,10 +1,23 @@
 package org.cloudfoundry.multiapps.controller.process.variables;
 
+import java.util.concurrent.TimeUnit;
+
 import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.variable.api.delegate.VariableScope;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 public final class VariableHandling {
 
+    static final String SERIALIZATION_METRIC = "multiapps.controller.process.variables.serialization";
+    static final String SERIALIZED_SIZE_METRIC = "multiapps.controller.process.variables.serialized.size";
+    static final String VARIABLE_TAG = "variable";
+    static final String OPERATION_TAG = "operation";
+    static final String SERIALIZE_OPERATION = "serialize";
+    static final String DESERIALIZE_OPERATION = "deserialize";
+
     private VariableHandling() {
     }
 
@@ -13,8 +26,7 @@ public final class VariableHandling {
             container.setVariable(variable.getName(), null);
             return;
         }
-        Serializer<T> serializer = variable.getSerializer();
-        container.setVariable(variable.getName(), serializer.serialize(value));
+        container.setVariable(variable.getName(), serialize(variable, value));
     }
 
     public static <T> T get(VariableContainer container, Variable<T> variable) {
@@ -22,8 +34,7 @@ public final class VariableHandling {
         if (serializedValue == null) {
             return variable.getDefaultValue();
         }
-        Serializer<T> serializer = variable.getSerializer();
-        return serializer.deserialize(serializedValue);
+        return deserialize(variable, serializedValue);
     }
 
     public static <T> T getIfSet(VariableContainer container, Variable<T> variable) {
@@ -31,8 +42,7 @@ public final class VariableHandling {
         if (serializedValue == null) {
             return null;
         }
-        Serializer<T> serializer = variable.getSerializer();
-        return serializer.deserialize(serializedValue);
+        return deserialize(variable, serializedValue);
     }
 
     public static <T> T getBackwardsCompatible(VariableContainer container, Variable<T> variable) {
@@ -48,4 +58,52 @@ public final class VariableHandling {
         scope.removeVariable(variable.getName());
     }
 
+    /**
+     * Serializes the value of a variable. The time needed for serializing binary and text values and their size (in bytes or characters)
+     * are recorded per variable, as they make up most of the variable traffic between the process engine and the database.
+     */
+    static <T> Object serialize(Variable<T> variable, T value) {
+        long start = System.nanoTime();
+        Object serializedValue = variable.getSerializer()
+                                         .serialize(value);
+        int size = getSize(serializedValue);
+        if (size >= 0) {
+            recordSerializationTime(variable, SERIALIZE_OPERATION, System.nanoTime() - start);
+            DistributionSummary.builder(SERIALIZED_SIZE_METRIC)
+                               .tag(VARIABLE_TAG, variable.getName())
+                               .register(Metrics.globalRegistry)
+                               .record(size);
+        }
+        return serializedValue;
+    }
+
+    static <T> T deserialize(Variable<T> variable, Object serializedValue) {
+        Serializer<T> serializer = variable.getSerializer();
+        if (getSize(serializedValue) < 0) {
+            return serializer.deserialize(serializedValue);
+        }
+        long start = System.nanoTime();
+        T value = serializer.deserialize(serializedValue);
+        recordSerializationTime(variable, DESERIALIZE_OPERATION, System.nanoTime() - start);
+        return value;
+    }
+
+    private static int getSize(Object serializedValue) {
+        if (serializedValue instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        if (serializedValue instanceof String string) {
+            return string.length();
+        }
+        return -1;
+    }
+
+    private static void recordSerializationTime(Variable<?> variable, String operation, long durationInNanos) {
+        Timer.builder(SERIALIZATION_METRIC)
+             .tag(VARIABLE_TAG, variable.getName())
+             .tag(OPERATION_TAG, operation)
+             .register(Metrics.globalRegistry)
+             .record(durationInNanos, TimeUnit.NANOSECONDS);
+    }
+
 }
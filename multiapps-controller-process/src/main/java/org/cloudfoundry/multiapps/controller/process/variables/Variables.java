@@ -82,6 +82,9 @@ public interface Variables {
     Variable<String> APP_ARCHIVE_ID = ImmutableSimpleVariable.<String> builder()
                                                              .name("appArchiveId")
                                                              .build();
+    Variable<String> APP_ARCHIVE_DIGEST = ImmutableSimpleVariable.<String> builder()
+                                                                 .name("appArchiveDigest")
+                                                                 .build();
     Variable<String> EXT_DESCRIPTOR_FILE_ID = ImmutableSimpleVariable.<String> builder()
                                                                      .name("mtaExtDescriptorId")
                                                                      .build();
@@ -201,6 +204,19 @@ public interface Variables {
     Variable<Integer> ASYNC_STEP_EXECUTION_INDEX = ImmutableSimpleVariable.<Integer> builder()
                                                                           .name("asyncStepExecutionIndex")
                                                                           .build();
+    Variable<Integer> ASYNC_STEP_EXECUTION_POLL_COUNT = ImmutableSimpleVariable.<Integer> builder()
+                                                                               .name("asyncStepExecutionPollCount")
+                                                                               .defaultValue(0)
+                                                                               .build();
+    Variable<Integer> STEP_POLLING_INTERVAL_IN_SECONDS = ImmutableSimpleVariable.<Integer> builder()
+                                                                                .name("stepPollingIntervalInSeconds")
+                                                                                .build();
+    Variable<Map<String, UUID>> POLLED_APPLICATION_GUIDS = ImmutableJsonBinaryVariable.<Map<String, UUID>> builder()
+                                                                                 .name("polledApplicationGuids")
+                                                                                 .type(new TypeReference<>() {
+                                                                                 })
+                                                                                 .defaultValue(Collections.emptyMap())
+                                                                                 .build();
     Variable<Long> START_TIME = ImmutableSimpleVariable.<Long> builder()
                                                        .name("startTime")
                                                        .build();
@@ -314,6 +330,7 @@ public interface Variables {
     Variable<CloudApplicationExtended> APP_TO_PROCESS = ImmutableJsonStringVariable.<CloudApplicationExtended> builder()
                                                                                    .name("appToProcess")
                                                                                    .type(Variable.typeReference(CloudApplicationExtended.class))
+                                                                                   .hasImmutableValues(true)
                                                                                    .build();
     Variable<String> BINDING_NAME = ImmutableSimpleVariable.<String> builder()
                                                            .name("bindingName")
@@ -328,6 +345,7 @@ public interface Variables {
     Variable<CloudServiceInstanceExtended> SERVICE_TO_PROCESS = ImmutableJsonStringVariable.<CloudServiceInstanceExtended> builder()
                                                                                            .name("serviceToProcess")
                                                                                            .type(Variable.typeReference(CloudServiceInstanceExtended.class))
+                                                                                           .hasImmutableValues(true)
                                                                                            .build();
     Variable<CloudPackage> CLOUD_PACKAGE = ImmutableJsonStringVariable.<CloudPackage> builder()
                                                                       .name("uploadedCloudPackage")
@@ -341,6 +359,7 @@ public interface Variables {
                                                                        .name("appsToDeploy")
                                                                        .type(new TypeReference<>() {
                                                                        })
+                                                                       .hasImmutableValues(true)
                                                                        .build();
     Variable<List<String>> APPS_TO_RENAME = ImmutableJsonBinaryVariable.<List<String>> builder()
                                                                        .name("appsToRename")
@@ -375,6 +394,7 @@ public interface Variables {
     Variable<DeployedMta> DEPLOYED_MTA = ImmutableJsonBinaryVariable.<DeployedMta> builder()
                                                                     .name("deployedMta")
                                                                     .type(Variable.typeReference(DeployedMta.class))
+                                                                    .hasImmutableValues(true)
                                                                     .build();
     Variable<List<DeployedMtaServiceKey>> DEPLOYED_MTA_SERVICE_KEYS = ImmutableJsonBinaryVariable.<List<DeployedMtaServiceKey>> builder()
                                                                                                  .name("deployedMtaServiceKeys")
@@ -428,6 +448,7 @@ public interface Variables {
                                                                                                .name("servicesToPoll")
                                                                                                .type(new TypeReference<>() {
                                                                                                })
+                                                                                               .hasImmutableValues(true)
                                                                                                .build();
     Variable<CloudTask> STARTED_TASK = ImmutableJsonBinaryVariable.<CloudTask> builder()
                                                                   .name("startedTask")
@@ -473,6 +494,7 @@ public interface Variables {
                                                                                             .type(new TypeReference<>() {
                                                                                             })
                                                                                             .defaultValue(Collections.emptyList())
+                                                                                            .hasImmutableValues(true)
                                                                                             .build();
     Variable<List<Map<String, Map<String, String>>>> FILE_LIST = ImmutableSimpleVariable.<List<Map<String, Map<String, String>>>> builder()
                                                                                         .name("fileList")
@@ -854,6 +876,7 @@ public interface Variables {
                                                                                                                .name("archiveEntriesPositions")
                                                                                                                .type(new TypeReference<>() {
                                                                                                                })
+                                                                                                               .hasImmutableValues(true)
                                                                                                                .build();
     Variable<Boolean> MUST_RESET_TIMEOUT = ImmutableSimpleVariable.<Boolean> builder()
                                                                   .name("mustResetTimeout")
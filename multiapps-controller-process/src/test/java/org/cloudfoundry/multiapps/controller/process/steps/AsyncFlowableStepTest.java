@@ -0,0 +1,86 @@
+package org.cloudfoundry.multiapps.controller.process.steps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.client.util.RetryAfterCloudOperationException;
+import org.cloudfoundry.multiapps.controller.process.variables.Variables;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+
+import com.sap.cloudfoundry.client.facade.CloudOperationException;
+
+class AsyncFlowableStepTest extends SyncFlowableStepTest<AsyncFlowableStep> {
+
+    private static final int POLLING_INTERVAL_IN_SECONDS = 5;
+
+    private final AsyncExecution asyncExecution = Mockito.mock(AsyncExecution.class);
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(configuration.getStepPollingIntervalInSeconds())
+               .thenReturn(POLLING_INTERVAL_IN_SECONDS);
+        step.initializeStepLogger(execution);
+        context = step.createProcessContext(execution);
+        context.setVariable(Variables.STEP_PHASE, StepPhase.POLL);
+        context.setVariable(Variables.ASYNC_STEP_EXECUTION_INDEX, 0);
+    }
+
+    @Test
+    void testPollIsPostponedWhenCloudControllerAsksToRetryLater() throws Exception {
+        Mockito.when(asyncExecution.execute(context))
+               .thenThrow(new RetryAfterCloudOperationException(HttpStatus.SERVICE_UNAVAILABLE, "suspended", Duration.ofSeconds(30)));
+
+        assertEquals(StepPhase.POLL, step.executeStep(context));
+        assertEquals(30, context.getVariable(Variables.STEP_POLLING_INTERVAL_IN_SECONDS));
+    }
+
+    @Test
+    void testPollIsNotPostponedForLessThanThePollingInterval() throws Exception {
+        Mockito.when(asyncExecution.execute(context))
+               .thenThrow(new IllegalStateException(new RetryAfterCloudOperationException(HttpStatus.TOO_MANY_REQUESTS,
+                                                                                          "rate limited",
+                                                                                          Duration.ofSeconds(1))));
+
+        assertEquals(StepPhase.POLL, step.executeStep(context));
+        assertEquals(POLLING_INTERVAL_IN_SECONDS, context.getVariable(Variables.STEP_POLLING_INTERVAL_IN_SECONDS));
+    }
+
+    @Test
+    void testOtherCloudControllerErrorsFailThePoll() {
+        Mockito.when(asyncExecution.execute(context))
+               .thenThrow(new CloudOperationException(HttpStatus.SERVICE_UNAVAILABLE));
+
+        assertThrows(SLException.class, () -> step.executeStep(context));
+    }
+
+    @Override
+    protected AsyncFlowableStep createStep() {
+        return new AsyncFlowableStepMock();
+    }
+
+    private class AsyncFlowableStepMock extends AsyncFlowableStep {
+
+        @Override
+        protected StepPhase executeAsyncStep(ProcessContext context) {
+            return StepPhase.POLL;
+        }
+
+        @Override
+        protected List<AsyncExecution> getAsyncStepExecutions(ProcessContext context) {
+            return List.of(asyncExecution);
+        }
+
+        @Override
+        protected String getStepErrorMessage(ProcessContext context) {
+            return "error occurred";
+        }
+    }
+
+}
@@ -65,7 +65,7 @@ class DetectDeployedMtaStepTest extends SyncFlowableStepTest<DetectDeployedMtaSt
 
         when(deployedMtaDetector.detectDeployedMtas(Mockito.any(CloudControllerClient.class))).thenReturn(deployedComponents);
         when(deployedMtaDetector.detectDeployedMtaByNameAndNamespace(Mockito.eq(MTA_ID), Mockito.eq(null),
-                                                                     Mockito.any(CloudControllerClient.class))).thenReturn(Optional.of(deployedMta));
+                                                                     Mockito.anyList())).thenReturn(Optional.of(deployedMta));
         when(customClientMock.getServiceKeysByMetadataAndGuids(Mockito.eq(SPACE_GUID), Mockito.eq(MTA_ID), Mockito.isNull(),
                                                                Mockito.eq(deployedMta.getServices()))).thenReturn(deployedKeys);
 
@@ -80,7 +80,8 @@ class DetectDeployedMtaStepTest extends SyncFlowableStepTest<DetectDeployedMtaSt
     @Test
     void testExecuteWithoutDeployedMta() {
         when(deployedMtaDetector.detectDeployedMtas(client)).thenReturn(Collections.emptyList());
-        when(deployedMtaDetector.detectDeployedMtaByNameAndNamespace(MTA_ID, null, client)).thenReturn(Optional.empty());
+        when(deployedMtaDetector.collectMtaEntitiesByName(MTA_ID, client)).thenReturn(Collections.emptyList());
+        when(deployedMtaDetector.detectDeployedMtaByNameAndNamespace(MTA_ID, null, Collections.emptyList())).thenReturn(Optional.empty());
         when(customClientMock.getServiceKeysByMetadataAndGuids(SPACE_GUID, MTA_ID, null,
                                                                Collections.emptyList())).thenReturn(Collections.emptyList());
 
@@ -126,11 +127,11 @@ class DetectDeployedMtaStepTest extends SyncFlowableStepTest<DetectDeployedMtaSt
                                                     .build();
 
         when(deployedMtaDetector.detectDeployedMtaByNameAndNamespace(Mockito.eq(MTA_ID), Mockito.eq(null),
-                                                                     Mockito.any())).thenReturn(Optional.of(deployedMta));
+                                                                     Mockito.anyList())).thenReturn(Optional.of(deployedMta));
         when(deployedMtaDetector.detectDeployedMtaByNameAndNamespace(Mockito.eq(MTA_ID),
                                                                      Mockito.eq(NameUtil.computeUserNamespaceWithSystemNamespace(Constants.MTA_BACKUP_NAMESPACE,
                                                                                                                                  null)),
-                                                                     Mockito.any())).thenReturn(Optional.of(backupMta));
+                                                                     Mockito.anyList())).thenReturn(Optional.of(backupMta));
 
         step.execute(execution);
 
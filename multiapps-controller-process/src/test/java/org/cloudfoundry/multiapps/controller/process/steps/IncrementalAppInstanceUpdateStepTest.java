@@ -14,7 +14,7 @@ import java.util.UUID;
 
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.ImmutableCloudApplicationExtended;
-import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.ImmutableMtaMetadata;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMta;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMtaApplication;
@@ -22,7 +22,6 @@ import org.cloudfoundry.multiapps.controller.core.model.ImmutableDeployedMta;
 import org.cloudfoundry.multiapps.controller.core.model.ImmutableDeployedMtaApplication;
 import org.cloudfoundry.multiapps.controller.core.model.IncrementalAppInstanceUpdateConfiguration;
 import org.cloudfoundry.multiapps.controller.core.model.SupportedParameters;
-import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,8 +46,7 @@ class IncrementalAppInstanceUpdateStepTest extends SyncFlowableStepTest<Incremen
     private static final String MODULE_NAME = "app-to-process-module";
     private static final String LIVE_APPLICATION_NAME = "app-to-process-live";
 
-    private CloudControllerClientFactory clientFactory;
-    private TokenService tokenService;
+    private LogCacheClientProvider logCacheClientProvider;
 
     @BeforeEach
     public void setUp() {
@@ -252,8 +250,7 @@ class IncrementalAppInstanceUpdateStepTest extends SyncFlowableStepTest<Incremen
 
     @Override
     protected IncrementalAppInstancesUpdateStep createStep() {
-        clientFactory = Mockito.mock(CloudControllerClientFactory.class);
-        tokenService = Mockito.mock(TokenService.class);
-        return new IncrementalAppInstancesUpdateStep(clientFactory, tokenService);
+        logCacheClientProvider = Mockito.mock(LogCacheClientProvider.class);
+        return new IncrementalAppInstancesUpdateStep(logCacheClientProvider);
     }
 }
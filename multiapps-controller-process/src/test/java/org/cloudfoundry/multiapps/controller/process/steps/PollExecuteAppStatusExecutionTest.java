@@ -28,11 +28,10 @@ import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.ImmutableCloudApplicationExtended;
 import org.cloudfoundry.multiapps.controller.core.Constants;
-import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
 import org.cloudfoundry.multiapps.controller.core.cf.apps.ApplicationStateAction;
 import org.cloudfoundry.multiapps.controller.core.model.SupportedParameters;
-import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLogger;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLoggerProvider;
 import org.cloudfoundry.multiapps.controller.process.util.MockDelegateExecution;
@@ -73,9 +72,7 @@ class PollExecuteAppStatusExecutionTest {
     @Mock
     private CloudControllerClient client;
     @Mock
-    private CloudControllerClientFactory clientFactory;
-    @Mock
-    private TokenService tokenService;
+    private LogCacheClientProvider logCacheClientProvider;
     @Mock
     private LogCacheClient logCacheClient;
 
@@ -89,7 +86,7 @@ class PollExecuteAppStatusExecutionTest {
                           .close();
         execution = MockDelegateExecution.createSpyInstance();
         context = new ProcessContext(execution, stepLogger, clientProvider);
-        step = new PollExecuteAppStatusExecution(clientFactory, tokenService);
+        step = new PollExecuteAppStatusExecution(logCacheClientProvider);
     }
 
     static Stream<Arguments> testStep() {
@@ -182,7 +179,7 @@ class PollExecuteAppStatusExecutionTest {
 
     private void prepareClients(ApplicationLog applicationLog) {
         when(logCacheClient.getRecentLogs(any(), any())).thenReturn(List.of(applicationLog));
-        when(clientFactory.createLogCacheClient(any(), any())).thenReturn(logCacheClient);
+        when(logCacheClientProvider.getLogCacheClient(any(), any())).thenReturn(logCacheClient);
         when(client.getApplicationGuid(eq(APPLICATION_NAME))).thenReturn(UUID.fromString(APPLICATION_GUID));
         when(clientProvider.getControllerClient(any(), any(), any())).thenReturn(client);
     }
@@ -12,8 +12,7 @@ import java.util.stream.Stream;
 
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.ImmutableCloudApplicationExtended;
-import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
-import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -47,9 +46,7 @@ class PollExecuteTaskStatusStepTest extends AsyncStepOperationTest<ExecuteTaskSt
     private AsyncExecutionState expectedExecutionStatus;
 
     @Mock
-    private CloudControllerClientFactory clientFactory;
-    @Mock
-    private TokenService tokenService;
+    private LogCacheClientProvider logCacheClientProvider;
 
     public static Stream<Arguments> testPollStateExecution() {
         return Stream.of(
@@ -109,7 +106,7 @@ class PollExecuteTaskStatusStepTest extends AsyncStepOperationTest<ExecuteTaskSt
 
         var logCacheClient = Mockito.mock(LogCacheClient.class);
         when(logCacheClient.getRecentLogs(any(UUID.class), any())).thenReturn(Collections.emptyList());
-        when(clientFactory.createLogCacheClient(any(), any())).thenReturn(logCacheClient);
+        when(logCacheClientProvider.getLogCacheClient(any(), any())).thenReturn(logCacheClient);
     }
 
     @Override
@@ -10,11 +10,10 @@ import java.util.UUID;
 
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.ImmutableCloudApplicationExtended;
-import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMtaApplication;
 import org.cloudfoundry.multiapps.controller.core.model.ImmutableDeployedMtaApplication;
 import org.cloudfoundry.multiapps.controller.core.model.ImmutableIncrementalAppInstanceUpdateConfiguration;
-import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -30,8 +29,7 @@ class PollIncrementalAppInstanceUpdateExecutionTest extends AsyncStepOperationTe
     private static final String DEPLOYED_APP_NAME = "app-to-process-live";
     private static final UUID DEPLOYED_APP_GUID = UUID.randomUUID();
 
-    private CloudControllerClientFactory clientFactory;
-    private TokenService tokenService;
+    private LogCacheClientProvider logCacheClientProvider;
 
     private AsyncExecutionState expectedAsyncExecutionState;
 
@@ -127,8 +125,7 @@ class PollIncrementalAppInstanceUpdateExecutionTest extends AsyncStepOperationTe
 
     @Override
     protected IncrementalAppInstancesUpdateStep createStep() {
-        clientFactory = Mockito.mock(CloudControllerClientFactory.class);
-        tokenService = Mockito.mock(TokenService.class);
-        return new IncrementalAppInstancesUpdateStep(clientFactory, tokenService);
+        logCacheClientProvider = Mockito.mock(LogCacheClientProvider.class);
+        return new IncrementalAppInstancesUpdateStep(logCacheClientProvider);
     }
 }
@@ -5,10 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -97,6 +97,7 @@ class PollServiceOperationsStepTest extends AsyncStepOperationTest<CreateService
 
     @SuppressWarnings("unchecked")
     private void prepareServiceOperationGetter() {
+        Map<String, ServiceOperation> lastServiceOperations = new HashMap<>();
         for (Entry<String, Object> response : input.serviceInstanceResponse.entrySet()) {
             Map<String, Object> serviceInstanceResponse = (Map<String, Object>) response.getValue();
             if (serviceInstanceResponse == null) {
@@ -108,9 +109,9 @@ class PollServiceOperationsStepTest extends AsyncStepOperationTest<CreateService
                                                            (String) serviceOperationAsMap.get("description"),
                                                            ServiceOperation.State.fromString((String) serviceOperationAsMap.get("state")));
 
-            when(serviceOperationGetter.getLastServiceOperation(any(), eq(service))).thenReturn(lastOp);
-
+            lastServiceOperations.put(service.getName(), lastOp);
         }
+        when(serviceOperationGetter.getLastServiceOperations(any(), any())).thenReturn(lastServiceOperations);
     }
 
     private CloudServiceInstanceExtended getCloudServiceExtended(Entry<String, Object> response) {
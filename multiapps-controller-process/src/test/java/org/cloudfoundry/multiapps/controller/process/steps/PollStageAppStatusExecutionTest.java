@@ -10,9 +10,8 @@ import java.util.stream.Stream;
 
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.ImmutableCloudApplicationExtended;
-import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
-import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationStager;
 import org.cloudfoundry.multiapps.controller.process.util.ImmutableStagingState;
 import org.cloudfoundry.multiapps.controller.process.util.MockDelegateExecution;
@@ -48,9 +47,7 @@ class PollStageAppStatusExecutionTest {
     @Mock
     private CloudControllerClient client;
     @Mock
-    private CloudControllerClientFactory clientFactory;
-    @Mock
-    private TokenService tokenService;
+    private LogCacheClientProvider logCacheClientProvider;
 
     private ProcessContext context;
     private DelegateExecution execution;
@@ -62,7 +59,7 @@ class PollStageAppStatusExecutionTest {
                           .close();
         execution = MockDelegateExecution.createSpyInstance();
         context = new ProcessContext(execution, stepLogger, clientProvider);
-        step = new PollStageAppStatusExecution(applicationStager, clientFactory, tokenService);
+        step = new PollStageAppStatusExecution(applicationStager, logCacheClientProvider);
     }
 
     static Stream<Arguments> testStep() {
@@ -12,12 +12,11 @@ import java.util.UUID;
 
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.ImmutableCloudApplicationExtended;
-import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMtaApplication;
 import org.cloudfoundry.multiapps.controller.core.model.ImmutableDeployedMtaApplication;
 import org.cloudfoundry.multiapps.controller.core.model.ImmutableIncrementalAppInstanceUpdateConfiguration;
 import org.cloudfoundry.multiapps.controller.core.model.IncrementalAppInstanceUpdateConfiguration;
-import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -38,8 +37,7 @@ class PollStartAppExecutionWithRollbackExecutionTest extends AsyncStepOperationT
     private static final String APP_TO_PROCESS_NAME = "app-to-process-idle";
     private static final UUID APP_TO_PROCESS_GUID = UUID.randomUUID();
 
-    private CloudControllerClientFactory clientFactory;
-    private TokenService tokenService;
+    private LogCacheClientProvider logCacheClientProvider;
 
     private AsyncExecutionState expectedAsyncExecutionState;
 
@@ -150,7 +148,7 @@ class PollStartAppExecutionWithRollbackExecutionTest extends AsyncStepOperationT
 
     @Override
     protected List<AsyncExecution> getAsyncOperations(ProcessContext wrapper) {
-        return List.of(new PollStartAppExecutionWithRollbackExecution(clientFactory, tokenService));
+        return List.of(new PollStartAppExecutionWithRollbackExecution(logCacheClientProvider));
     }
 
     @Override
@@ -160,9 +158,8 @@ class PollStartAppExecutionWithRollbackExecutionTest extends AsyncStepOperationT
 
     @Override
     protected IncrementalAppInstancesUpdateStep createStep() {
-        clientFactory = Mockito.mock(CloudControllerClientFactory.class);
-        tokenService = Mockito.mock(TokenService.class);
-        return new IncrementalAppInstancesUpdateStep(clientFactory, tokenService);
+        logCacheClientProvider = Mockito.mock(LogCacheClientProvider.class);
+        return new IncrementalAppInstancesUpdateStep(logCacheClientProvider);
 
     }
 }
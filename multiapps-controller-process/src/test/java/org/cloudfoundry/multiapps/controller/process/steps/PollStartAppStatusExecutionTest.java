@@ -15,9 +15,8 @@ import java.util.stream.Stream;
 
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.ImmutableCloudApplicationExtended;
-import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
-import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
 import org.cloudfoundry.multiapps.controller.process.util.MockDelegateExecution;
 import org.cloudfoundry.multiapps.controller.process.util.StepLogger;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
@@ -51,9 +50,7 @@ class PollStartAppStatusExecutionTest {
     @Mock
     private CloudControllerClient client;
     @Mock
-    private CloudControllerClientFactory clientFactory;
-    @Mock
-    private TokenService tokenService;
+    private LogCacheClientProvider logCacheClientProvider;
 
     private ProcessContext context;
     private PollStartAppStatusExecution step;
@@ -64,7 +61,7 @@ class PollStartAppStatusExecutionTest {
                           .close();
         DelegateExecution execution = MockDelegateExecution.createSpyInstance();
         context = new ProcessContext(execution, stepLogger, clientProvider);
-        step = new PollStartAppStatusExecution(clientFactory, tokenService);
+        step = new PollStartAppStatusExecution(logCacheClientProvider);
     }
 
     static Stream<Arguments> testStep() {
@@ -10,13 +10,12 @@ import java.util.UUID;
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.ImmutableCloudApplicationExtended;
-import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
+import org.cloudfoundry.multiapps.controller.core.cf.LogCacheClientProvider;
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.ImmutableMtaMetadata;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMta;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMtaApplication;
 import org.cloudfoundry.multiapps.controller.core.model.ImmutableDeployedMta;
 import org.cloudfoundry.multiapps.controller.core.model.ImmutableDeployedMtaApplication;
-import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,9 +30,7 @@ class PollStartLiveAppExecutionTest {
     private static final String APP_TO_PROCESS_NAME = "app-to-process-live";
 
     @Mock
-    private CloudControllerClientFactory clientFactory;
-    @Mock
-    private TokenService tokenService;
+    private LogCacheClientProvider logCacheClientProvider;
     @Mock
     private ProcessContext context;
 
@@ -43,7 +40,7 @@ class PollStartLiveAppExecutionTest {
     void setUp() throws Exception {
         MockitoAnnotations.openMocks(this)
                           .close();
-        pollStartLiveAppExecution = new PollStartLiveAppExecution(clientFactory, tokenService);
+        pollStartLiveAppExecution = new PollStartLiveAppExecution(logCacheClientProvider);
     }
 
     @Test
@@ -0,0 +1,45 @@
+package org.cloudfoundry.multiapps.controller.process.steps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class PollingPolicyTest {
+
+    private static final Duration INITIAL_INTERVAL = Duration.ofSeconds(5);
+
+    static Stream<Arguments> testGetInterval() {
+        return Stream.of(
+// @formatter:off
+            Arguments.of(PollingPolicy.FIXED_INTERVAL, 0, Duration.ofSeconds(5)),
+            Arguments.of(PollingPolicy.FIXED_INTERVAL, 10, Duration.ofSeconds(5)),
+            Arguments.of(PollingPolicy.SERVICE_OPERATIONS, 0, Duration.ofSeconds(5)),
+            Arguments.of(PollingPolicy.SERVICE_OPERATIONS, 1, Duration.ofSeconds(7)),
+            Arguments.of(PollingPolicy.SERVICE_OPERATIONS, 3, Duration.ofSeconds(16)),
+            Arguments.of(PollingPolicy.SERVICE_OPERATIONS, 100, Duration.ofSeconds(60)),
+            Arguments.of(PollingPolicy.APPLICATION_OPERATIONS, 100, Duration.ofSeconds(15)),
+            Arguments.of(PollingPolicy.TASK_EXECUTIONS, 100, Duration.ofSeconds(30))
+// @formatter:on
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testGetInterval(PollingPolicy pollingPolicy, int pollCount, Duration expectedInterval) {
+        assertEquals(expectedInterval, pollingPolicy.getInterval(INITIAL_INTERVAL, pollCount));
+    }
+
+    @ParameterizedTest
+    @MethodSource("testGetInterval")
+    void testIntervalIsNotShorterThanInitialInterval(PollingPolicy pollingPolicy, int pollCount, Duration ignoredExpectedInterval) {
+        Duration initialInterval = Duration.ofSeconds(120);
+
+        assertEquals(initialInterval, pollingPolicy.getInterval(initialInterval, pollCount));
+    }
+
+}
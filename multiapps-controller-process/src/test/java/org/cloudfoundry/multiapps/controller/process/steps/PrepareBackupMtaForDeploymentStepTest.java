@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
@@ -91,9 +92,9 @@ class PrepareBackupMtaForDeploymentStepTest extends SyncFlowableStepTest<Prepare
     private void prepareContext(DeployedMta backupMta, String backupMtaVersionInPersistenceLayer) {
         context.setVariable(Variables.MTA_ID, MTA_ID);
         when(deployedMtaDetector.detectDeployedMtaByNameAndNamespace(eq(MTA_ID), eq(null),
-                                                                     any())).thenReturn(Optional.of(createBackupMta(List.of(new TestApp("app", "0.0.1")))));
+                                                                     anyList())).thenReturn(Optional.of(createBackupMta(List.of(new TestApp("app", "0.0.1")))));
         when(deployedMtaDetector.detectDeployedMtaByNameAndNamespace(eq(MTA_ID), eq(Constants.MTA_BACKUP_NAMESPACE),
-                                                                     any())).thenReturn(Optional.of(backupMta));
+                                                                     anyList())).thenReturn(Optional.of(backupMta));
         when(descriptorBackupService.createQuery()).thenReturn(descriptorBackupQuery);
         when(descriptorBackupQuery.mtaId(anyString())).thenReturn(descriptorBackupQuery);
         when(descriptorBackupQuery.spaceId(anyString())).thenReturn(descriptorBackupQuery);
@@ -141,7 +142,7 @@ class PrepareBackupMtaForDeploymentStepTest extends SyncFlowableStepTest<Prepare
     void testThrowingExceptionOnMissingBackupMta() {
         context.setVariable(Variables.MTA_ID, MTA_ID);
         when(deployedMtaDetector.detectDeployedMtaByNameAndNamespace(eq(MTA_ID), eq(null),
-                                                                     eq(client))).thenReturn(Optional.of(Mockito.mock(DeployedMta.class)));
+                                                                     anyList())).thenReturn(Optional.of(Mockito.mock(DeployedMta.class)));
 
         assertThrows(ContentException.class, () -> step.execute(execution));
     }
@@ -150,7 +151,7 @@ class PrepareBackupMtaForDeploymentStepTest extends SyncFlowableStepTest<Prepare
     void testThrowingExceptionOnMissingDeployedMta() {
         context.setVariable(Variables.MTA_ID, MTA_ID);
         when(deployedMtaDetector.detectDeployedMtaByNameAndNamespace(eq(MTA_ID), eq(Constants.MTA_BACKUP_NAMESPACE),
-                                                                     eq(client))).thenReturn(Optional.of(Mockito.mock(DeployedMta.class)));
+                                                                     anyList())).thenReturn(Optional.of(Mockito.mock(DeployedMta.class)));
 
         assertThrows(ContentException.class, () -> step.execute(execution));
     }
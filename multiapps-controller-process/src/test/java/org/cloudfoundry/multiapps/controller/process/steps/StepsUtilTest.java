@@ -15,14 +15,18 @@ import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudServiceInsta
 import org.cloudfoundry.multiapps.controller.client.lib.domain.ImmutableBindingDetails;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.ImmutableCloudApplicationExtended;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.ImmutableCloudServiceInstanceExtended;
+import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
 import org.cloudfoundry.multiapps.controller.core.model.Phase;
 import org.cloudfoundry.multiapps.controller.process.util.MockDelegateExecution;
+import org.cloudfoundry.multiapps.controller.process.util.StepLogger;
 import org.cloudfoundry.multiapps.controller.process.variables.VariableHandling;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
+import com.sap.cloudfoundry.client.facade.CloudControllerClient;
 import com.sap.cloudfoundry.client.facade.domain.CloudPackage;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudMetadata;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudPackage;
@@ -46,6 +50,21 @@ class StepsUtilTest {
         Assertions.assertThrows(SLException.class, () -> StepsUtil.determineCurrentUser(execution));
     }
 
+    @Test
+    void testGetPolledApplicationGuidIsRequestedOnce() {
+        UUID applicationGuid = UUID.randomUUID();
+        CloudControllerClient client = Mockito.mock(CloudControllerClient.class);
+        Mockito.when(client.getApplicationGuid("app"))
+               .thenReturn(applicationGuid);
+        ProcessContext context = new ProcessContext(execution, Mockito.mock(StepLogger.class), Mockito.mock(CloudControllerClientProvider.class));
+
+        assertEquals(applicationGuid, StepsUtil.getPolledApplicationGuid(context, client, "app"));
+        assertEquals(applicationGuid, StepsUtil.getPolledApplicationGuid(context, client, "app"));
+
+        Mockito.verify(client)
+               .getApplicationGuid("app");
+    }
+
     @Test
     void testGetServicesToCreateWithCredentials() {
         CloudServiceInstanceExtended service = ImmutableCloudServiceInstanceExtended.builder()
@@ -8,15 +8,20 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -35,8 +40,10 @@ import org.cloudfoundry.multiapps.controller.persistence.query.ConfigurationEntr
 import org.cloudfoundry.multiapps.controller.persistence.query.ConfigurationSubscriptionQuery;
 import org.cloudfoundry.multiapps.controller.persistence.services.ConfigurationEntryService;
 import org.cloudfoundry.multiapps.controller.persistence.services.ConfigurationSubscriptionService;
+import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -55,6 +62,9 @@ import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudSpace;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudOrganization;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudMetadata;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class UpdateSubscribersStepTest extends SyncFlowableStepTest<UpdateSubscribersStep> {
 
     private static final String NO_USER_ROLES_DEFINED_FOR_ORG_AND_SPACE = "No user roles defined for org [{0}] and space [{1}]";
@@ -123,9 +133,75 @@ class UpdateSubscribersStepTest extends SyncFlowableStepTest<UpdateSubscribersSt
         assertStepFinishedSuccessfully();
 
         StepOutput actualOutput = captureStepOutput();
+        // The updates of different applications are applied concurrently, so only their order per application is defined:
+        sortUpdatesByApplicationName(expectedOutput);
+        sortUpdatesByApplicationName(actualOutput);
         assertEquals(JsonUtil.toJson(expectedOutput, true), JsonUtil.toJson(actualOutput, true));
     }
 
+    @Test
+    void testFailedUpdateIsReportedPerSubscriber() {
+        initializeParameters("update-subscribers-step-input-07.json", "update-subscribers-step-output-07.json", 2);
+        CloudOperationException forbidden = new CloudOperationException(HttpStatus.FORBIDDEN);
+        doThrow(forbidden).when(client)
+                          .updateApplicationEnv(eq("foo"), any());
+
+        step.execute(execution);
+
+        assertStepFinishedSuccessfully();
+        verify(stepLogger).warn(forbidden, Messages.COULD_NOT_UPDATE_SUBSCRIBER, "foo", "foo", "plugins");
+        verify(client).updateApplicationEnv(eq("bar"), any());
+        assertEquals(List.of("bar"), getNames(context.getVariable(Variables.UPDATED_SUBSCRIBERS)));
+    }
+
+    @Test
+    void testRequestsInSpaceAreBounded() {
+        initializeParametersWithCopiesOfFirstSubscriber("update-subscribers-step-input-07.json",
+                                                        UpdateSubscribersStep.MAX_PARALLEL_REQUESTS_PER_SPACE + 2);
+        AtomicInteger concurrentRequests = new AtomicInteger();
+        AtomicInteger maxConcurrentRequests = new AtomicInteger();
+        CountDownLatch allParallelRequestsStarted = new CountDownLatch(UpdateSubscribersStep.MAX_PARALLEL_REQUESTS_PER_SPACE);
+        when(client.getApplicationEnvironment(any(UUID.class))).thenAnswer(invocation -> {
+            maxConcurrentRequests.accumulateAndGet(concurrentRequests.incrementAndGet(), Math::max);
+            allParallelRequestsStarted.countDown();
+            allParallelRequestsStarted.await(10, TimeUnit.SECONDS);
+            concurrentRequests.decrementAndGet();
+            return Map.of("plugins", "[]");
+        });
+
+        step.execute(execution);
+
+        assertStepFinishedSuccessfully();
+        assertEquals(UpdateSubscribersStep.MAX_PARALLEL_REQUESTS_PER_SPACE, maxConcurrentRequests.get());
+        verify(client, times(UpdateSubscribersStep.MAX_PARALLEL_REQUESTS_PER_SPACE + 2)).updateApplicationEnv(anyString(), any());
+    }
+
+    @Test
+    void testMetricsAreRecorded() {
+        initializeParameters("update-subscribers-step-input-07.json", "update-subscribers-step-output-07.json", 2);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        step.meterRegistry = meterRegistry;
+
+        step.execute(execution);
+
+        assertStepFinishedSuccessfully();
+        assertEquals(1, meterRegistry.timer(UpdateSubscribersStep.DURATION_METRIC)
+                                     .count());
+        // One space lookup, and an application lookup, an environment lookup and an environment update per subscriber:
+        assertEquals(7, meterRegistry.counter(UpdateSubscribersStep.CLOUD_CONTROLLER_REQUESTS_METRIC)
+                                     .count());
+    }
+
+    private List<String> getNames(List<CloudApplication> apps) {
+        return apps.stream()
+                   .map(CloudApplication::getName)
+                   .collect(Collectors.toList());
+    }
+
+    private void sortUpdatesByApplicationName(StepOutput output) {
+        output.callArgumentsOfUpdateApplicationEnvMethod.sort(Comparator.comparing(CloudApplication::getName));
+    }
+
     public void initializeParameters(String inputLocation, String expectedOutputLocation, int majorSchemaVersion) {
         loadParameters(inputLocation, expectedOutputLocation);
         prepareContext(majorSchemaVersion);
@@ -133,6 +209,27 @@ class UpdateSubscribersStepTest extends SyncFlowableStepTest<UpdateSubscribersSt
         prepareConfigurationServices();
     }
 
+    @SuppressWarnings("unchecked")
+    private void initializeParametersWithCopiesOfFirstSubscriber(String inputLocation, int subscribersCount) {
+        Map<String, Object> inputMap = JsonUtil.convertJsonToMap(TestUtil.getResourceAsString(inputLocation, getClass()));
+        List<Object> subscribers = (List<Object>) inputMap.get("subscribersToUpdate");
+        Map<String, Object> firstSubscriber = (Map<String, Object>) subscribers.get(0);
+        String appName = (String) ((Map<String, Object>) firstSubscriber.get("app")).get("name");
+        String appGuid = (String) ((Map<String, Object>) ((Map<String, Object>) firstSubscriber.get("app")).get("metadata")).get("guid");
+        String firstSubscriberJson = JsonUtil.toJson(firstSubscriber);
+        List<Object> copies = new ArrayList<>();
+        for (int i = 0; i < subscribersCount; i++) {
+            copies.add(JsonUtil.convertJsonToMap(firstSubscriberJson.replace("\"" + appName + "\"", "\"" + appName + "-" + i + "\"")
+                                                                    .replace(appGuid, UUID.randomUUID()
+                                                                                          .toString())));
+        }
+        inputMap.put("subscribersToUpdate", copies);
+        input = JsonUtil.fromJson(JsonUtil.toJson(inputMap), StepInput.class);
+        prepareContext(2);
+        prepareClients();
+        prepareConfigurationServices();
+    }
+
     private void loadParameters(String inputLocation, String expectedOutputLocation) {
         String outputString = TestUtil.getResourceAsString(expectedOutputLocation, getClass());
         expectedOutput = JsonUtil.fromJson(outputString, StepOutput.class);
@@ -236,9 +333,9 @@ class UpdateSubscribersStepTest extends SyncFlowableStepTest<UpdateSubscribersSt
     private void mockClientInvocations(SubscriberToUpdate subscriber, CloudControllerClient client) {
         when(client.getApplicationEnvironment(eq(subscriber.app.getGuid()))).thenReturn(subscriber.appEnv);
         if (userHasPermissions(subscriber.app.getSpace(), UserPermission.READ)) {
-            when(client.getApplication(subscriber.subscription.getAppName())).thenReturn(subscriber.app);
+            when(client.getApplication(subscriber.subscription.getAppName(), false)).thenReturn(subscriber.app);
         } else {
-            when(client.getApplication(subscriber.subscription.getAppName())).thenThrow(new CloudOperationException(HttpStatus.FORBIDDEN));
+            when(client.getApplication(subscriber.subscription.getAppName(), false)).thenThrow(new CloudOperationException(HttpStatus.FORBIDDEN));
         }
         if (!userHasPermissions(subscriber.app.getSpace(), UserPermission.WRITE)) {
             doThrow(new CloudOperationException(HttpStatus.FORBIDDEN)).when(client)
@@ -10,7 +10,9 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
@@ -21,6 +23,7 @@ import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
@@ -35,9 +38,12 @@ import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileContentConsumer;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationArchiveIterator;
+import org.cloudfoundry.multiapps.controller.process.util.ApplicationPackageCache;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationZipBuilder;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryExtractor;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions;
+import org.cloudfoundry.multiapps.controller.process.util.ExtractedApplicationPackageCache;
+import org.cloudfoundry.multiapps.controller.process.util.ExtractedApplicationPackageCache.CachedApplicationPackage;
 import org.cloudfoundry.multiapps.controller.process.util.ImmutableArchiveEntryWithStreamPositions;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.junit.jupiter.api.BeforeEach;
@@ -66,6 +72,8 @@ class UploadAppAsyncExecutionTest extends AsyncStepOperationTest<UploadAppStep>
                                                                                                                                        .build();
     private static final String SPACE = "space";
     private static final String APP_ARCHIVE = "sample-app.mtar";
+    private static final String APP_DIGEST = "439B99DFFD0583200D5D21F4CD1BF035";
+    private static final String APP_ARCHIVE_DIGEST = "2A9CF8B5A4D2F0B2B6F4DF2D7F4E9C1A";
     private static final CloudOperationException CO_EXCEPTION = new CloudOperationException(HttpStatus.BAD_REQUEST);
     private static final UUID APP_GUID = UUID.randomUUID();
     private static final UUID PACKAGE_GUID = UUID.randomUUID();
@@ -96,6 +104,8 @@ class UploadAppAsyncExecutionTest extends AsyncStepOperationTest<UploadAppStep>
         step.applicationZipBuilder = spy(new ApplicationZipBuilderMock(fileService,
                                                                        new ApplicationArchiveIterator(),
                                                                        new ArchiveEntryExtractor(fileService)));
+        step.applicationPackageCache = new ApplicationPackageCache();
+        step.extractedApplicationPackageCache = mock(ExtractedApplicationPackageCache.class);
     }
 
     @SuppressWarnings("rawtypes")
@@ -187,6 +197,48 @@ class UploadAppAsyncExecutionTest extends AsyncStepOperationTest<UploadAppStep>
         assertTrue(context.getVariable(Variables.APP_CONTENT_CHANGED));
     }
 
+    @Test
+    void testExtractedPackageIsCached() {
+        prepareExecutorService();
+        context.setVariable(Variables.ARCHIVE_ENTRIES_POSITIONS, List.of(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS));
+        context.setVariable(Variables.APP_ARCHIVE_DIGEST, APP_ARCHIVE_DIGEST);
+        when(client.asyncUploadApplicationWithExponentialBackoff(eq(APP_NAME), eq(appFile), any(UploadStatusCallback.class),
+                                                                 any())).thenReturn(CLOUD_PACKAGE);
+        expectedStatus = AsyncExecutionState.FINISHED;
+        testExecuteOperations();
+        verify(step.extractedApplicationPackageCache).put(eq(SPACE), eq(APP_ARCHIVE_DIGEST), eq(APP_FILE), any(), eq(appFile));
+    }
+
+    @Test
+    void testUploadOfCachedApplicationPackage() throws Exception {
+        prepareExecutorService();
+        context.setVariable(Variables.ARCHIVE_ENTRIES_POSITIONS, List.of(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS));
+        context.setVariable(Variables.APP_ARCHIVE_DIGEST, APP_ARCHIVE_DIGEST);
+        when(step.extractedApplicationPackageCache.get(SPACE, APP_ARCHIVE_DIGEST,
+                                                       APP_FILE)).thenReturn(Optional.of(new CachedApplicationPackage(appFile, APP_DIGEST)));
+        when(client.asyncUploadApplicationWithExponentialBackoff(eq(APP_NAME), eq(appFile), any(UploadStatusCallback.class),
+                                                                 any())).thenReturn(CLOUD_PACKAGE);
+        expectedStatus = AsyncExecutionState.FINISHED;
+        testExecuteOperations();
+        verify(step.applicationZipBuilder, never()).extractApplicationInNewArchive(any());
+        verify(fileService, never()).consumeFileContentWithOffset(any(), any());
+        assertEquals(CLOUD_PACKAGE, context.getVariable(Variables.CLOUD_PACKAGE));
+    }
+
+    @Test
+    void testUploadOfPackageExtractedDuringDigestCalculation() {
+        prepareExecutorService();
+        context.setVariable(Variables.ARCHIVE_ENTRIES_POSITIONS, List.of(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS));
+        context.setVariable(Variables.CALCULATED_APPLICATION_DIGEST, APP_DIGEST);
+        step.applicationPackageCache.put(APP_ARCHIVE, APP_FILE, APP_DIGEST, appFile);
+        when(client.asyncUploadApplicationWithExponentialBackoff(eq(APP_NAME), eq(appFile), any(UploadStatusCallback.class),
+                                                                 any())).thenReturn(CLOUD_PACKAGE);
+        expectedStatus = AsyncExecutionState.FINISHED;
+        testExecuteOperations();
+        verify(step.applicationZipBuilder, never()).extractApplicationInNewArchive(any());
+        assertEquals(CLOUD_PACKAGE, context.getVariable(Variables.CLOUD_PACKAGE));
+    }
+
     @Test
     void testSkippingUpload() {
         context.setVariable(Variables.SHOULD_SKIP_APPLICATION_UPLOAD, true);
@@ -214,6 +266,8 @@ class UploadAppAsyncExecutionTest extends AsyncStepOperationTest<UploadAppStep>
         @Override
         protected List<AsyncExecution> getAsyncStepExecutions(ProcessContext context) {
             return List.of(new UploadAppAsyncExecution(applicationZipBuilder,
+                                                       applicationPackageCache,
+                                                       extractedApplicationPackageCache,
                                                        getProcessLogsPersister(),
                                                        configuration,
                                                        appUploaderThreadPool) {
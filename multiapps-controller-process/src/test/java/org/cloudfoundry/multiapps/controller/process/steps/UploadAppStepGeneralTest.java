@@ -31,11 +31,13 @@ import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileContentConsumer;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationArchiveIterator;
-import org.cloudfoundry.multiapps.controller.process.util.ApplicationDigestCalculator;
+import org.cloudfoundry.multiapps.controller.process.util.ApplicationPackageCache;
+import org.cloudfoundry.multiapps.controller.process.util.ApplicationPackageDigestCalculator;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationZipBuilder;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryExtractor;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions;
 import org.cloudfoundry.multiapps.controller.process.util.CloudPackagesGetter;
+import org.cloudfoundry.multiapps.controller.process.util.ExtractedApplicationPackageCache;
 import org.cloudfoundry.multiapps.controller.process.util.ImmutableArchiveEntryWithStreamPositions;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.junit.jupiter.api.AfterEach;
@@ -133,7 +135,9 @@ class UploadAppStepGeneralTest extends SyncFlowableStepTest<UploadAppStep> {
         step.applicationZipBuilder = spy(new ApplicationZipBuilderMock(fileService,
                                                                        new ApplicationArchiveIterator(),
                                                                        new ArchiveEntryExtractor(fileService)));
-        step.applicationDigestCalculator = mock(ApplicationDigestCalculator.class);
+        step.applicationPackageDigestCalculator = mock(ApplicationPackageDigestCalculator.class);
+        step.applicationPackageCache = mock(ApplicationPackageCache.class);
+        step.extractedApplicationPackageCache = mock(ExtractedApplicationPackageCache.class);
     }
 
     @SuppressWarnings("rawtypes")
@@ -266,7 +270,7 @@ class UploadAppStepGeneralTest extends SyncFlowableStepTest<UploadAppStep> {
         CloudApplicationExtended application = createApplication(applicationDigest);
         when(client.getApplicationEnvironment(APP_GUID)).thenReturn(application.getEnv());
         when(client.getApplication(APP_NAME)).thenReturn(application);
-        when(step.applicationDigestCalculator.calculateApplicationDigest(any())).thenReturn(applicationDigest);
+        when(step.applicationPackageDigestCalculator.calculateDigestAndCachePackage(any(), any())).thenReturn(applicationDigest);
     }
 
     private CloudApplicationExtended createApplication(String digest) {
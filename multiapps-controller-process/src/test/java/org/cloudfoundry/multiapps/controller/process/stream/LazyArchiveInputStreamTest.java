@@ -132,7 +132,7 @@ class LazyArchiveInputStreamTest {
             buffer[0] = (byte) firstValueFromStream;
             return totalBytesRead;
         });
-        when(fileService.openInputStream(CUSTOM_SPACE, fileId)).thenReturn(inputStream);
+        when(fileService.openInputStream(buildFileEntry(fileId, CUSTOM_SPACE))).thenReturn(inputStream);
         return inputStream;
     }
 
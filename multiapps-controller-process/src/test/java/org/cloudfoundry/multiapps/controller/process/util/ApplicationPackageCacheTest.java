@@ -0,0 +1,73 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ApplicationPackageCacheTest {
+
+    private static final String APP_ARCHIVE_ID = "archive-id";
+    private static final String MODULE_FILE_NAME = "web/";
+    private static final String DIGEST = "439B99DFFD0583200D5D21F4CD1BF035";
+
+    @TempDir
+    Path tempDir;
+
+    private final ApplicationPackageCache applicationPackageCache = new ApplicationPackageCache();
+    private Path packagePath;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        packagePath = Files.createFile(tempDir.resolve("web.zip"));
+    }
+
+    @Test
+    void testTakeReturnsPackageOnlyOnce() {
+        applicationPackageCache.put(APP_ARCHIVE_ID, MODULE_FILE_NAME, DIGEST, packagePath);
+
+        assertEquals(Optional.of(packagePath), applicationPackageCache.take(APP_ARCHIVE_ID, MODULE_FILE_NAME, DIGEST));
+        assertTrue(applicationPackageCache.take(APP_ARCHIVE_ID, MODULE_FILE_NAME, DIGEST)
+                                          .isEmpty());
+        assertTrue(Files.exists(packagePath));
+    }
+
+    @Test
+    void testTakeWithDifferentDigest() {
+        applicationPackageCache.put(APP_ARCHIVE_ID, MODULE_FILE_NAME, DIGEST, packagePath);
+
+        assertTrue(applicationPackageCache.take(APP_ARCHIVE_ID, MODULE_FILE_NAME, "other-digest")
+                                          .isEmpty());
+        assertTrue(applicationPackageCache.take(APP_ARCHIVE_ID, MODULE_FILE_NAME, null)
+                                          .isEmpty());
+    }
+
+    @Test
+    void testEvictDeletesPackage() {
+        applicationPackageCache.put(APP_ARCHIVE_ID, MODULE_FILE_NAME, DIGEST, packagePath);
+
+        applicationPackageCache.evict(APP_ARCHIVE_ID, MODULE_FILE_NAME, DIGEST);
+
+        assertFalse(Files.exists(packagePath));
+        assertTrue(applicationPackageCache.take(APP_ARCHIVE_ID, MODULE_FILE_NAME, DIGEST)
+                                          .isEmpty());
+    }
+
+    @Test
+    void testTakeOfDeletedPackage() throws IOException {
+        applicationPackageCache.put(APP_ARCHIVE_ID, MODULE_FILE_NAME, DIGEST, packagePath);
+        Files.delete(packagePath);
+
+        assertTrue(applicationPackageCache.take(APP_ARCHIVE_ID, MODULE_FILE_NAME, DIGEST)
+                                          .isEmpty());
+    }
+
+}
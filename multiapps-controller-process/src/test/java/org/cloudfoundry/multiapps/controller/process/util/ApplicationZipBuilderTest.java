@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.process.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -92,6 +93,22 @@ class ApplicationZipBuilderTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("testCreateNewZip")
+    void testDigestIsCalculatedWhileCreatingNewZip(String mtar, String fileName) throws Exception {
+        ApplicationArchiveContext applicationArchiveContext = getApplicationArchiveContext(mtar, fileName);
+        ApplicationZipBuilder zipBuilder = new ApplicationZipBuilder(fileService,
+                                                                     new ApplicationArchiveIterator(),
+                                                                     new ArchiveEntryExtractor(fileService));
+        appPath = zipBuilder.extractApplicationInNewArchive(applicationArchiveContext);
+        ApplicationDigestCalculator digestCalculator = new ApplicationDigestCalculator(fileService,
+                                                                                       new ApplicationArchiveIterator(),
+                                                                                       new ArchiveEntryExtractor(fileService));
+        String expectedDigest = digestCalculator.calculateApplicationDigest(getApplicationArchiveContext(mtar, fileName));
+        assertEquals(expectedDigest, applicationArchiveContext.getDigestCalculator()
+                                                              .getDigest());
+    }
+
     private ApplicationArchiveContext getApplicationArchiveContext(String mtar, String fileName) throws FileStorageException {
         mockProcessingOfFileContent(mtar);
         mockConsumptionOfFileContent(mtar);
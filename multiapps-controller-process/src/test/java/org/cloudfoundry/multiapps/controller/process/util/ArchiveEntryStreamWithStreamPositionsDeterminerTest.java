@@ -0,0 +1,130 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentProcessor;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentToProcess;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ArchiveEntryStreamWithStreamPositionsDeterminerTest {
+
+    private static final String SPACE_GUID = "space-guid";
+    private static final String ARCHIVE_ID = "archive-id";
+
+    @Mock
+    private FileService fileService;
+
+    private ArchiveEntryStreamWithStreamPositionsDeterminer determiner;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        determiner = new ArchiveEntryStreamWithStreamPositionsDeterminer(fileService);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "com.sap.mta.sample-1.2.1-beta.mtar", "com.sap.mta.sample-1.2.1-beta-flat.mtar", "deflated-mta.mtar",
+        "stored-mta.mtar" })
+    void testCentralDirectoryEntriesMatchStreamedEntries(String mtar) throws Exception {
+        byte[] archive = readResource(mtar);
+        mockProcessingOfFileContent(archive);
+        List<ArchiveEntryWithStreamPositions> streamedEntries = determiner.determineArchiveEntries(SPACE_GUID, ARCHIVE_ID);
+
+        mockArchiveFileEntry(archive.length);
+        mockProcessingOfFileContentWithOffset(archive);
+        List<ArchiveEntryWithStreamPositions> centralDirectoryEntries = determiner.determineArchiveEntries(SPACE_GUID, ARCHIVE_ID);
+
+        assertEquals(streamedEntries, centralDirectoryEntries);
+    }
+
+    @Test
+    void testCentralDirectoryIsUsedWithoutStreamingTheArchive() throws Exception {
+        byte[] archive = readResource("com.sap.mta.sample-1.2.1-beta.mtar");
+        mockArchiveFileEntry(archive.length);
+        mockProcessingOfFileContentWithOffset(archive);
+
+        determiner.determineArchiveEntries(SPACE_GUID, ARCHIVE_ID);
+
+        verify(fileService, never()).processFileContent(any(), any(), any());
+    }
+
+    @Test
+    void testFallbackToStreamingWhenCentralDirectoryIsMissing() throws Exception {
+        byte[] archive = readResource("stored-mta.mtar");
+        byte[] truncatedArchive = Arrays.copyOf(archive, archive.length - 1);
+        mockArchiveFileEntry(truncatedArchive.length);
+        mockProcessingOfFileContentWithOffset(truncatedArchive);
+        mockProcessingOfFileContent(archive);
+
+        List<ArchiveEntryWithStreamPositions> entries = determiner.determineArchiveEntries(SPACE_GUID, ARCHIVE_ID);
+
+        assertEquals(3, entries.size());
+        verify(fileService).processFileContent(eq(SPACE_GUID), eq(ARCHIVE_ID), any());
+    }
+
+    @Test
+    void testEntryPathIsValidatedWhenReadingCentralDirectory() throws Exception {
+        byte[] archive = readResource("archive-entry-with-not-normalized-path.mtar");
+        mockArchiveFileEntry(archive.length);
+        mockProcessingOfFileContentWithOffset(archive);
+
+        assertThrows(IllegalArgumentException.class, () -> determiner.determineArchiveEntries(SPACE_GUID, ARCHIVE_ID));
+    }
+
+    private byte[] readResource(String name) throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream(name)) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private void mockArchiveFileEntry(long size) throws FileStorageException {
+        when(fileService.getFile(SPACE_GUID, ARCHIVE_ID)).thenReturn(ImmutableFileEntry.builder()
+                                                                                       .id(ARCHIVE_ID)
+                                                                                       .space(SPACE_GUID)
+                                                                                       .size(BigInteger.valueOf(size))
+                                                                                       .build());
+    }
+
+    private void mockProcessingOfFileContent(byte[] archive) throws FileStorageException {
+        doAnswer(answer -> {
+            FileContentProcessor<?> fileContentProcessor = answer.getArgument(2);
+            return fileContentProcessor.process(new ByteArrayInputStream(archive));
+        }).when(fileService)
+          .processFileContent(any(), any(), any());
+    }
+
+    private void mockProcessingOfFileContentWithOffset(byte[] archive) throws FileStorageException {
+        doAnswer(answer -> {
+            FileContentToProcess fileContentToProcess = answer.getArgument(0);
+            FileContentProcessor<?> fileContentProcessor = answer.getArgument(1);
+            int startOffset = (int) fileContentToProcess.getStartOffset();
+            int endOffset = (int) Math.min(fileContentToProcess.getEndOffset(), archive.length - 1L);
+            return fileContentProcessor.process(new ByteArrayInputStream(archive, startOffset, endOffset - startOffset + 1));
+        }).when(fileService)
+          .processFileContentWithOffset(any(), any());
+    }
+
+}
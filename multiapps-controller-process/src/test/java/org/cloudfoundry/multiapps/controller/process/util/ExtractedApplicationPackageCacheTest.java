@@ -0,0 +1,177 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.cloudfoundry.multiapps.controller.process.util.ExtractedApplicationPackageCache.CachedApplicationPackage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ExtractedApplicationPackageCacheTest {
+
+    private static final String SPACE_GUID = "5d8a2b6c-4a1e-4c8f-9f0a-3e2b1c7d6e5f";
+    private static final String OTHER_SPACE_GUID = "a3b1c2d4-7e6f-4a5b-8c9d-0e1f2a3b4c5d";
+    private static final String ARCHIVE_DIGEST = "2A9CF8B5A4D2F0B2B6F4DF2D7F4E9C1A";
+    private static final String OTHER_ARCHIVE_DIGEST = "5D41402ABC4B2A76B9719D911017C592";
+    private static final String MODULE_FILE_NAME = "web/";
+    private static final String APPLICATION_DIGEST = "439B99DFFD0583200D5D21F4CD1BF035";
+    private static final byte[] PACKAGE_CONTENT = new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+
+    @TempDir
+    Path tempDir;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Path cacheDirectory;
+    private Path packagePath;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cacheDirectory = Files.createDirectory(tempDir.resolve("cache"));
+        packagePath = Files.write(tempDir.resolve("web.zip"), PACKAGE_CONTENT);
+    }
+
+    @Test
+    void testGetOfCachedPackage() throws IOException {
+        ExtractedApplicationPackageCache cache = createCache(100);
+        cache.put(SPACE_GUID, ARCHIVE_DIGEST, MODULE_FILE_NAME, APPLICATION_DIGEST, packagePath);
+        Files.delete(packagePath);
+
+        Optional<CachedApplicationPackage> cachedPackage = cache.get(SPACE_GUID, ARCHIVE_DIGEST, MODULE_FILE_NAME);
+
+        assertTrue(cachedPackage.isPresent());
+        assertEquals(APPLICATION_DIGEST, cachedPackage.get()
+                                                      .applicationDigest());
+        assertArrayEquals(PACKAGE_CONTENT, Files.readAllBytes(cachedPackage.get()
+                                                                           .path()));
+        assertTrue(cachedPackage.get()
+                                .path()
+                                .toString()
+                                .endsWith(".zip"));
+        assertEquals(1, getCount(ExtractedApplicationPackageCache.HITS_METRIC));
+        Files.delete(cachedPackage.get()
+                                  .path());
+    }
+
+    @Test
+    void testReturnedPackagesAreIndependentCopies() throws IOException {
+        ExtractedApplicationPackageCache cache = createCache(100);
+        cache.put(SPACE_GUID, ARCHIVE_DIGEST, MODULE_FILE_NAME, APPLICATION_DIGEST, packagePath);
+
+        Path firstPackage = cache.get(SPACE_GUID, ARCHIVE_DIGEST, MODULE_FILE_NAME)
+                                 .get()
+                                 .path();
+        Files.delete(firstPackage);
+        Path secondPackage = cache.get(SPACE_GUID, ARCHIVE_DIGEST, MODULE_FILE_NAME)
+                                  .get()
+                                  .path();
+
+        assertNotEquals(firstPackage, secondPackage);
+        assertArrayEquals(PACKAGE_CONTENT, Files.readAllBytes(secondPackage));
+        Files.delete(secondPackage);
+    }
+
+    @Test
+    void testGetOfMissingPackage() {
+        ExtractedApplicationPackageCache cache = createCache(100);
+        cache.put(SPACE_GUID, ARCHIVE_DIGEST, MODULE_FILE_NAME, APPLICATION_DIGEST, packagePath);
+
+        assertTrue(cache.get(SPACE_GUID, OTHER_ARCHIVE_DIGEST, MODULE_FILE_NAME)
+                        .isEmpty());
+        assertTrue(cache.get(SPACE_GUID, ARCHIVE_DIGEST, "other/")
+                        .isEmpty());
+        assertTrue(cache.get(SPACE_GUID, null, MODULE_FILE_NAME)
+                        .isEmpty());
+    }
+
+    @Test
+    void testPackageIsNotSharedAcrossSpaces() {
+        ExtractedApplicationPackageCache cache = createCache(100);
+        cache.put(SPACE_GUID, ARCHIVE_DIGEST, MODULE_FILE_NAME, APPLICATION_DIGEST, packagePath);
+
+        assertTrue(cache.get(OTHER_SPACE_GUID, ARCHIVE_DIGEST, MODULE_FILE_NAME)
+                        .isEmpty());
+    }
+
+    @Test
+    void testMissIsCountedOncePerExtractedPackage() {
+        ExtractedApplicationPackageCache cache = createCache(100);
+        cache.get(SPACE_GUID, ARCHIVE_DIGEST, MODULE_FILE_NAME);
+        cache.get(SPACE_GUID, ARCHIVE_DIGEST, MODULE_FILE_NAME);
+
+        cache.put(SPACE_GUID, ARCHIVE_DIGEST, MODULE_FILE_NAME, APPLICATION_DIGEST, packagePath);
+
+        assertEquals(1, getCount(ExtractedApplicationPackageCache.MISSES_METRIC));
+        assertEquals(0, getCount(ExtractedApplicationPackageCache.HITS_METRIC));
+    }
+
+    @Test
+    void testLeastRecentlyUsedPackageIsEvicted() throws IOException {
+        ExtractedApplicationPackageCache cache = createCache(25);
+        cache.put(SPACE_GUID, ARCHIVE_DIGEST, "first/", APPLICATION_DIGEST, packagePath);
+        cache.put(SPACE_GUID, ARCHIVE_DIGEST, "second/", APPLICATION_DIGEST, packagePath);
+        cleanUp(cache.get(SPACE_GUID, ARCHIVE_DIGEST, "first/"));
+
+        cache.put(SPACE_GUID, ARCHIVE_DIGEST, "third/", APPLICATION_DIGEST, packagePath);
+
+        assertTrue(cache.get(SPACE_GUID, ARCHIVE_DIGEST, "second/")
+                        .isEmpty());
+        cleanUp(cache.get(SPACE_GUID, ARCHIVE_DIGEST, "first/"));
+        cleanUp(cache.get(SPACE_GUID, ARCHIVE_DIGEST, "third/"));
+        assertEquals(1, getCount(ExtractedApplicationPackageCache.EVICTIONS_METRIC));
+        assertEquals(3, getCount(ExtractedApplicationPackageCache.HITS_METRIC));
+        assertEquals(20, cache.getSizeInBytes());
+        assertEquals(20, meterRegistry.get(ExtractedApplicationPackageCache.SIZE_METRIC)
+                                      .gauge()
+                                      .value());
+    }
+
+    @Test
+    void testPackageLargerThanCacheIsNotCached() {
+        ExtractedApplicationPackageCache cache = createCache(5);
+        cache.put(SPACE_GUID, ARCHIVE_DIGEST, MODULE_FILE_NAME, APPLICATION_DIGEST, packagePath);
+
+        assertTrue(cache.get(SPACE_GUID, ARCHIVE_DIGEST, MODULE_FILE_NAME)
+                        .isEmpty());
+        assertEquals(0, cache.getSizeInBytes());
+    }
+
+    @Test
+    void testDisabledCache() throws IOException {
+        ExtractedApplicationPackageCache cache = createCache(0);
+        cache.put(SPACE_GUID, ARCHIVE_DIGEST, MODULE_FILE_NAME, APPLICATION_DIGEST, packagePath);
+
+        assertTrue(cache.get(SPACE_GUID, ARCHIVE_DIGEST, MODULE_FILE_NAME)
+                        .isEmpty());
+        try (var cachedFiles = Files.list(cacheDirectory)) {
+            assertEquals(0, cachedFiles.count());
+        }
+    }
+
+    private ExtractedApplicationPackageCache createCache(long maxSizeInBytes) {
+        return new ExtractedApplicationPackageCache(cacheDirectory, maxSizeInBytes, meterRegistry);
+    }
+
+    private double getCount(String metric) {
+        return meterRegistry.get(metric)
+                            .counter()
+                            .count();
+    }
+
+    private void cleanUp(Optional<CachedApplicationPackage> cachedPackage) throws IOException {
+        assertTrue(cachedPackage.isPresent());
+        Files.delete(cachedPackage.get()
+                                  .path());
+    }
+
+}
@@ -10,11 +10,13 @@ import org.cloudfoundry.multiapps.controller.api.model.ImmutableOperation;
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.cloudfoundry.multiapps.controller.api.model.Operation.State;
 import org.cloudfoundry.multiapps.controller.api.model.ProcessType;
+import org.cloudfoundry.multiapps.controller.core.cf.detect.DeployedMtasSnapshotCache;
 import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
 import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntry;
 import org.cloudfoundry.multiapps.controller.persistence.query.impl.OperationQueryImpl;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.persistence.services.OperationLogBatchWriter;
 import org.cloudfoundry.multiapps.controller.persistence.services.OperationService;
 import org.cloudfoundry.multiapps.controller.process.dynatrace.DynatraceProcessDuration;
 import org.cloudfoundry.multiapps.controller.process.dynatrace.DynatracePublisher;
@@ -61,6 +63,10 @@ class OperationInFinalStateHandlerTest {
     private ProcessTime processTime;
     @Mock
     private OperationService operationService;
+    @Mock
+    private DeployedMtasSnapshotCache deployedMtasSnapshotCache;
+    @Mock
+    private OperationLogBatchWriter operationLogBatchWriter;
 
     @InjectMocks
     private final OperationInFinalStateHandler eventHandler = new OperationInFinalStateHandler();
@@ -106,6 +112,10 @@ class OperationInFinalStateHandlerTest {
         verifyOperationSetState();
         verifyDeleteDeploymentFiles(expectedFileIdsToSweep);
         verifyDynatracePublisher();
+        Mockito.verify(deployedMtasSnapshotCache)
+               .invalidate(SPACE_ID);
+        Mockito.verify(operationLogBatchWriter)
+               .flush(PROCESS_ID);
     }
 
     private void prepareContext(String archiveIds, String extensionDescriptorIds, boolean keepFiles) {
@@ -2,15 +2,22 @@ package org.cloudfoundry.multiapps.controller.process.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
 
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudServiceInstanceExtended;
+import org.cloudfoundry.multiapps.controller.client.lib.domain.ImmutableCloudServiceInstanceExtended;
 import org.cloudfoundry.multiapps.controller.process.steps.ProcessContext;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -19,6 +26,7 @@ import org.mockito.MockitoAnnotations;
 
 import com.sap.cloudfoundry.client.facade.CloudControllerClient;
 import com.sap.cloudfoundry.client.facade.domain.CloudEvent;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceInstance;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudEvent;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudMetadata;
 import com.sap.cloudfoundry.client.facade.domain.ServiceOperation;
@@ -72,6 +80,31 @@ class ServiceOperationGetterTest {
         assertServiceOperation(expectedServiceOperation, serviceOperation);
     }
 
+    @Test
+    void testGetLastServiceOperations() {
+        ServiceOperation lastOperation = new ServiceOperation(ServiceOperation.Type.CREATE, "created", ServiceOperation.State.SUCCEEDED);
+        CloudServiceInstanceExtended existingService = ImmutableCloudServiceInstanceExtended.builder()
+                                                                                            .name(SERVICE_NAME)
+                                                                                            .lastOperation(lastOperation)
+                                                                                            .build();
+        CloudServiceInstanceExtended deletedService = ImmutableCloudServiceInstanceExtended.builder()
+                                                                                           .name("deleted-service")
+                                                                                           .metadata(ImmutableCloudMetadata.of(SERVICE_GUID))
+                                                                                           .build();
+        when(client.getServiceInstancesWithoutAuxiliaryContentByNames(List.of(SERVICE_NAME,
+                                                                          "deleted-service"))).thenReturn(List.<CloudServiceInstance> of(existingService));
+        prepareEvents(true);
+
+        Map<String, ServiceOperation> lastServiceOperations = serviceOperationGetter.getLastServiceOperations(client,
+                                                                                                              List.of(existingService,
+                                                                                                                      deletedService));
+
+        assertEquals(lastOperation, lastServiceOperations.get(SERVICE_NAME));
+        assertEquals(new ServiceOperation(ServiceOperation.Type.DELETE, null, ServiceOperation.State.SUCCEEDED),
+                     lastServiceOperations.get("deleted-service"));
+        verify(client, never()).getServiceInstance(anyString(), anyBoolean());
+    }
+
     private void assertServiceOperation(ServiceOperation expectedServiceOperation, ServiceOperation serviceOperation) {
         if (expectedServiceOperation != null) {
             assertEquals(expectedServiceOperation.getState(), serviceOperation.getState());
@@ -0,0 +1,96 @@
+package org.cloudfoundry.multiapps.controller.process.variables;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cloudfoundry.multiapps.controller.core.cf.metadata.ImmutableMtaMetadata;
+import org.cloudfoundry.multiapps.controller.core.model.DeployedMta;
+import org.cloudfoundry.multiapps.controller.core.model.ImmutableDeployedMta;
+import org.cloudfoundry.multiapps.controller.process.util.MockDelegateExecution;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.junit.jupiter.api.Test;
+
+class DeserializedVariableCacheTest {
+
+    private final DelegateExecution execution = MockDelegateExecution.createSpyInstance();
+    private final DeserializedVariableCache cache = new DeserializedVariableCache();
+
+    @Test
+    void testValueIsDeserializedOnce() {
+        VariableHandling.set(execution, Variables.DEPLOYED_MTA, createDeployedMta("foo"));
+
+        DeployedMta value = cache.get(execution, Variables.DEPLOYED_MTA);
+
+        assertEquals(createDeployedMta("foo"), value);
+        assertSame(value, cache.get(execution, Variables.DEPLOYED_MTA));
+    }
+
+    @Test
+    void testValueIsDeserializedAgainWhenVariableChanges() {
+        VariableHandling.set(execution, Variables.DEPLOYED_MTA, createDeployedMta("foo"));
+        DeployedMta value = cache.get(execution, Variables.DEPLOYED_MTA);
+
+        VariableHandling.set(execution, Variables.DEPLOYED_MTA, createDeployedMta("bar"));
+
+        assertEquals(createDeployedMta("foo"), value);
+        assertEquals(createDeployedMta("bar"), cache.get(execution, Variables.DEPLOYED_MTA));
+    }
+
+    @Test
+    void testValueIsDeserializedAgainAfterInvalidation() {
+        VariableHandling.set(execution, Variables.DEPLOYED_MTA, createDeployedMta("foo"));
+        DeployedMta value = cache.get(execution, Variables.DEPLOYED_MTA);
+
+        cache.invalidate(Variables.DEPLOYED_MTA);
+
+        DeployedMta newValue = cache.get(execution, Variables.DEPLOYED_MTA);
+        assertEquals(value, newValue);
+        assertNotSame(value, newValue);
+    }
+
+    @Test
+    void testListValuesAreCopied() {
+        VariableHandling.set(execution, Variables.APPS_TO_DEPLOY, List.of("foo", "bar"));
+
+        List<String> value = cache.get(execution, Variables.APPS_TO_DEPLOY);
+        value.remove("foo");
+
+        assertEquals(List.of("bar"), value);
+        assertEquals(List.of("foo", "bar"), cache.get(execution, Variables.APPS_TO_DEPLOY));
+    }
+
+    @Test
+    void testMutableValuesAreNotCached() {
+        VariableHandling.set(execution, Variables.APPS_TO_RENAME, new ArrayList<>(List.of("foo")));
+
+        List<String> value = cache.get(execution, Variables.APPS_TO_RENAME);
+
+        assertEquals(value, cache.get(execution, Variables.APPS_TO_RENAME));
+        assertNotSame(value, cache.get(execution, Variables.APPS_TO_RENAME));
+    }
+
+    @Test
+    void testDefaultValueIsReturnedForRemovedVariable() {
+        VariableHandling.set(execution, Variables.APPS_TO_DEPLOY, List.of("foo"));
+        cache.get(execution, Variables.APPS_TO_DEPLOY);
+
+        VariableHandling.set(execution, Variables.APPS_TO_DEPLOY, null);
+
+        assertNull(cache.getIfSet(execution, Variables.APPS_TO_DEPLOY));
+        assertEquals(Variables.APPS_TO_DEPLOY.getDefaultValue(), cache.get(execution, Variables.APPS_TO_DEPLOY));
+    }
+
+    private static DeployedMta createDeployedMta(String id) {
+        return ImmutableDeployedMta.builder()
+                                   .metadata(ImmutableMtaMetadata.builder()
+                                                                 .id(id)
+                                                                 .build())
+                                   .build();
+    }
+
+}
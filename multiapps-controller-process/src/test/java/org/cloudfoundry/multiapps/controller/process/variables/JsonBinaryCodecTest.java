@@ -0,0 +1,133 @@
+package org.cloudfoundry.multiapps.controller.process.variables;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.cloudfoundry.multiapps.common.util.JsonUtil;
+import org.cloudfoundry.multiapps.mta.model.DeploymentDescriptor;
+import org.cloudfoundry.multiapps.mta.model.Module;
+import org.cloudfoundry.multiapps.mta.model.RequiredDependency;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+class JsonBinaryCodecTest {
+
+    private static final int MODULES_COUNT = 200;
+
+    @BeforeEach
+    void setUp() {
+        JsonBinaryCodec.setCompressionEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        JsonBinaryCodec.setCompressionEnabled(false);
+    }
+
+    @Test
+    void testLargeValueIsNotCompressedWhenCompressionIsDisabled() {
+        JsonBinaryCodec.setCompressionEnabled(false);
+        DeploymentDescriptor descriptor = createLargeDescriptor();
+
+        byte[] encodedValue = JsonBinaryCodec.encode(descriptor);
+
+        assertFalse(JsonBinaryCodec.isCompressed(encodedValue));
+        assertArrayEquals(JsonUtil.toJsonBinary(descriptor), encodedValue);
+    }
+
+    @Test
+    void testCompressedValueIsDecodedWhenCompressionIsDisabled() {
+        DeploymentDescriptor descriptor = createLargeDescriptor();
+        byte[] encodedValue = JsonBinaryCodec.encode(descriptor);
+        JsonBinaryCodec.setCompressionEnabled(false);
+
+        DeploymentDescriptor decodedDescriptor = JsonBinaryCodec.decode(encodedValue, DeploymentDescriptor.class);
+
+        assertTrue(JsonBinaryCodec.isCompressed(encodedValue));
+        assertEquals(JsonUtil.toJson(descriptor), JsonUtil.toJson(decodedDescriptor));
+    }
+
+    @Test
+    void testSmallValueIsNotCompressed() {
+        List<String> value = List.of("foo", "bar");
+
+        byte[] encodedValue = JsonBinaryCodec.encode(value);
+
+        assertFalse(JsonBinaryCodec.isCompressed(encodedValue));
+        assertArrayEquals(JsonUtil.toJsonBinary(value), encodedValue);
+        assertEquals(value, JsonBinaryCodec.decode(encodedValue, new TypeReference<List<String>>() {
+        }));
+    }
+
+    @Test
+    void testLargeDescriptorIsCompressed() {
+        DeploymentDescriptor descriptor = createLargeDescriptor();
+        byte[] json = JsonUtil.toJsonBinary(descriptor);
+
+        byte[] encodedValue = JsonBinaryCodec.encode(descriptor);
+
+        assertTrue(JsonBinaryCodec.isCompressed(encodedValue));
+        assertTrue(encodedValue.length * 4 < json.length,
+                   "Expected the encoded descriptor (" + encodedValue.length + " bytes) to be at least 4 times smaller than its JSON ("
+                       + json.length + " bytes)");
+        DeploymentDescriptor decodedDescriptor = JsonBinaryCodec.decode(encodedValue, DeploymentDescriptor.class);
+        assertEquals(JsonUtil.toJson(descriptor), JsonUtil.toJson(decodedDescriptor));
+    }
+
+    @Test
+    void testLegacyJsonIsDecoded() {
+        DeploymentDescriptor descriptor = createLargeDescriptor();
+        byte[] legacyValue = JsonUtil.toJsonBinary(descriptor);
+
+        DeploymentDescriptor decodedDescriptor = JsonBinaryCodec.decode(legacyValue, DeploymentDescriptor.class);
+
+        assertEquals(JsonUtil.toJson(descriptor), JsonUtil.toJson(decodedDescriptor));
+    }
+
+    @Test
+    void testBinaryVariableIsStoredCompressed() {
+        Variable<DeploymentDescriptor> variable = ImmutableJsonBinaryVariable.<DeploymentDescriptor> builder()
+                                                                              .name("descriptor")
+                                                                              .type(Variable.typeReference(DeploymentDescriptor.class))
+                                                                              .build();
+        DeploymentDescriptor descriptor = createLargeDescriptor();
+
+        Object serializedValue = variable.getSerializer()
+                                         .serialize(descriptor);
+
+        assertTrue(JsonBinaryCodec.isCompressed((byte[]) serializedValue));
+        assertEquals(JsonUtil.toJson(descriptor), JsonUtil.toJson(variable.getSerializer()
+                                                                          .deserialize(serializedValue)));
+    }
+
+    private static DeploymentDescriptor createLargeDescriptor() {
+        List<Module> modules = IntStream.range(0, MODULES_COUNT)
+                                        .mapToObj(JsonBinaryCodecTest::createModule)
+                                        .toList();
+        return DeploymentDescriptor.createV3()
+                                   .setVersion("1.0.0")
+                                   .setModules(modules);
+    }
+
+    private static Module createModule(int index) {
+        return Module.createV3()
+                     .setName("module-" + index)
+                     .setType("javascript.nodejs")
+                     .setParameters(Map.of("memory", "256M", "disk-quota", "512M", "instances", 2))
+                     .setProperties(Map.of("LOG_LEVEL", "info", "DESTINATION_SERVICE", "destination-service-" + index))
+                     .setRequiredDependencies(List.of(RequiredDependency.createV3()
+                                                                        .setName("uaa-service"),
+                                                      RequiredDependency.createV3()
+                                                                        .setName("destination-service-" + index)));
+    }
+
+}
@@ -13,6 +13,10 @@ public final class Messages {
     public static final String NO_FILES_TO_UPLOAD = "Request has no files to upload!";
     public static final String ACTION_0_CANNOT_BE_EXECUTED_OVER_OPERATION_1_IN_STATE_2 = "Action \"{0}\" cannot be executed over operation \"{1}\" in state \"{2}\".";
     public static final String OPERATION_0_NOT_FOUND = "Operation \"{0}\" was not found.";
+    public static final String LOG_0_OF_OPERATION_1_NOT_FOUND = "Log \"{0}\" of operation \"{1}\" was not found.";
+    public static final String INVALID_LOG_OFFSET_0 = "Invalid log offset \"{0}\". The offset must not be negative.";
+    public static final String TOO_MANY_OPERATION_LOGS_ARE_BEING_STREAMED = "Too many operation logs are being streamed. Try again later.";
+    public static final String INVALID_WAIT_TIME_0 = "Invalid wait time \"{0}\". The number of seconds to wait must not be negative.";
     public static final String TEMPORARY_PROBLEM_WITH_PERSISTENCE_LAYER = "Temporary problem with persistence layer of the service";
     public static final String FILE_URL_RESPONSE_DID_NOT_RETURN_CONTENT_LENGTH = "File URL response did not return Content-Length header";
     public static final String ERROR_FROM_REMOTE_MTAR_ENDPOINT = "Error from remote MTAR endpoint {0} with status code {1}, message: {2}";
@@ -83,6 +87,7 @@ public final class Messages {
     public static final String ASYNC_UPLOAD_JOB_FINISHED = "Async upload job {} finished";
     public static final String UPLOADING_MTAR_STREAM_FROM_REMOTE_ENDPOINT = "Uploading MTAR stream from remote endpoint: {}";
     public static final String CALLING_REMOTE_MTAR_ENDPOINT = "Calling remote MTAR endpoint {}";
+    public static final String TOO_MANY_WAITING_REQUESTS_RETURNING_OPERATION_WITHOUT_WAITING = "Too many requests wait for operation changes, returning operation {} without waiting";
 
     private Messages() {
     }
@@ -85,8 +85,14 @@ public class FilesApiServiceImpl implements FilesApiService {
         System.setProperty(Constants.RETRY_LIMIT_PROPERTY, "0");
     }
 
-    private final CachedMap<String, AtomicLong> jobCounters = new CachedMap<>(Duration.ofHours(1));
-    private final CachedMap<String, Future<?>> runningTasks = new CachedMap<>(Duration.ofHours(1));
+    private final CachedMap<String, AtomicLong> jobCounters = CachedMap.<String, AtomicLong> builder()
+                                                                       .name("upload-job-counters")
+                                                                       .expirationTime(Duration.ofHours(1))
+                                                                       .build();
+    private final CachedMap<String, Future<?>> runningTasks = CachedMap.<String, Future<?>> builder()
+                                                                       .name("upload-tasks")
+                                                                       .expirationTime(Duration.ofHours(1))
+                                                                       .build();
     private final ResilientOperationExecutor resilientOperationExecutor = getResilientOperationExecutor();
     @Inject
     @Named("fileService")
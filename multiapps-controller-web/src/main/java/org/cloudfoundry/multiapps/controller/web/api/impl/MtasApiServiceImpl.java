@@ -1,8 +1,8 @@
 package org.cloudfoundry.multiapps.controller.web.api.impl;
 
-import java.util.Arrays;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
@@ -10,6 +10,7 @@ import jakarta.inject.Named;
 
 import org.cloudfoundry.multiapps.common.ConflictException;
 import org.cloudfoundry.multiapps.common.NotFoundException;
+import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.cloudfoundry.multiapps.controller.api.MtasApiService;
 import org.cloudfoundry.multiapps.controller.api.model.ImmutableMetadata;
 import org.cloudfoundry.multiapps.controller.api.model.ImmutableModule;
@@ -20,6 +21,7 @@ import org.cloudfoundry.multiapps.controller.api.model.Mta;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.MtasApiServiceAuditLog;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
 import org.cloudfoundry.multiapps.controller.core.cf.detect.DeployedMtaDetector;
+import org.cloudfoundry.multiapps.controller.core.cf.detect.DeployedMtasSnapshotCache;
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.MtaMetadata;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMta;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMtaApplication;
@@ -30,6 +32,7 @@ import org.cloudfoundry.multiapps.controller.web.util.SecurityContextUtil;
 import org.cloudfoundry.multiapps.mta.model.Version;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 
 import com.sap.cloudfoundry.client.facade.CloudControllerClient;
 import com.sap.cloudfoundry.client.facade.domain.CloudRoute;
@@ -45,22 +48,23 @@ public class MtasApiServiceImpl implements MtasApiService {
     private DeployedMtaDetector deployedMtaDetector;
     @Inject
     private MtasApiServiceAuditLog mtasApiServiceAuditLog;
+    @Inject
+    private DeployedMtasSnapshotCache deployedMtasSnapshotCache;
 
     @Override
     public ResponseEntity<List<Mta>> getMtas(String spaceGuid) {
         mtasApiServiceAuditLog.logGetMtas(SecurityContextUtil.getUsername(), spaceGuid);
-        CloudControllerClient client = getCloudFoundryClient(spaceGuid);
-        List<DeployedMta> deployedMtas = deployedMtaDetector.detectDeployedMtasWithoutNamespace(client);
-        List<Mta> mtas = getMtas(deployedMtas, client);
+        MtasSnapshot snapshot = getMtasSnapshot(spaceGuid, "without-namespace", deployedMtaDetector::detectDeployedMtasWithoutNamespace);
         return ResponseEntity.ok()
-                             .body(mtas);
+                             .eTag(snapshot.eTag())
+                             .body(snapshot.mtas());
     }
 
     @Override
     public ResponseEntity<Mta> getMta(String spaceGuid, String mtaId) {
         mtasApiServiceAuditLog.logGetMta(SecurityContextUtil.getUsername(), spaceGuid, mtaId);
-        CloudControllerClient client = getCloudFoundryClient(spaceGuid);
-        List<DeployedMta> mtas = deployedMtaDetector.detectDeployedMtasByName(mtaId, client);
+        MtasSnapshot snapshot = getMtasByNameSnapshot(spaceGuid, mtaId);
+        List<Mta> mtas = snapshot.mtas();
 
         if (mtas.isEmpty()) {
             throw new NotFoundException(Messages.MTA_NOT_FOUND, mtaId);
@@ -71,7 +75,8 @@ public class MtasApiServiceImpl implements MtasApiService {
         }
 
         return ResponseEntity.ok()
-                             .body(getMta(mtas.get(0), client));
+                             .eTag(snapshot.eTag())
+                             .body(mtas.get(0));
     }
 
     @Override
@@ -89,46 +94,70 @@ public class MtasApiServiceImpl implements MtasApiService {
             return getMtasByNamespace(spaceGuid, namespace);
         }
 
-        CloudControllerClient client = getCloudFoundryClient(spaceGuid);
-        Optional<DeployedMta> optionalDeployedMta = deployedMtaDetector.detectDeployedMtaByNameAndNamespace(name, namespace, client);
-        DeployedMta deployedMta = optionalDeployedMta.orElseThrow(() -> new NotFoundException(Messages.SPECIFIC_MTA_NOT_FOUND,
-                                                                                              name,
-                                                                                              namespace));
+        MtasSnapshot snapshot = getMtasSnapshot(spaceGuid, "name:" + name + ",namespace:" + namespace,
+                                                client -> deployedMtaDetector.detectDeployedMtaByNameAndNamespace(name, namespace, client)
+                                                                             .stream()
+                                                                             .collect(Collectors.toList()));
+        if (snapshot.mtas()
+                    .isEmpty()) {
+            throw new NotFoundException(Messages.SPECIFIC_MTA_NOT_FOUND, name, namespace);
+        }
 
         return ResponseEntity.ok()
-                             .body(Arrays.asList(getMta(deployedMta, client)));
+                             .eTag(snapshot.eTag())
+                             .body(snapshot.mtas());
     }
 
     protected ResponseEntity<List<Mta>> getAllMtas(String spaceGuid) {
-        CloudControllerClient client = getCloudFoundryClient(spaceGuid);
-        List<DeployedMta> deployedMtas = deployedMtaDetector.detectDeployedMtas(client);
+        MtasSnapshot snapshot = getMtasSnapshot(spaceGuid, "all", deployedMtaDetector::detectDeployedMtas);
 
         return ResponseEntity.ok()
-                             .body(getMtas(deployedMtas, client));
+                             .eTag(snapshot.eTag())
+                             .body(snapshot.mtas());
     }
 
     protected ResponseEntity<List<Mta>> getMtasByNamespace(String spaceGuid, String namespace) {
-        CloudControllerClient client = getCloudFoundryClient(spaceGuid);
-        List<DeployedMta> deployedMtas = deployedMtaDetector.detectDeployedMtasByNamespace(namespace, client);
+        MtasSnapshot snapshot = getMtasSnapshot(spaceGuid, "namespace:" + namespace,
+                                                client -> deployedMtaDetector.detectDeployedMtasByNamespace(namespace, client));
 
-        if (deployedMtas.isEmpty()) {
+        if (snapshot.mtas()
+                    .isEmpty()) {
             throw new NotFoundException(Messages.MTAS_NOT_FOUND_BY_NAMESPACE, namespace);
         }
 
         return ResponseEntity.ok()
-                             .body(getMtas(deployedMtas, client));
+                             .eTag(snapshot.eTag())
+                             .body(snapshot.mtas());
     }
 
     protected ResponseEntity<List<Mta>> getMtasByName(String spaceGuid, String name) {
-        CloudControllerClient client = getCloudFoundryClient(spaceGuid);
-        List<DeployedMta> deployedMtas = deployedMtaDetector.detectDeployedMtasByName(name, client);
+        MtasSnapshot snapshot = getMtasByNameSnapshot(spaceGuid, name);
 
-        if (deployedMtas.isEmpty()) {
+        if (snapshot.mtas()
+                    .isEmpty()) {
             throw new NotFoundException(Messages.MTAS_NOT_FOUND_BY_NAME, name);
         }
 
         return ResponseEntity.ok()
-                             .body(getMtas(deployedMtas, client));
+                             .eTag(snapshot.eTag())
+                             .body(snapshot.mtas());
+    }
+
+    private MtasSnapshot getMtasByNameSnapshot(String spaceGuid, String name) {
+        return getMtasSnapshot(spaceGuid, "name:" + name, client -> deployedMtaDetector.detectDeployedMtasByName(name, client));
+    }
+
+    /**
+     * The snapshots are shared by all users with access to the space, which has already been checked by the authorization filters. Spring
+     * answers conditional requests whose If-None-Match header contains the ETag of the snapshot with 304 Not Modified.
+     */
+    private MtasSnapshot getMtasSnapshot(String spaceGuid, String detectionKey,
+                                         Function<CloudControllerClient, List<DeployedMta>> detection) {
+        return deployedMtasSnapshotCache.getOrDetect(spaceGuid, detectionKey, () -> {
+            CloudControllerClient client = getCloudFoundryClient(spaceGuid);
+            return MtasSnapshot.of(getMtas(detection.apply(client), client));
+        }, snapshot -> snapshot.mtas()
+                               .isEmpty());
     }
 
     private CloudControllerClient getCloudFoundryClient(String spaceGuid) {
@@ -188,4 +217,13 @@ public class MtasApiServiceImpl implements MtasApiService {
         return version != null ? version.toString() : null;
     }
 
+    private record MtasSnapshot(List<Mta> mtas, String eTag) {
+
+        static MtasSnapshot of(List<Mta> mtas) {
+            String eTag = DigestUtils.md5DigestAsHex(JsonUtil.toJson(mtas)
+                                                             .getBytes(StandardCharsets.UTF_8));
+            return new MtasSnapshot(mtas, eTag);
+        }
+    }
+
 }
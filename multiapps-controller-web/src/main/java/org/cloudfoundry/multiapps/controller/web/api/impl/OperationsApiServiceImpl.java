@@ -1,7 +1,9 @@
 package org.cloudfoundry.multiapps.controller.web.api.impl;
 
+import java.io.OutputStream;
 import java.security.Principal;
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -13,6 +15,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
@@ -21,6 +24,7 @@ import jakarta.persistence.NoResultException;
 import jakarta.servlet.http.HttpServletRequest;
 
 import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.ObjectUtils;
 import org.cloudfoundry.multiapps.common.ContentException;
 import org.cloudfoundry.multiapps.common.NotFoundException;
 import org.cloudfoundry.multiapps.controller.api.OperationsApiService;
@@ -42,7 +46,10 @@ import org.cloudfoundry.multiapps.controller.persistence.OrderDirection;
 import org.cloudfoundry.multiapps.controller.persistence.model.ProgressMessage;
 import org.cloudfoundry.multiapps.controller.persistence.model.ProgressMessage.ProgressMessageType;
 import org.cloudfoundry.multiapps.controller.persistence.query.OperationQuery;
+import org.cloudfoundry.multiapps.controller.persistence.query.ProgressMessageQuery;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.persistence.services.OperationChangeNotifier;
+import org.cloudfoundry.multiapps.controller.persistence.services.OperationChangeNotifier.Subscription;
 import org.cloudfoundry.multiapps.controller.persistence.services.OperationService;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLogsPersistenceService;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProgressMessageService;
@@ -61,6 +68,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.sap.cloudfoundry.client.facade.domain.CloudOrganization;
 import com.sap.cloudfoundry.client.facade.domain.CloudSpace;
@@ -70,6 +78,13 @@ import com.sap.cloudfoundry.client.facade.rest.CloudSpaceClient;
 public class OperationsApiServiceImpl implements OperationsApiService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OperationsApiServiceImpl.class);
+    private static final Duration MAX_WAIT_FOR_OPERATION_CHANGE = Duration.ofSeconds(30);
+    private static final Duration OPERATION_CHANGE_RECHECK_INTERVAL = Duration.ofSeconds(5);
+    // Each waiting request holds a servlet thread, so only a part of them may wait at a time:
+    private static final int MAX_WAITING_REQUESTS = 20;
+    // Each streamed log holds a database connection and an async request thread until the whole log is written:
+    static final int MAX_CONCURRENT_LOG_STREAMS = 10;
+
     @Inject
     private CloudControllerClientFactory clientFactory;
     @Inject
@@ -90,6 +105,11 @@ public class OperationsApiServiceImpl implements OperationsApiService {
     private ProcessActionRegistry processActionRegistry;
     @Inject
     private OperationsApiServiceAuditLog operationsApiServiceAuditLog;
+    @Inject
+    private OperationChangeNotifier operationChangeNotifier;
+
+    private final Semaphore waitingRequests = new Semaphore(MAX_WAITING_REQUESTS);
+    private final Semaphore logStreams = new Semaphore(MAX_CONCURRENT_LOG_STREAMS);
 
     @Override
     public ResponseEntity<List<Operation>> getOperations(String spaceGuid, String mtaId, List<String> stateStrings, Integer last) {
@@ -136,13 +156,41 @@ public class OperationsApiServiceImpl implements OperationsApiService {
     }
 
     @Override
-    public ResponseEntity<String> getOperationLogContent(String spaceGuid, String operationId, String logId) {
+    public ResponseEntity<StreamingResponseBody> getOperationLogContent(String spaceGuid, String operationId, String logId, Long offset) {
+        operationsApiServiceAuditLog.logGetOperationLogContent(SecurityContextUtil.getUsername(), spaceGuid, operationId, logId);
+        if (offset != null && offset < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MessageFormat.format(Messages.INVALID_LOG_OFFSET_0, offset));
+        }
+        // Errors raised while the body is streamed cannot change the status of the response anymore:
+        assertOperationLogExists(spaceGuid, operationId, logId);
+        long contentOffset = offset == null ? 0 : offset;
+        if (!logStreams.tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, Messages.TOO_MANY_OPERATION_LOGS_ARE_BEING_STREAMED);
+        }
+        StreamingResponseBody content = outputStream -> {
+            try {
+                writeOperationLog(spaceGuid, operationId, logId, contentOffset, outputStream);
+            } finally {
+                logStreams.release();
+            }
+        };
+        return ResponseEntity.ok()
+                             .body(content);
+    }
+
+    private void assertOperationLogExists(String spaceGuid, String operationId, String logId) {
         try {
-            operationsApiServiceAuditLog.logGetOperationLogContent(SecurityContextUtil.getUsername(), spaceGuid, operationId, logId);
-            String content = logsService.getOperationLog(spaceGuid, operationId, logId);
+            if (!logsService.operationLogExists(spaceGuid, operationId, logId)) {
+                throw new NotFoundException(Messages.LOG_0_OF_OPERATION_1_NOT_FOUND, logId, operationId);
+            }
+        } catch (FileStorageException e) {
+            throw new ContentException(e, e.getMessage());
+        }
+    }
 
-            return ResponseEntity.ok()
-                                 .body(content);
+    private void writeOperationLog(String spaceGuid, String operationId, String logId, long offset, OutputStream outputStream) {
+        try {
+            logsService.writeOperationLog(spaceGuid, operationId, logId, offset, outputStream);
         } catch (FileStorageException e) {
             throw new ContentException(e, e.getMessage());
         }
@@ -166,8 +214,20 @@ public class OperationsApiServiceImpl implements OperationsApiService {
     }
 
     @Override
-    public ResponseEntity<Operation> getOperation(String spaceGuid, String operationId, String embed) {
+    public ResponseEntity<Operation> getOperation(String spaceGuid, String operationId, String embed, Long since, Integer waitInSeconds) {
         operationsApiServiceAuditLog.logGetOperation(SecurityContextUtil.getUsername(), spaceGuid, operationId, embed);
+        if (waitInSeconds != null && waitInSeconds < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MessageFormat.format(Messages.INVALID_WAIT_TIME_0, waitInSeconds));
+        }
+        boolean embedMessages = "messages".equals(embed);
+        Operation operation = waitInSeconds == null || waitInSeconds == 0
+            ? getOperation(spaceGuid, operationId, embedMessages, since)
+            : waitForOperationChange(spaceGuid, operationId, embedMessages, since, Duration.ofSeconds(waitInSeconds));
+        return ResponseEntity.ok()
+                             .body(operation);
+    }
+
+    private Operation getOperation(String spaceGuid, String operationId, boolean embedMessages, Long since) {
         Operation operation = getOperationByOperationGuidAndSpaceGuid(operationId, spaceGuid);
         if (!operation.getSpaceId()
                       .equals(spaceGuid)) {
@@ -175,15 +235,67 @@ public class OperationsApiServiceImpl implements OperationsApiService {
                                              operation.getSpaceId(), spaceGuid));
             throw new NotFoundException(org.cloudfoundry.multiapps.controller.persistence.Messages.OPERATION_NOT_FOUND, operationId);
         }
-        if ("messages".equals(embed)) {
+        return addMessages(operation, embedMessages, since);
+    }
+
+    private Operation addMessages(Operation operation, boolean embedMessages, Long since) {
+        if (embedMessages) {
             operation = ImmutableOperation.copyOf(operation)
-                                          .withMessages(getOperationMessages(operation));
-            if (operation.getState() == Operation.State.ERROR && !hasErrorMessage(operation)) {
+                                          .withMessages(getOperationMessages(operation, since));
+            if (since == null && operation.getState() == Operation.State.ERROR && !hasErrorMessage(operation)) {
                 LOGGER.error("MTA operation \"{}\" is in error state, but has no error messages.", operation.getProcessId());
             }
         }
-        return ResponseEntity.ok()
-                             .body(operation);
+        return operation;
+    }
+
+    private Operation waitForOperationChange(String spaceGuid, String operationId, boolean embedMessages, Long since, Duration wait) {
+        if (!waitingRequests.tryAcquire()) {
+            // The client polls again anyway, so it gets the current state instead of waiting:
+            LOGGER.debug(Messages.TOO_MANY_WAITING_REQUESTS_RETURNING_OPERATION_WITHOUT_WAITING, operationId);
+            return getOperation(spaceGuid, operationId, embedMessages, since);
+        }
+        // Subscribe before the first read, so that a change between the read and the wait is not missed:
+        try (Subscription subscription = operationChangeNotifier.subscribe(operationId)) {
+            Operation operation = getOperation(spaceGuid, operationId, embedMessages, since);
+            Operation.State initialState = operation.getState();
+            long deadline = System.nanoTime() + ObjectUtils.min(wait, MAX_WAIT_FOR_OPERATION_CHANGE)
+                                                           .toNanos();
+            while (!hasChanged(operation, initialState)) {
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    break;
+                }
+                // Changes made by other instances are not signalled, so the operation is reloaded periodically:
+                subscription.awaitChange(ObjectUtils.min(Duration.ofNanos(remainingNanos), OPERATION_CHANGE_RECHECK_INTERVAL));
+                operation = reloadOperation(operation, spaceGuid, embedMessages, since);
+            }
+            return operation;
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            return getOperation(spaceGuid, operationId, embedMessages, since);
+        } finally {
+            waitingRequests.release();
+        }
+    }
+
+    /**
+     * Reloads an operation while waiting for it to change. The error type and the lock of the operation can change only together with its
+     * state, so they are updated only when the state is different.
+     */
+    private Operation reloadOperation(Operation operation, String spaceGuid, boolean embedMessages, Long since) {
+        Operation reloadedOperation = findOperation(operation.getProcessId(), spaceGuid);
+        if (reloadedOperation.getState() == operation.getState()) {
+            return addMessages(operation, embedMessages, since);
+        }
+        return addMessages(addDetails(reloadedOperation), embedMessages, since);
+    }
+
+    private boolean hasChanged(Operation operation, Operation.State initialState) {
+        Operation.State state = operation.getState();
+        return state != initialState || (state != null && state.isFinal()) || !operation.getMessages()
+                                                                                         .isEmpty();
     }
 
     private List<Operation.State> getStates(List<String> statusList) {
@@ -220,18 +332,25 @@ public class OperationsApiServiceImpl implements OperationsApiService {
     }
 
     private Operation getOperationByOperationGuidAndSpaceGuid(String operationId, String spaceGuid) {
+        return addDetails(findOperation(operationId, spaceGuid));
+    }
+
+    private Operation findOperation(String operationId, String spaceGuid) {
         try {
-            Operation operation = operationService.createQuery()
-                                                  .processId(operationId)
-                                                  .spaceId(spaceGuid)
-                                                  .singleResult();
-            operation = operationsHelper.addErrorType(operation);
-            return operationsHelper.releaseLockIfNeeded(operation);
+            return operationService.createQuery()
+                                   .processId(operationId)
+                                   .spaceId(spaceGuid)
+                                   .singleResult();
         } catch (NoResultException e) {
             throw new NotFoundException(e, Messages.OPERATION_0_NOT_FOUND, operationId);
         }
     }
 
+    private Operation addDetails(Operation operation) {
+        operation = operationsHelper.addErrorType(operation);
+        return operationsHelper.releaseLockIfNeeded(operation);
+    }
+
     private List<String> getAvailableActions(Operation operation) {
         switch (operation.getState()) {
             case FINISHED:
@@ -321,11 +440,14 @@ public class OperationsApiServiceImpl implements OperationsApiService {
         return clientFactory.createSpaceClient(tokenService.getToken(userInfo.getName()));
     }
 
-    private List<Message> getOperationMessages(Operation operation) {
-        List<ProgressMessage> progressMessages = progressMessageService.createQuery()
-                                                                       .processId(operation.getProcessId())
-                                                                       .orderById(OrderDirection.ASCENDING)
-                                                                       .list();
+    private List<Message> getOperationMessages(Operation operation, Long since) {
+        ProgressMessageQuery query = progressMessageService.createQuery()
+                                                           .processId(operation.getProcessId())
+                                                           .orderById(OrderDirection.ASCENDING);
+        if (since != null) {
+            query.idGreaterThan(since);
+        }
+        List<ProgressMessage> progressMessages = query.list();
         return progressMessages.stream()
                                .map(this::getMessage)
                                .collect(Collectors.toList());
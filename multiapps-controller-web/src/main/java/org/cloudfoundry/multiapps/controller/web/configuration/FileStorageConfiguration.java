@@ -1,5 +1,13 @@
 package org.cloudfoundry.multiapps.controller.web.configuration;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.persistence.services.ImmutableObjectStoreTransferOptions;
+import org.cloudfoundry.multiapps.controller.persistence.services.ObjectStoreTransferOptions;
 import org.cloudfoundry.multiapps.controller.persistence.util.EnvironmentServicesFinder;
 import org.cloudfoundry.multiapps.controller.web.configuration.bean.factory.ObjectStoreFileStorageFactoryBean;
 import org.springframework.context.annotation.Bean;
@@ -16,8 +24,37 @@ public class FileStorageConfiguration {
 
     @Inject
     @Bean
-    public ObjectStoreFileStorageFactoryBean objectStoreFileStorage(EnvironmentServicesFinder vcapServiceFinder) {
-        return new ObjectStoreFileStorageFactoryBean(OBJECT_STORE_SERVICE_NAME, vcapServiceFinder);
+    public ObjectStoreFileStorageFactoryBean objectStoreFileStorage(EnvironmentServicesFinder vcapServiceFinder,
+                                                                    ApplicationConfiguration applicationConfiguration) {
+        return new ObjectStoreFileStorageFactoryBean(OBJECT_STORE_SERVICE_NAME,
+                                                     vcapServiceFinder,
+                                                     createTransferOptions(applicationConfiguration));
+    }
+
+    private ObjectStoreTransferOptions createTransferOptions(ApplicationConfiguration applicationConfiguration) {
+        return ImmutableObjectStoreTransferOptions.builder()
+                                                  .downloadExecutor(objectStoreDownloadThreadPool(applicationConfiguration))
+                                                  .downloadChunkSizeInBytes(applicationConfiguration.getObjectStoreDownloadChunkSize())
+                                                  .maxDownloadBufferSizeInBytes(applicationConfiguration.getObjectStoreMaxDownloadBufferSize())
+                                                  .uploadExecutor(objectStoreUploadThreadPool(applicationConfiguration))
+                                                  .uploadPartSizeInBytes(applicationConfiguration.getObjectStoreUploadPartSize())
+                                                  .maxUploadBufferSizeInBytes(applicationConfiguration.getObjectStoreMaxUploadBufferSize())
+                                                  .build();
+    }
+
+    @Inject
+    @Bean(name = "objectStoreDownloadThreadPool")
+    public ExecutorService objectStoreDownloadThreadPool(ApplicationConfiguration applicationConfiguration) {
+        int threads = Math.max(applicationConfiguration.getThreadsForObjectStoreDownload(), 1);
+        // Chunks which are rejected because the queue is full are downloaded by the thread reading the blob:
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(threads));
+    }
+
+    @Inject
+    @Bean(name = "objectStoreUploadThreadPool")
+    public ExecutorService objectStoreUploadThreadPool(ApplicationConfiguration applicationConfiguration) {
+        int threads = Math.max(applicationConfiguration.getThreadsForObjectStoreUpload(), 1);
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
     }
 
     @Bean(name = "filterMultipartResolver")
@@ -8,6 +8,7 @@ import jakarta.inject.Inject;
 import javax.sql.DataSource;
 
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.process.variables.JsonBinaryCodec;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
@@ -59,7 +60,8 @@ public class FlowableConfiguration {
     @DependsOn("liquibaseChangelog")
     public SpringProcessEngineConfiguration processEngineConfiguration(DataSource dataSource, PlatformTransactionManager transactionManager,
                                                                        AsyncExecutor jobExecutor,
-                                                                       @Lazy FailedJobCommandFactory abortFailedProcessCommandFactory) {
+                                                                       @Lazy FailedJobCommandFactory abortFailedProcessCommandFactory,
+                                                                       ApplicationConfiguration configuration) {
         SpringProcessEngineConfiguration processEngineConfiguration = new SpringProcessEngineConfiguration();
         processEngineConfiguration.setDatabaseSchemaUpdate(DATABASE_SCHEMA_UPDATE);
         processEngineConfiguration.setDataSource(dataSource);
@@ -73,6 +75,7 @@ public class FlowableConfiguration {
         // Before introduction of Global lock mechanism, multi instance executions always lock parent execution. Now by default it's not
         // locked and this leads to concurrency issues with execution of parallel jobs and lead to failed mta operations.
         processEngineConfiguration.setParallelMultiInstanceAsyncLeave(false);
+        JsonBinaryCodec.setCompressionEnabled(configuration.isProcessVariablesCompressionEnabled());
         return processEngineConfiguration;
     }
 
@@ -24,6 +24,7 @@ public class MicrometerConfiguration {
     private static final Logger LOGGER = LoggerFactory.getLogger(MicrometerConfiguration.class);
     public static final String DYNATRACE_SERVICE_NAME = "deploy-service-dynatrace";
     private static final String CLIENT_CONNECTIONS_METRICS_PREFIX = "reactor.netty.connection.provider.cloudfoundry-client.";
+    private static final String CONTROLLER_METRICS_PREFIX = "multiapps.controller.";
 
     @Inject
     @Bean
@@ -53,6 +54,7 @@ public class MicrometerConfiguration {
         JmxMeterRegistry registry = new JmxMeterRegistry(jmxConfig, Clock.SYSTEM);
         registry.config()
                 .meterFilter(MeterFilter.acceptNameStartsWith(CLIENT_CONNECTIONS_METRICS_PREFIX))
+                .meterFilter(MeterFilter.acceptNameStartsWith(CONTROLLER_METRICS_PREFIX))
                 .meterFilter(MeterFilter.deny());
         Metrics.globalRegistry.add(registry);
         return registry;
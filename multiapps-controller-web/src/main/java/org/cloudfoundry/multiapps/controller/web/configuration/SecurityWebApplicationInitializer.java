@@ -7,6 +7,15 @@ import org.springframework.web.multipart.support.MultipartFilter;
 
 public class SecurityWebApplicationInitializer extends AbstractSecurityWebApplicationInitializer {
 
+    /**
+     * The security filter chain and the filters appended to it must support asynchronous requests, because responses such as the content of
+     * operation logs are streamed asynchronously by the DispatcherServlet.
+     */
+    @Override
+    protected boolean isAsyncSecuritySupported() {
+        return true;
+    }
+
     @Override
     protected void afterSpringSecurityFilterChain(ServletContext servletContext) {
         super.afterSpringSecurityFilterChain(servletContext);
@@ -1,6 +1,7 @@
 package org.cloudfoundry.multiapps.controller.web.configuration;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,6 +18,8 @@ import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -30,6 +33,12 @@ public class WebMvcConfiguration implements WebMvcConfigurer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WebMvcConfiguration.class);
 
+    // Async requests, e.g. streamed operation logs, are bounded by the request handlers themselves. The pool is larger than their limits, so
+    // that their bodies start right away:
+    private static final int ASYNC_REQUEST_THREADS = 20;
+    private static final int ASYNC_REQUEST_QUEUE_CAPACITY = 20;
+    private static final Duration ASYNC_REQUEST_TIMEOUT = Duration.ofMinutes(10);
+
     @Inject
     private List<CustomHandlerInterceptor> customHandlerInterceptors;
 
@@ -39,6 +48,22 @@ public class WebMvcConfiguration implements WebMvcConfigurer {
         customHandlerInterceptors.forEach(registry::addInterceptor);
     }
 
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(createAsyncRequestExecutor());
+        configurer.setDefaultTimeout(ASYNC_REQUEST_TIMEOUT.toMillis());
+    }
+
+    private ThreadPoolTaskExecutor createAsyncRequestExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(ASYNC_REQUEST_THREADS);
+        executor.setMaxPoolSize(ASYNC_REQUEST_THREADS);
+        executor.setQueueCapacity(ASYNC_REQUEST_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("mvc-async-request-");
+        executor.initialize();
+        return executor;
+    }
+
     @Override
     public void configurePathMatch(PathMatchConfigurer configurer) {
         configurer.setUseSuffixPatternMatch(false);
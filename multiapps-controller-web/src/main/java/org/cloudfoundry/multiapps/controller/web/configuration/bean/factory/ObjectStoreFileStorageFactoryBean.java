@@ -3,7 +3,9 @@ package org.cloudfoundry.multiapps.controller.web.configuration.bean.factory;
 import io.pivotal.cfenv.core.CfService;
 import org.apache.commons.lang3.StringUtils;
 import org.cloudfoundry.multiapps.controller.core.util.UriUtil;
+import org.cloudfoundry.multiapps.controller.persistence.services.ImmutableObjectStoreTransferOptions;
 import org.cloudfoundry.multiapps.controller.persistence.services.ObjectStoreFileStorage;
+import org.cloudfoundry.multiapps.controller.persistence.services.ObjectStoreTransferOptions;
 import org.cloudfoundry.multiapps.controller.persistence.util.EnvironmentServicesFinder;
 import org.cloudfoundry.multiapps.controller.web.Messages;
 import org.cloudfoundry.multiapps.controller.web.configuration.service.ObjectStoreServiceInfo;
@@ -27,11 +29,19 @@ public class ObjectStoreFileStorageFactoryBean implements FactoryBean<ObjectStor
 
     private final String serviceName;
     private final EnvironmentServicesFinder environmentServicesFinder;
+    private final ObjectStoreTransferOptions transferOptions;
     private ObjectStoreFileStorage objectStoreFileStorage;
 
     public ObjectStoreFileStorageFactoryBean(String serviceName, EnvironmentServicesFinder environmentServicesFinder) {
+        this(serviceName, environmentServicesFinder, ImmutableObjectStoreTransferOptions.builder()
+                                                                                        .build());
+    }
+
+    public ObjectStoreFileStorageFactoryBean(String serviceName, EnvironmentServicesFinder environmentServicesFinder,
+                                             ObjectStoreTransferOptions transferOptions) {
         this.serviceName = serviceName;
         this.environmentServicesFinder = environmentServicesFinder;
+        this.transferOptions = transferOptions;
     }
 
     @Override
@@ -99,7 +109,7 @@ public class ObjectStoreFileStorageFactoryBean implements FactoryBean<ObjectStor
     }
 
     protected ObjectStoreFileStorage createFileStorage(ObjectStoreServiceInfo objectStoreServiceInfo, BlobStoreContext context) {
-        return new ObjectStoreFileStorage(context.getBlobStore(), objectStoreServiceInfo.getContainer());
+        return new ObjectStoreFileStorage(context.getBlobStore(), objectStoreServiceInfo.getContainer(), transferOptions);
     }
 
     @Override
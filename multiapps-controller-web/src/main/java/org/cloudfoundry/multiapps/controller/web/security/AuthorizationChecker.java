@@ -4,11 +4,13 @@ import java.text.MessageFormat;
 import java.time.Duration;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.servlet.http.HttpServletRequest;
 
+import org.apache.commons.lang3.ObjectUtils;
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.core.Messages;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
@@ -31,33 +33,70 @@ import com.sap.cloudfoundry.client.facade.domain.UserRole;
 import com.sap.cloudfoundry.client.facade.oauth2.OAuth2AccessTokenWithAdditionalInfo;
 import com.sap.cloudfoundry.client.facade.oauth2.TokenFactory;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
 @Named
 public class AuthorizationChecker implements DisposableBean {
 
+    static final String USER_ROLES_CACHE = "user-roles";
+    static final String SPACE_GUIDS_CACHE = "space-guids";
+    static final String CLOUD_CONTROLLER_REQUESTS_METRIC = "multiapps.controller.authorization.cloud.controller.requests";
+    private static final String REQUEST_TAG = "request";
+    private static final String ROLES = "roles";
+    private static final String SPACES = "spaces";
+
+    // Users who are granted a role are usually granted it right before they retry, so negative results are kept for a shorter time:
+    private static final Duration MAX_NEGATIVE_RESULT_EXPIRATION_TIME = Duration.ofSeconds(10);
+
     private static final Logger LOGGER = LoggerFactory.getLogger(AuthorizationChecker.class);
     private CachedMap<SpaceWithUser, Set<UserRole>> userRolesCache = null;
+    private CachedMap<SpaceName, UUID> spaceGuidsCache = null;
 
     private final CloudControllerClientFactory clientFactory;
     private final TokenService tokenService;
     private final ApplicationConfiguration configuration;
     private final WebClientFactory webClientFactory;
+    private final Counter userRolesRequests;
+    private final Counter spaceRequests;
 
     @Inject
     public AuthorizationChecker(CloudControllerClientFactory clientFactory, TokenService tokenService,
                                 ApplicationConfiguration configuration, WebClientFactory webClientFactory) {
+        this(clientFactory, tokenService, configuration, webClientFactory, Metrics.globalRegistry);
+    }
+
+    AuthorizationChecker(CloudControllerClientFactory clientFactory, TokenService tokenService, ApplicationConfiguration configuration,
+                         WebClientFactory webClientFactory, MeterRegistry meterRegistry) {
         this.clientFactory = clientFactory;
         this.tokenService = tokenService;
         this.webClientFactory = webClientFactory;
         this.configuration = configuration;
-        initSpaceDevelopersCache(configuration);
+        this.userRolesRequests = meterRegistry.counter(CLOUD_CONTROLLER_REQUESTS_METRIC, REQUEST_TAG, ROLES);
+        this.spaceRequests = meterRegistry.counter(CLOUD_CONTROLLER_REQUESTS_METRIC, REQUEST_TAG, SPACES);
+        initSpaceDevelopersCache(configuration, meterRegistry);
     }
 
-    private void initSpaceDevelopersCache(ApplicationConfiguration applicationConfiguration) {
+    private void initSpaceDevelopersCache(ApplicationConfiguration applicationConfiguration, MeterRegistry meterRegistry) {
         if (userRolesCache != null) {
             return;
         }
-        Integer cacheExpirationInSeconds = applicationConfiguration.getSpaceDeveloperCacheExpirationInSeconds();
-        userRolesCache = new CachedMap<>(Duration.ofSeconds(cacheExpirationInSeconds));
+        Duration cacheExpirationTime = Duration.ofSeconds(applicationConfiguration.getSpaceDeveloperCacheExpirationInSeconds());
+        Duration negativeResultExpirationTime = ObjectUtils.min(cacheExpirationTime, MAX_NEGATIVE_RESULT_EXPIRATION_TIME);
+        userRolesCache = CachedMap.<SpaceWithUser, Set<UserRole>> builder()
+                                  .name(USER_ROLES_CACHE)
+                                  .expirationTime(cacheExpirationTime)
+                                  .valueExpirationTime(userRoles -> userRoles.contains(UserRole.SPACE_DEVELOPER)
+                                      ? cacheExpirationTime
+                                      : negativeResultExpirationTime)
+                                  .meterRegistry(meterRegistry)
+                                  .build();
+        spaceGuidsCache = CachedMap.<SpaceName, UUID> builder()
+                                   .name(SPACE_GUIDS_CACHE)
+                                   .expirationTime(cacheExpirationTime)
+                                   .meterRegistry(meterRegistry)
+                                   .build();
     }
 
     public void ensureUserIsAuthorized(HttpServletRequest request, UserInfo userInfo, CloudTarget target, String action) {
@@ -95,12 +134,11 @@ public class AuthorizationChecker implements DisposableBean {
             return true;
         }
         var userToken = tokenService.getToken(userInfo.getName());
-        var spaceClient = clientFactory.createSpaceClient(userToken);
-        var space = spaceClient.getSpace(orgName, spaceName);
+        UUID spaceGuid = getSpaceGuid(userToken, new SpaceName(orgName, spaceName));
 
         CfRolesGetter rolesGetter = getRolesGetter(userToken);
         UUID userGuid = UUID.fromString(userInfo.getId());
-        return hasPermissions(rolesGetter, getSpaceWithUser(userGuid, space.getGuid()), readOnly);
+        return hasPermissions(rolesGetter, getSpaceWithUser(userGuid, spaceGuid), readOnly);
     }
 
     protected CfRolesGetter getRolesGetter(OAuth2AccessTokenWithAdditionalInfo token) {
@@ -128,11 +166,33 @@ public class AuthorizationChecker implements DisposableBean {
         return spaceGuid;
     }
 
-    private boolean hasPermissions(CfRolesGetter rolesGetter, SpaceWithUser spaceWithUser, boolean readOnly) {
-        if (isSpaceDeveloperUsingCache(spaceWithUser)) {
-            return true;
+    private UUID getSpaceGuid(OAuth2AccessTokenWithAdditionalInfo userToken, SpaceName spaceName) {
+        AtomicBoolean isReadByThisUser = new AtomicBoolean();
+        try {
+            return spaceGuidsCache.computeIfAbsent(spaceName, () -> {
+                isReadByThisUser.set(true);
+                return readSpaceGuid(userToken, spaceName);
+            });
+        } catch (RuntimeException e) {
+            if (isReadByThisUser.get()) {
+                throw e;
+            }
+            // The GUIDs are shared between users, so a user who cannot see the space must not fail the lookups of the others:
+            UUID spaceGuid = readSpaceGuid(userToken, spaceName);
+            spaceGuidsCache.put(spaceName, spaceGuid);
+            return spaceGuid;
         }
-        Set<UserRole> userRoles = refreshUserRoles(rolesGetter, spaceWithUser);
+    }
+
+    private UUID readSpaceGuid(OAuth2AccessTokenWithAdditionalInfo userToken, SpaceName spaceName) {
+        spaceRequests.increment();
+        var spaceClient = clientFactory.createSpaceClient(userToken);
+        return spaceClient.getSpace(spaceName.organizationName(), spaceName.spaceName())
+                          .getGuid();
+    }
+
+    private boolean hasPermissions(CfRolesGetter rolesGetter, SpaceWithUser spaceWithUser, boolean readOnly) {
+        Set<UserRole> userRoles = getUserRoles(rolesGetter, spaceWithUser);
         if (userRoles.contains(UserRole.SPACE_DEVELOPER)) {
             return true;
         }
@@ -143,15 +203,13 @@ public class AuthorizationChecker implements DisposableBean {
         return new SpaceWithUser(userGuid, spaceGuid);
     }
 
-    private boolean isSpaceDeveloperUsingCache(SpaceWithUser spaceWithUser) {
-        Set<UserRole> userRoles = userRolesCache.get(spaceWithUser);
-        return userRoles != null && userRoles.contains(UserRole.SPACE_DEVELOPER);
+    private Set<UserRole> getUserRoles(CfRolesGetter rolesGetter, SpaceWithUser spaceWithUser) {
+        return userRolesCache.computeIfAbsent(spaceWithUser, () -> readUserRoles(rolesGetter, spaceWithUser));
     }
 
-    private Set<UserRole> refreshUserRoles(CfRolesGetter rolesGetter, SpaceWithUser spaceWithUser) {
-        Set<UserRole> userRoles = rolesGetter.getRoles(spaceWithUser.getSpaceGuid(), spaceWithUser.getUserGuid());
-        userRolesCache.put(spaceWithUser, userRoles);
-        return userRoles;
+    private Set<UserRole> readUserRoles(CfRolesGetter rolesGetter, SpaceWithUser spaceWithUser) {
+        userRolesRequests.increment();
+        return rolesGetter.getRoles(spaceWithUser.getSpaceGuid(), spaceWithUser.getUserGuid());
     }
 
     private boolean hasAdminScope(UserInfo userInfo) {
@@ -181,5 +239,9 @@ public class AuthorizationChecker implements DisposableBean {
     @Override
     public void destroy() {
         userRolesCache.clear();
+        spaceGuidsCache.clear();
+    }
+
+    private record SpaceName(String organizationName, String spaceName) {
     }
 }
@@ -2,6 +2,7 @@ package org.cloudfoundry.multiapps.controller.web.api.impl;
 
 import static org.cloudfoundry.multiapps.controller.core.util.SecurityUtil.USER_INFO;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.util.Collections;
 import java.util.List;
@@ -20,6 +21,7 @@ import org.cloudfoundry.multiapps.controller.api.model.Mta;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.MtasApiServiceAuditLog;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
 import org.cloudfoundry.multiapps.controller.core.cf.detect.DeployedMtaRequiredDataOnlyDetector;
+import org.cloudfoundry.multiapps.controller.core.cf.detect.DeployedMtasSnapshotCache;
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.ImmutableMtaMetadata;
 import org.cloudfoundry.multiapps.controller.core.cf.metadata.MtaMetadata;
 import org.cloudfoundry.multiapps.controller.core.model.DeployedMta;
@@ -37,6 +39,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContext;
@@ -61,6 +64,9 @@ class MtasApiServiceImplTest {
     @Mock
     private MtasApiServiceAuditLog mtasApiServiceAuditLog;
 
+    @Spy
+    private DeployedMtasSnapshotCache deployedMtasSnapshotCache = new DeployedMtasSnapshotCache();
+
     @InjectMocks
     private MtasApiServiceImpl testedClass = new MtasApiServiceImpl();
 
@@ -171,6 +177,40 @@ class MtasApiServiceImplTest {
         assertEquals(mtaToGet, responseMta);
     }
 
+    @Test
+    void testGetMtasIsServedFromSnapshotUntilInvalidated() {
+        Mockito.when(deployedMtaDetector.detectDeployedMtasWithoutNamespace(Mockito.any()))
+               .thenReturn(getDeployedMtas(mtas));
+
+        ResponseEntity<List<Mta>> response = testedClass.getMtas(SPACE_GUID);
+        ResponseEntity<List<Mta>> cachedResponse = testedClass.getMtas(SPACE_GUID);
+
+        assertEquals(mtas, cachedResponse.getBody());
+        assertNotNull(response.getHeaders()
+                              .getETag());
+        assertEquals(response.getHeaders()
+                             .getETag(),
+                     cachedResponse.getHeaders()
+                                   .getETag());
+        Mockito.verify(deployedMtaDetector)
+               .detectDeployedMtasWithoutNamespace(client);
+
+        deployedMtasSnapshotCache.invalidate(SPACE_GUID);
+        testedClass.getMtas(SPACE_GUID);
+
+        Mockito.verify(deployedMtaDetector, Mockito.times(2))
+               .detectDeployedMtasWithoutNamespace(client);
+    }
+
+    @Test
+    void testMissingMtaIsDetectedAgain() {
+        Assertions.assertThrows(NotFoundException.class, () -> testedClass.getMta(SPACE_GUID, "not_a_real_mta"));
+        Assertions.assertThrows(NotFoundException.class, () -> testedClass.getMta(SPACE_GUID, "not_a_real_mta"));
+
+        Mockito.verify(deployedMtaDetector, Mockito.times(2))
+               .detectDeployedMtasByName("not_a_real_mta", client);
+    }
+
     @Test
     void testGetMtaNotFound() {
         Assertions.assertThrows(NotFoundException.class, () -> testedClass.getMta(SPACE_GUID, "not_a_real_mta"));
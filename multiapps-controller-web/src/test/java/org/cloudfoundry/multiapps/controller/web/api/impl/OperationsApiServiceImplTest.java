@@ -4,14 +4,27 @@ import static org.cloudfoundry.multiapps.controller.core.util.SecurityUtil.USER_
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import jakarta.persistence.NoResultException;
@@ -19,15 +32,25 @@ import jakarta.servlet.http.HttpServletRequest;
 
 import org.cloudfoundry.multiapps.common.ContentException;
 import org.cloudfoundry.multiapps.common.NotFoundException;
+import org.cloudfoundry.multiapps.controller.api.Constants.Endpoints;
+import org.cloudfoundry.multiapps.controller.api.Constants.QueryVariables;
+import org.cloudfoundry.multiapps.controller.api.Constants.Resources;
 import org.cloudfoundry.multiapps.controller.api.model.ImmutableOperation;
+import org.cloudfoundry.multiapps.controller.api.model.Message;
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.cloudfoundry.multiapps.controller.api.model.ProcessType;
+import org.cloudfoundry.multiapps.controller.api.v1.OperationsApi;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.AuditLoggingFacade;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.OperationsApiServiceAuditLog;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
 import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableProgressMessage;
+import org.cloudfoundry.multiapps.controller.persistence.model.ProgressMessage;
+import org.cloudfoundry.multiapps.controller.persistence.model.ProgressMessage.ProgressMessageType;
 import org.cloudfoundry.multiapps.controller.persistence.query.OperationQuery;
+import org.cloudfoundry.multiapps.controller.persistence.query.ProgressMessageQuery;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.persistence.services.OperationChangeNotifier;
 import org.cloudfoundry.multiapps.controller.persistence.services.OperationService;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLogsPersistenceService;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProgressMessageService;
@@ -38,6 +61,7 @@ import org.cloudfoundry.multiapps.controller.process.flowable.ProcessActionRegis
 import org.cloudfoundry.multiapps.controller.process.metadata.ProcessTypeToOperationMetadataMapper;
 import org.cloudfoundry.multiapps.controller.process.util.OperationsHelper;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
+import org.cloudfoundry.multiapps.controller.web.resources.CFExceptionMapper;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -48,11 +72,17 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudMetadata;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudOrganization;
@@ -85,6 +115,8 @@ class OperationsApiServiceImplTest {
     private ProcessAction processAction;
     @Mock
     private OperationsApiServiceAuditLog operationsApiServiceAuditLog;
+    @Spy
+    private OperationChangeNotifier operationChangeNotifier;
 
     @InjectMocks
     private OperationsApiServiceImpl operationsApiService = new OperationsApiServiceImpl();
@@ -97,6 +129,7 @@ class OperationsApiServiceImplTest {
     private static final String SPACE_NAME = "spaceName";
 
     private static final String EXAMPLE_USER = "someUser123";
+    private static final String LOG_CONTENT_URL = Resources.OPERATIONS + Endpoints.OPERATION_LOG_CONTENT;
 
     private static final String FINISHED_PROCESS = "1";
     private static final String RUNNING_PROCESS = "2";
@@ -153,7 +186,7 @@ class OperationsApiServiceImplTest {
     @Test
     void testGetOperation() {
         String processId = FINISHED_PROCESS;
-        ResponseEntity<Operation> response = operationsApiService.getOperation(SPACE_GUID, processId, null);
+        ResponseEntity<Operation> response = operationsApiService.getOperation(SPACE_GUID, processId, null, null, null);
         Operation operation = response.getBody();
         assertEquals(processId, operation.getProcessId());
         assertEquals(Operation.State.FINISHED, operation.getState());
@@ -161,7 +194,92 @@ class OperationsApiServiceImplTest {
 
     @Test
     void testGetOperationMissing() {
-        Assertions.assertThrows(NotFoundException.class, () -> operationsApiService.getOperation(SPACE_GUID, "notPresent", null));
+        Assertions.assertThrows(NotFoundException.class, () -> operationsApiService.getOperation(SPACE_GUID, "notPresent", null, null,
+                                                                                                                      null));
+    }
+
+    @Test
+    void testGetOperationWithMessagesSince() {
+        ProgressMessageQuery progressMessageQuery = mockProgressMessageQuery(List.of(createProgressMessage(6)));
+
+        Operation operation = operationsApiService.getOperation(SPACE_GUID, RUNNING_PROCESS, "messages", 5L, null)
+                                                  .getBody();
+
+        Mockito.verify(progressMessageQuery)
+               .idGreaterThan(5L);
+        assertEquals(List.of(6L), operation.getMessages()
+                                           .stream()
+                                           .map(Message::getId)
+                                           .toList());
+    }
+
+    @Test
+    void testGetOperationWaitsForStateChange() {
+        mockProgressMessageQuery(Collections.emptyList());
+        CompletableFuture<Void> stateChange = CompletableFuture.runAsync(() -> {
+            operations.set(1, createOperation(RUNNING_PROCESS, Operation.State.FINISHED, Collections.emptyMap()));
+            operationChangeNotifier.notifyChange(RUNNING_PROCESS);
+        }, CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+
+        Operation operation = operationsApiService.getOperation(SPACE_GUID, RUNNING_PROCESS, "messages", 5L, 10)
+                                                  .getBody();
+
+        stateChange.join();
+        assertEquals(Operation.State.FINISHED, operation.getState());
+    }
+
+    @Test
+    void testGetOperationDoesNotWaitForOperationInFinalState() {
+        mockProgressMessageQuery(Collections.emptyList());
+
+        Operation operation = operationsApiService.getOperation(SPACE_GUID, FINISHED_PROCESS, "messages", 5L, 10)
+                                                  .getBody();
+
+        assertEquals(Operation.State.FINISHED, operation.getState());
+        Mockito.verify(operationService, Mockito.times(1))
+               .createQuery();
+    }
+
+    @Test
+    void testGetOperationKeepsDetailsWhileStateIsUnchanged() {
+        ProgressMessageQuery progressMessageQuery = mockProgressMessageQuery(Collections.emptyList());
+        Mockito.doReturn(Collections.emptyList())
+               .doReturn(List.of(createProgressMessage(6)))
+               .when(progressMessageQuery)
+               .list();
+        CompletableFuture<Void> newMessage = CompletableFuture.runAsync(() -> operationChangeNotifier.notifyChange(RUNNING_PROCESS),
+                                                                        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+
+        Operation operation = operationsApiService.getOperation(SPACE_GUID, RUNNING_PROCESS, "messages", 5L, 10)
+                                                  .getBody();
+
+        newMessage.join();
+        assertEquals(1, operation.getMessages()
+                                 .size());
+        Mockito.verify(operationService, Mockito.times(2))
+               .createQuery();
+        Mockito.verify(operationsHelper)
+               .addErrorType(Mockito.any());
+        Mockito.verify(operationsHelper)
+               .releaseLockIfNeeded(Mockito.any());
+    }
+
+    @Test
+    void testGetOperationDoesNotWaitWhenTooManyRequestsWait() {
+        mockProgressMessageQuery(Collections.emptyList());
+        ((Semaphore) ReflectionTestUtils.getField(operationsApiService, "waitingRequests")).drainPermits();
+
+        Operation operation = operationsApiService.getOperation(SPACE_GUID, RUNNING_PROCESS, "messages", 5L, 10)
+                                                  .getBody();
+
+        assertEquals(Operation.State.RUNNING, operation.getState());
+        Mockito.verify(operationChangeNotifier, Mockito.never())
+               .subscribe(Mockito.any());
+    }
+
+    @Test
+    void testGetOperationWithNegativeWait() {
+        assertThrows(ResponseStatusException.class, () -> operationsApiService.getOperation(SPACE_GUID, RUNNING_PROCESS, null, null, -1));
     }
 
     @Test
@@ -231,20 +349,127 @@ class OperationsApiServiceImplTest {
         String processId = FINISHED_PROCESS;
         String logName = "OPERATION.log";
         String expectedLogContent = "somelogcontentstring\n1234";
-        Mockito.when(logsService.getOperationLog(Mockito.eq(SPACE_GUID), Mockito.eq(processId), Mockito.eq(logName)))
-               .thenReturn(expectedLogContent);
-        ResponseEntity<String> response = operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName);
-        String logContent = response.getBody();
-        assertEquals(expectedLogContent, logContent);
+        mockLogContent(processId, logName, 0, expectedLogContent);
+        ResponseEntity<StreamingResponseBody> response = operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName, null);
+        assertEquals(expectedLogContent, getContent(response));
+    }
+
+    @Test
+    void testGetOperationLogContentFromOffset() throws Exception {
+        String processId = FINISHED_PROCESS;
+        String logName = "OPERATION.log";
+        String expectedLogContent = "1234";
+        mockLogContent(processId, logName, 21, expectedLogContent);
+        ResponseEntity<StreamingResponseBody> response = operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName, 21L);
+        assertEquals(expectedLogContent, getContent(response));
+    }
+
+    @Test
+    void testGetOperationLogContentWithNegativeOffset() {
+        Assertions.assertThrows(ResponseStatusException.class,
+                                () -> operationsApiService.getOperationLogContent(SPACE_GUID, FINISHED_PROCESS, "OPERATION.log", -1L));
+    }
+
+    @Test
+    void testGetOperationLogContentIsRejectedWhenTooManyLogsAreStreamed() throws Exception {
+        String processId = FINISHED_PROCESS;
+        String logName = "OPERATION.log";
+        mockLogContent(processId, logName, 0, "somelogcontentstring");
+        List<ResponseEntity<StreamingResponseBody>> responses = new ArrayList<>();
+        for (int i = 0; i < OperationsApiServiceImpl.MAX_CONCURRENT_LOG_STREAMS; i++) {
+            responses.add(operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName, null));
+        }
+
+        ResponseStatusException exception = Assertions.assertThrows(ResponseStatusException.class,
+                                                                    () -> operationsApiService.getOperationLogContent(SPACE_GUID,
+                                                                                                                      processId,
+                                                                                                                      logName, null));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getStatusCode());
+
+        getContent(responses.get(0));
+        assertEquals("somelogcontentstring",
+                     getContent(operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName, null)));
     }
 
     @Test
     void testGetOperationLogContentNotFound() throws Exception {
+        Assertions.assertThrows(NotFoundException.class,
+                                () -> operationsApiService.getOperationLogContent(SPACE_GUID, FINISHED_PROCESS, "OPERATION.log", null));
+        Mockito.verify(logsService, Mockito.never())
+               .writeOperationLog(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyLong(), Mockito.any());
+    }
+
+    @Test
+    void testGetOperationLogContentWhenLogCannotBeFound() throws Exception {
+        String processId = FINISHED_PROCESS;
+        String logName = "OPERATION.log";
+        Mockito.when(logsService.operationLogExists(SPACE_GUID, processId, logName))
+               .thenThrow(new FileStorageException("something went wrong"));
+        Assertions.assertThrows(ContentException.class,
+                                () -> operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName, null));
+    }
+
+    @Test
+    void testGetOperationLogContentServiceException() throws Exception {
         String processId = FINISHED_PROCESS;
         String logName = "OPERATION.log";
-        Mockito.when(logsService.getOperationLog(Mockito.eq(SPACE_GUID), Mockito.eq(processId), Mockito.eq(logName)))
-               .thenThrow(new NoResultException("log file not found"));
-        Assertions.assertThrows(NoResultException.class, () -> operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName));
+        mockLogExists(processId, logName);
+        Mockito.when(logsService.writeOperationLog(Mockito.eq(SPACE_GUID), Mockito.eq(processId), Mockito.eq(logName), Mockito.anyLong(),
+                                                   Mockito.any()))
+               .thenThrow(new FileStorageException("something went wrong"));
+        ResponseEntity<StreamingResponseBody> response = operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName, null);
+        Assertions.assertThrows(ContentException.class, () -> getContent(response));
+    }
+
+    @Test
+    void testStreamOperationLogContentThroughDispatcher() throws Exception {
+        String processId = FINISHED_PROCESS;
+        String logName = "OPERATION.log";
+        mockLogContent(processId, logName, 4, "logcontent");
+        createMockMvc().perform(get(LOG_CONTENT_URL, SPACE_GUID, processId, logName).param(QueryVariables.OFFSET, "4"))
+                       .andExpect(request().asyncStarted())
+                       .andDo(MvcResult::getAsyncResult)
+                       .andExpect(status().isOk())
+                       .andExpect(content().string("logcontent"));
+    }
+
+    @Test
+    void testMissingOperationLogIsNotFoundThroughDispatcher() throws Exception {
+        createMockMvc().perform(get(LOG_CONTENT_URL, SPACE_GUID, FINISHED_PROCESS, "OPERATION.log"))
+                       .andExpect(request().asyncNotStarted())
+                       .andExpect(status().isNotFound());
+    }
+
+    private MockMvc createMockMvc() {
+        OperationsApi operationsApi = new OperationsApi();
+        ReflectionTestUtils.setField(operationsApi, "delegate", operationsApiService);
+        return MockMvcBuilders.standaloneSetup(operationsApi)
+                              .setControllerAdvice(new CFExceptionMapper())
+                              .build();
+    }
+
+    private void mockLogExists(String processId, String logName) throws FileStorageException {
+        Mockito.when(logsService.operationLogExists(SPACE_GUID, processId, logName))
+               .thenReturn(true);
+    }
+
+    private void mockLogContent(String processId, String logName, long offset, String content) throws FileStorageException {
+        mockLogExists(processId, logName);
+        Mockito.when(logsService.writeOperationLog(Mockito.eq(SPACE_GUID), Mockito.eq(processId), Mockito.eq(logName), Mockito.eq(offset),
+                                                   Mockito.any()))
+               .thenAnswer(invocation -> {
+                   byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+                   invocation.<OutputStream> getArgument(4)
+                             .write(bytes);
+                   return (long) bytes.length;
+               });
+    }
+
+    private String getContent(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody()
+                .writeTo(outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
     }
 
     @Test
@@ -397,6 +622,27 @@ class OperationsApiServiceImplTest {
                .thenAnswer(invocation -> invocation.getArgument(0));
     }
 
+    private ProgressMessageQuery mockProgressMessageQuery(List<ProgressMessage> progressMessages) {
+        ProgressMessageQuery progressMessageQuery = Mockito.mock(ProgressMessageQuery.class, Answers.RETURNS_SELF);
+        Mockito.doReturn(progressMessages)
+               .when(progressMessageQuery)
+               .list();
+        Mockito.when(progressMessageService.createQuery())
+               .thenReturn(progressMessageQuery);
+        return progressMessageQuery;
+    }
+
+    private ProgressMessage createProgressMessage(long id) {
+        return ImmutableProgressMessage.builder()
+                                       .id(id)
+                                       .processId(RUNNING_PROCESS)
+                                       .taskId("taskId")
+                                       .type(ProgressMessageType.INFO)
+                                       .text("text")
+                                       .timestamp(new Date())
+                                       .build();
+    }
+
     private Operation createOperation(String processId, Operation.State state, Map<String, Object> parameters) {
         return ImmutableOperation.builder()
                                  .state(state)
@@ -1,7 +1,10 @@
 package org.cloudfoundry.multiapps.controller.web.security;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
@@ -10,8 +13,13 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.UUID;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
@@ -33,6 +41,7 @@ import org.springframework.security.oauth2.core.OAuth2AccessToken;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.sap.cloudfoundry.client.facade.CloudOperationException;
 import com.sap.cloudfoundry.client.facade.domain.CloudOrganization;
 import com.sap.cloudfoundry.client.facade.domain.CloudSpace;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudMetadata;
@@ -42,11 +51,18 @@ import com.sap.cloudfoundry.client.facade.domain.UserRole;
 import com.sap.cloudfoundry.client.facade.rest.CloudSpaceClient;
 import com.sap.cloudfoundry.client.facade.oauth2.OAuth2AccessTokenWithAdditionalInfo;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class AuthorizationCheckerTest {
 
     private static final String ORG = "org";
     private static final String SPACE = "space";
+    private static final String CACHE_REQUESTS_METRIC = "multiapps.controller.cache.requests";
     private static final String USERNAME = "userName";
+    private static final String OTHER_USERNAME = "otherUserName";
     private static final UUID USER_ID = UUID.randomUUID();
     private static final UUID SPACE_ID = UUID.randomUUID();
 
@@ -59,13 +75,14 @@ class AuthorizationCheckerTest {
     @Mock
     private CfRolesGetter rolesGetter;
     private final ApplicationConfiguration applicationConfiguration = new ApplicationConfiguration();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
     private AuthorizationChecker authorizationChecker;
 
     @BeforeEach
     void setUp() throws Exception {
         MockitoAnnotations.openMocks(this)
                           .close();
-        authorizationChecker = new AuthorizationChecker(clientFactory, tokenService, applicationConfiguration, webClientFactory) {
+        authorizationChecker = new AuthorizationChecker(clientFactory, tokenService, applicationConfiguration, webClientFactory, meterRegistry) {
             @Override
             protected CfRolesGetter getRolesGetter(OAuth2AccessTokenWithAdditionalInfo token) {
                 return rolesGetter;
@@ -150,6 +167,107 @@ class AuthorizationCheckerTest {
         assertEquals(HttpStatus.NOT_FOUND, resultException.getStatusCode());
     }
 
+    @Test
+    void testRolesWithoutSpaceRolesAreCached() {
+        setUpMocks(EnumSet.of(UserRole.ORGANIZATION_USER), null);
+        assertFalse(authorizationChecker.checkPermissions(getUserInfo(), SPACE_ID.toString(), true));
+        assertFalse(authorizationChecker.checkPermissions(getUserInfo(), SPACE_ID.toString(), true));
+        Mockito.verify(rolesGetter)
+               .getRoles(SPACE_ID, USER_ID);
+    }
+
+    @Test
+    void testSpaceAuditorRolesAreCached() {
+        setUpMocks(EnumSet.of(UserRole.SPACE_AUDITOR), null);
+        assertTrue(authorizationChecker.checkPermissions(getUserInfo(), SPACE_ID.toString(), true));
+        assertFalse(authorizationChecker.checkPermissions(getUserInfo(), SPACE_ID.toString(), false));
+        Mockito.verify(rolesGetter)
+               .getRoles(SPACE_ID, USER_ID);
+        assertEquals(1, getCounterValue(CACHE_REQUESTS_METRIC, AuthorizationChecker.USER_ROLES_CACHE, "hit"));
+        assertEquals(1, getCounterValue(CACHE_REQUESTS_METRIC, AuthorizationChecker.USER_ROLES_CACHE, "miss"));
+    }
+
+    @Test
+    void testSpaceGuidIsResolvedOnce() {
+        setUpMocks(EnumSet.of(UserRole.SPACE_DEVELOPER), null);
+        CloudSpaceClient spaceClient = mockSpace();
+        assertTrue(authorizationChecker.checkPermissions(getUserInfo(), ORG, SPACE, false));
+        assertTrue(authorizationChecker.checkPermissions(getUserInfo(), ORG, SPACE, false));
+        Mockito.verify(spaceClient)
+               .getSpace(ORG, SPACE);
+        assertEquals(1, getCounterValue(AuthorizationChecker.CLOUD_CONTROLLER_REQUESTS_METRIC, "spaces"));
+        assertEquals(1, getCounterValue(CACHE_REQUESTS_METRIC, AuthorizationChecker.SPACE_GUIDS_CACHE, "hit"));
+    }
+
+    @Test
+    void testConcurrentRoleLookupsAreCollapsed() throws Exception {
+        setUpMocks(EnumSet.of(UserRole.SPACE_DEVELOPER), null);
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch lookupAllowed = new CountDownLatch(1);
+        when(rolesGetter.getRoles(SPACE_ID, USER_ID)).thenAnswer(invocation -> {
+            lookupStarted.countDown();
+            lookupAllowed.await(10, TimeUnit.SECONDS);
+            return EnumSet.of(UserRole.SPACE_DEVELOPER);
+        });
+        CompletableFuture<Boolean> firstCheck = CompletableFuture.supplyAsync(() -> authorizationChecker.checkPermissions(getUserInfo(),
+                                                                                                                          SPACE_ID.toString(),
+                                                                                                                          false));
+        assertTrue(lookupStarted.await(10, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> secondCheck = CompletableFuture.supplyAsync(() -> authorizationChecker.checkPermissions(getUserInfo(),
+                                                                                                                           SPACE_ID.toString(),
+                                                                                                                           false));
+        lookupAllowed.countDown();
+        assertTrue(firstCheck.get(10, TimeUnit.SECONDS));
+        assertTrue(secondCheck.get(10, TimeUnit.SECONDS));
+        Mockito.verify(rolesGetter)
+               .getRoles(SPACE_ID, USER_ID);
+        assertEquals(1, getCounterValue(AuthorizationChecker.CLOUD_CONTROLLER_REQUESTS_METRIC, "roles"));
+    }
+
+    @Test
+    void testFailedSpaceLookupOfAnotherUserIsNotShared() throws Exception {
+        setUpMocks(EnumSet.of(UserRole.SPACE_DEVELOPER), null);
+        CloudSpaceClient spaceClient = mockSpace();
+        var otherUserToken = Mockito.mock(OAuth2AccessTokenWithAdditionalInfo.class);
+        when(tokenService.getToken(OTHER_USERNAME)).thenReturn(otherUserToken);
+        var otherUserSpaceClient = Mockito.mock(CloudSpaceClient.class);
+        when(clientFactory.createSpaceClient(otherUserToken)).thenReturn(otherUserSpaceClient);
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch lookupAllowed = new CountDownLatch(1);
+        when(otherUserSpaceClient.getSpace(ORG, SPACE)).thenAnswer(invocation -> {
+            lookupStarted.countDown();
+            lookupAllowed.await(10, TimeUnit.SECONDS);
+            throw new CloudOperationException(HttpStatus.FORBIDDEN);
+        });
+        CompletableFuture<Boolean> otherUserCheck = CompletableFuture.supplyAsync(() -> authorizationChecker.checkPermissions(getUserInfo(OTHER_USERNAME),
+                                                                                                                              ORG, SPACE,
+                                                                                                                              false));
+        assertTrue(lookupStarted.await(10, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> userCheck = CompletableFuture.supplyAsync(() -> authorizationChecker.checkPermissions(getUserInfo(),
+                                                                                                                         ORG, SPACE, false));
+        lookupAllowed.countDown();
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> otherUserCheck.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(CloudOperationException.class, exception.getCause());
+        assertTrue(userCheck.get(10, TimeUnit.SECONDS));
+        Mockito.verify(spaceClient)
+               .getSpace(ORG, SPACE);
+    }
+
+    private double getCounterValue(String name, String... tagValues) {
+        return meterRegistry.find(name)
+                            .counters()
+                            .stream()
+                            .filter(counter -> counter.getId()
+                                                      .getTags()
+                                                      .stream()
+                                                      .map(Tag::getValue)
+                                                      .toList()
+                                                      .equals(List.of(tagValues)))
+                            .mapToDouble(Counter::count)
+                            .sum();
+    }
+
     private void setUpMocks(Set<UserRole> spaceRoles, Exception exception) {
         var token = Mockito.mock(OAuth2AccessTokenWithAdditionalInfo.class);
         when(tokenService.getToken(anyString())).thenReturn(token);
@@ -160,12 +278,13 @@ class AuthorizationCheckerTest {
         }
     }
 
-    private void mockSpace() {
+    private CloudSpaceClient mockSpace() {
         CloudOrganization organization = getOrganization();
 
         var spaceClient = Mockito.mock(CloudSpaceClient.class);
         when(spaceClient.getSpace(anyString(), anyString())).thenReturn(getCloudSpace(organization));
         when(clientFactory.createSpaceClient(any())).thenReturn(spaceClient);
+        return spaceClient;
     }
 
     private ImmutableCloudOrganization getOrganization() {
@@ -185,12 +304,16 @@ class AuthorizationCheckerTest {
     }
 
     private UserInfo getUserInfo() {
+        return getUserInfo(USERNAME);
+    }
+
+    private UserInfo getUserInfo(String username) {
         OAuth2AccessTokenWithAdditionalInfo accessToken = new OAuth2AccessTokenWithAdditionalInfo(new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER,
                                                                                                                         "token_value",
                                                                                                                         Instant.now(),
                                                                                                                         Instant.now().plus(5, ChronoUnit.MINUTES)),
                                                                                                   Collections.emptyMap());
-        return new UserInfo(USER_ID.toString(), USERNAME, accessToken);
+        return new UserInfo(USER_ID.toString(), username, accessToken);
     }
 
 }